@@ -0,0 +1,119 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.files;
+
+import static com.hedera.services.setup.InfrastructureManager.CRYPTO;
+import static com.hedera.services.setup.InfrastructureManager.newVmFactory;
+
+import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.setup.Constructables;
+import com.hedera.services.state.virtual.VirtualBlobKey;
+import com.hedera.services.state.virtual.VirtualBlobValue;
+import com.swirlds.common.constructable.ConstructableRegistryException;
+import com.swirlds.virtualmap.VirtualMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Random;
+import org.apache.commons.lang3.ArrayUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Uploads a large file through a {@code FileCreate} and a sequence of {@code FileAppend}s, each in
+ * its own round; so after each append the blobs are fast-copied and the prior copy is hashed.
+ *
+ * <ul>
+ *   <li>{@code wholeFileAppends} rewrites the entire file on every append, as before chunking.
+ *   <li>{@code chunkedAppends} rewrites at most one chunk per append.
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class LargeFileUploadBench {
+    private static final String PATH = "/0/f1001";
+
+    @Param({"256", "1024"})
+    int fileSizeKb;
+
+    @Param({"4"})
+    int appendSizeKb;
+
+    private byte[] appendBytes;
+    private VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs;
+    private FcBlobsBytesStore store;
+
+    // --- Fixtures ---
+    @Setup(Level.Trial)
+    public void setupBlobs() throws IOException, ConstructableRegistryException {
+        Constructables.registerForVirtualMap();
+        Constructables.registerForJasperDb();
+        final var storageDir = Files.createTempDirectory("large-file-upload-bench");
+        blobs = newVmFactory(storageDir.toString()).newVirtualizedBlobs();
+        store = new FcBlobsBytesStore(() -> blobs);
+
+        appendBytes = new byte[appendSizeKb * 1024];
+        new Random(1_234_567L).nextBytes(appendBytes);
+    }
+
+    @TearDown(Level.Trial)
+    public void releaseBlobs() {
+        blobs.release();
+    }
+
+    // --- Benchmarks ---
+    @Benchmark
+    public void wholeFileAppends(final Blackhole blackhole) {
+        store.put(PATH, new byte[0]);
+        for (int i = 0, n = numAppends(); i < n; i++) {
+            store.put(PATH, ArrayUtils.addAll(store.get(PATH), appendBytes));
+            endRound();
+        }
+        blackhole.consume(store.get(PATH));
+    }
+
+    @Benchmark
+    public void chunkedAppends(final Blackhole blackhole) {
+        store.put(PATH, new byte[0]);
+        for (int i = 0, n = numAppends(); i < n; i++) {
+            store.append(PATH, appendBytes);
+            endRound();
+        }
+        blackhole.consume(store.get(PATH));
+    }
+
+    // --- Helpers ---
+    private int numAppends() {
+        return fileSizeKb / appendSizeKb;
+    }
+
+    private void endRound() {
+        final var prior = blobs;
+        blobs = prior.copy();
+        CRYPTO.digestTreeSync(prior);
+        prior.release();
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.keys;
+
+import static com.hedera.services.keys.HederaKeyActivation.INVALID_MISSING_SIG;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ed25519Sig;
+
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.core.jproto.JKeyList;
+import com.hedera.services.legacy.core.jproto.JThresholdKey;
+import com.swirlds.common.crypto.TransactionSignature;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+import java.util.function.BiPredicate;
+import java.util.function.Function;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares the linear-scan and hashed-index public-key-to-signature lookups when testing
+ * activation of a large threshold key, signed by exactly as many of its keys as the threshold
+ * requires (in random order).
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class KeyActivationBench {
+    private static final BiPredicate<JKey, TransactionSignature> IF_SIG_PRESENT =
+            (ignoredKey, sig) -> sig != INVALID_MISSING_SIG;
+
+    @Param("100")
+    int numKeys;
+
+    @Param({"1", "50"})
+    int threshold;
+
+    private JKey key;
+    private List<TransactionSignature> sigs;
+
+    // --- Fixtures ---
+    @Setup(Level.Trial)
+    public void setupKeyAndSigs() {
+        final var r = new Random(1_234_567L);
+        final List<JKey> keys = new ArrayList<>();
+        final List<TransactionSignature> allSigs = new ArrayList<>();
+        for (int i = 0; i < numKeys; i++) {
+            final var pk = new byte[32];
+            r.nextBytes(pk);
+            keys.add(new JEd25519Key(pk));
+            final var sig = new byte[64];
+            r.nextBytes(sig);
+            allSigs.add(ed25519Sig(pk, sig, "DATA".getBytes()));
+        }
+        key = new JThresholdKey(new JKeyList(keys), threshold);
+        Collections.shuffle(allSigs, r);
+        sigs = new ArrayList<>(allSigs.subList(0, threshold));
+    }
+
+    // --- Benchmarks ---
+    @Benchmark
+    public boolean linearLookup() {
+        return isActiveUsing(HederaKeyActivation.linearPkToSigMapFrom(sigs));
+    }
+
+    @Benchmark
+    public boolean indexedLookup() {
+        return isActiveUsing(HederaKeyActivation.indexedPkToSigMapFrom(sigs));
+    }
+
+    // --- Helpers ---
+    private boolean isActiveUsing(final Function<byte[], TransactionSignature> sigsFn) {
+        final var isActive = HederaKeyActivation.isActive(key, sigsFn, IF_SIG_PRESENT);
+        if (!isActive) {
+            throw new IllegalStateException("Key should be active");
+        }
+        return isActive;
+    }
+}
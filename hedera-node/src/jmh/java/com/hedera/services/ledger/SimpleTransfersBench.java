@@ -101,6 +101,28 @@ public class SimpleTransfersBench {
         n++;
     }
 
+    @Benchmark
+    public void primitiveTransfers() {
+        i = i * Constructables.MULTIPLIER + Constructables.ADDEND;
+        final var nodeId = ids[FIRST_NODE_I + Math.floorMod(i, NUM_NODES)];
+        i = i * Constructables.MULTIPLIER + Constructables.ADDEND;
+        final var senderId = ids[Constructables.FIRST_USER_I + Math.floorMod(i, userAccounts)];
+        i = i * Constructables.MULTIPLIER + Constructables.ADDEND;
+        final var receiverId = ids[Constructables.FIRST_USER_I + Math.floorMod(i, userAccounts)];
+
+        ledger.begin();
+        ledger.setLong(
+                Constructables.FUNDING_ID,
+                BALANCE,
+                ledger.getLong(Constructables.FUNDING_ID, BALANCE) + 69_000);
+        ledger.setLong(nodeId, BALANCE, ledger.getLong(nodeId, BALANCE) + 420);
+        ledger.setLong(senderId, BALANCE, ledger.getLong(senderId, BALANCE) - 69_421);
+        ledger.setLong(receiverId, BALANCE, ledger.getLong(receiverId, BALANCE) + 1);
+        ledger.commit();
+
+        n++;
+    }
+
     // --- Helpers ---
     private Map<String, Object> activeConfig() {
         return Map.of("userAccounts", userAccounts);
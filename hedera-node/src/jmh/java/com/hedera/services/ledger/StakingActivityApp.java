@@ -19,6 +19,7 @@ import com.hedera.services.context.SideEffectsTracker;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.ledger.accounts.staking.EndOfStakingPeriodCalculator;
 import com.hedera.services.ledger.accounts.staking.RewardCalculator;
+import com.hedera.services.ledger.accounts.staking.StakeChangeManager;
 import com.hedera.services.ledger.accounts.staking.StakePeriodManager;
 import com.hedera.services.ledger.backing.BackingStore;
 import com.hedera.services.ledger.properties.AccountProperty;
@@ -41,6 +42,8 @@ public interface StakingActivityApp {
 
     StakePeriodManager periodManager();
 
+    StakeChangeManager stakeChangeManager();
+
     TransactionContext txnCtx();
 
     SideEffectsTracker sideEffects();
@@ -63,12 +63,13 @@ public class StakingActivityBench {
     private int i;
     private long n;
     private int round;
+    private long activationPeriod;
     private AccountID[] ids;
 
     @Param("3")
     int numNodes;
 
-    @Param("1000")
+    @Param({"1000", "10000000"})
     int stakeableAccounts;
 
     @Param("10000")
@@ -123,6 +124,7 @@ public class StakingActivityBench {
         app.txnCtx().resetFor(null, SOME_TIME, 0L);
         app.networkCtx().get().setStakingRewardsActivated(true);
         System.out.println("Beginning period is " + app.periodManager().currentStakePeriod());
+        activationPeriod = app.periodManager().currentStakePeriod();
 
         final var actionsPerDay = (long) actionsPerRound * roundsPerPeriod;
         final var avgDailyActionsPerAccount = actionsPerDay / stakeableAccounts;
@@ -284,6 +286,17 @@ public class StakingActivityBench {
         n++;
     }
 
+    /**
+     * Re-runs the stake period start initialization done when rewards are activated, with a
+     * distinct period each time so every node-staking account must be updated again; and in a new
+     * round, so these updates pay for the copy-on-write of each modified account.
+     */
+    @Benchmark
+    public void stakingRewardsActivation() {
+        bundle.newRound();
+        app.stakeChangeManager().initializeAllStakingStartsTo(++activationPeriod);
+    }
+
     private AccountID advanceToNextId() {
         return ids[FIRST_USER_I + Math.floorMod(i, stakeableAccounts)];
     }
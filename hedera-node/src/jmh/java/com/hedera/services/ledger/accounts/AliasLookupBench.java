@@ -0,0 +1,142 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.ledger.accounts;
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.utils.EntityNum;
+import com.swirlds.fchashmap.FCHashMap;
+import java.util.SplittableRandom;
+import org.apache.tuweni.bytes.Bytes;
+import org.hyperledger.besu.datatypes.Address;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Compares alias lookups answered by the {@link OffHeapAliasIndex} against lookups answered by the
+ * state's {@link FCHashMap} alone. At setup, prints the heap retained by each structure holding
+ * the same aliases (measured after full GCs), and the index's direct-memory footprint.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 30)
+public class AliasLookupBench {
+    private static final int EVM_ADDRESS_LEN = 20;
+    private static final int ECDSA_KEY_ALIAS_LEN = 35;
+
+    @Param("1000000")
+    int numAliases;
+
+    @Param({"offHeap", "fcHashMap"})
+    String aliasStore;
+
+    private int i;
+    private Address[] evmAddresses;
+    private ByteString[] keyAliases;
+    private Address[] unknownAddresses;
+    private AliasManager subject;
+
+    // --- Fixtures ---
+    @Setup(Level.Trial)
+    public void setupAliases() {
+        final var r = new SplittableRandom(1_234_567L);
+        evmAddresses = new Address[numAliases / 2];
+        keyAliases = new ByteString[numAliases / 2];
+        unknownAddresses = new Address[1024];
+        for (int j = 0; j < unknownAddresses.length; j++) {
+            unknownAddresses[j] = Address.wrap(Bytes.wrap(randomBytes(r, EVM_ADDRESS_LEN)));
+        }
+
+        for (int j = 0; j < evmAddresses.length; j++) {
+            evmAddresses[j] = Address.wrap(Bytes.wrap(randomBytes(r, EVM_ADDRESS_LEN)));
+            keyAliases[j] = ByteString.copyFrom(randomBytes(r, ECDSA_KEY_ALIAS_LEN));
+        }
+
+        var heapBefore = retainedHeap();
+        final FCHashMap<ByteString, EntityNum> aliases = new FCHashMap<>();
+        for (int j = 0; j < evmAddresses.length; j++) {
+            aliases.put(
+                    ByteString.copyFrom(evmAddresses[j].toArrayUnsafe()),
+                    EntityNum.fromLong(1001L + 2 * j));
+            aliases.put(
+                    ByteString.copyFrom(keyAliases[j].toByteArray()),
+                    EntityNum.fromLong(1002L + 2 * j));
+        }
+        final var mapHeap = retainedHeap() - heapBefore;
+
+        heapBefore = retainedHeap();
+        final var index = new OffHeapAliasIndex();
+        for (int j = 0; j < evmAddresses.length; j++) {
+            index.put(evmAddresses[j].toArrayUnsafe(), 1001L + 2 * j);
+            index.put(keyAliases[j].toByteArray(), 1002L + 2 * j);
+        }
+        final var indexHeap = retainedHeap() - heapBefore;
+        System.out.printf(
+                "%n%d aliases: FCHashMap retains ~%d heap bytes; index retains ~%d heap bytes"
+                        + " and %d off-heap bytes%n",
+                numAliases,
+                mapHeap,
+                indexHeap,
+                index.offHeapBytes());
+
+        subject =
+                "offHeap".equals(aliasStore)
+                        ? new AliasManager(() -> aliases, index)
+                        : new AliasManager(() -> aliases);
+        i = 0;
+    }
+
+    // --- Benchmarks ---
+    @Benchmark
+    public Address resolveKnownEvmAddress() {
+        i = i * 1_664_525 + 1_013_904_223;
+        return subject.resolveForEvm(evmAddresses[Math.floorMod(i, evmAddresses.length)]);
+    }
+
+    @Benchmark
+    public boolean checkUnknownEvmAddress() {
+        i = i * 1_664_525 + 1_013_904_223;
+        return subject.isInUse(unknownAddresses[Math.floorMod(i, unknownAddresses.length)]);
+    }
+
+    @Benchmark
+    public EntityNum lookupKeyAlias() {
+        i = i * 1_664_525 + 1_013_904_223;
+        return subject.lookupIdBy(keyAliases[Math.floorMod(i, keyAliases.length)]);
+    }
+
+    // --- Helpers ---
+    private static byte[] randomBytes(final SplittableRandom r, final int n) {
+        final var bytes = new byte[n];
+        r.nextBytes(bytes);
+        return bytes;
+    }
+
+    private static long retainedHeap() {
+        final var runtime = Runtime.getRuntime();
+        for (int k = 0; k < 3; k++) {
+            System.gc();
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
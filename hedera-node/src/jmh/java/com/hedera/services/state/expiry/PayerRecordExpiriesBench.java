@@ -0,0 +1,133 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.expiry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares the {@link MonotonicFullQueueExpiries} previously used for payer records with the
+ * {@link TimingWheelExpiries} that replaced it, with the same sequence of one {@code track()} call
+ * per record that {@link ExpiryManager#trackRecordInState} receives.
+ *
+ * <ul>
+ *   <li>The {@code *FillHorizon} benchmarks build a structure holding a full record TTL of
+ *       expiries; run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} to compare their
+ *       footprints.
+ *   <li>The {@code *TrackAndPurgeSecond} benchmarks measure the steady state, in which each
+ *       consensus second tracks one second of new records and purges one second of old ones.
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class PayerRecordExpiriesBench {
+    private static final long FIRST_SECOND = 1_600_000_000L;
+
+    @Param("180")
+    int ttlSecs;
+
+    @Param({"100", "5000"})
+    int payersPerSecond;
+
+    @Param({"1", "20"})
+    int recordsPerPayer;
+
+    private long now;
+    private MonotonicFullQueueExpiries<Long> queue;
+    private TimingWheelExpiries wheel;
+
+    // --- Fixtures ---
+    @Setup(Level.Trial)
+    public void setupSteadyState() {
+        now = FIRST_SECOND;
+        queue = new MonotonicFullQueueExpiries<>();
+        wheel = new TimingWheelExpiries();
+        for (int i = 0; i < ttlSecs; i++) {
+            trackSecond(queue, FIRST_SECOND + i, ttlSecs);
+            trackSecond(wheel, FIRST_SECOND + i, ttlSecs);
+        }
+    }
+
+    // --- Benchmarks ---
+    @Benchmark
+    public void queueFillHorizon(final Blackhole blackhole) {
+        final var fresh = new MonotonicFullQueueExpiries<Long>();
+        for (int i = 0; i < ttlSecs; i++) {
+            trackSecond(fresh, FIRST_SECOND + i, ttlSecs);
+        }
+        blackhole.consume(fresh);
+    }
+
+    @Benchmark
+    public void wheelFillHorizon(final Blackhole blackhole) {
+        final var fresh = new TimingWheelExpiries();
+        for (int i = 0; i < ttlSecs; i++) {
+            trackSecond(fresh, FIRST_SECOND + i, ttlSecs);
+        }
+        blackhole.consume(fresh);
+    }
+
+    @Benchmark
+    public void queueTrackAndPurgeSecond(final Blackhole blackhole) {
+        trackSecond(queue, now + ttlSecs, ttlSecs);
+        while (queue.hasExpiringAt(now + ttlSecs)) {
+            blackhole.consume(queue.expireNextAt(now + ttlSecs));
+        }
+        now++;
+    }
+
+    @Benchmark
+    public void wheelTrackAndPurgeSecond(final Blackhole blackhole) {
+        trackSecond(wheel, now + ttlSecs, ttlSecs);
+        wheel.expireAllAt(now + ttlSecs, blackhole::consume);
+        now++;
+    }
+
+    // --- Helpers ---
+    private void trackSecond(
+            final MonotonicFullQueueExpiries<Long> expiries, final long second, final int ttl) {
+        for (int p = 0; p < payersPerSecond; p++) {
+            final long payer = payerAt(second, p);
+            for (int r = 0; r < recordsPerPayer; r++) {
+                expiries.track(payer, second + ttl);
+            }
+        }
+    }
+
+    private void trackSecond(final TimingWheelExpiries expiries, final long second, final int ttl) {
+        for (int p = 0; p < payersPerSecond; p++) {
+            final long payer = payerAt(second, p);
+            for (int r = 0; r < recordsPerPayer; r++) {
+                expiries.track(payer, second + ttl);
+            }
+        }
+    }
+
+    private long payerAt(final long second, final int p) {
+        // A rotating population of payers, about half of which recur from one second to the next
+        return 1_001L + (second * (payersPerSecond / 2) + p) % (10L * payersPerSecond);
+    }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.merkle;
+
+import static com.hedera.services.legacy.proto.utils.CommonUtils.noThrowSha384HashOf;
+
+import com.google.protobuf.ByteString;
+import com.hedera.services.legacy.core.jproto.JEd25519Key;
+import com.hedera.services.state.submerkle.EntityId;
+import com.hedera.services.state.submerkle.FcTokenAllowanceId;
+import com.hedera.services.utils.EntityNum;
+import com.swirlds.common.io.streams.SerializableDataOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Compares hashing a fast-copied account whose balance just changed via the default
+ * serialize-then-digest path, against the account's self-hashing path that reuses its key, memo,
+ * and alias digests from the previous copy. Run with {@code -t} to see how each path scales when
+ * the platform hashes leaves in parallel, and with {@code -prof gc} to compare allocations.
+ */
+@State(Scope.Thread)
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class LeafHashingBench {
+    private static final int NUM_ACCOUNTS = 1_024;
+
+    @Param({"0", "10"})
+    int numAllowances;
+
+    private int i;
+    private MerkleAccountState[] accounts;
+
+    // --- Fixtures ---
+    @Setup
+    public void setupAccounts() {
+        final var r = new Random(1_234_567L);
+        accounts = new MerkleAccountState[NUM_ACCOUNTS];
+        for (int j = 0; j < NUM_ACCOUNTS; j++) {
+            accounts[j] = randomAccount(r, j);
+            // Prime the component digests, as the previous round's hashing would have
+            accounts[j].getHash();
+        }
+    }
+
+    // --- Benchmarks ---
+    @Benchmark
+    public void streamHashDirtyAccount(final Blackhole blackhole) throws IOException {
+        final var account = nextDirtyAccount();
+        final var baos = new ByteArrayOutputStream();
+        try (final var out = new SerializableDataOutputStream(baos)) {
+            account.serialize(out);
+        }
+        blackhole.consume(noThrowSha384HashOf(baos.toByteArray()));
+    }
+
+    @Benchmark
+    public void selfHashDirtyAccount(final Blackhole blackhole) {
+        blackhole.consume(nextDirtyAccount().getHash());
+    }
+
+    // --- Helpers ---
+    private MerkleAccountState nextDirtyAccount() {
+        final var j = i++ % NUM_ACCOUNTS;
+        final var account = accounts[j].copy();
+        account.setHbarBalance(account.balance() + 1);
+        accounts[j] = account;
+        return account;
+    }
+
+    private MerkleAccountState randomAccount(final Random r, final int num) {
+        final var keyBytes = new byte[32];
+        r.nextBytes(keyBytes);
+        final var aliasBytes = new byte[32];
+        r.nextBytes(aliasBytes);
+
+        final var account = new MerkleAccountState();
+        account.setNumber(num);
+        account.setAccountKey(new JEd25519Key(keyBytes));
+        account.setAlias(ByteString.copyFrom(aliasBytes));
+        account.setMemo("An account memo of unremarkable length #" + num);
+        account.setHbarBalance(r.nextLong(1, Long.MAX_VALUE / 2));
+        account.setExpiry(1_234_567L + num);
+        account.setAutoRenewSecs(7_776_000L);
+        account.setProxy(new EntityId(0, 0, 3));
+
+        final var cryptoAllowances = new TreeMap<EntityNum, Long>();
+        final var tokenAllowances = new TreeMap<FcTokenAllowanceId, Long>();
+        final var nftAllowances = new TreeSet<FcTokenAllowanceId>();
+        for (int k = 0; k < numAllowances; k++) {
+            final var spender = EntityNum.fromLong(1_001L + k);
+            final var token = EntityNum.fromLong(2_001L + k);
+            cryptoAllowances.put(spender, 100L + k);
+            tokenAllowances.put(new FcTokenAllowanceId(token, spender), 200L + k);
+            nftAllowances.add(new FcTokenAllowanceId(token, spender));
+        }
+        account.setCryptoAllowances(cryptoAllowances);
+        account.setFungibleTokenAllowances(tokenAllowances);
+        account.setApproveForAllNfts(nftAllowances);
+        return account;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.merkle;
+
+import static com.hedera.services.legacy.proto.utils.CommonUtils.noThrowSha384HashOf;
+
+import com.hederahashgraph.api.proto.java.FileID;
+import java.io.ByteArrayOutputStream;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures reads of a special file uploaded in many appends, as query threads see them. Run with
+ * {@code -t} greater than one to see how reads scale now that they no longer share a monitor, and
+ * with {@code -prof gc} to compare the copying {@code get()} with the zero-copy {@code getView()}.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class SpecialFilesReadBench {
+    private static final int APPEND_BYTES = 4_096;
+    private static final FileID UPGRADE_FILE = FileID.newBuilder().setFileNum(150).build();
+
+    @Param({"16", "256"})
+    int numAppends;
+
+    private byte[] fileHash;
+    private MerkleSpecialFiles specialFiles;
+
+    // --- Fixtures ---
+    @Setup
+    public void setupSpecialFiles() {
+        final var r = new Random(1_234_567L);
+        final var contents = new ByteArrayOutputStream();
+        specialFiles = new MerkleSpecialFiles();
+        for (int i = 0; i < numAppends; i++) {
+            final var part = new byte[APPEND_BYTES];
+            r.nextBytes(part);
+            contents.writeBytes(part);
+            specialFiles.append(UPGRADE_FILE, part);
+        }
+        fileHash = noThrowSha384HashOf(contents.toByteArray());
+    }
+
+    // --- Benchmarks ---
+    @Benchmark
+    public void getContents(final Blackhole blackhole) {
+        blackhole.consume(specialFiles.get(UPGRADE_FILE));
+    }
+
+    @Benchmark
+    public void getView(final Blackhole blackhole) {
+        blackhole.consume(specialFiles.getView(UPGRADE_FILE));
+    }
+
+    @Benchmark
+    public void checkHash(final Blackhole blackhole) {
+        blackhole.consume(specialFiles.hashMatches(UPGRADE_FILE, fileHash));
+    }
+}
@@ -15,56 +15,133 @@
  */
 package com.hedera.services.stream;
 
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Predicate;
 import org.mockito.Mockito;
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.Fork;
 import org.openjdk.jmh.annotations.Level;
 import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
 import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.annotations.TearDown;
 import org.openjdk.jmh.annotations.Warmup;
 
+/**
+ * Compares the batching, ring-buffer {@link NonBlockingHandoff} against the previous
+ * one-record-at-a-time {@link ArrayBlockingQueue} handoff, both for the latency of a single record
+ * and for the throughput of a burst of records such as a contract call with many child records.
+ */
 @State(Scope.Benchmark)
 @Fork(1)
 @Warmup(iterations = 1, time = 10)
 @Measurement(iterations = 10, time = 30)
 public class NonBlockingHandoffBench {
+    private static final int CAPACITY = 5000;
+    private static final int BURST_SIZE = 1000;
+
+    @Param({"batching", "legacy"})
+    private String handoffType;
 
-    private NonBlockingHandoff nonBlockingHandoff;
+    private Predicate<RecordStreamObject> handoff;
+    private Runnable stopHandoff;
     private NodeLocalProperties nodeLocalProperties;
     private RecordStreamManager recordStreamManager;
     private BlockingQueue<RecordStreamObject> receivingQueue;
 
     @Setup(Level.Trial)
+    @SuppressWarnings("unchecked")
     public void setupInfrastructure() {
         receivingQueue = new LinkedBlockingQueue<>();
         nodeLocalProperties = mock(NodeLocalProperties.class, Mockito.withSettings().stubOnly());
         recordStreamManager = mock(RecordStreamManager.class, Mockito.withSettings().stubOnly());
-        when(nodeLocalProperties.recordStreamQueueCapacity()).thenReturn(5000);
+        when(nodeLocalProperties.recordStreamQueueCapacity()).thenReturn(CAPACITY);
         doAnswer(val -> receivingQueue.add(val.getArgument(0, RecordStreamObject.class)))
                 .when(recordStreamManager)
                 .addRecordStreamObject(any());
-        nonBlockingHandoff = new NonBlockingHandoff(recordStreamManager, nodeLocalProperties);
+        doAnswer(val -> receivingQueue.addAll(val.getArgument(0, List.class)))
+                .when(recordStreamManager)
+                .addRecordStreamObjects(any());
+        if ("legacy".equals(handoffType)) {
+            final var legacy = new LegacyHandoff(recordStreamManager, CAPACITY);
+            handoff = legacy::offer;
+            stopHandoff = legacy::stop;
+        } else {
+            final var nonBlockingHandoff =
+                    new NonBlockingHandoff(
+                            recordStreamManager,
+                            nodeLocalProperties,
+                            mock(MiscRunningAvgs.class, Mockito.withSettings().stubOnly()));
+            handoff = nonBlockingHandoff::offer;
+            stopHandoff = () -> nonBlockingHandoff.getExecutor().shutdownNow();
+        }
     }
 
     @TearDown(Level.Trial)
     public void tearDown() {
-        nonBlockingHandoff.getExecutor().shutdownNow();
+        stopHandoff.run();
     }
 
     @Benchmark
     public void simpleProcessing() throws InterruptedException {
-        nonBlockingHandoff.offer(new RecordStreamObject());
+        handoff.test(new RecordStreamObject());
         receivingQueue.take();
     }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST_SIZE)
+    public void burstProcessing() throws InterruptedException {
+        for (int i = 0; i < BURST_SIZE; i++) {
+            while (!handoff.test(new RecordStreamObject())) {
+                Thread.onSpinWait();
+            }
+        }
+        for (int i = 0; i < BURST_SIZE; i++) {
+            receivingQueue.take();
+        }
+    }
+
+    /** The handoff as it was before batching, kept here only as a baseline. */
+    private static final class LegacyHandoff {
+        private final ExecutorService executor = newSingleThreadExecutor();
+        private final BlockingQueue<RecordStreamObject> queue;
+
+        private LegacyHandoff(final RecordStreamManager recordStreamManager, final int capacity) {
+            queue = new ArrayBlockingQueue<>(capacity);
+            executor.execute(
+                    () -> {
+                        while (true) {
+                            try {
+                                recordStreamManager.addRecordStreamObject(queue.take());
+                            } catch (final InterruptedException e) {
+                                Thread.currentThread().interrupt();
+                                break;
+                            }
+                        }
+                    });
+        }
+
+        private boolean offer(final RecordStreamObject rso) {
+            return queue.offer(rso);
+        }
+
+        private void stop() {
+            executor.shutdownNow();
+        }
+    }
 }
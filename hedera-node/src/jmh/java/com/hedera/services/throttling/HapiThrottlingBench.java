@@ -0,0 +1,162 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.throttling;
+
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
+import static org.mockito.Mockito.mock;
+
+import com.hedera.services.config.MockGlobalDynamicProps;
+import com.hedera.services.ledger.accounts.AliasManager;
+import com.hedera.services.store.schedule.ScheduleStore;
+import com.hedera.services.sysfiles.domain.throttling.ThrottleBucket;
+import com.hedera.services.sysfiles.domain.throttling.ThrottleDefinitions;
+import com.hedera.services.sysfiles.domain.throttling.ThrottleGroup;
+import com.hedera.services.throttles.GasLimitDeterministicThrottle;
+import com.hedera.services.throttling.DeterministicThrottling.DeterministicThrottlingMode;
+import com.hedera.services.utils.accessors.SignedTxnAccessor;
+import com.hedera.services.utils.accessors.TxnAccessor;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ConsensusSubmitMessageTransactionBody;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import java.time.Instant;
+import java.util.List;
+import java.util.function.IntSupplier;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures frontend throttle decisions made by many ingest threads at once, comparing the
+ * previous {@code synchronized} {@link HapiThrottling} against 1, 4 and 8 lock stripes. Run with
+ * the same bucket either far from saturation (so nearly every decision is "allow") or saturated
+ * (so most decisions spill over to every stripe before being refused).
+ *
+ * <p>Use {@code -t} to vary the number of contending threads.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Threads(16)
+@Warmup(iterations = 1, time = 10)
+@Measurement(iterations = 3, time = 30)
+public class HapiThrottlingBench {
+    private static final int NODES = 4;
+
+    @Param({"synchronized", "1", "4", "8"})
+    String stripes;
+
+    @Param({"4000000", "40000"})
+    long opsPerSec;
+
+    private TxnAccessor accessor;
+    private Predicate<TxnAccessor> throttling;
+
+    @Setup(Level.Trial)
+    public void setupThrottling() {
+        final var defs = defsWith(opsPerSec);
+        final IntSupplier capacitySplit = () -> NODES;
+        if ("synchronized".equals(stripes)) {
+            final var legacy =
+                    new SynchronizedHapiThrottling(
+                            stripe(capacitySplit, GasLimitDeterministicThrottle::new));
+            legacy.delegate.rebuildFor(defs);
+            legacy.delegate.applyGasConfig();
+            throttling = legacy::shouldThrottleTxn;
+        } else {
+            final var striped =
+                    new HapiThrottling(
+                            Integer.parseInt(stripes), capacitySplit, HapiThrottlingBench::stripe);
+            striped.rebuildFor(defs);
+            striped.applyGasConfig();
+            throttling = striped::shouldThrottleTxn;
+        }
+        accessor = submitMessageAccessor();
+    }
+
+    @Benchmark
+    public boolean shouldThrottleTxn() {
+        return throttling.test(accessor);
+    }
+
+    private static TimedFunctionalityThrottling stripe(
+            final IntSupplier capacitySplitSource,
+            final LongFunction<GasLimitDeterministicThrottle> gasThrottleFactory) {
+        return new DeterministicThrottling(
+                capacitySplitSource,
+                mock(AliasManager.class),
+                new MockGlobalDynamicProps(),
+                DeterministicThrottlingMode.HAPI,
+                mock(ScheduleStore.class),
+                gasThrottleFactory);
+    }
+
+    private static ThrottleDefinitions defsWith(final long opsPerSec) {
+        final var defs = new ThrottleDefinitions();
+        defs.getBuckets()
+                .add(
+                        new ThrottleBucket<>(
+                                1_000L,
+                                "ThroughputLimits",
+                                List.of(
+                                        new ThrottleGroup<>(
+                                                opsPerSec * 1_000L,
+                                                List.of(CryptoTransfer, ConsensusSubmitMessage)))));
+        return defs;
+    }
+
+    private static TxnAccessor submitMessageAccessor() {
+        final var body =
+                TransactionBody.newBuilder()
+                        .setTransactionID(
+                                TransactionID.newBuilder()
+                                        .setAccountID(
+                                                AccountID.newBuilder().setAccountNum(1_234L)))
+                        .setConsensusSubmitMessage(
+                                ConsensusSubmitMessageTransactionBody.getDefaultInstance())
+                        .build();
+        final var signedTxn =
+                SignedTransaction.newBuilder().setBodyBytes(body.toByteString()).build();
+        return SignedTxnAccessor.uncheckedFrom(
+                Transaction.newBuilder()
+                        .setSignedTransactionBytes(signedTxn.toByteString())
+                        .build());
+    }
+
+    /** The frontend throttle as it was before striping, kept here only as a baseline. */
+    private static final class SynchronizedHapiThrottling {
+        private final TimedFunctionalityThrottling delegate;
+
+        private SynchronizedHapiThrottling(final TimedFunctionalityThrottling delegate) {
+            this.delegate = delegate;
+        }
+
+        private synchronized boolean shouldThrottleTxn(final TxnAccessor accessor) {
+            return delegate.shouldThrottleTxn(accessor, Instant.now());
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.utils.accessors;
+
+import com.google.protobuf.ByteString;
+import com.google.protobuf.InvalidProtocolBufferException;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ConsensusSubmitMessageTransactionBody;
+import com.hederahashgraph.api.proto.java.SignatureMap;
+import com.hederahashgraph.api.proto.java.SignaturePair;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TopicID;
+import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import java.util.Random;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the work a {@link SignedTxnAccessor} does for a transaction at each stage it passes
+ * through; run with {@code -prof gc} and compare {@code gc.alloc.rate.norm} for the allocation per
+ * transaction.
+ *
+ * <ul>
+ *   <li>{@code ingest} parses the gRPC request bytes and reads the parts prechecks use.
+ *   <li>{@code preHandle} parses the platform transaction contents and reads the parts signature
+ *       expansion uses.
+ *   <li>{@code handle} reuses the pre-handle accessor, and only adds the hash for the record.
+ * </ul>
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 5, time = 10)
+public class SignedTxnAccessorBench {
+    @Param({"1", "10"})
+    int numSigPairs;
+
+    @Param({"100", "4096"})
+    int messageSize;
+
+    private byte[] wrapperBytes;
+    private SignedTxnAccessor preHandled;
+
+    // --- Fixtures ---
+    @Setup(Level.Trial)
+    public void setupTransaction() throws InvalidProtocolBufferException {
+        final var r = new Random(1_234_567L);
+        final var message = new byte[messageSize];
+        r.nextBytes(message);
+        final var body =
+                TransactionBody.newBuilder()
+                        .setTransactionID(
+                                TransactionID.newBuilder()
+                                        .setAccountID(AccountID.newBuilder().setAccountNum(1_234L))
+                                        .setTransactionValidStart(
+                                                Timestamp.newBuilder().setSeconds(1_234_567L)))
+                        .setNodeAccountID(AccountID.newBuilder().setAccountNum(3L))
+                        .setTransactionFee(100_000_000L)
+                        .setMemo("Benchmark")
+                        .setConsensusSubmitMessage(
+                                ConsensusSubmitMessageTransactionBody.newBuilder()
+                                        .setTopicID(TopicID.newBuilder().setTopicNum(5_678L))
+                                        .setMessage(ByteString.copyFrom(message)))
+                        .build();
+        final var sigMap = SignatureMap.newBuilder();
+        for (int i = 0; i < numSigPairs; i++) {
+            final var prefix = new byte[32];
+            r.nextBytes(prefix);
+            final var sig = new byte[64];
+            r.nextBytes(sig);
+            sigMap.addSigPair(
+                    SignaturePair.newBuilder()
+                            .setPubKeyPrefix(ByteString.copyFrom(prefix))
+                            .setEd25519(ByteString.copyFrom(sig)));
+        }
+        final var signedTxn =
+                SignedTransaction.newBuilder()
+                        .setBodyBytes(body.toByteString())
+                        .setSigMap(sigMap)
+                        .build();
+        wrapperBytes =
+                Transaction.newBuilder()
+                        .setSignedTransactionBytes(signedTxn.toByteString())
+                        .build()
+                        .toByteArray();
+    }
+
+    @Setup(Level.Invocation)
+    public void setupPreHandledAccessor() throws InvalidProtocolBufferException {
+        // Since the accessor computes its hash only once, each handle() needs a fresh one
+        preHandled = SignedTxnAccessor.from(wrapperBytes);
+    }
+
+    // --- Benchmarks ---
+    @Benchmark
+    public void ingest(final Blackhole blackhole) throws InvalidProtocolBufferException {
+        final var accessor = SignedTxnAccessor.from(wrapperBytes);
+        blackhole.consume(accessor.getFunction());
+        blackhole.consume(accessor.getPayer());
+        blackhole.consume(accessor.getOfferedFee());
+        blackhole.consume(accessor.memoHasZeroByte());
+        blackhole.consume(accessor.usageGiven(1));
+        blackhole.consume(accessor.getPkToSigsFn());
+    }
+
+    @Benchmark
+    public void preHandle(final Blackhole blackhole) throws InvalidProtocolBufferException {
+        final var accessor = SignedTxnAccessor.from(wrapperBytes);
+        blackhole.consume(accessor.getPkToSigsFn());
+        blackhole.consume(accessor.getTxnBytes());
+    }
+
+    @Benchmark
+    public byte[] handle() {
+        return preHandled.getHash();
+    }
+}
@@ -38,6 +38,7 @@ import com.hedera.services.ledger.backing.BackingStore;
 import com.hedera.services.queries.QueriesModule;
 import com.hedera.services.records.RecordsModule;
 import com.hedera.services.sigs.EventExpansion;
+import com.hedera.services.sigs.SigVerificationBatcher;
 import com.hedera.services.sigs.SigsModule;
 import com.hedera.services.state.DualStateAccessor;
 import com.hedera.services.state.StateModule;
@@ -114,6 +115,8 @@ public interface ServicesApp {
 
     EventExpansion eventExpansion();
 
+    SigVerificationBatcher sigVerificationBatcher();
+
     ServicesInitFlow initializationFlow();
 
     DualStateAccessor dualStateAccessor();
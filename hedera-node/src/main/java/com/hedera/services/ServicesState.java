@@ -213,6 +213,8 @@ public class ServicesState extends PartialNaryMerkleInternal
         throwIfImmutable();
         final var app = metadata.app();
         app.dualStateAccessor().setDualState(dualState);
+        // Every event in the round has been pre-handled, so submit any signatures still pending
+        app.sigVerificationBatcher().flushRound();
         app.logic().incorporateConsensus(round);
     }
 
@@ -16,8 +16,11 @@
 package com.hedera.services.context.init;
 
 import com.hedera.services.ledger.SigImpactHistorian;
+import com.hedera.services.state.expiry.AutoRenewIndex;
 import com.hedera.services.state.expiry.ExpiryManager;
 import com.hedera.services.state.logic.NetworkCtxManager;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
@@ -28,25 +31,32 @@ public class EntitiesInitializationFlow {
     private static final Logger log = LogManager.getLogger(EntitiesInitializationFlow.class);
 
     private final ExpiryManager expiries;
+    private final AutoRenewIndex autoRenewIndex;
     private final NetworkCtxManager networkCtxManager;
     private final SigImpactHistorian sigImpactHistorian;
 
     @Inject
     public EntitiesInitializationFlow(
             final ExpiryManager expiries,
+            final AutoRenewIndex autoRenewIndex,
             final SigImpactHistorian sigImpactHistorian,
             final NetworkCtxManager networkCtxManager) {
         this.expiries = expiries;
+        this.autoRenewIndex = autoRenewIndex;
         this.sigImpactHistorian = sigImpactHistorian;
         this.networkCtxManager = networkCtxManager;
     }
 
     public void run() {
-        expiries.reviewExistingPayerRecords();
-        log.info("Payer records reviewed");
+        /* The payer record, short-lived entity, and auto-renew queues are disjoint, and each is
+         * rebuilt from its own read-only walk of the state; so review them all together. */
+        final Map<String, Runnable> reviews = new LinkedHashMap<>();
+        reviews.put("payer record expiries", expiries::reviewExistingPayerRecords);
         /* Use any entities stored in state to rebuild queue of expired entities. */
-        expiries.reviewExistingShortLivedEntities();
-        log.info("Short-lived entities reviewed");
+        reviews.put("short-lived entity expiries", expiries::reviewExistingShortLivedEntities);
+        reviews.put("auto-renew expiries", autoRenewIndex::reviewExistingEntities);
+        ParallelRebuilds.runAll(reviews);
+        log.info("Payer records, short-lived entities, and auto-renew expiries reviewed");
 
         sigImpactHistorian.invalidateCurrentWindow();
         log.info("Signature impact history invalidated");
@@ -0,0 +1,131 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.context.init;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Runs a set of mutually independent rebuilds of in-memory indexes (each derived from a read-only
+ * walk of some part of the saved state) concurrently, and logs how long each one took.
+ *
+ * <p>Each rebuild must write only to its own index; the saved state is only read while they run.
+ *
+ * <p>Returns only after <i>every</i> rebuild has finished, so the caller sees all their effects;
+ * if any rebuild failed, the first failure (in the given order) is re-thrown.
+ */
+final class ParallelRebuilds {
+    private static final Logger log = LogManager.getLogger(ParallelRebuilds.class);
+
+    private ParallelRebuilds() {
+        throw new UnsupportedOperationException("Utility Class");
+    }
+
+    /**
+     * Runs the given named rebuilds on short-lived daemon threads, one per rebuild (but no more
+     * than there are processors), and waits for them all to finish.
+     *
+     * @param rebuilds the rebuilds to run, by the name of the index each rebuilds
+     * @return the milliseconds each rebuild took, by name
+     */
+    static Map<String, Long> runAll(final Map<String, Runnable> rebuilds) {
+        final var n =
+                Math.max(1, Math.min(rebuilds.size(), Runtime.getRuntime().availableProcessors()));
+        final var nextId = new AtomicInteger();
+        final var pool =
+                Executors.newFixedThreadPool(
+                        n,
+                        r -> {
+                            final var thread =
+                                    new Thread(r, "index-rebuild-" + nextId.incrementAndGet());
+                            thread.setDaemon(true);
+                            return thread;
+                        });
+        try {
+            return runAll(pool, rebuilds);
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * Runs the given named rebuilds on the given executor and waits for them all to finish.
+     *
+     * @param executor the executor to run the rebuilds
+     * @param rebuilds the rebuilds to run, by the name of the index each rebuilds
+     * @return the milliseconds each rebuild took, by name
+     */
+    static Map<String, Long> runAll(final Executor executor, final Map<String, Runnable> rebuilds) {
+        final var start = System.nanoTime();
+        final Map<String, CompletableFuture<Long>> futures = new LinkedHashMap<>();
+        rebuilds.forEach(
+                (name, rebuild) ->
+                        futures.put(
+                                name,
+                                CompletableFuture.supplyAsync(() -> timed(rebuild), executor)));
+        try {
+            CompletableFuture.allOf(futures.values().toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            for (final var future : futures.values()) {
+                if (future.isCompletedExceptionally()) {
+                    rethrowCauseOf(future);
+                }
+            }
+            throw e;
+        }
+
+        final Map<String, Long> buildTimes = new LinkedHashMap<>();
+        futures.forEach(
+                (name, future) -> {
+                    final long ms = future.join();
+                    buildTimes.put(name, ms);
+                    log.info("  -> Rebuilt {} in {}ms", name, ms);
+                });
+        log.info(
+                "Rebuilt {} indexes in {}ms",
+                buildTimes.size(),
+                (System.nanoTime() - start) / 1_000_000L);
+        return buildTimes;
+    }
+
+    private static long timed(final Runnable rebuild) {
+        final var start = System.nanoTime();
+        rebuild.run();
+        return (System.nanoTime() - start) / 1_000_000L;
+    }
+
+    private static void rethrowCauseOf(final CompletableFuture<Long> failed) {
+        try {
+            failed.join();
+        } catch (CompletionException e) {
+            final var cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+}
@@ -26,6 +26,8 @@ import com.hedera.services.state.validation.UsageLimits;
 import com.hedera.services.store.models.NftId;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TokenID;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.commons.lang3.tuple.Pair;
@@ -62,13 +64,24 @@ public class StoreInitializationFlow {
         this.aliasManager = aliasManager;
     }
 
+    /**
+     * Rebuilds the backing stores and the alias map from the working state. Each of these is a
+     * read-only walk of some state child into its own index; so the two walks of the accounts
+     * map (for the backing account ids and for the aliases) run concurrently with each other and
+     * with the other stores.
+     */
     public void run() {
-        backingTokenRels.rebuildFromSources();
-        backingAccounts.rebuildFromSources();
-        backingTokens.rebuildFromSources();
-        backingNfts.rebuildFromSources();
-        log.info("Backing stores rebuilt");
+        final Map<String, Runnable> rebuilds = new LinkedHashMap<>();
+        rebuilds.put("backing accounts", backingAccounts::rebuildFromSources);
+        rebuilds.put("account aliases", this::rebuildAliasesAndCountContracts);
+        rebuilds.put("backing token relationships", backingTokenRels::rebuildFromSources);
+        rebuilds.put("backing tokens", backingTokens::rebuildFromSources);
+        rebuilds.put("backing NFTs", backingNfts::rebuildFromSources);
+        ParallelRebuilds.runAll(rebuilds);
+        log.info("Backing stores and account aliases map rebuilt");
+    }
 
+    private void rebuildAliasesAndCountContracts() {
         usageLimits.resetNumContracts();
         aliasManager.rebuildAliasesMap(
                 workingState.accounts(),
@@ -77,6 +90,5 @@ public class StoreInitializationFlow {
                         usageLimits.recordContracts(1);
                     }
                 });
-        log.info("Account aliases map rebuilt");
     }
 }
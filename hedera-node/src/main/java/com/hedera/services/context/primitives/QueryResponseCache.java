@@ -0,0 +1,221 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.context.primitives;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.protobuf.GeneratedMessageV3;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A size-bounded cache of the parts of rendered query responses that can only change along with a
+ * signature-impacting change to their entity; that is, a change marked by {@link
+ * com.hedera.services.ledger.SigImpactHistorian#markEntityChanged(long)}. For an account this
+ * includes its key, alias, and memo, but <i>not</i> its balance or token relationships; so the
+ * {@link StateView} always overlays such volatile fields onto a cached response.
+ *
+ * <p>Queries render their responses from the working state while {@code handleTransaction} is
+ * changing it; so a render that overlaps a change could see the entity as it was <i>before</i>
+ * the change. To keep such a render out of the cache, each render takes a stamp from the stripe
+ * of its entity number before reading state, and its response is only cached if no invalidation
+ * hit that stripe in the meantime. And because an entity is marked changed before the change is
+ * committed, each invalidation is repeated once the changes of its transaction are committed.
+ */
+public class QueryResponseCache {
+    private static final int NUM_STRIPES = 1024;
+    private static final int STRIPE_MASK = NUM_STRIPES - 1;
+
+    public enum Kind {
+        ACCOUNT_INFO,
+        ACCOUNT_DETAILS,
+        CONTRACT_INFO,
+        TOKEN_INFO
+    }
+
+    private static final Kind[] ALL_KINDS = Kind.values();
+
+    private final boolean enabled;
+    private final Cache<Long, GeneratedMessageV3> cache;
+    private final AtomicLongArray stripeStamps = new AtomicLongArray(NUM_STRIPES);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+
+    // Only touched by the handle thread
+    private long[] uncommittedNums = new long[16];
+    private int numUncommitted = 0;
+
+    public QueryResponseCache(final NodeLocalProperties properties) {
+        this(properties.queryResponseCacheMaxBytes());
+    }
+
+    public QueryResponseCache(final long maxBytes) {
+        this.enabled = maxBytes > 0;
+        this.cache =
+                Caffeine.newBuilder()
+                        .maximumWeight(Math.max(0L, maxBytes))
+                        .weigher(
+                                (Long key, GeneratedMessageV3 response) ->
+                                        response.getSerializedSize())
+                        .recordStats()
+                        .build();
+    }
+
+    /**
+     * Returns the stamp a render of the given entity's response must present to {@link
+     * #putIfUnchanged(Kind, long, long, GeneratedMessageV3)}; must be taken <i>before</i> reading
+     * any state for the render.
+     *
+     * @param num the number of the entity about to be rendered
+     * @return the stamp for the render
+     */
+    public long stampFor(final long num) {
+        return stripeStamps.get(stripeOf(num));
+    }
+
+    /**
+     * Returns the cached response of the given kind for the given entity, if present.
+     *
+     * @param kind the kind of response
+     * @param num the entity number
+     * @param type the type of the response
+     * @param <T> the type of the response
+     * @return the cached response, or null
+     */
+    public <T extends GeneratedMessageV3> T getIfPresent(
+            final Kind kind, final long num, final Class<T> type) {
+        if (!enabled) {
+            return null;
+        }
+        final var response = cache.getIfPresent(keyOf(kind, num));
+        if (response == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return type.cast(response);
+    }
+
+    /**
+     * Caches the given response of the given kind for the given entity, unless the entity's stripe
+     * was invalidated since the given stamp was taken.
+     *
+     * @param kind the kind of response
+     * @param num the entity number
+     * @param stamp the stamp taken before rendering the response
+     * @param response the rendered response
+     */
+    public void putIfUnchanged(
+            final Kind kind, final long num, final long stamp, final GeneratedMessageV3 response) {
+        if (!enabled) {
+            return;
+        }
+        final var stripe = stripeOf(num);
+        if (stripeStamps.get(stripe) != stamp) {
+            return;
+        }
+        final var key = keyOf(kind, num);
+        cache.put(key, response);
+        // An invalidation may have slipped in between our check and our put
+        if (stripeStamps.get(stripe) != stamp) {
+            cache.invalidate(key);
+        }
+    }
+
+    /**
+     * Invalidates all cached responses for the given entity, and remembers to invalidate them
+     * again when the current transaction's changes are committed. Must only be called from the
+     * handle thread.
+     *
+     * @param num the changed entity
+     */
+    public void invalidate(final long num) {
+        if (!enabled) {
+            return;
+        }
+        invalidateNow(num);
+        if (numUncommitted == uncommittedNums.length) {
+            final var grown = new long[2 * uncommittedNums.length];
+            System.arraycopy(uncommittedNums, 0, grown, 0, numUncommitted);
+            uncommittedNums = grown;
+        }
+        uncommittedNums[numUncommitted++] = num;
+    }
+
+    /**
+     * Repeats the invalidations done since the last call, now that their changes are committed.
+     * Must only be called from the handle thread.
+     */
+    public void confirmInvalidations() {
+        for (int i = 0; i < numUncommitted; i++) {
+            invalidateNow(uncommittedNums[i]);
+        }
+        numUncommitted = 0;
+    }
+
+    /** Invalidates every cached response (for example, after a reconnect). */
+    public void invalidateAll() {
+        for (int i = 0; i < NUM_STRIPES; i++) {
+            stripeStamps.incrementAndGet(i);
+        }
+        cache.invalidateAll();
+        numUncommitted = 0;
+    }
+
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return cache.stats().evictionCount();
+    }
+
+    public long bytesUsed() {
+        return cache.policy().eviction().orElseThrow().weightedSize().orElse(0L);
+    }
+
+    private void invalidateNow(final long num) {
+        stripeStamps.incrementAndGet(stripeOf(num));
+        for (final var kind : ALL_KINDS) {
+            cache.invalidate(keyOf(kind, num));
+        }
+    }
+
+    private static Long keyOf(final Kind kind, final long num) {
+        return num * ALL_KINDS.length + kind.ordinal();
+    }
+
+    private static int stripeOf(final long num) {
+        return (int) (num ^ (num >>> 32)) & STRIPE_MASK;
+    }
+
+    /* --- Only used by unit tests --- */
+    @VisibleForTesting
+    int numUncommitted() {
+        return numUncommitted;
+    }
+
+    @VisibleForTesting
+    void cleanUp() {
+        cache.cleanUp();
+    }
+}
@@ -15,6 +15,10 @@
  */
 package com.hedera.services.context.primitives;
 
+import static com.hedera.services.context.primitives.QueryResponseCache.Kind.ACCOUNT_DETAILS;
+import static com.hedera.services.context.primitives.QueryResponseCache.Kind.ACCOUNT_INFO;
+import static com.hedera.services.context.primitives.QueryResponseCache.Kind.CONTRACT_INFO;
+import static com.hedera.services.context.primitives.QueryResponseCache.Kind.TOKEN_INFO;
 import static com.hedera.services.context.properties.StaticPropertiesHolder.STATIC_PROPERTIES;
 import static com.hedera.services.ledger.accounts.AliasManager.tryAddressRecovery;
 import static com.hedera.services.state.submerkle.EntityId.MISSING_ENTITY_ID;
@@ -34,6 +38,7 @@ import static java.util.Collections.unmodifiableMap;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.GeneratedMessageV3;
 import com.hedera.services.config.NetworkInfo;
 import com.hedera.services.context.StateChildren;
 import com.hedera.services.contracts.sources.AddressKeyedMapFactory;
@@ -107,6 +112,7 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.function.BiConsumer;
+import javax.annotation.Nullable;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -129,6 +135,7 @@ public class StateView {
     private final ScheduleStore scheduleStore;
     private final StateChildren stateChildren;
     private final NetworkInfo networkInfo;
+    @Nullable private final QueryResponseCache responseCache;
 
     Map<byte[], byte[]> contractBytecode;
     Map<FileID, byte[]> fileContents;
@@ -143,15 +150,24 @@ public class StateView {
             final ScheduleStore scheduleStore,
             final StateChildren stateChildren,
             final NetworkInfo networkInfo) {
+        this(scheduleStore, stateChildren, networkInfo, null);
+    }
+
+    public StateView(
+            final ScheduleStore scheduleStore,
+            final StateChildren stateChildren,
+            final NetworkInfo networkInfo,
+            @Nullable final QueryResponseCache responseCache) {
         this.scheduleStore = scheduleStore;
         this.stateChildren = stateChildren;
         this.networkInfo = networkInfo;
+        this.responseCache = responseCache;
 
-        final Map<String, byte[]> blobStore = unmodifiableMap(new FcBlobsBytesStore(this::storage));
+        final var blobs = new FcBlobsBytesStore(this::storage);
 
-        fileContents = DataMapFactory.dataMapFrom(blobStore);
-        fileAttrs = MetadataMapFactory.metaMapFrom(blobStore);
-        contractBytecode = AddressKeyedMapFactory.bytecodeMapFrom(blobStore);
+        fileContents = DataMapFactory.dataMapFrom(unmodifiableMap(blobs));
+        fileAttrs = unmodifiableMap(MetadataMapFactory.typedMetaMapFrom(blobs));
+        contractBytecode = unmodifiableMap(AddressKeyedMapFactory.typedBytecodeMapFrom(blobs));
     }
 
     public Optional<HFileMeta> attrOf(final FileID id) {
@@ -178,67 +194,26 @@ public class StateView {
     public Optional<TokenInfo> infoForToken(final TokenID tokenId) {
         try {
             final var tokens = stateChildren.tokens();
-            final var token = tokens.get(EntityNum.fromTokenId(tokenId));
+            final var tokenNum = EntityNum.fromTokenId(tokenId);
+            final var stamp = responseStampFor(tokenNum.longValue());
+            final var token = tokens.get(tokenNum);
             if (token == null) {
                 return Optional.empty();
             }
+            var stableInfo = cachedResponse(TOKEN_INFO, tokenNum.longValue(), TokenInfo.class);
+            if (stableInfo == null || !stableInfo.getTokenId().equals(tokenId)) {
+                stableInfo = renderTokenInfo(tokenId, token);
+                cacheResponse(TOKEN_INFO, tokenNum.longValue(), stamp, stableInfo);
+            }
+            // Overlay the fields that can change without a sig-impacting change to the token
             final var info =
-                    TokenInfo.newBuilder()
-                            .setLedgerId(networkInfo.ledgerId())
-                            .setTokenTypeValue(token.tokenType().ordinal())
-                            .setSupplyTypeValue(token.supplyType().ordinal())
-                            .setTokenId(tokenId)
+                    stableInfo.toBuilder()
                             .setDeleted(token.isDeleted())
-                            .setSymbol(token.symbol())
-                            .setName(token.name())
-                            .setMemo(token.memo())
-                            .setTreasury(token.treasury().toGrpcAccountId())
                             .setTotalSupply(token.totalSupply())
-                            .setMaxSupply(token.maxSupply())
-                            .setDecimals(token.decimals())
                             .setExpiry(Timestamp.newBuilder().setSeconds(token.expiry()));
-
-            final var adminCandidate = token.adminKey();
-            adminCandidate.ifPresent(k -> info.setAdminKey(asKeyUnchecked(k)));
-
-            final var freezeCandidate = token.freezeKey();
-            freezeCandidate.ifPresentOrElse(
-                    k -> {
-                        info.setDefaultFreezeStatus(tfsFor(token.accountsAreFrozenByDefault()));
-                        info.setFreezeKey(asKeyUnchecked(k));
-                    },
-                    () -> info.setDefaultFreezeStatus(TokenFreezeStatus.FreezeNotApplicable));
-
-            final var kycCandidate = token.kycKey();
-            kycCandidate.ifPresentOrElse(
-                    k -> {
-                        info.setDefaultKycStatus(tksFor(token.accountsKycGrantedByDefault()));
-                        info.setKycKey(asKeyUnchecked(k));
-                    },
-                    () -> info.setDefaultKycStatus(TokenKycStatus.KycNotApplicable));
-
-            final var supplyCandidate = token.supplyKey();
-            supplyCandidate.ifPresent(k -> info.setSupplyKey(asKeyUnchecked(k)));
-            final var wipeCandidate = token.wipeKey();
-            wipeCandidate.ifPresent(k -> info.setWipeKey(asKeyUnchecked(k)));
-            final var feeScheduleCandidate = token.feeScheduleKey();
-            feeScheduleCandidate.ifPresent(k -> info.setFeeScheduleKey(asKeyUnchecked(k)));
-
-            final var pauseCandidate = token.pauseKey();
-            pauseCandidate.ifPresentOrElse(
-                    k -> {
-                        info.setPauseKey(asKeyUnchecked(k));
-                        info.setPauseStatus(tokenPauseStatusOf(token.isPaused()));
-                    },
-                    () -> info.setPauseStatus(TokenPauseStatus.PauseNotApplicable));
-
-            if (token.hasAutoRenewAccount()) {
-                info.setAutoRenewAccount(token.autoRenewAccount().toGrpcAccountId());
-                info.setAutoRenewPeriod(Duration.newBuilder().setSeconds(token.autoRenewPeriod()));
+            if (token.hasPauseKey()) {
+                info.setPauseStatus(tokenPauseStatusOf(token.isPaused()));
             }
-
-            info.addAllCustomFees(token.grpcFeeSchedule());
-
             return Optional.of(info.build());
         } catch (Exception unexpected) {
             log.warn(
@@ -249,6 +224,67 @@ public class StateView {
         }
     }
 
+    private TokenInfo renderTokenInfo(final TokenID tokenId, final MerkleToken token) {
+        final var info =
+                TokenInfo.newBuilder()
+                        .setLedgerId(networkInfo.ledgerId())
+                        .setTokenTypeValue(token.tokenType().ordinal())
+                        .setSupplyTypeValue(token.supplyType().ordinal())
+                        .setTokenId(tokenId)
+                        .setDeleted(token.isDeleted())
+                        .setSymbol(token.symbol())
+                        .setName(token.name())
+                        .setMemo(token.memo())
+                        .setTreasury(token.treasury().toGrpcAccountId())
+                        .setTotalSupply(token.totalSupply())
+                        .setMaxSupply(token.maxSupply())
+                        .setDecimals(token.decimals())
+                        .setExpiry(Timestamp.newBuilder().setSeconds(token.expiry()));
+
+        final var adminCandidate = token.adminKey();
+        adminCandidate.ifPresent(k -> info.setAdminKey(asKeyUnchecked(k)));
+
+        final var freezeCandidate = token.freezeKey();
+        freezeCandidate.ifPresentOrElse(
+                k -> {
+                    info.setDefaultFreezeStatus(tfsFor(token.accountsAreFrozenByDefault()));
+                    info.setFreezeKey(asKeyUnchecked(k));
+                },
+                () -> info.setDefaultFreezeStatus(TokenFreezeStatus.FreezeNotApplicable));
+
+        final var kycCandidate = token.kycKey();
+        kycCandidate.ifPresentOrElse(
+                k -> {
+                    info.setDefaultKycStatus(tksFor(token.accountsKycGrantedByDefault()));
+                    info.setKycKey(asKeyUnchecked(k));
+                },
+                () -> info.setDefaultKycStatus(TokenKycStatus.KycNotApplicable));
+
+        final var supplyCandidate = token.supplyKey();
+        supplyCandidate.ifPresent(k -> info.setSupplyKey(asKeyUnchecked(k)));
+        final var wipeCandidate = token.wipeKey();
+        wipeCandidate.ifPresent(k -> info.setWipeKey(asKeyUnchecked(k)));
+        final var feeScheduleCandidate = token.feeScheduleKey();
+        feeScheduleCandidate.ifPresent(k -> info.setFeeScheduleKey(asKeyUnchecked(k)));
+
+        final var pauseCandidate = token.pauseKey();
+        pauseCandidate.ifPresentOrElse(
+                k -> {
+                    info.setPauseKey(asKeyUnchecked(k));
+                    info.setPauseStatus(tokenPauseStatusOf(token.isPaused()));
+                },
+                () -> info.setPauseStatus(TokenPauseStatus.PauseNotApplicable));
+
+        if (token.hasAutoRenewAccount()) {
+            info.setAutoRenewAccount(token.autoRenewAccount().toGrpcAccountId());
+            info.setAutoRenewPeriod(Duration.newBuilder().setSeconds(token.autoRenewPeriod()));
+        }
+
+        info.addAllCustomFees(token.grpcFeeSchedule());
+
+        return info.build();
+    }
+
     public Optional<ConsensusTopicInfo> infoForTopic(final TopicID topicID) {
         final var merkleTopic = topics().get(EntityNum.fromTopicId(topicID));
         if (merkleTopic == null) {
@@ -444,12 +480,41 @@ public class StateView {
                 id.getAlias().isEmpty()
                         ? fromAccountId(id)
                         : aliasManager.lookupIdBy(id.getAlias());
+        final var stamp = responseStampFor(accountNum.longValue());
         final var account = accounts().get(accountNum);
         if (account == null) {
             return Optional.empty();
         }
 
         final AccountID accountID = id.getAlias().isEmpty() ? id : accountNum.toGrpcAccountId();
+        var stableInfo =
+                cachedResponse(
+                        ACCOUNT_INFO,
+                        accountNum.longValue(),
+                        CryptoGetInfoResponse.AccountInfo.class);
+        if (stableInfo == null || !stableInfo.getAccountID().equals(accountID)) {
+            stableInfo = renderAccountInfo(accountID, account);
+            cacheResponse(ACCOUNT_INFO, accountNum.longValue(), stamp, stableInfo);
+        }
+        // Overlay the fields that can change without a sig-impacting change to the account
+        final var info =
+                stableInfo.toBuilder()
+                        .setDeleted(account.isDeleted())
+                        .setBalance(account.getBalance())
+                        .setExpirationTime(Timestamp.newBuilder().setSeconds(account.getExpiry()))
+                        .setOwnedNfts(account.getNftsOwned())
+                        .setEthereumNonce(account.getEthereumNonce());
+        final var tokenRels = tokenRels(this, account, maxTokensForAccountInfo);
+        if (!tokenRels.isEmpty()) {
+            info.addAllTokenRelationships(tokenRels);
+        }
+        info.setStakingInfo(stakingInfo(account, rewardCalculator));
+
+        return Optional.of(info.build());
+    }
+
+    private CryptoGetInfoResponse.AccountInfo renderAccountInfo(
+            final AccountID accountID, final MerkleAccount account) {
         final var info =
                 CryptoGetInfoResponse.AccountInfo.newBuilder()
                         .setLedgerId(networkInfo.ledgerId())
@@ -471,13 +536,7 @@ public class StateView {
         Optional.ofNullable(account.getProxy())
                 .map(EntityId::toGrpcAccountId)
                 .ifPresent(info::setProxyAccountID);
-        final var tokenRels = tokenRels(this, account, maxTokensForAccountInfo);
-        if (!tokenRels.isEmpty()) {
-            info.addAllTokenRelationships(tokenRels);
-        }
-        info.setStakingInfo(stakingInfo(account, rewardCalculator));
-
-        return Optional.of(info.build());
+        return info.build();
     }
 
     private String getContractAccountId(final JKey key, final AccountID accountID) {
@@ -560,12 +619,39 @@ public class StateView {
                 id.getAlias().isEmpty()
                         ? fromAccountId(id)
                         : aliasManager.lookupIdBy(id.getAlias());
+        final var stamp = responseStampFor(accountNum.longValue());
         final var account = accounts().get(accountNum);
         if (account == null) {
             return Optional.empty();
         }
 
         final AccountID accountID = id.getAlias().isEmpty() ? id : accountNum.toGrpcAccountId();
+        var stableDetails =
+                cachedResponse(
+                        ACCOUNT_DETAILS,
+                        accountNum.longValue(),
+                        GetAccountDetailsResponse.AccountDetails.class);
+        if (stableDetails == null || !stableDetails.getAccountId().equals(accountID)) {
+            stableDetails = renderAccountDetails(accountID, account);
+            cacheResponse(ACCOUNT_DETAILS, accountNum.longValue(), stamp, stableDetails);
+        }
+        // Overlay the fields that can change without a sig-impacting change to the account
+        final var details =
+                stableDetails.toBuilder()
+                        .setDeleted(account.isDeleted())
+                        .setBalance(account.getBalance())
+                        .setExpirationTime(Timestamp.newBuilder().setSeconds(account.getExpiry()))
+                        .setOwnedNfts(account.getNftsOwned());
+        final var tokenRels = tokenRels(this, account, maxTokensForAccountInfo);
+        if (!tokenRels.isEmpty()) {
+            details.addAllTokenRelationships(tokenRels);
+        }
+        setAllowancesIfAny(details, account);
+        return Optional.of(details.build());
+    }
+
+    private GetAccountDetailsResponse.AccountDetails renderAccountDetails(
+            final AccountID accountID, final MerkleAccount account) {
         final var details =
                 GetAccountDetailsResponse.AccountDetails.newBuilder()
                         .setLedgerId(networkInfo.ledgerId())
@@ -585,12 +671,7 @@ public class StateView {
         Optional.ofNullable(account.getProxy())
                 .map(EntityId::toGrpcAccountId)
                 .ifPresent(details::setProxyAccountId);
-        final var tokenRels = tokenRels(this, account, maxTokensForAccountInfo);
-        if (!tokenRels.isEmpty()) {
-            details.addAllTokenRelationships(tokenRels);
-        }
-        setAllowancesIfAny(details, account);
-        return Optional.of(details.build());
+        return details.build();
     }
 
     private void setAllowancesIfAny(
@@ -615,11 +696,40 @@ public class StateView {
             final int maxTokensForAccountInfo,
             final RewardCalculator rewardCalculator) {
         final var contractId = EntityIdUtils.unaliased(id, aliasManager);
+        final var stamp = responseStampFor(contractId.longValue());
         final var contract = contracts().get(contractId);
         if (contract == null) {
             return Optional.empty();
         }
 
+        var stableInfo =
+                cachedResponse(
+                        CONTRACT_INFO,
+                        contractId.longValue(),
+                        ContractGetInfoResponse.ContractInfo.class);
+        if (stableInfo == null) {
+            stableInfo = renderContractInfo(contractId, contract);
+            cacheResponse(CONTRACT_INFO, contractId.longValue(), stamp, stableInfo);
+        }
+        // Overlay the fields that can change without a sig-impacting change to the contract
+        final var storageSize = contract.getNumContractKvPairs() * BYTES_PER_EVM_KEY_VALUE_PAIR;
+        final var info =
+                stableInfo.toBuilder()
+                        .setDeleted(contract.isDeleted())
+                        .setStorage(storageSize)
+                        .setBalance(contract.getBalance())
+                        .setExpirationTime(Timestamp.newBuilder().setSeconds(contract.getExpiry()));
+        final var tokenRels = tokenRels(this, contract, maxTokensForAccountInfo);
+        if (!tokenRels.isEmpty()) {
+            info.addAllTokenRelationships(tokenRels);
+        }
+        info.setStakingInfo(stakingInfo(contract, rewardCalculator));
+
+        return Optional.of(info.build());
+    }
+
+    private ContractGetInfoResponse.ContractInfo renderContractInfo(
+            final EntityNum contractId, final MerkleAccount contract) {
         final var mirrorId = contractId.toGrpcAccountId();
         final var storageSize = contract.getNumContractKvPairs() * BYTES_PER_EVM_KEY_VALUE_PAIR;
         final var info =
@@ -644,12 +754,6 @@ public class StateView {
         } else {
             info.setContractAccountID(asHexedEvmAddress(mirrorId));
         }
-        final var tokenRels = tokenRels(this, contract, maxTokensForAccountInfo);
-        if (!tokenRels.isEmpty()) {
-            info.addAllTokenRelationships(tokenRels);
-        }
-
-        info.setStakingInfo(stakingInfo(contract, rewardCalculator));
 
         try {
             final var adminKey = JKey.mapJKey(contract.getAccountKey());
@@ -658,7 +762,27 @@ public class StateView {
             // Leave the admin key empty if it can't be decoded
         }
 
-        return Optional.of(info.build());
+        return info.build();
+    }
+
+    private long responseStampFor(final long num) {
+        return responseCache == null ? 0L : responseCache.stampFor(num);
+    }
+
+    @Nullable
+    private <T extends GeneratedMessageV3> T cachedResponse(
+            final QueryResponseCache.Kind kind, final long num, final Class<T> type) {
+        return responseCache == null ? null : responseCache.getIfPresent(kind, num, type);
+    }
+
+    private void cacheResponse(
+            final QueryResponseCache.Kind kind,
+            final long num,
+            final long stamp,
+            final GeneratedMessageV3 response) {
+        if (responseCache != null) {
+            responseCache.putIfUnchanged(kind, num, stamp, response);
+        }
     }
 
     public MerkleMap<EntityNum, MerkleTopic> topics() {
@@ -258,6 +258,7 @@ public final class BootstrapProperties implements PropertySource {
                     AUTO_RENEW_NUM_OF_ENTITIES_TO_SCAN,
                     AUTO_RENEW_MAX_NUM_OF_ENTITIES_TO_RENEW_OR_DELETE,
                     AUTO_RENEW_GRACE_PERIOD,
+                    AUTO_RENEW_SCAN_BY_EXPIRY,
                     LEDGER_CHANGE_HIST_MEM_SECS,
                     LEDGER_AUTO_RENEW_PERIOD_MAX_DURATION,
                     LEDGER_AUTO_RENEW_PERIOD_MIN_DURATION,
@@ -275,7 +276,11 @@ public final class BootstrapProperties implements PropertySource {
                     SCHEDULING_MAX_NUM,
                     SCHEDULING_MAX_EXPIRATION_FUTURE_SECS,
                     SCHEDULING_WHITE_LIST,
+                    SCHEDULING_LOOK_AHEAD_SECS,
+                    SCHEDULING_MAX_PREPARED_PER_LOOK_AHEAD,
                     SIGS_EXPAND_FROM_IMMUTABLE_STATE,
+                    SIGS_EXPAND_IN_PARALLEL,
+                    SIGS_VERIFICATION_BATCH_SIZE,
                     STAKING_FEES_NODE_REWARD_PERCENT,
                     STAKING_FEES_STAKING_REWARD_PERCENT,
                     STAKING_NODE_MAX_TO_MIN_STAKE_RATIOS,
@@ -322,9 +327,11 @@ public final class BootstrapProperties implements PropertySource {
                     GRPC_TLS_PORT,
                     HEDERA_ACCOUNTS_EXPORT_PATH,
                     HEDERA_EXPORT_ACCOUNTS_ON_STARTUP,
+                    HEDERA_HAPI_THROTTLING_STRIPES,
                     HEDERA_PREFETCH_QUEUE_CAPACITY,
                     HEDERA_PREFETCH_THREAD_POOL_SIZE,
                     HEDERA_PREFETCH_CODE_CACHE_TTL_SECS,
+                    HEDERA_PREFETCH_CODE_CACHE_MAX_BYTES,
                     HEDERA_PROFILES_ACTIVE,
                     HEDERA_RECORD_STREAM_IS_ENABLED,
                     HEDERA_RECORD_STREAM_LOG_DIR,
@@ -346,6 +353,12 @@ public final class BootstrapProperties implements PropertySource {
                     NETTY_TLS_CERT_PATH,
                     NETTY_TLS_KEY_PATH,
                     QUERIES_BLOB_LOOK_UP_RETRIES,
+                    QUERIES_EXECUTION_POOLED,
+                    QUERIES_EXECUTION_CHEAP_LANE_THREADS,
+                    QUERIES_EXECUTION_COSTLY_LANE_THREADS,
+                    QUERIES_EXECUTION_LANE_QUEUE_CAPACITY,
+                    QUERIES_EXECUTION_COSTLY_FUNCTIONS,
+                    QUERIES_RESPONSE_CACHE_MAX_BYTES,
                     STATS_CONS_THROTTLES_TO_SAMPLE,
                     STATS_HAPI_THROTTLES_TO_SAMPLE,
                     STATS_EXECUTION_TIMES_TO_TRACK,
@@ -405,9 +418,11 @@ public final class BootstrapProperties implements PropertySource {
                     entry(GRPC_TLS_PORT, AS_INT),
                     entry(HEDERA_EXPORT_ACCOUNTS_ON_STARTUP, AS_BOOLEAN),
                     entry(HEDERA_FIRST_USER_ENTITY, AS_LONG),
+                    entry(HEDERA_HAPI_THROTTLING_STRIPES, AS_INT),
                     entry(HEDERA_PREFETCH_QUEUE_CAPACITY, AS_INT),
                     entry(HEDERA_PREFETCH_THREAD_POOL_SIZE, AS_INT),
                     entry(HEDERA_PREFETCH_CODE_CACHE_TTL_SECS, AS_INT),
+                    entry(HEDERA_PREFETCH_CODE_CACHE_MAX_BYTES, AS_LONG),
                     entry(HEDERA_PROFILES_ACTIVE, AS_PROFILE),
                     entry(HEDERA_REALM, AS_LONG),
                     entry(HEDERA_RECORD_STREAM_LOG_PERIOD, AS_LONG),
@@ -429,10 +444,17 @@ public final class BootstrapProperties implements PropertySource {
                     entry(AUTO_RENEW_NUM_OF_ENTITIES_TO_SCAN, AS_INT),
                     entry(AUTO_RENEW_MAX_NUM_OF_ENTITIES_TO_RENEW_OR_DELETE, AS_INT),
                     entry(AUTO_RENEW_GRACE_PERIOD, AS_LONG),
+                    entry(AUTO_RENEW_SCAN_BY_EXPIRY, AS_BOOLEAN),
                     entry(LEDGER_AUTO_RENEW_PERIOD_MAX_DURATION, AS_LONG),
                     entry(LEDGER_AUTO_RENEW_PERIOD_MIN_DURATION, AS_LONG),
                     entry(NETTY_MODE, AS_PROFILE),
                     entry(QUERIES_BLOB_LOOK_UP_RETRIES, AS_INT),
+                    entry(QUERIES_EXECUTION_POOLED, AS_BOOLEAN),
+                    entry(QUERIES_EXECUTION_CHEAP_LANE_THREADS, AS_INT),
+                    entry(QUERIES_EXECUTION_COSTLY_LANE_THREADS, AS_INT),
+                    entry(QUERIES_EXECUTION_LANE_QUEUE_CAPACITY, AS_INT),
+                    entry(QUERIES_EXECUTION_COSTLY_FUNCTIONS, AS_FUNCTIONS),
+                    entry(QUERIES_RESPONSE_CACHE_MAX_BYTES, AS_LONG),
                     entry(NETTY_START_RETRIES, AS_INT),
                     entry(NETTY_START_RETRY_INTERVAL_MS, AS_LONG),
                     entry(BOOTSTRAP_RATES_CURRENT_HBAR_EQUIV, AS_INT),
@@ -515,10 +537,14 @@ public final class BootstrapProperties implements PropertySource {
                     entry(RATES_INTRA_DAY_CHANGE_LIMIT_PERCENT, AS_INT),
                     entry(RATES_MIDNIGHT_CHECK_INTERVAL, AS_LONG),
                     entry(SIGS_EXPAND_FROM_IMMUTABLE_STATE, AS_BOOLEAN),
+                    entry(SIGS_EXPAND_IN_PARALLEL, AS_BOOLEAN),
+                    entry(SIGS_VERIFICATION_BATCH_SIZE, AS_INT),
                     entry(SCHEDULING_LONG_TERM_ENABLED, AS_BOOLEAN),
                     entry(SCHEDULING_MAX_TXN_PER_SEC, AS_LONG),
                     entry(SCHEDULING_MAX_EXPIRATION_FUTURE_SECS, AS_LONG),
                     entry(SCHEDULING_WHITE_LIST, AS_FUNCTIONS),
+                    entry(SCHEDULING_LOOK_AHEAD_SECS, AS_INT),
+                    entry(SCHEDULING_MAX_PREPARED_PER_LOOK_AHEAD, AS_INT),
                     entry(STAKING_NODE_MAX_TO_MIN_STAKE_RATIOS, AS_NODE_STAKE_RATIOS),
                     entry(STAKING_IS_ENABLED, AS_BOOLEAN),
                     entry(STAKING_MAX_DAILY_STAKE_REWARD_THRESH_PER_HBAR, AS_LONG),
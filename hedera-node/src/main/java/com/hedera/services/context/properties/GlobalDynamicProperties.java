@@ -80,6 +80,7 @@ public class GlobalDynamicProperties {
     private int autoRenewNumberOfEntitiesToScan;
     private int autoRenewMaxNumberOfEntitiesToRenewOrDelete;
     private long autoRenewGracePeriod;
+    private boolean autoRenewScanByExpiry;
     private long maxAutoRenewDuration;
     private long minAutoRenewDuration;
     private Duration grpcMinAutoRenewDuration;
@@ -92,6 +93,8 @@ public class GlobalDynamicProperties {
     private long maxPrecedingRecords;
     private long maxFollowingRecords;
     private Set<HederaFunctionality> schedulingWhitelist;
+    private int schedulingLookAheadSecs;
+    private int schedulingMaxPreparedPerLookAhead;
     private CongestionMultipliers congestionMultipliers;
     private int feesMinCongestionPeriod;
     private boolean areNftsEnabled;
@@ -107,6 +110,8 @@ public class GlobalDynamicProperties {
     private int changeHistorianMemorySecs;
     private boolean autoCreationEnabled;
     private boolean expandSigsFromImmutableState;
+    private boolean expandSigsInParallel;
+    private int sigVerificationBatchSize;
     private long maxAggregateContractKvPairs;
     private int maxIndividualContractKvPairs;
     private int maxMostRecentQueryableRecords;
@@ -201,6 +206,7 @@ public class GlobalDynamicProperties {
         autoRenewMaxNumberOfEntitiesToRenewOrDelete =
                 properties.getIntProperty(AUTO_RENEW_MAX_NUM_OF_ENTITIES_TO_RENEW_OR_DELETE);
         autoRenewGracePeriod = properties.getLongProperty(AUTO_RENEW_GRACE_PERIOD);
+        autoRenewScanByExpiry = properties.getBooleanProperty(AUTO_RENEW_SCAN_BY_EXPIRY);
         maxAutoRenewDuration = properties.getLongProperty(LEDGER_AUTO_RENEW_PERIOD_MAX_DURATION);
         minAutoRenewDuration = properties.getLongProperty(LEDGER_AUTO_RENEW_PERIOD_MIN_DURATION);
         grpcMinAutoRenewDuration = Duration.newBuilder().setSeconds(minAutoRenewDuration).build();
@@ -211,6 +217,9 @@ public class GlobalDynamicProperties {
         schedulingMaxExpirationFutureSeconds =
                 properties.getLongProperty(SCHEDULING_MAX_EXPIRATION_FUTURE_SECS);
         schedulingWhitelist = properties.getFunctionsProperty(SCHEDULING_WHITE_LIST);
+        schedulingLookAheadSecs = properties.getIntProperty(SCHEDULING_LOOK_AHEAD_SECS);
+        schedulingMaxPreparedPerLookAhead =
+                properties.getIntProperty(SCHEDULING_MAX_PREPARED_PER_LOOK_AHEAD);
         messageMaxBytesAllowed = properties.getIntProperty(CONSENSUS_MESSAGE_MAX_BYTES_ALLOWED);
         maxPrecedingRecords = properties.getLongProperty(CONSENSUS_HANDLE_MAX_PRECEDING_RECORDS);
         maxFollowingRecords = properties.getLongProperty(CONSENSUS_HANDLE_MAX_FOLLOWING_RECORDS);
@@ -235,6 +244,8 @@ public class GlobalDynamicProperties {
         autoCreationEnabled = properties.getBooleanProperty(AUTO_CREATION_ENABLED);
         expandSigsFromImmutableState =
                 properties.getBooleanProperty(SIGS_EXPAND_FROM_IMMUTABLE_STATE);
+        expandSigsInParallel = properties.getBooleanProperty(SIGS_EXPAND_IN_PARALLEL);
+        sigVerificationBatchSize = properties.getIntProperty(SIGS_VERIFICATION_BATCH_SIZE);
         maxAggregateContractKvPairs = properties.getLongProperty(CONTRACTS_MAX_KV_PAIRS_AGGREGATE);
         maxIndividualContractKvPairs = properties.getIntProperty(CONTRACTS_MAX_KV_PAIRS_INDIVIDUAL);
         maxMostRecentQueryableRecords =
@@ -441,6 +452,10 @@ public class GlobalDynamicProperties {
         return autoRenewGracePeriod;
     }
 
+    public boolean shouldAutoRenewScanByExpiry() {
+        return autoRenewScanByExpiry;
+    }
+
     public long maxAutoRenewDuration() {
         return maxAutoRenewDuration;
     }
@@ -489,6 +504,14 @@ public class GlobalDynamicProperties {
         return schedulingWhitelist;
     }
 
+    public int schedulingLookAheadSecs() {
+        return schedulingLookAheadSecs;
+    }
+
+    public int schedulingMaxPreparedPerLookAhead() {
+        return schedulingMaxPreparedPerLookAhead;
+    }
+
     public CongestionMultipliers congestionMultipliers() {
         return congestionMultipliers;
     }
@@ -549,6 +572,14 @@ public class GlobalDynamicProperties {
         return expandSigsFromImmutableState;
     }
 
+    public boolean expandSigsInParallel() {
+        return expandSigsInParallel;
+    }
+
+    public int sigVerificationBatchSize() {
+        return sigVerificationBatchSize;
+    }
+
     public long maxAggregateContractKvPairs() {
         return maxAggregateContractKvPairs;
     }
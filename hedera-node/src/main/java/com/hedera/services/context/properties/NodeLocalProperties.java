@@ -21,6 +21,8 @@ import static com.hedera.services.context.properties.PropertyNames.GRPC_PORT;
 import static com.hedera.services.context.properties.PropertyNames.GRPC_TLS_PORT;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_ACCOUNTS_EXPORT_PATH;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_EXPORT_ACCOUNTS_ON_STARTUP;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_HAPI_THROTTLING_STRIPES;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_CODE_CACHE_MAX_BYTES;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_CODE_CACHE_TTL_SECS;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_QUEUE_CAPACITY;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_THREAD_POOL_SIZE;
@@ -45,6 +47,12 @@ import static com.hedera.services.context.properties.PropertyNames.NETTY_START_R
 import static com.hedera.services.context.properties.PropertyNames.NETTY_TLS_CERT_PATH;
 import static com.hedera.services.context.properties.PropertyNames.NETTY_TLS_KEY_PATH;
 import static com.hedera.services.context.properties.PropertyNames.QUERIES_BLOB_LOOK_UP_RETRIES;
+import static com.hedera.services.context.properties.PropertyNames.QUERIES_EXECUTION_CHEAP_LANE_THREADS;
+import static com.hedera.services.context.properties.PropertyNames.QUERIES_EXECUTION_COSTLY_FUNCTIONS;
+import static com.hedera.services.context.properties.PropertyNames.QUERIES_EXECUTION_COSTLY_LANE_THREADS;
+import static com.hedera.services.context.properties.PropertyNames.QUERIES_EXECUTION_LANE_QUEUE_CAPACITY;
+import static com.hedera.services.context.properties.PropertyNames.QUERIES_RESPONSE_CACHE_MAX_BYTES;
+import static com.hedera.services.context.properties.PropertyNames.QUERIES_EXECUTION_POOLED;
 import static com.hedera.services.context.properties.PropertyNames.STATS_CONS_THROTTLES_TO_SAMPLE;
 import static com.hedera.services.context.properties.PropertyNames.STATS_ENTITY_UTILS_GAUGE_UPDATE_INTERVAL_MS;
 import static com.hedera.services.context.properties.PropertyNames.STATS_EXECUTION_TIMES_TO_TRACK;
@@ -55,7 +63,9 @@ import static com.hedera.services.context.properties.PropertyNames.STATS_SPEEDOM
 import static com.hedera.services.context.properties.PropertyNames.STATS_THROTTLE_UTILS_GAUGE_UPDATE_INTERVAL_MS;
 
 import com.hedera.services.context.annotations.CompositeProps;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import java.util.List;
+import java.util.Set;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
@@ -76,6 +86,12 @@ public class NodeLocalProperties {
     private boolean recordStreamEnabled;
     private int recordStreamQueueCapacity;
     private int queryBlobLookupRetries;
+    private boolean queryExecutionPooled;
+    private int queryCheapLaneThreads;
+    private int queryCostlyLaneThreads;
+    private int queryLaneQueueCapacity;
+    private Set<HederaFunctionality> queryCostlyFunctions;
+    private long queryResponseCacheMaxBytes;
     private long nettyProdKeepAliveTime;
     private String nettyTlsCrtPath;
     private String nettyTlsKeyPath;
@@ -98,6 +114,8 @@ public class NodeLocalProperties {
     private int prefetchQueueCapacity;
     private int prefetchThreadPoolSize;
     private int prefetchCodeCacheTtlSecs;
+    private long prefetchCodeCacheMaxBytes;
+    private int hapiThrottlingStripes;
     private List<String> consThrottlesToSample;
     private List<String> hapiThrottlesToSample;
     private String sidecarDir;
@@ -125,6 +143,12 @@ public class NodeLocalProperties {
         recordStreamEnabled = properties.getBooleanProperty(HEDERA_RECORD_STREAM_IS_ENABLED);
         recordStreamQueueCapacity = properties.getIntProperty(HEDERA_RECORD_STREAM_QUEUE_CAPACITY);
         queryBlobLookupRetries = properties.getIntProperty(QUERIES_BLOB_LOOK_UP_RETRIES);
+        queryExecutionPooled = properties.getBooleanProperty(QUERIES_EXECUTION_POOLED);
+        queryCheapLaneThreads = properties.getIntProperty(QUERIES_EXECUTION_CHEAP_LANE_THREADS);
+        queryCostlyLaneThreads = properties.getIntProperty(QUERIES_EXECUTION_COSTLY_LANE_THREADS);
+        queryLaneQueueCapacity = properties.getIntProperty(QUERIES_EXECUTION_LANE_QUEUE_CAPACITY);
+        queryCostlyFunctions = properties.getFunctionsProperty(QUERIES_EXECUTION_COSTLY_FUNCTIONS);
+        queryResponseCacheMaxBytes = properties.getLongProperty(QUERIES_RESPONSE_CACHE_MAX_BYTES);
         nettyProdKeepAliveTime = properties.getLongProperty(NETTY_PROD_KEEP_ALIVE_TIME);
         nettyTlsCrtPath = properties.getStringProperty(NETTY_TLS_CERT_PATH);
         nettyTlsKeyPath = properties.getStringProperty(NETTY_TLS_KEY_PATH);
@@ -148,6 +172,9 @@ public class NodeLocalProperties {
         prefetchQueueCapacity = properties.getIntProperty(HEDERA_PREFETCH_QUEUE_CAPACITY);
         prefetchThreadPoolSize = properties.getIntProperty(HEDERA_PREFETCH_THREAD_POOL_SIZE);
         prefetchCodeCacheTtlSecs = properties.getIntProperty(HEDERA_PREFETCH_CODE_CACHE_TTL_SECS);
+        prefetchCodeCacheMaxBytes =
+                properties.getLongProperty(HEDERA_PREFETCH_CODE_CACHE_MAX_BYTES);
+        hapiThrottlingStripes = properties.getIntProperty(HEDERA_HAPI_THROTTLING_STRIPES);
         consThrottlesToSample = properties.getStringsProperty(STATS_CONS_THROTTLES_TO_SAMPLE);
         hapiThrottlesToSample = properties.getStringsProperty(STATS_HAPI_THROTTLES_TO_SAMPLE);
         entityUtilStatsUpdateIntervalMs =
@@ -204,6 +231,30 @@ public class NodeLocalProperties {
         return queryBlobLookupRetries;
     }
 
+    public boolean isQueryExecutionPooled() {
+        return queryExecutionPooled;
+    }
+
+    public int queryCheapLaneThreads() {
+        return queryCheapLaneThreads;
+    }
+
+    public int queryCostlyLaneThreads() {
+        return queryCostlyLaneThreads;
+    }
+
+    public int queryLaneQueueCapacity() {
+        return queryLaneQueueCapacity;
+    }
+
+    public Set<HederaFunctionality> queryCostlyFunctions() {
+        return queryCostlyFunctions;
+    }
+
+    public long queryResponseCacheMaxBytes() {
+        return queryResponseCacheMaxBytes;
+    }
+
     public long nettyProdKeepAliveTime() {
         return nettyProdKeepAliveTime;
     }
@@ -292,6 +343,14 @@ public class NodeLocalProperties {
         return prefetchCodeCacheTtlSecs;
     }
 
+    public long prefetchCodeCacheMaxBytes() {
+        return prefetchCodeCacheMaxBytes;
+    }
+
+    public int hapiThrottlingStripes() {
+        return hapiThrottlingStripes;
+    }
+
     public List<String> consThrottlesToSample() {
         return consThrottlesToSample;
     }
@@ -144,6 +144,7 @@ public class PropertyNames {
             "autorenew.maxNumberOfEntitiesToRenewOrDelete";
     public static final String EXPIRY_THROTTLE_RESOURCE = "expiry.throttleResource";
     public static final String AUTO_RENEW_GRACE_PERIOD = "autorenew.gracePeriod";
+    public static final String AUTO_RENEW_SCAN_BY_EXPIRY = "autoRenew.scanByExpiry";
     public static final String LEDGER_CHANGE_HIST_MEM_SECS = "ledger.changeHistorian.memorySecs";
     public static final String LEDGER_AUTO_RENEW_PERIOD_MAX_DURATION =
             "ledger.autoRenewPeriod.maxDuration";
@@ -167,7 +168,12 @@ public class PropertyNames {
     public static final String SCHEDULING_MAX_EXPIRATION_FUTURE_SECS =
             "scheduling.maxExpirationFutureSeconds";
     public static final String SCHEDULING_WHITE_LIST = "scheduling.whitelist";
+    public static final String SCHEDULING_LOOK_AHEAD_SECS = "scheduling.lookAheadSecs";
+    public static final String SCHEDULING_MAX_PREPARED_PER_LOOK_AHEAD =
+            "scheduling.maxPreparedPerLookAhead";
     public static final String SIGS_EXPAND_FROM_IMMUTABLE_STATE = "sigs.expandFromImmutableState";
+    public static final String SIGS_EXPAND_IN_PARALLEL = "sigs.expandInParallel";
+    public static final String SIGS_VERIFICATION_BATCH_SIZE = "sigs.verificationBatchSize";
     public static final String STAKING_FEES_NODE_REWARD_PERCENT =
             "staking.fees.nodeRewardPercentage";
     public static final String STAKING_FEES_STAKING_REWARD_PERCENT =
@@ -232,10 +238,13 @@ public class PropertyNames {
     public static final String GRPC_TLS_PORT = "grpc.tlsPort";
     public static final String HEDERA_ACCOUNTS_EXPORT_PATH = "hedera.accountsExportPath";
     public static final String HEDERA_EXPORT_ACCOUNTS_ON_STARTUP = "hedera.exportAccountsOnStartup";
+    public static final String HEDERA_HAPI_THROTTLING_STRIPES = "hedera.hapiThrottling.stripes";
     public static final String HEDERA_PREFETCH_QUEUE_CAPACITY = "hedera.prefetch.queueCapacity";
     public static final String HEDERA_PREFETCH_THREAD_POOL_SIZE = "hedera.prefetch.threadPoolSize";
     public static final String HEDERA_PREFETCH_CODE_CACHE_TTL_SECS =
             "hedera.prefetch.codeCacheTtlSecs";
+    public static final String HEDERA_PREFETCH_CODE_CACHE_MAX_BYTES =
+            "hedera.prefetch.codeCacheMaxBytes";
     public static final String HEDERA_PROFILES_ACTIVE = "hedera.profiles.active";
     public static final String HEDERA_RECORD_STREAM_IS_ENABLED = "hedera.recordStream.isEnabled";
     public static final String HEDERA_RECORD_STREAM_LOG_DIR = "hedera.recordStream.logDir";
@@ -261,6 +270,16 @@ public class PropertyNames {
     public static final String NETTY_TLS_CERT_PATH = "netty.tlsCrt.path";
     public static final String NETTY_TLS_KEY_PATH = "netty.tlsKey.path";
     public static final String QUERIES_BLOB_LOOK_UP_RETRIES = "queries.blob.lookupRetries";
+    public static final String QUERIES_EXECUTION_POOLED = "queries.execution.pooled";
+    public static final String QUERIES_EXECUTION_CHEAP_LANE_THREADS =
+            "queries.execution.cheapLaneThreads";
+    public static final String QUERIES_EXECUTION_COSTLY_LANE_THREADS =
+            "queries.execution.costlyLaneThreads";
+    public static final String QUERIES_EXECUTION_LANE_QUEUE_CAPACITY =
+            "queries.execution.laneQueueCapacity";
+    public static final String QUERIES_EXECUTION_COSTLY_FUNCTIONS =
+            "queries.execution.costlyFunctions";
+    public static final String QUERIES_RESPONSE_CACHE_MAX_BYTES = "queries.responseCache.maxBytes";
     public static final String STATS_CONS_THROTTLES_TO_SAMPLE = "stats.consThrottlesToSample";
     public static final String STATS_HAPI_THROTTLES_TO_SAMPLE = "stats.hapiThrottlesToSample";
     public static final String STATS_EXECUTION_TIMES_TO_TRACK = "stats.executionTimesToTrack";
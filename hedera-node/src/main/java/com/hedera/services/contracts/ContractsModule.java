@@ -15,9 +15,9 @@
  */
 package com.hedera.services.contracts;
 
-import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.bytecodeMapFrom;
 import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.storageMapFrom;
-import static com.hedera.services.files.EntityExpiryMapFactory.entityExpiryMapFrom;
+import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.typedBytecodeMapFrom;
+import static com.hedera.services.files.EntityExpiryMapFactory.typedEntityExpiryMapFrom;
 import static com.hedera.services.store.contracts.precompile.ExchangeRatePrecompiledContract.EXCHANGE_RATE_SYSTEM_CONTRACT_ADDRESS;
 import static com.hedera.services.store.contracts.precompile.HTSPrecompiledContract.HTS_PRECOMPILED_CONTRACT_ADDRESS;
 import static com.hedera.services.store.contracts.precompile.PrngSystemPrecompiledContract.PRNG_PRECOMPILE_ADDRESS;
@@ -42,6 +42,7 @@ import com.hedera.services.contracts.operation.HederaSLoadOperation;
 import com.hedera.services.contracts.operation.HederaSStoreOperation;
 import com.hedera.services.contracts.operation.HederaSelfDestructOperation;
 import com.hedera.services.contracts.operation.HederaStaticCallOperation;
+import com.hedera.services.files.store.FcBlobsBytesStore;
 import com.hedera.services.ledger.HederaLedger;
 import com.hedera.services.ledger.TransactionalLedger;
 import com.hedera.services.ledger.accounts.AliasManager;
@@ -94,8 +95,8 @@ public interface ContractsModule {
     @Provides
     @Singleton
     @BytecodeSource
-    static Map<byte[], byte[]> provideBytecodeSource(Map<String, byte[]> blobStore) {
-        return bytecodeMapFrom(blobStore);
+    static Map<byte[], byte[]> provideBytecodeSource(FcBlobsBytesStore blobStore) {
+        return typedBytecodeMapFrom(blobStore);
     }
 
     @Provides
@@ -107,8 +108,8 @@ public interface ContractsModule {
 
     @Provides
     @Singleton
-    static Map<EntityId, Long> provideEntityExpiries(Map<String, byte[]> blobStore) {
-        return entityExpiryMapFrom(blobStore);
+    static Map<EntityId, Long> provideEntityExpiries(FcBlobsBytesStore blobStore) {
+        return typedEntityExpiryMapFrom(blobStore);
     }
 
     @Provides
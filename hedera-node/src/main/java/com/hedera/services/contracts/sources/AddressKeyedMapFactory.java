@@ -19,6 +19,9 @@ import static com.hedera.services.utils.EntityIdUtils.asEvmAddress;
 import static java.lang.Long.parseLong;
 
 import com.hedera.services.files.store.BytesStoreAdapter;
+import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.files.store.TypedBlobsAdapter;
+import com.hedera.services.state.merkle.internals.BlobKey.BlobType;
 import com.hedera.services.utils.EntityIdUtils;
 import java.util.Map;
 import java.util.function.Function;
@@ -39,6 +42,16 @@ public final class AddressKeyedMapFactory {
         return mapFrom(store, LEGACY_BYTECODE_PATH_PATTERN, LEGACY_BYTECODE_PATH_TEMPLATE);
     }
 
+    public static Map<byte[], byte[]> typedBytecodeMapFrom(final FcBlobsBytesStore store) {
+        return new TypedBlobsAdapter<>(
+                BlobType.CONTRACT_BYTECODE,
+                byte[].class,
+                EntityIdUtils::numFromEvmAddress,
+                Function.identity(),
+                Function.identity(),
+                store);
+    }
+
     public static Map<byte[], byte[]> storageMapFrom(final Map<String, byte[]> store) {
         return mapFrom(store, LEGACY_STORAGE_PATH_PATTERN, LEGACY_STORAGE_PATH_TEMPLATE);
     }
@@ -23,11 +23,9 @@ import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.fees.FeeCalculator;
-import com.hedera.services.records.TxnIdRecentHistory;
+import com.hedera.services.records.TxnIdHistories;
 import com.hedera.services.state.logic.AwareNodeDiligenceScreen;
 import com.hedera.services.utils.accessors.SwirldsTxnAccessor;
-import com.hederahashgraph.api.proto.java.TransactionID;
-import java.util.Map;
 import java.util.function.Supplier;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -45,7 +43,7 @@ public class TxnChargingPolicyAgent {
     private final TransactionContext txnCtx;
     private final Supplier<StateView> currentView;
     private final AwareNodeDiligenceScreen nodeDiligenceScreen;
-    private final Map<TransactionID, TxnIdRecentHistory> txnHistories;
+    private final TxnIdHistories txnHistories;
 
     @Inject
     public TxnChargingPolicyAgent(
@@ -54,7 +52,7 @@ public class TxnChargingPolicyAgent {
             TransactionContext txnCtx,
             Supplier<StateView> currentView,
             AwareNodeDiligenceScreen nodeDiligenceScreen,
-            Map<TransactionID, TxnIdRecentHistory> txnHistories) {
+            TxnIdHistories txnHistories) {
         this.feeCalc = feeCalc;
         this.txnCtx = txnCtx;
         this.currentView = currentView;
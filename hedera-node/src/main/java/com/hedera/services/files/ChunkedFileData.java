@@ -0,0 +1,50 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.files;
+
+import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.files.store.TypedBlobsAdapter;
+import com.hedera.services.state.merkle.internals.BlobKey.BlobType;
+import com.hederahashgraph.api.proto.java.FileID;
+import java.util.function.Function;
+
+/**
+ * The file data map, which can also append to a file, or get its length, without materializing
+ * its full contents; see {@link FcBlobsBytesStore} for the chunked layout that makes this cheap.
+ * Point accesses go straight to the store's typed API, without building a legacy path.
+ */
+public class ChunkedFileData extends TypedBlobsAdapter<FileID, byte[]> {
+    private final FcBlobsBytesStore blobStore;
+
+    public ChunkedFileData(final FcBlobsBytesStore blobStore) {
+        super(
+                BlobType.FILE_DATA,
+                FileID.class,
+                FileID::getFileNum,
+                Function.identity(),
+                Function.identity(),
+                blobStore);
+        this.blobStore = blobStore;
+    }
+
+    public void append(final FileID id, final byte[] moreContents) {
+        blobStore.append(id.getFileNum(), moreContents);
+    }
+
+    public int lengthOf(final FileID id) {
+        return blobStore.lengthOf(id.getFileNum());
+    }
+}
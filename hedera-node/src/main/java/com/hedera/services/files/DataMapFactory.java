@@ -16,6 +16,7 @@
 package com.hedera.services.files;
 
 import com.hedera.services.files.store.BytesStoreAdapter;
+import com.hedera.services.files.store.FcBlobsBytesStore;
 import com.hederahashgraph.api.proto.java.FileID;
 import java.util.Map;
 import java.util.function.Function;
@@ -41,6 +42,10 @@ public class DataMapFactory {
                 store);
     }
 
+    public static ChunkedFileData chunkedDataMapFrom(FcBlobsBytesStore store) {
+        return new ChunkedFileData(store);
+    }
+
     static FileID toFid(String key) {
         var matcher = LEGACY_PATH_PATTERN.matcher(key);
         var flag = matcher.matches();
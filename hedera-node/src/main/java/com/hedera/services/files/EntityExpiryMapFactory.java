@@ -17,6 +17,9 @@ package com.hedera.services.files;
 
 import com.google.common.primitives.Longs;
 import com.hedera.services.files.store.BytesStoreAdapter;
+import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.files.store.TypedBlobsAdapter;
+import com.hedera.services.state.merkle.internals.BlobKey.BlobType;
 import com.hedera.services.state.submerkle.EntityId;
 import java.util.Map;
 import java.util.regex.Pattern;
@@ -41,6 +44,16 @@ public final class EntityExpiryMapFactory {
                 store);
     }
 
+    public static Map<EntityId, Long> typedEntityExpiryMapFrom(FcBlobsBytesStore store) {
+        return new TypedBlobsAdapter<>(
+                BlobType.SYSTEM_DELETED_ENTITY_EXPIRY,
+                EntityId.class,
+                EntityId::num,
+                EntityExpiryMapFactory::toLong,
+                Longs::toByteArray,
+                store);
+    }
+
     static EntityId toEid(String key) {
         var matcher = LEGACY_PATH_PATTERN.matcher(key);
         var flag = matcher.matches();
@@ -17,8 +17,8 @@ package com.hedera.services.files;
 
 import static com.hedera.services.context.properties.PropertyNames.FILES_HAPI_PERMISSIONS;
 import static com.hedera.services.context.properties.PropertyNames.FILES_NETWORK_PROPERTIES;
-import static com.hedera.services.files.DataMapFactory.dataMapFrom;
-import static com.hedera.services.files.MetadataMapFactory.metaMapFrom;
+import static com.hedera.services.files.DataMapFactory.chunkedDataMapFrom;
+import static com.hedera.services.files.MetadataMapFactory.typedMetaMapFrom;
 import static com.hedera.services.files.interceptors.ConfigListUtils.uncheckedParse;
 import static com.hedera.services.files.interceptors.PureRatesValidation.isNormalIntradayChange;
 
@@ -57,23 +57,27 @@ public interface FilesModule {
     @Singleton
     HederaFs bindHederaFs(TieredHederaFs tieredHederaFs);
 
+    @Binds
+    @Singleton
+    Map<String, byte[]> bindBlobStore(FcBlobsBytesStore blobStore);
+
     @Provides
     @Singleton
-    static Map<String, byte[]> provideBlobStore(
+    static FcBlobsBytesStore provideBlobStore(
             Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> storage) {
         return new FcBlobsBytesStore(storage);
     }
 
     @Provides
     @Singleton
-    static Map<FileID, byte[]> provideDataMap(Map<String, byte[]> blobStore) {
-        return dataMapFrom(blobStore);
+    static ChunkedFileData provideDataMap(FcBlobsBytesStore blobStore) {
+        return chunkedDataMapFrom(blobStore);
     }
 
     @Provides
     @Singleton
-    static Map<FileID, HFileMeta> provideMetadataMap(Map<String, byte[]> blobStore) {
-        return metaMapFrom(blobStore);
+    static Map<FileID, HFileMeta> provideMetadataMap(FcBlobsBytesStore blobStore) {
+        return typedMetaMapFrom(blobStore);
     }
 
     @Provides
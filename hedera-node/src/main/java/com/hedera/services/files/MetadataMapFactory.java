@@ -18,6 +18,9 @@ package com.hedera.services.files;
 import static com.hedera.services.context.properties.StaticPropertiesHolder.STATIC_PROPERTIES;
 
 import com.hedera.services.files.store.BytesStoreAdapter;
+import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.files.store.TypedBlobsAdapter;
+import com.hedera.services.state.merkle.internals.BlobKey.BlobType;
 import com.hederahashgraph.api.proto.java.FileID;
 import com.swirlds.common.utility.CommonUtils;
 import java.io.IOException;
@@ -48,6 +51,16 @@ public final class MetadataMapFactory {
                 store);
     }
 
+    public static Map<FileID, HFileMeta> typedMetaMapFrom(final FcBlobsBytesStore store) {
+        return new TypedBlobsAdapter<>(
+                BlobType.FILE_METADATA,
+                FileID.class,
+                FileID::getFileNum,
+                MetadataMapFactory::toAttr,
+                MetadataMapFactory::toValueBytes,
+                store);
+    }
+
     static FileID toFid(final String key) {
         final var matcher = LEGACY_PATH_PATTERN.matcher(key);
         final var flag = matcher.matches();
@@ -56,7 +56,7 @@ public final class TieredHederaFs implements HederaFs {
 
     private final EntityIdSource ids;
     private final Supplier<Instant> now;
-    private final Map<FileID, byte[]> data;
+    private final ChunkedFileData data;
     private final Map<FileID, HFileMeta> metadata;
     private final GlobalDynamicProperties properties;
     private final Supplier<MerkleSpecialFiles> specialFiles;
@@ -87,7 +87,7 @@ public final class TieredHederaFs implements HederaFs {
             final EntityIdSource ids,
             final GlobalDynamicProperties properties,
             final Supplier<Instant> now,
-            final Map<FileID, byte[]> data,
+            final ChunkedFileData data,
             final Map<FileID, HFileMeta> metadata,
             final Supplier<MerkleSpecialFiles> specialFiles) {
         this.ids = ids;
@@ -190,15 +190,21 @@ public final class TieredHederaFs implements HederaFs {
             return new SimpleUpdateResult(false, true, SUCCESS);
         } else {
             assertUsable(id);
-            final var contents = data.get(id);
-            var newContents = ArrayUtils.addAll(contents, moreContents);
+            if (!interceptorsFor(id).isEmpty()) {
+                // Interceptors need to see the full new contents
+                final var newContents = ArrayUtils.addAll(data.get(id), moreContents);
+                assertWithinSizeLimits(newContents.length);
+                return uncheckedUpdate(id, newContents);
+            }
+            final var newLength = data.lengthOf(id) + moreContents.length;
             log.debug(
                     "Appending {} bytes to file num {} :: new file will have {} bytes.",
                     moreContents.length,
                     id.getFileNum(),
-                    newContents.length);
-            assertWithinSizeLimits(newContents);
-            return uncheckedUpdate(id, newContents);
+                    newLength);
+            assertWithinSizeLimits(newLength);
+            data.append(id, moreContents);
+            return new SimpleUpdateResult(false, true, SUCCESS);
         }
     }
 
@@ -309,7 +315,11 @@ public final class TieredHederaFs implements HederaFs {
     }
 
     private void assertWithinSizeLimits(final byte[] data) {
-        if (data.length > properties.maxFileSizeKb() * BYTES_PER_KB) {
+        assertWithinSizeLimits(data.length);
+    }
+
+    private void assertWithinSizeLimits(final long length) {
+        if (length > (long) properties.maxFileSizeKb() * BYTES_PER_KB) {
             throwIllegal(OVERSIZE_CONTENTS);
         }
     }
@@ -15,19 +15,41 @@
  */
 package com.hedera.services.files.store;
 
+import static com.hedera.services.state.merkle.internals.BitPackUtils.codeFromNum;
+import static com.hedera.services.state.virtual.VirtualBlobKey.MAX_CHUNK_INDEX;
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_DATA;
+import static com.hedera.services.state.virtual.VirtualBlobKey.fileDataChunkKey;
 import static java.lang.Long.parseLong;
 
 import com.hedera.services.state.merkle.internals.BlobKey;
+import com.hedera.services.state.merkle.internals.BlobKey.BlobType;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
 import com.swirlds.virtualmap.VirtualMap;
+import java.io.ByteArrayOutputStream;
 import java.util.AbstractMap;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.Supplier;
+import javax.annotation.Nullable;
+import org.apache.commons.lang3.ArrayUtils;
 
+/**
+ * Gives access to the blobs {@link VirtualMap} by blob type and entity number, through the typed
+ * methods such as {@link #get(BlobType, long)}. The {@code Map<String, byte[]>} methods keyed by
+ * legacy paths remain only for backward compatibility, since they pay to build and parse a path on
+ * every access.
+ *
+ * <p>File data is stored in up to {@link VirtualBlobKey#MAX_CHUNK_INDEX} + 1 chunks, the first of
+ * which is the {@link VirtualBlobKey.Type#FILE_DATA} blob itself; so a file written as a single
+ * blob by an earlier release is simply a file with one chunk, and needs no migration. Appends
+ * only rewrite the last chunk (or add a new one), instead of the whole file; and reads concatenate
+ * the chunks. A file's chunks are contiguous and, after the first, never empty; so the first
+ * missing or empty chunk marks the end of the file.
+ */
 public class FcBlobsBytesStore extends AbstractMap<String, byte[]> {
     public static final VirtualBlobValue EMPTY_BLOB = new VirtualBlobValue(new byte[0]);
+    public static final int FILE_DATA_CHUNK_BYTES = 64 * 1024;
 
     private final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> blobSupplier;
 
@@ -74,7 +96,7 @@ public class FcBlobsBytesStore extends AbstractMap<String, byte[]> {
      */
     @Override
     public byte[] remove(Object path) {
-        blobSupplier.get().put(at(path), EMPTY_BLOB);
+        removeAt(at(path));
         return null;
     }
 
@@ -90,16 +112,177 @@ public class FcBlobsBytesStore extends AbstractMap<String, byte[]> {
      */
     @Override
     public byte[] put(String path, byte[] value) {
-        final VirtualBlobValue blob = new VirtualBlobValue(value);
-        blobSupplier.get().put(at(path), blob);
+        putAt(at(path), value);
         return null;
     }
 
     @Override
     public byte[] get(Object path) {
-        return Optional.ofNullable(blobSupplier.get().get(at(path)))
-                .map(VirtualBlobValue::getData)
-                .orElse(null);
+        return getAt(at(path));
+    }
+
+    /* --- Typed access, without building or parsing legacy paths --- */
+    @Nullable
+    public byte[] get(final BlobType type, final long entityNum) {
+        return getAt(VirtualBlobKey.of(type, entityNum));
+    }
+
+    @Nullable
+    public byte[] get(final BlobKey key) {
+        return get(key.type(), key.entityNum());
+    }
+
+    public void put(final BlobType type, final long entityNum, final byte[] value) {
+        putAt(VirtualBlobKey.of(type, entityNum), value);
+    }
+
+    public void put(final BlobKey key, final byte[] value) {
+        put(key.type(), key.entityNum(), value);
+    }
+
+    public void remove(final BlobType type, final long entityNum) {
+        removeAt(VirtualBlobKey.of(type, entityNum));
+    }
+
+    public void remove(final BlobKey key) {
+        remove(key.type(), key.entityNum());
+    }
+
+    public boolean containsKey(final BlobType type, final long entityNum) {
+        return blobSupplier.get().containsKey(VirtualBlobKey.of(type, entityNum));
+    }
+
+    public boolean containsKey(final BlobKey key) {
+        return containsKey(key.type(), key.entityNum());
+    }
+
+    /**
+     * Appends the given bytes to the data of the given file, rewriting only its last chunk, or
+     * adding a new chunk if the last one is full.
+     *
+     * @param fileNum the number of the file
+     * @param moreContents the bytes to append
+     */
+    public void append(final long fileNum, final byte[] moreContents) {
+        final var code = codeFromNum(fileNum);
+        final var blobs = blobSupplier.get();
+        final var lastIndex = lastChunkIndex(blobs, code);
+        if (lastIndex < 0) {
+            blobs.put(fileDataChunkKey(code, 0), new VirtualBlobValue(moreContents));
+            return;
+        }
+        final var lastKey = fileDataChunkKey(code, lastIndex);
+        final var lastChunk = blobs.get(lastKey).getData();
+        final var fitsInLast = lastChunk.length + moreContents.length <= FILE_DATA_CHUNK_BYTES;
+        if (lastChunk.length == 0 || fitsInLast || lastIndex == MAX_CHUNK_INDEX) {
+            blobs.put(lastKey, new VirtualBlobValue(ArrayUtils.addAll(lastChunk, moreContents)));
+        } else {
+            blobs.put(fileDataChunkKey(code, lastIndex + 1), new VirtualBlobValue(moreContents));
+        }
+    }
+
+    /**
+     * Returns the length of the data of the given file, without concatenating its chunks.
+     *
+     * @param fileNum the number of the file
+     * @return its length, or zero if there is none
+     */
+    public int lengthOf(final long fileNum) {
+        final var code = codeFromNum(fileNum);
+        final var blobs = blobSupplier.get();
+        var length = 0;
+        for (int i = 0, n = lastChunkIndex(blobs, code); i <= n; i++) {
+            length += blobs.get(fileDataChunkKey(code, i)).getData().length;
+        }
+        return length;
+    }
+
+    /**
+     * Returns the concatenated chunks of the data of the file with the given number code; or null
+     * if the file has no data. A file with a single chunk is returned without copying.
+     *
+     * @param blobs the blobs to read from
+     * @param entityNumCode the code of the file's number
+     * @return the file's data, if any
+     */
+    @Nullable
+    public static byte[] fileDataFrom(
+            final VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs, final int entityNumCode) {
+        final var head = blobs.get(fileDataChunkKey(entityNumCode, 0));
+        if (head == null) {
+            return null;
+        }
+        final var second = nonEmptyChunk(blobs, entityNumCode, 1);
+        if (second == null) {
+            return head.getData();
+        }
+        final var out = new ByteArrayOutputStream();
+        out.writeBytes(head.getData());
+        out.writeBytes(second);
+        for (int i = 2; i <= MAX_CHUNK_INDEX; i++) {
+            final var chunk = nonEmptyChunk(blobs, entityNumCode, i);
+            if (chunk == null) {
+                break;
+            }
+            out.writeBytes(chunk);
+        }
+        return out.toByteArray();
+    }
+
+    @Nullable
+    private byte[] getAt(final VirtualBlobKey key) {
+        final var blobs = blobSupplier.get();
+        if (key.getType() == FILE_DATA) {
+            return fileDataFrom(blobs, key.getEntityNumCode());
+        }
+        return Optional.ofNullable(blobs.get(key)).map(VirtualBlobValue::getData).orElse(null);
+    }
+
+    private void putAt(final VirtualBlobKey key, final byte[] value) {
+        final var blobs = blobSupplier.get();
+        blobs.put(key, new VirtualBlobValue(value));
+        if (key.getType() == FILE_DATA) {
+            clearChunksAfterFirst(blobs, key.getEntityNumCode());
+        }
+    }
+
+    private void removeAt(final VirtualBlobKey key) {
+        final var blobs = blobSupplier.get();
+        blobs.put(key, EMPTY_BLOB);
+        if (key.getType() == FILE_DATA) {
+            clearChunksAfterFirst(blobs, key.getEntityNumCode());
+        }
+    }
+
+    private static int lastChunkIndex(
+            final VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs, final int entityNumCode) {
+        if (blobs.get(fileDataChunkKey(entityNumCode, 0)) == null) {
+            return -1;
+        }
+        var i = 0;
+        while (i < MAX_CHUNK_INDEX && nonEmptyChunk(blobs, entityNumCode, i + 1) != null) {
+            i++;
+        }
+        return i;
+    }
+
+    private static void clearChunksAfterFirst(
+            final VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs, final int entityNumCode) {
+        for (int i = 1; i <= MAX_CHUNK_INDEX; i++) {
+            if (nonEmptyChunk(blobs, entityNumCode, i) == null) {
+                break;
+            }
+            blobs.put(fileDataChunkKey(entityNumCode, i), EMPTY_BLOB);
+        }
+    }
+
+    @Nullable
+    private static byte[] nonEmptyChunk(
+            final VirtualMap<VirtualBlobKey, VirtualBlobValue> blobs,
+            final int entityNumCode,
+            final int i) {
+        final var chunk = blobs.get(fileDataChunkKey(entityNumCode, i));
+        return (chunk == null || chunk.getData().length == 0) ? null : chunk.getData();
     }
 
     @Override
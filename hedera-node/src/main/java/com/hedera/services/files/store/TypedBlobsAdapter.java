@@ -0,0 +1,103 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.files.store;
+
+import com.hedera.services.state.merkle.internals.BlobKey.BlobType;
+import java.util.AbstractMap;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+/**
+ * Adapts the blobs of a single {@link BlobType} in a {@link FcBlobsBytesStore} to a map keyed by
+ * an entity identifier, going straight from the identifier to its entity number instead of
+ * through a legacy path string.
+ *
+ * <p>Like {@link FcBlobsBytesStore}, the {@code put} and {@code remove} methods do not return the
+ * previous value; and the map cannot be iterated.
+ *
+ * @param <K> the type of entity identifier
+ * @param <V> the type of value stored in the blobs
+ */
+public class TypedBlobsAdapter<K, V> extends AbstractMap<K, V> {
+    private final BlobType blobType;
+    private final Class<K> kType;
+    private final ToLongFunction<K> toNum;
+    private final Function<byte[], V> toV;
+    private final Function<V, byte[]> fromV;
+    private final FcBlobsBytesStore delegate;
+
+    public TypedBlobsAdapter(
+            final BlobType blobType,
+            final Class<K> kType,
+            final ToLongFunction<K> toNum,
+            final Function<byte[], V> toV,
+            final Function<V, byte[]> fromV,
+            final FcBlobsBytesStore delegate) {
+        this.blobType = blobType;
+        this.kType = kType;
+        this.toNum = toNum;
+        this.toV = toV;
+        this.fromV = fromV;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        return delegate.containsKey(blobType, numOf(key));
+    }
+
+    @Override
+    public V get(final Object key) {
+        return toV.apply(delegate.get(blobType, numOf(key)));
+    }
+
+    @Override
+    public V put(final K key, final V value) {
+        delegate.put(blobType, toNum.applyAsLong(key), fromV.apply(value));
+        return null;
+    }
+
+    @Override
+    public V remove(final Object key) {
+        delegate.remove(blobType, numOf(key));
+        return null;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return delegate.isEmpty();
+    }
+
+    @Override
+    public int size() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public void clear() {
+        throw new UnsupportedOperationException();
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        throw new UnsupportedOperationException();
+    }
+
+    private long numOf(final Object key) {
+        return toNum.applyAsLong(kType.cast(key));
+    }
+}
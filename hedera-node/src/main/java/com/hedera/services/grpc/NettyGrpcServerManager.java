@@ -18,6 +18,7 @@ package com.hedera.services.grpc;
 import static com.hedera.services.utils.SleepingPause.SLEEPING_PAUSE;
 
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.queries.answering.QueryLanes;
 import com.hedera.services.utils.Pause;
 import io.grpc.BindableService;
 import io.grpc.Server;
@@ -44,6 +45,7 @@ public class NettyGrpcServerManager implements GrpcServerManager {
     private final int startRetries;
     private final long startRetryIntervalMs;
     private final Consumer<Thread> hookAdder;
+    private final QueryLanes queryLanes;
     private final Set<BindableService> bindableServices;
     private final ConfigDrivenNettyFactory nettyBuilder;
 
@@ -52,8 +54,10 @@ public class NettyGrpcServerManager implements GrpcServerManager {
             Consumer<Thread> hookAdder,
             NodeLocalProperties nodeProperties,
             Set<BindableService> bindableServices,
-            ConfigDrivenNettyFactory nettyBuilder) {
+            ConfigDrivenNettyFactory nettyBuilder,
+            QueryLanes queryLanes) {
         this.hookAdder = hookAdder;
+        this.queryLanes = queryLanes;
         this.nettyBuilder = nettyBuilder;
         this.bindableServices = bindableServices;
 
@@ -109,6 +113,8 @@ public class NettyGrpcServerManager implements GrpcServerManager {
     private void terminateNetty(int port, int tlsPort, Consumer<String> println) {
         terminateOneNettyServer(server, false, port, println);
         terminateOneNettyServer(tlsServer, true, tlsPort, println);
+        // No more queries can arrive, so stop any pooled query lanes too
+        queryLanes.shutdown();
     }
 
     private void terminateOneNettyServer(
@@ -26,7 +26,9 @@ import com.hedera.services.utils.accessors.SwirldsTxnAccessor;
 import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.crypto.VerificationStatus;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.BiPredicate;
 import java.util.function.Function;
 
@@ -44,6 +46,9 @@ public final class HederaKeyActivation {
 
     private static final byte PARITY_MASK = (byte) 0x01;
 
+    /* For fewer sigs than this, a linear scan is cheaper than building a hashed index. */
+    private static final int MIN_SIGS_TO_INDEX = 4;
+
     public static final TransactionSignature VALID_IMPLICIT_SIG = new ValidSignature();
     public static final TransactionSignature INVALID_MISSING_SIG = new InvalidSignature();
 
@@ -128,13 +133,22 @@ public final class HederaKeyActivation {
     }
 
     /**
-     * Factory for a source of platform signatures backed by a list.
+     * Factory for a source of platform signatures backed by a list. Unless the list is very short,
+     * the sigs are indexed once by public key, so each lookup is a hash probe instead of a scan.
+     * (As with a scan, if two sigs have matching public keys, the earlier one in the list wins.)
      *
      * @param sigs the backing list of platform sigs
      * @return a supplier that produces the backing list sigs by public key
      */
     public static Function<byte[], TransactionSignature> pkToSigMapFrom(
             final List<TransactionSignature> sigs) {
+        return sigs.size() < MIN_SIGS_TO_INDEX
+                ? linearPkToSigMapFrom(sigs)
+                : indexedPkToSigMapFrom(sigs);
+    }
+
+    static Function<byte[], TransactionSignature> linearPkToSigMapFrom(
+            final List<TransactionSignature> sigs) {
         return pk -> {
             for (var sig : sigs) {
                 if (keysMatch(pk, sig.getExpandedPublicKeyDirect())) {
@@ -145,6 +159,25 @@ public final class HederaKeyActivation {
         };
     }
 
+    static Function<byte[], TransactionSignature> indexedPkToSigMapFrom(
+            final List<TransactionSignature> sigs) {
+        final Map<SigKey, TransactionSignature> index = new HashMap<>(2 * sigs.size());
+        for (var sig : sigs) {
+            final var sigKey = SigKey.fromSigKey(sig.getExpandedPublicKeyDirect());
+            if (sigKey != null) {
+                index.putIfAbsent(sigKey, sig);
+            }
+        }
+        return pk -> {
+            final var sourceKey = SigKey.fromSourceKey(pk);
+            if (sourceKey == null) {
+                return INVALID_MISSING_SIG;
+            }
+            final var sig = index.get(sourceKey);
+            return sig == null ? INVALID_MISSING_SIG : sig;
+        };
+    }
+
     public static boolean keysMatch(byte[] sourceKey, byte[] sigKey) {
         if (sourceKey.length == ED25519_PUBLIC_KEY_LEN) {
             return Arrays.equals(sourceKey, sigKey);
@@ -169,6 +202,78 @@ public final class HederaKeyActivation {
         }
     }
 
+    /**
+     * A view of the 32 bytes of an Ed25519 public key, or of the x-coordinate of a secp256k1 public
+     * key plus the parity of its y-coordinate; these are exactly the bytes compared by {@link
+     * #keysMatch(byte[], byte[])}, so two views are equal iff their keys match.
+     */
+    private static final class SigKey {
+        private static final int NO_PARITY = -1;
+
+        private final byte[] bytes;
+        private final int from;
+        private final int parity;
+        private final int hash;
+
+        private SigKey(final byte[] bytes, final int from, final int parity) {
+            this.bytes = bytes;
+            this.from = from;
+            this.parity = parity;
+            var h = parity;
+            for (int i = from, to = from + ED25519_PUBLIC_KEY_LEN; i < to; i++) {
+                h = 31 * h + bytes[i];
+            }
+            this.hash = h;
+        }
+
+        static SigKey fromSourceKey(final byte[] sourceKey) {
+            if (sourceKey.length == ED25519_PUBLIC_KEY_LEN) {
+                return new SigKey(sourceKey, 0, NO_PARITY);
+            } else if (sourceKey.length == COMPRESSED_SECP256K1_PUBLIC_KEY_LEN) {
+                return new SigKey(sourceKey, 1, sourceKey[0] & PARITY_MASK);
+            } else {
+                return null;
+            }
+        }
+
+        static SigKey fromSigKey(final byte[] sigKey) {
+            if (sigKey == null) {
+                return null;
+            } else if (sigKey.length == ED25519_PUBLIC_KEY_LEN) {
+                return new SigKey(sigKey, 0, NO_PARITY);
+            } else if (sigKey.length == UNCOMPRESSED_SECP256K1_PUBLIC_KEY_LEN) {
+                return new SigKey(
+                        sigKey, 0, sigKey[UNCOMPRESSED_SECP256K1_PUBLIC_KEY_LEN - 1] & PARITY_MASK);
+            } else {
+                return null;
+            }
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof SigKey that)) {
+                return false;
+            }
+            return hash == that.hash
+                    && parity == that.parity
+                    && Arrays.equals(
+                            bytes,
+                            from,
+                            from + ED25519_PUBLIC_KEY_LEN,
+                            that.bytes,
+                            that.from,
+                            that.from + ED25519_PUBLIC_KEY_LEN);
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+
     private static class InvalidSignature extends TransactionSignature {
         private static final byte[] MEANINGLESS_BYTE = new byte[] {(byte) 0xAB};
 
@@ -44,6 +44,8 @@ public class EntityChangeSet<K, A, P extends Enum<P> & BeanProperty<A>> {
             new ArrayList<>(MAX_ENTITIES_CONCEIVABLY_TOUCHED_IN_LEDGER_TXN);
 
     private int numRetainedChanges = 0;
+    // Incremented on each clear(), so derived indexes can tell a reused change set is now stale
+    private long generation = 0;
 
     public K id(final int i) {
         return ids.get(i);
@@ -62,6 +64,11 @@ public class EntityChangeSet<K, A, P extends Enum<P> & BeanProperty<A>> {
         changes.clear();
         entities.clear();
         numRetainedChanges = 0;
+        generation++;
+    }
+
+    public long generation() {
+        return generation;
     }
 
     public int size() {
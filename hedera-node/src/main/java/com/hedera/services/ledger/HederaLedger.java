@@ -238,7 +238,7 @@ public class HederaLedger {
 
     /* -- CURRENCY MANIPULATION -- */
     public long getBalance(final AccountID id) {
-        return (long) accountsLedger.get(id, BALANCE);
+        return accountsLedger.getLong(id, BALANCE);
     }
 
     public void adjustBalance(final AccountID id, final long adjustment) {
@@ -257,7 +257,7 @@ public class HederaLedger {
     /* --- TOKEN MANIPULATION --- */
     public long getTokenBalance(AccountID aId, TokenID tId) {
         var relationship = asTokenRel(aId, tId);
-        return (long) tokenRelsLedger.get(relationship, TOKEN_BALANCE);
+        return tokenRelsLedger.getLong(relationship, TOKEN_BALANCE);
     }
 
     public boolean allTokenBalancesVanish(AccountID aId) {
@@ -468,7 +468,7 @@ public class HederaLedger {
     }
 
     private void setBalance(AccountID id, long newBalance) {
-        accountsLedger.set(id, BALANCE, newBalance);
+        accountsLedger.setLong(id, BALANCE, newBalance);
     }
 
     /* -- Only used by unit tests --- */
@@ -24,7 +24,9 @@ import com.google.protobuf.ByteString;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.state.expiry.MonotonicFullQueueExpiries;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
@@ -58,6 +60,7 @@ import javax.inject.Singleton;
 @Singleton
 public class SigImpactHistorian {
     private final GlobalDynamicProperties dynamicProperties;
+    private final List<ChangeListener> changeListeners = new ArrayList<>();
 
     /* The current time used to mark a change; statuses are returned given strictly earlier changes in the window. */
     private Instant now;
@@ -79,11 +82,39 @@ public class SigImpactHistorian {
         UNKNOWN
     }
 
+    /**
+     * Notified (on the handle thread) of the entity changes this historian tracks, so that state
+     * derived from those entities elsewhere can be kept consistent with them.
+     */
+    public interface ChangeListener {
+        /**
+         * Called when an entity is marked changed; the change may not yet be committed to state.
+         *
+         * @param entityNum the changed entity
+         */
+        void entityChanged(long entityNum);
+
+        /** Called once every entity change marked so far has been committed to state. */
+        void changesCommitted();
+
+        /** Called when the historian's entire window is invalidated (e.g., after a reconnect). */
+        void windowInvalidated();
+    }
+
     @Inject
     public SigImpactHistorian(final GlobalDynamicProperties dynamicProperties) {
         this.dynamicProperties = dynamicProperties;
     }
 
+    /**
+     * Registers a listener to be notified of all subsequent entity changes.
+     *
+     * @param listener the listener to register
+     */
+    public void registerChangeListener(final ChangeListener listener) {
+        changeListeners.add(listener);
+    }
+
     /**
      * Marks the new consensus time at which changes may happen.
      *
@@ -91,6 +122,8 @@ public class SigImpactHistorian {
      */
     public void setChangeTime(final Instant now) {
         this.now = now;
+        // Any changes marked at an earlier consensus time have been committed by now
+        commitChanges();
 
         if (!fullWindowElapsed) {
             manageFirstWindow(now);
@@ -158,6 +191,19 @@ public class SigImpactHistorian {
         requireNonNull(now, "Cannot mark an entity changed at null consensus time");
         entityChangeTimes.put(entityNum, now);
         entityChangeExpiries.track(entityNum, expirySec());
+        for (final var listener : changeListeners) {
+            listener.entityChanged(entityNum);
+        }
+    }
+
+    /**
+     * Signals that every entity change marked so far has been committed to state; so no query can
+     * still observe an entity as it was before its marked change.
+     */
+    public void commitChanges() {
+        for (final var listener : changeListeners) {
+            listener.changesCommitted();
+        }
     }
 
     /**
@@ -185,6 +231,9 @@ public class SigImpactHistorian {
         entityChangeTimes.clear();
         aliasChangeExpiries.reset();
         entityChangeExpiries.reset();
+        for (final var listener : changeListeners) {
+            listener.windowInvalidated();
+        }
     }
 
     /* --- Internal helpers --- */
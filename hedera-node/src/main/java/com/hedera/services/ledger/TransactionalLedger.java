@@ -25,9 +25,11 @@ import com.hedera.services.exceptions.MissingEntityException;
 import com.hedera.services.ledger.backing.BackingStore;
 import com.hedera.services.ledger.properties.BeanProperty;
 import com.hedera.services.ledger.properties.ChangeSummaryManager;
+import com.hedera.services.ledger.properties.PropertyChanges;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.EnumMap;
+import java.util.Deque;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -47,6 +49,11 @@ import org.apache.logging.log4j.Logger;
  * per-account change sets, which are then either saved to a backing store when the transaction is
  * committed; or dropped with no effects upon a rollback.
  *
+ * <p>The per-account change sets are {@link PropertyChanges} taken from a small pool owned by this
+ * ledger (and hence by the single thread using it), so in a steady state transactions allocate no
+ * change sets at all. Since a {@link CommitInterceptor} may still be reading the change sets of a
+ * committed transaction, they are only returned to the pool when the next transaction begins.
+ *
  * @param <K> the type of id used by the ledger
  * @param <P> the family of properties associated to entities in the ledger
  * @param <A> the type of ledger entity
@@ -65,7 +72,10 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A>
             new ArrayList<>(MAX_ENTITIES_CONCEIVABLY_TOUCHED_IN_LEDGER_TXN);
     private final List<K> removedKeys =
             new ArrayList<>(MAX_ENTITIES_CONCEIVABLY_TOUCHED_IN_LEDGER_TXN);
-    private final Map<K, EnumMap<P, Object>> changes = new HashMap<>();
+    private final Map<K, PropertyChanges<A, P>> changes = new HashMap<>();
+    private final List<PropertyChanges<A, P>> changeSetsInUse =
+            new ArrayList<>(MAX_ENTITIES_CONCEIVABLY_TOUCHED_IN_LEDGER_TXN);
+    private final Deque<PropertyChanges<A, P>> spareChangeSets = new ArrayDeque<>();
 
     private final Class<P> propertyType;
     private final Supplier<A> newEntity;
@@ -73,7 +83,6 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A>
     private final BackingStore<K, A> entities;
     private final ChangeSummaryManager<A, P> changeManager;
     private final TransactionalLedger<K, P, A> entitiesLedger;
-    private final Function<K, EnumMap<P, Object>> changeFactory;
 
     private boolean isInTransaction = false;
     private Consumer<K> previewAction = null;
@@ -92,7 +101,6 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A>
         this.newEntity = newEntity;
         this.propertyType = propertyType;
         this.changeManager = changeManager;
-        this.changeFactory = ignore -> new EnumMap<>(propertyType);
 
         if (entities instanceof TransactionalLedger) {
             this.entitiesLedger = (TransactionalLedger<K, P, A>) entities;
@@ -214,6 +222,7 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A>
         if (pendingChanges != null) {
             pendingChanges.clear();
         }
+        recycleChangeSets();
     }
 
     public void undoChangesOfType(List<P> properties) {
@@ -308,15 +317,47 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A>
     @Override
     public void set(final K id, final P property, final Object value) {
         assertIsSettable(id);
-        changeManager.update(
-                changes.computeIfAbsent(
-                        id,
-                        ignore -> {
-                            changedKeys.add(id);
-                            return changeFactory.apply(id);
-                        }),
-                property,
-                value);
+        changeManager.update(changeSetFor(id), property, value);
+    }
+
+    /**
+     * Sets a primitive {@code long} property without boxing; the property must have a {@link
+     * BeanProperty#longSetter()}.
+     *
+     * @param id the id of the entity to change
+     * @param property the property to change
+     * @param value its new value
+     */
+    public void setLong(final K id, final P property, final long value) {
+        assertIsSettable(id);
+        changeSetFor(id).setLong(property, value);
+    }
+
+    /**
+     * Gets a numeric property as a primitive {@code long}, without boxing if the property has a
+     * {@link BeanProperty#longGetter()}.
+     *
+     * @param id the id of the entity of interest
+     * @param property the property of interest
+     * @return its current value in this ledger
+     */
+    public long getLong(final K id, final P property) {
+        throwIfMissing(id);
+        final var changeSet = changes.get(id);
+        if (changeSet != null && changeSet.containsKey(property)) {
+            return changeSet.getLong(property);
+        }
+        final var longGetter = property.longGetter();
+        if (longGetter == null) {
+            return ((Number) get(id, property)).longValue();
+        }
+        if (entitiesLedger == null) {
+            return longGetter.applyAsLong(toGetterTarget(id));
+        } else {
+            return entitiesLedger.contains(id)
+                    ? entitiesLedger.getLong(id, property)
+                    : longGetter.applyAsLong(newEntity.get());
+        }
     }
 
     /** {@inheritDoc} */
@@ -344,7 +385,7 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A>
     @Override
     public void create(final K id) {
         assertIsCreatable(id);
-        changes.put(id, new EnumMap<>(propertyType));
+        changes.put(id, newChangeSet());
         createdKeys.add(id);
     }
 
@@ -401,7 +442,12 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A>
         }
         // Now accumulate the entire change-set represented by the received entity
         for (final var prop : allProps) {
-            set(id, prop, prop.getter().apply(entity));
+            final var longGetter = prop.longGetter();
+            if (longGetter != null) {
+                setLong(id, prop, longGetter.applyAsLong(entity));
+            } else {
+                set(id, prop, prop.getter().apply(entity));
+            }
         }
     }
 
@@ -477,6 +523,35 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A>
                 : newDefaultPropertySource();
     }
 
+    private PropertyChanges<A, P> changeSetFor(final K id) {
+        var changeSet = changes.get(id);
+        if (changeSet == null) {
+            changeSet = newChangeSet();
+            changes.put(id, changeSet);
+            changedKeys.add(id);
+        }
+        return changeSet;
+    }
+
+    private PropertyChanges<A, P> newChangeSet() {
+        var changeSet = spareChangeSets.poll();
+        if (changeSet == null) {
+            changeSet = new PropertyChanges<>(propertyType);
+        }
+        changeSetsInUse.add(changeSet);
+        return changeSet;
+    }
+
+    private void recycleChangeSets() {
+        for (final var changeSet : changeSetsInUse) {
+            if (spareChangeSets.size() < MAX_ENTITIES_CONCEIVABLY_TOUCHED_IN_LEDGER_TXN) {
+                changeSet.clear();
+                spareChangeSets.push(changeSet);
+            }
+        }
+        changeSetsInUse.clear();
+    }
+
     private void throwIfNotInTxn() {
         if (!isInTransaction) {
             throw new IllegalStateException("No active transaction");
@@ -618,7 +693,12 @@ public class TransactionalLedger<K, P extends Enum<P> & BeanProperty<A>, A>
     }
 
     @VisibleForTesting
-    Map<K, EnumMap<P, Object>> getChanges() {
+    Map<K, PropertyChanges<A, P>> getChanges() {
         return changes;
     }
+
+    @VisibleForTesting
+    int numSpareChangeSets() {
+        return spareChangeSets.size();
+    }
 }
@@ -48,6 +48,10 @@ import org.jetbrains.annotations.Nullable;
 /**
  * Handles a map with all the accounts that are auto-created. The map will be re-built on restart,
  * reconnect. Entries from the map are removed when the entity expires
+ *
+ * <p>The map lives in the state so that each signed state keeps a fast copy of it. The working
+ * instance also mirrors every link into an {@link OffHeapAliasIndex}, and answers lookups from that
+ * index without allocating a {@link ByteString} key or walking the map's versioned entries.
  */
 @Singleton
 public class AliasManager extends AbstractContractAliases implements ContractAliases {
@@ -59,10 +63,18 @@ public class AliasManager extends AbstractContractAliases implements ContractAli
             EthTxSigs::recoverAddressFromPubKey;
 
     private final Supplier<Map<ByteString, EntityNum>> aliases;
+    @Nullable private final OffHeapAliasIndex index;
 
-    @Inject
     public AliasManager(final Supplier<Map<ByteString, EntityNum>> aliases) {
         this.aliases = aliases;
+        this.index = null;
+    }
+
+    @Inject
+    public AliasManager(
+            final Supplier<Map<ByteString, EntityNum>> aliases, final OffHeapAliasIndex index) {
+        this.aliases = aliases;
+        this.index = index;
     }
 
     @Override
@@ -95,8 +107,7 @@ public class AliasManager extends AbstractContractAliases implements ContractAli
         if (isMirror(addressOrAlias)) {
             return addressOrAlias;
         }
-        final var aliasKey = ByteString.copyFrom(addressOrAlias.toArrayUnsafe());
-        final var contractNum = curAliases().get(aliasKey);
+        final var contractNum = lookup(addressOrAlias.toArrayUnsafe());
         // If we cannot resolve to a mirror address, we return the missing alias and let a
         // downstream component fail the transaction by returning null from its get() method.
         // Cf. the address validator provided by ContractsModule#provideAddressValidator().
@@ -105,11 +116,14 @@ public class AliasManager extends AbstractContractAliases implements ContractAli
 
     @Override
     public boolean isInUse(final Address address) {
-        return curAliases().containsKey(ByteString.copyFrom(address.toArrayUnsafe()));
+        return lookup(address.toArrayUnsafe()) != null;
     }
 
     public void link(final ByteString alias, final EntityNum num) {
         curAliases().put(alias, num);
+        if (index != null) {
+            index.put(ByteStringUtils.unwrapUnsafelyIfPossible(alias), num.longValue());
+        }
     }
 
     public boolean maybeLinkEvmAddress(@Nullable final JKey key, final EntityNum num) {
@@ -150,7 +164,7 @@ public class AliasManager extends AbstractContractAliases implements ContractAli
     }
 
     public void unlink(final ByteString alias) {
-        curAliases().remove(alias);
+        remove(alias);
     }
 
     /**
@@ -168,13 +182,16 @@ public class AliasManager extends AbstractContractAliases implements ContractAli
         final var numEOAliases = new AtomicInteger();
         final var workingAliases = curAliases();
         workingAliases.clear();
+        if (index != null) {
+            index.clear();
+        }
         forEach(
                 accounts,
                 (k, v) -> {
                     final var alias = v.getAlias();
                     observer.accept(k, v);
                     if (!alias.isEmpty()) {
-                        workingAliases.put(alias, k);
+                        link(alias, k);
                         if (v.isSmartContract()) {
                             numCreate2Aliases.getAndIncrement();
                         }
@@ -211,7 +228,7 @@ public class AliasManager extends AbstractContractAliases implements ContractAli
         if (alias.isEmpty()) {
             return false;
         }
-        return curAliases().remove(alias) != null;
+        return remove(alias);
     }
 
     public void forgetEvmAddress(final ByteString alias) {
@@ -226,7 +243,7 @@ public class AliasManager extends AbstractContractAliases implements ContractAli
                         == JECDSASecp256k1Key.ECDSA_SECP256K1_COMPRESSED_KEY_LENGTH) {
                     var evmAddress = EthTxSigs.recoverAddressFromPubKey(rawCompressedKey);
                     if (evmAddress != null) {
-                        curAliases().remove(ByteString.copyFrom(evmAddress));
+                        remove(ByteString.copyFrom(evmAddress));
                     }
                 }
             }
@@ -242,9 +259,29 @@ public class AliasManager extends AbstractContractAliases implements ContractAli
      * @return EntityNum mapped to the given alias.
      */
     public EntityNum lookupIdBy(final ByteString alias) {
+        if (index != null) {
+            final var num = index.get(ByteStringUtils.unwrapUnsafelyIfPossible(alias));
+            return num == OffHeapAliasIndex.MISSING ? MISSING_NUM : EntityNum.fromLong(num);
+        }
         return curAliases().getOrDefault(alias, MISSING_NUM);
     }
 
+    @Nullable
+    private EntityNum lookup(final byte[] alias) {
+        if (index != null) {
+            final var num = index.get(alias);
+            return num == OffHeapAliasIndex.MISSING ? null : EntityNum.fromLong(num);
+        }
+        return curAliases().get(ByteString.copyFrom(alias));
+    }
+
+    private boolean remove(final ByteString alias) {
+        if (index != null) {
+            index.remove(ByteStringUtils.unwrapUnsafelyIfPossible(alias));
+        }
+        return curAliases().remove(alias) != null;
+    }
+
     private Map<ByteString, EntityNum> curAliases() {
         return aliases.get();
     }
@@ -0,0 +1,317 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.ledger.accounts;
+
+import com.google.protobuf.ByteString;
+import java.nio.ByteBuffer;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.locks.StampedLock;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * An open-addressing hash index from alias bytes to entity numbers, stored in a direct (off-heap)
+ * buffer of fixed-width slots so that millions of aliases add no objects to the heap.
+ *
+ * <p>Each slot holds a one-byte key length (or an empty/deleted marker), up to {@link
+ * #MAX_OFF_HEAP_KEY_LEN} bytes of alias and an 8-byte entity number. That width covers EVM
+ * addresses and serialized ECDSA(secp256k1) and Ed25519 key aliases; any longer alias is kept in a
+ * small on-heap overflow map. Collisions are resolved by linear probing, and the table is rehashed
+ * once half its slots are used (counting deleted ones).
+ *
+ * <p>There is a single writer (the thread handling transactions), but lookups may come from any
+ * thread. Writers take a {@link StampedLock} write lock; readers probe optimistically and only
+ * fall back to a read lock if a write overlapped their probe.
+ */
+@Singleton
+public class OffHeapAliasIndex {
+    public static final long MISSING = -1L;
+
+    static final int MAX_OFF_HEAP_KEY_LEN = 35;
+    static final int DEFAULT_CAPACITY = 1 << 16;
+    static final int MAX_CAPACITY = 1 << 25;
+
+    private static final byte EMPTY = 0;
+    private static final byte DELETED = (byte) 0xFF;
+    private static final int KEY_OFFSET = 1;
+    private static final int NUM_OFFSET = 40;
+    private static final int SLOT_SIZE = 48;
+
+    private static final int USED_EMPTY_SLOT = 0;
+    private static final int REUSED_DELETED_SLOT = 1;
+    private static final int REPLACED = 2;
+
+    private final StampedLock lock = new StampedLock();
+    private final Map<ByteString, Long> overflow = new HashMap<>();
+    private final int initialCapacity;
+
+    private volatile Table table;
+    private int size;
+    private int usedSlots;
+
+    @Inject
+    public OffHeapAliasIndex() {
+        this(DEFAULT_CAPACITY);
+    }
+
+    OffHeapAliasIndex(final int initialCapacity) {
+        if (initialCapacity < 2 || initialCapacity > MAX_CAPACITY) {
+            throw new IllegalArgumentException("Unusable capacity " + initialCapacity);
+        }
+        this.initialCapacity = Integer.highestOneBit(initialCapacity - 1) << 1;
+        this.table = new Table(this.initialCapacity);
+    }
+
+    /**
+     * Returns the entity number linked to the given alias, or {@link #MISSING} if there is none.
+     *
+     * @param alias the alias bytes, which are not modified
+     * @return the linked number or {@link #MISSING}
+     */
+    public long get(final byte[] alias) {
+        if (!fitsOffHeap(alias)) {
+            final var stamp = lock.readLock();
+            try {
+                return overflow.getOrDefault(ByteString.copyFrom(alias), MISSING);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        final var hash = hash(alias);
+        var stamp = lock.tryOptimisticRead();
+        var num = table.find(alias, hash);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                num = table.find(alias, hash);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return num;
+    }
+
+    public boolean contains(final byte[] alias) {
+        return get(alias) != MISSING;
+    }
+
+    /**
+     * Links the given alias to the given entity number, replacing any existing link.
+     *
+     * @param alias the alias bytes, which are copied
+     * @param num the entity number
+     */
+    public void put(final byte[] alias, final long num) {
+        final var stamp = lock.writeLock();
+        try {
+            if (!fitsOffHeap(alias)) {
+                if (overflow.put(ByteString.copyFrom(alias), num) == null) {
+                    size++;
+                }
+                return;
+            }
+            final var outcome = table.insert(alias, hash(alias), num);
+            if (outcome != REPLACED) {
+                size++;
+                if (outcome == USED_EMPTY_SLOT) {
+                    usedSlots++;
+                }
+            }
+            if (usedSlots * 2L > table.capacity()) {
+                rehash();
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes any link from the given alias.
+     *
+     * @param alias the alias bytes
+     * @return whether the alias was linked
+     */
+    public boolean remove(final byte[] alias) {
+        final var stamp = lock.writeLock();
+        try {
+            final boolean removed;
+            if (!fitsOffHeap(alias)) {
+                removed = overflow.remove(ByteString.copyFrom(alias)) != null;
+            } else {
+                removed = table.delete(alias, hash(alias));
+            }
+            if (removed) {
+                size--;
+            }
+            return removed;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /** Removes all links, returning the table to its initial capacity. */
+    public void clear() {
+        final var stamp = lock.writeLock();
+        try {
+            table = new Table(initialCapacity);
+            overflow.clear();
+            size = 0;
+            usedSlots = 0;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    public int size() {
+        final var stamp = lock.readLock();
+        try {
+            return size;
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * Returns the number of bytes of direct memory currently reserved for the table.
+     *
+     * @return the off-heap footprint in bytes
+     */
+    public long offHeapBytes() {
+        return (long) table.capacity() * SLOT_SIZE;
+    }
+
+    private void rehash() {
+        final var liveEntries = size - overflow.size();
+        final var current = table;
+        final var newCapacity =
+                liveEntries * 4L > current.capacity() ? current.capacity() * 2 : current.capacity();
+        if (newCapacity > MAX_CAPACITY) {
+            throw new IllegalStateException(
+                    "Alias index cannot grow past " + MAX_CAPACITY + " slots");
+        }
+        final var rehashed = new Table(newCapacity);
+        for (int i = 0; i < current.capacity(); i++) {
+            final var base = i * SLOT_SIZE;
+            final var len = current.slots.get(base);
+            if (len != EMPTY && len != DELETED) {
+                final var alias = new byte[len];
+                current.slots.get(base + KEY_OFFSET, alias, 0, len);
+                rehashed.insert(alias, hash(alias), current.slots.getLong(base + NUM_OFFSET));
+            }
+        }
+        table = rehashed;
+        usedSlots = liveEntries;
+    }
+
+    private static boolean fitsOffHeap(final byte[] alias) {
+        return alias.length > 0 && alias.length <= MAX_OFF_HEAP_KEY_LEN;
+    }
+
+    private static int hash(final byte[] alias) {
+        int h = 1;
+        for (final var b : alias) {
+            h = 31 * h + b;
+        }
+        h *= 0x9E3779B9;
+        return h ^ (h >>> 16);
+    }
+
+    private static final class Table {
+        private final ByteBuffer slots;
+        private final int mask;
+
+        private Table(final int capacity) {
+            this.slots = ByteBuffer.allocateDirect(capacity * SLOT_SIZE);
+            this.mask = capacity - 1;
+        }
+
+        private int capacity() {
+            return mask + 1;
+        }
+
+        private long find(final byte[] alias, final int hash) {
+            var i = hash & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                final var base = i * SLOT_SIZE;
+                final var len = slots.get(base);
+                if (len == EMPTY) {
+                    return MISSING;
+                }
+                if (len == alias.length && keyMatches(base, alias)) {
+                    return slots.getLong(base + NUM_OFFSET);
+                }
+                i = (i + 1) & mask;
+            }
+            return MISSING;
+        }
+
+        /** Links the alias to the number, returning which kind of slot now holds the link. */
+        private int insert(final byte[] alias, final int hash, final long num) {
+            var i = hash & mask;
+            var firstDeleted = -1;
+            for (int probes = 0; probes <= mask; probes++) {
+                final var base = i * SLOT_SIZE;
+                final var len = slots.get(base);
+                if (len == EMPTY) {
+                    break;
+                }
+                if (len == DELETED) {
+                    if (firstDeleted < 0) {
+                        firstDeleted = i;
+                    }
+                } else if (len == alias.length && keyMatches(base, alias)) {
+                    slots.putLong(base + NUM_OFFSET, num);
+                    return REPLACED;
+                }
+                i = (i + 1) & mask;
+            }
+            final var target = firstDeleted >= 0 ? firstDeleted : i;
+            final var base = target * SLOT_SIZE;
+            slots.put(base + KEY_OFFSET, alias);
+            slots.putLong(base + NUM_OFFSET, num);
+            slots.put(base, (byte) alias.length);
+            return firstDeleted >= 0 ? REUSED_DELETED_SLOT : USED_EMPTY_SLOT;
+        }
+
+        private boolean delete(final byte[] alias, final int hash) {
+            var i = hash & mask;
+            for (int probes = 0; probes <= mask; probes++) {
+                final var base = i * SLOT_SIZE;
+                final var len = slots.get(base);
+                if (len == EMPTY) {
+                    return false;
+                }
+                if (len == alias.length && keyMatches(base, alias)) {
+                    slots.put(base, DELETED);
+                    return true;
+                }
+                i = (i + 1) & mask;
+            }
+            return false;
+        }
+
+        private boolean keyMatches(final int base, final byte[] alias) {
+            final var keyBase = base + KEY_OFFSET;
+            for (int j = 0; j < alias.length; j++) {
+                if (slots.get(keyBase + j) != alias[j]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+    }
+}
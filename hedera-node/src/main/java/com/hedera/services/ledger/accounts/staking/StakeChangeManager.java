@@ -23,16 +23,37 @@ import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.swirlds.merkle.map.MerkleMap;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Supplier;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 @Singleton
 public class StakeChangeManager {
+    private static final int ABSENT = -1;
+    private static final int INITIAL_INDEX_CAPACITY = 128;
+    private static final long HASH_MULTIPLIER = 0x9E3779B97F4A7C15L;
+
     private final StakeInfoManager stakeInfoManager;
     private final Supplier<MerkleMap<EntityNum, MerkleAccount>> accounts;
 
+    // An open-addressing index from account number to position in the most recently
+    // searched change set; rebuilt incrementally as the change set grows, and discarded
+    // when the ledger clears the change set for its next commit
+    private long[] indexedNums = new long[INITIAL_INDEX_CAPACITY];
+    private int[] indexedPositions = newEmptyPositions(INITIAL_INDEX_CAPACITY);
+    private int numIndexed = 0;
+    private long indexedGeneration = -1;
+    private EntityChangeSet<AccountID, MerkleAccount, AccountProperty> indexedChanges = null;
+    // Change maps for stakees pulled into a change set; once the ledger has flushed a
+    // change set, its maps are free to be reused by the next one
+    private final List<Map<AccountProperty, Object>> stakeeChanges = new ArrayList<>();
+    private int numStakeeChangesInUse = 0;
+
     @Inject
     public StakeChangeManager(
             final StakeInfoManager stakeInfoManager,
@@ -54,28 +75,127 @@ public class StakeChangeManager {
 
     public void initializeAllStakingStartsTo(final long todayNumber) {
         final var mutableAccounts = accounts.get();
-        for (var key : mutableAccounts.keySet()) {
-            final var account = mutableAccounts.getForModify(key);
-            if (account.getStakedId() < 0) {
-                account.setStakePeriodStart(todayNumber);
-            }
+        // Most accounts don't stake to a node, so we avoid a getForModify() copy of those
+        // (and of any already starting today) by finding the node stakers with a read-only
+        // traversal first; getForModify() can't be called during the traversal itself
+        final List<EntityNum> nodeStakers = new ArrayList<>();
+        mutableAccounts.forEach(
+                (num, account) -> {
+                    if (account.getStakedId() < 0 && account.getStakePeriodStart() != todayNumber) {
+                        nodeStakers.add(num);
+                    }
+                });
+        for (final var num : nodeStakers) {
+            mutableAccounts.getForModify(num).setStakePeriodStart(todayNumber);
         }
     }
 
     public int findOrAdd(
             final long accountNum,
             final EntityChangeSet<AccountID, MerkleAccount, AccountProperty> pendingChanges) {
-        final var n = pendingChanges.size();
-        for (int i = 0; i < n; i++) {
-            if (pendingChanges.id(i).getAccountNum() == accountNum) {
-                return i;
-            }
+        syncIndexWith(pendingChanges);
+        final var i = indexOf(accountNum);
+        if (i != ABSENT) {
+            return i;
         }
         // This account wasn't in the current change set
+        final var n = pendingChanges.size();
         pendingChanges.include(
                 STATIC_PROPERTIES.scopedAccountWith(accountNum),
                 accounts.get().get(EntityNum.fromLong(accountNum)),
-                new EnumMap<>(AccountProperty.class));
+                nextStakeeChanges());
+        indexIfAbsent(accountNum, n);
+        numIndexed = n + 1;
         return n;
     }
+
+    private void syncIndexWith(
+            final EntityChangeSet<AccountID, MerkleAccount, AccountProperty> pendingChanges) {
+        final var n = pendingChanges.size();
+        if (pendingChanges != indexedChanges
+                || pendingChanges.generation() != indexedGeneration
+                || n < numIndexed) {
+            if (numIndexed > 0) {
+                Arrays.fill(indexedPositions, ABSENT);
+            }
+            numIndexed = 0;
+            numStakeeChangesInUse = 0;
+            indexedChanges = pendingChanges;
+            indexedGeneration = pendingChanges.generation();
+        }
+        for (int i = numIndexed; i < n; i++) {
+            indexIfAbsent(pendingChanges.id(i).getAccountNum(), i);
+            numIndexed = i + 1;
+        }
+    }
+
+    private int indexOf(final long num) {
+        final var mask = indexedNums.length - 1;
+        for (int j = slotFor(num, mask); indexedPositions[j] != ABSENT; j = (j + 1) & mask) {
+            if (indexedNums[j] == num) {
+                return indexedPositions[j];
+            }
+        }
+        return ABSENT;
+    }
+
+    private void indexIfAbsent(final long num, final int position) {
+        // Keep the table at most half full, so probe sequences stay short
+        if (2 * (numIndexed + 1) > indexedNums.length) {
+            growIndex();
+        }
+        final var mask = indexedNums.length - 1;
+        var j = slotFor(num, mask);
+        for (; indexedPositions[j] != ABSENT; j = (j + 1) & mask) {
+            if (indexedNums[j] == num) {
+                // Like a linear scan, we resolve to the first occurrence of an account
+                return;
+            }
+        }
+        indexedNums[j] = num;
+        indexedPositions[j] = position;
+    }
+
+    private void growIndex() {
+        final var oldNums = indexedNums;
+        final var oldPositions = indexedPositions;
+        final var newCapacity = 2 * oldNums.length;
+        indexedNums = new long[newCapacity];
+        indexedPositions = newEmptyPositions(newCapacity);
+        final var mask = newCapacity - 1;
+        for (int i = 0; i < oldNums.length; i++) {
+            if (oldPositions[i] != ABSENT) {
+                var j = slotFor(oldNums[i], mask);
+                while (indexedPositions[j] != ABSENT) {
+                    j = (j + 1) & mask;
+                }
+                indexedNums[j] = oldNums[i];
+                indexedPositions[j] = oldPositions[i];
+            }
+        }
+    }
+
+    private Map<AccountProperty, Object> nextStakeeChanges() {
+        if (numStakeeChangesInUse == stakeeChanges.size()) {
+            stakeeChanges.add(new EnumMap<>(AccountProperty.class));
+        }
+        final var changes = stakeeChanges.get(numStakeeChangesInUse++);
+        changes.clear();
+        return changes;
+    }
+
+    private static int slotFor(final long num, final int mask) {
+        return (int) ((num * HASH_MULTIPLIER) >>> 32) & mask;
+    }
+
+    private static int[] newEmptyPositions(final int capacity) {
+        final var positions = new int[capacity];
+        Arrays.fill(positions, ABSENT);
+        return positions;
+    }
+
+    /* --- Only used by unit tests --- */
+    int indexCapacity() {
+        return indexedNums.length;
+    }
 }
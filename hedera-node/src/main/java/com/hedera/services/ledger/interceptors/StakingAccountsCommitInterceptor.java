@@ -426,10 +426,11 @@ public class StakingAccountsCommitInterceptor extends AccountsCommitInterceptor
             stakePeriodStartUpdates = new long[maxImpliedChanges];
         }
         // The stakeChangeScenarios and stakePeriodStartUpdates arrays are filled and used
-        // left-to-right only
-        Arrays.fill(rewardsEarned, NA);
-        Arrays.fill(stakeAtStartOfLastRewardedPeriodUpdates, NA);
-        Arrays.fill(stakedToMeUpdates, NA);
+        // left-to-right only; and no index past maxImpliedChanges can be used in this preview,
+        // so there is no need to reset the rest of arrays sized for an earlier, larger one
+        Arrays.fill(rewardsEarned, 0, maxImpliedChanges, NA);
+        Arrays.fill(stakeAtStartOfLastRewardedPeriodUpdates, 0, maxImpliedChanges, NA);
+        Arrays.fill(stakedToMeUpdates, 0, maxImpliedChanges, NA);
     }
 
     private void setCurrentAndNewIds(
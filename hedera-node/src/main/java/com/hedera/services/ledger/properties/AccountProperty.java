@@ -26,6 +26,8 @@ import java.util.Map;
 import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToLongFunction;
 
 /**
  * Implements a property family whose instances can provide the getter/setter pairs relevant to
@@ -95,6 +97,28 @@ public enum AccountProperty implements BeanProperty<MerkleAccount> {
         public Function<MerkleAccount, Object> getter() {
             return MerkleAccount::getBalance;
         }
+
+        @Override
+        public ObjLongConsumer<MerkleAccount> longSetter() {
+            return (a, v) -> {
+                try {
+                    a.setBalance(v);
+                } catch (NegativeAccountBalanceException nabe) {
+                    throw new IllegalArgumentException(
+                            "Argument 'v="
+                                    + v
+                                    + "' would cause account 'a="
+                                    + a
+                                    + "' to have a negative balance!",
+                            nabe);
+                }
+            };
+        }
+
+        @Override
+        public ToLongFunction<MerkleAccount> longGetter() {
+            return MerkleAccount::getBalance;
+        }
     },
     AUTO_RENEW_PERIOD {
         @Override
@@ -106,6 +130,16 @@ public enum AccountProperty implements BeanProperty<MerkleAccount> {
         public Function<MerkleAccount, Object> getter() {
             return MerkleAccount::getAutoRenewSecs;
         }
+
+        @Override
+        public ObjLongConsumer<MerkleAccount> longSetter() {
+            return MerkleAccount::setAutoRenewSecs;
+        }
+
+        @Override
+        public ToLongFunction<MerkleAccount> longGetter() {
+            return MerkleAccount::getAutoRenewSecs;
+        }
     },
     EXPIRY {
         @Override
@@ -117,6 +151,16 @@ public enum AccountProperty implements BeanProperty<MerkleAccount> {
         public Function<MerkleAccount, Object> getter() {
             return MerkleAccount::getExpiry;
         }
+
+        @Override
+        public ObjLongConsumer<MerkleAccount> longSetter() {
+            return MerkleAccount::setExpiry;
+        }
+
+        @Override
+        public ToLongFunction<MerkleAccount> longGetter() {
+            return MerkleAccount::getExpiry;
+        }
     },
     KEY {
         @Override
@@ -161,6 +205,16 @@ public enum AccountProperty implements BeanProperty<MerkleAccount> {
         public Function<MerkleAccount, Object> getter() {
             return MerkleAccount::getNftsOwned;
         }
+
+        @Override
+        public ObjLongConsumer<MerkleAccount> longSetter() {
+            return MerkleAccount::setNftsOwned;
+        }
+
+        @Override
+        public ToLongFunction<MerkleAccount> longGetter() {
+            return MerkleAccount::getNftsOwned;
+        }
     },
     MAX_AUTOMATIC_ASSOCIATIONS {
         @Override
@@ -216,6 +270,16 @@ public enum AccountProperty implements BeanProperty<MerkleAccount> {
         public Function<MerkleAccount, Object> getter() {
             return MerkleAccount::getEthereumNonce;
         }
+
+        @Override
+        public ObjLongConsumer<MerkleAccount> longSetter() {
+            return MerkleAccount::setEthereumNonce;
+        }
+
+        @Override
+        public ToLongFunction<MerkleAccount> longGetter() {
+            return MerkleAccount::getEthereumNonce;
+        }
     },
     CRYPTO_ALLOWANCES {
         @Override
@@ -329,5 +393,15 @@ public enum AccountProperty implements BeanProperty<MerkleAccount> {
         public Function<MerkleAccount, Object> getter() {
             return MerkleAccount::getStakedId;
         }
+
+        @Override
+        public ObjLongConsumer<MerkleAccount> longSetter() {
+            return MerkleAccount::setStakedId;
+        }
+
+        @Override
+        public ToLongFunction<MerkleAccount> longGetter() {
+            return MerkleAccount::getStakedId;
+        }
     }
 }
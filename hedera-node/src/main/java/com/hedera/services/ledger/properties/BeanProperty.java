@@ -17,6 +17,8 @@ package com.hedera.services.ledger.properties;
 
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToLongFunction;
 
 /**
  * Defines a type that can provide a getter/setter pair for a given type. (The getter/setter pair
@@ -38,4 +40,24 @@ public interface BeanProperty<A> {
      * @return the getter on the target type.
      */
     Function<A, Object> getter();
+
+    /**
+     * If the property at hand is a primitive {@code long}, provides a setter that does not need a
+     * boxed argument.
+     *
+     * @return the primitive setter on the target type, or null if the property is not a long
+     */
+    default ObjLongConsumer<A> longSetter() {
+        return null;
+    }
+
+    /**
+     * If the property at hand is a primitive {@code long}, provides a getter that does not box its
+     * result.
+     *
+     * @return the primitive getter on the target type, or null if the property is not a long
+     */
+    default ToLongFunction<A> longGetter() {
+        return null;
+    }
 }
@@ -34,7 +34,11 @@ public final class ChangeSummaryManager<A, P extends Enum<P> & BeanProperty<A>>
      * @param value the new value that summarizes the changeset
      */
     public void update(final Map<P, Object> changes, final P property, final Object value) {
-        changes.put(property, value);
+        if (changes instanceof PropertyChanges<?, ?> propertyChanges) {
+            asTyped(propertyChanges).set(property, value);
+        } else {
+            changes.put(property, value);
+        }
     }
 
     /**
@@ -44,7 +48,11 @@ public final class ChangeSummaryManager<A, P extends Enum<P> & BeanProperty<A>>
      * @param account the account to receive the net changes
      */
     public void persist(final Map<P, Object> changes, final A account) {
-        changes.forEach((key, value) -> key.setter().accept(account, value));
+        if (changes instanceof PropertyChanges<?, ?> propertyChanges) {
+            asTyped(propertyChanges).persistTo(account);
+        } else {
+            changes.forEach((key, value) -> key.setter().accept(account, value));
+        }
     }
 
     /**
@@ -67,4 +75,9 @@ public final class ChangeSummaryManager<A, P extends Enum<P> & BeanProperty<A>>
                     changeObserver.newProperty(id, property, newValue);
                 });
     }
+
+    @SuppressWarnings("unchecked")
+    private PropertyChanges<A, P> asTyped(final PropertyChanges<?, ?> propertyChanges) {
+        return (PropertyChanges<A, P>) propertyChanges;
+    }
 }
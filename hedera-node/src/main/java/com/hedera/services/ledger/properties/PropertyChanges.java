@@ -0,0 +1,275 @@
+/*
+ * Copyright (C) 2020-2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.ledger.properties;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.function.BiConsumer;
+import java.util.function.ObjLongConsumer;
+
+/**
+ * A reusable summary of the pending changes to one entity's properties, usable anywhere an {@code
+ * EnumMap<P, Object>} change set was used before.
+ *
+ * <p>Properties whose {@link BeanProperty#longSetter()} is non-null have a primitive {@code long}
+ * slot, so {@link #setLong(Enum, long)}, {@link #getLong(Enum)} and {@link #persistTo(Object)} can
+ * update and flush them without boxing; a boxed view of such a slot is created (and memoized) only
+ * if some caller reads it through the {@link Map} interface. (Boolean values need no special slot,
+ * since autoboxing always returns one of the two canonical {@link Boolean} instances.)
+ *
+ * <p>Instances are cleared with {@link #clear()} and reused across transactions; so they are
+ * <b>NOT</b> thread-safe, and no reference to one should outlive the transaction that used it.
+ *
+ * @param <A> the type of entity whose properties are changed
+ * @param <P> the family of changeable properties
+ */
+public final class PropertyChanges<A, P extends Enum<P> & BeanProperty<A>>
+        extends AbstractMap<P, Object> {
+    private final P[] universe;
+    private final ObjLongConsumer<A>[] longSetters;
+    private final Object[] values;
+    private final long[] longs;
+    private final boolean[] present;
+    private final boolean[] inLongSlot;
+    private int size = 0;
+
+    @SuppressWarnings("unchecked")
+    public PropertyChanges(final Class<P> propertyType) {
+        this.universe = propertyType.getEnumConstants();
+        final var n = universe.length;
+        this.longSetters = new ObjLongConsumer[n];
+        for (int i = 0; i < n; i++) {
+            longSetters[i] = universe[i].longSetter();
+        }
+        this.values = new Object[n];
+        this.longs = new long[n];
+        this.present = new boolean[n];
+        this.inLongSlot = new boolean[n];
+    }
+
+    /**
+     * Sets the given property to the given value, without returning (and hence possibly boxing)
+     * any previous value.
+     *
+     * @param property the property to change
+     * @param value its new value
+     */
+    public void set(final P property, final Object value) {
+        final var i = property.ordinal();
+        markPresent(i);
+        if (longSetters[i] != null && value instanceof Long l) {
+            longs[i] = l;
+            inLongSlot[i] = true;
+        } else {
+            inLongSlot[i] = false;
+        }
+        values[i] = value;
+    }
+
+    /**
+     * Sets the given {@code long} property to the given value without boxing.
+     *
+     * @param property the property to change
+     * @param value its new value
+     * @throws IllegalArgumentException if the property does not have a primitive slot
+     */
+    public void setLong(final P property, final long value) {
+        final var i = property.ordinal();
+        if (longSetters[i] == null) {
+            throw new IllegalArgumentException("Property " + property + " is not a long");
+        }
+        markPresent(i);
+        longs[i] = value;
+        inLongSlot[i] = true;
+        values[i] = null;
+    }
+
+    /**
+     * Gets the pending value of the given numeric property, without boxing if it has a primitive
+     * slot.
+     *
+     * @param property the property of interest
+     * @return its pending value
+     * @throws IllegalStateException if the property has no pending change
+     */
+    public long getLong(final P property) {
+        final var i = property.ordinal();
+        if (!present[i]) {
+            throw new IllegalStateException("No pending change to " + property);
+        }
+        return inLongSlot[i] ? longs[i] : ((Number) values[i]).longValue();
+    }
+
+    /**
+     * Flushes every pending change to the given entity, using the primitive setter of each
+     * property with a primitive slot.
+     *
+     * @param entity the entity to receive the changes
+     */
+    public void persistTo(final A entity) {
+        for (int i = 0; i < universe.length; i++) {
+            if (present[i]) {
+                if (inLongSlot[i]) {
+                    longSetters[i].accept(entity, longs[i]);
+                } else {
+                    universe[i].setter().accept(entity, values[i]);
+                }
+            }
+        }
+    }
+
+    @Override
+    public Object put(final P property, final Object value) {
+        final var prev = get(property);
+        set(property, value);
+        return prev;
+    }
+
+    @Override
+    public Object get(final Object key) {
+        final var i = ordinalOf(key);
+        if (i < 0 || !present[i]) {
+            return null;
+        }
+        if (inLongSlot[i] && values[i] == null) {
+            values[i] = longs[i];
+        }
+        return values[i];
+    }
+
+    @Override
+    public boolean containsKey(final Object key) {
+        final var i = ordinalOf(key);
+        return i >= 0 && present[i];
+    }
+
+    @Override
+    public Object remove(final Object key) {
+        final var i = ordinalOf(key);
+        if (i < 0 || !present[i]) {
+            return null;
+        }
+        final var prev = get(key);
+        present[i] = false;
+        inLongSlot[i] = false;
+        values[i] = null;
+        size--;
+        return prev;
+    }
+
+    @Override
+    public void clear() {
+        if (size > 0) {
+            Arrays.fill(present, false);
+            Arrays.fill(inLongSlot, false);
+            Arrays.fill(values, null);
+            size = 0;
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public void forEach(final BiConsumer<? super P, ? super Object> action) {
+        for (int i = 0; i < universe.length; i++) {
+            if (present[i]) {
+                action.accept(universe[i], get(universe[i]));
+            }
+        }
+    }
+
+    @Override
+    public Set<Entry<P, Object>> entrySet() {
+        return new EntrySet();
+    }
+
+    private void markPresent(final int i) {
+        if (!present[i]) {
+            present[i] = true;
+            size++;
+        }
+    }
+
+    private int ordinalOf(final Object key) {
+        if (key instanceof Enum<?> e) {
+            final var i = e.ordinal();
+            if (i < universe.length && universe[i] == key) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<P, Object>> {
+        @Override
+        public Iterator<Entry<P, Object>> iterator() {
+            return new Iterator<>() {
+                private int next = advanceFrom(0);
+                private int last = -1;
+
+                @Override
+                public boolean hasNext() {
+                    return next < universe.length;
+                }
+
+                @Override
+                public Entry<P, Object> next() {
+                    if (!hasNext()) {
+                        throw new NoSuchElementException();
+                    }
+                    last = next;
+                    next = advanceFrom(next + 1);
+                    final var property = universe[last];
+                    return new SimpleImmutableEntry<>(property, get(property));
+                }
+
+                @Override
+                public void remove() {
+                    if (last < 0) {
+                        throw new IllegalStateException();
+                    }
+                    PropertyChanges.this.remove(universe[last]);
+                    last = -1;
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        private int advanceFrom(int i) {
+            while (i < universe.length && !present[i]) {
+                i++;
+            }
+            return i;
+        }
+    }
+}
@@ -18,6 +18,8 @@ package com.hedera.services.ledger.properties;
 import com.hedera.services.state.merkle.MerkleTokenRelStatus;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
+import java.util.function.ObjLongConsumer;
+import java.util.function.ToLongFunction;
 
 public enum TokenRelProperty implements BeanProperty<MerkleTokenRelStatus> {
     TOKEN_BALANCE {
@@ -30,6 +32,16 @@ public enum TokenRelProperty implements BeanProperty<MerkleTokenRelStatus> {
         public Function<MerkleTokenRelStatus, Object> getter() {
             return MerkleTokenRelStatus::getBalance;
         }
+
+        @Override
+        public ObjLongConsumer<MerkleTokenRelStatus> longSetter() {
+            return MerkleTokenRelStatus::setBalance;
+        }
+
+        @Override
+        public ToLongFunction<MerkleTokenRelStatus> longGetter() {
+            return MerkleTokenRelStatus::getBalance;
+        }
     },
     IS_FROZEN {
         @Override
@@ -0,0 +1,157 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.queries.answering;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.QueryLaneStats;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Decides where an answer flow runs. With {@code queries.execution.pooled=false}, queries are
+ * answered inline on the gRPC transport thread that received them, exactly as before; otherwise
+ * each query is handed off to one of two bounded lanes so a burst of expensive queries cannot
+ * occupy the transport threads, or starve cheap queries.
+ *
+ * <ul>
+ *   <li>The <i>costly</i> lane answers the functions listed in {@code
+ *       queries.execution.costlyFunctions} (local contract calls, record and NFT listings, and so
+ *       on) with {@code queries.execution.costlyLaneThreads} threads.
+ *   <li>The <i>cheap</i> lane answers all other queries with {@code
+ *       queries.execution.cheapLaneThreads} threads.
+ * </ul>
+ *
+ * <p>Each lane queues at most {@code queries.execution.laneQueueCapacity} waiting queries; once
+ * its queue is full, {@link #submit(HederaFunctionality, Runnable)} returns false and the caller
+ * should answer {@code BUSY}.
+ */
+@Singleton
+public class QueryLanes {
+    public enum Lane {
+        CHEAP,
+        COSTLY
+    }
+
+    private final boolean pooled;
+    private final QueryLaneStats stats;
+    private final Set<HederaFunctionality> costlyFunctions;
+    private final Map<Lane, ThreadPoolExecutor> executors = new EnumMap<>(Lane.class);
+
+    @Inject
+    public QueryLanes(final NodeLocalProperties properties, final QueryLaneStats stats) {
+        this.stats = stats;
+        this.pooled = properties.isQueryExecutionPooled();
+        this.costlyFunctions = properties.queryCostlyFunctions();
+        if (pooled) {
+            final var capacity = Math.max(1, properties.queryLaneQueueCapacity());
+            executors.put(
+                    Lane.CHEAP,
+                    laneExecutor(Lane.CHEAP, properties.queryCheapLaneThreads(), capacity));
+            executors.put(
+                    Lane.COSTLY,
+                    laneExecutor(Lane.COSTLY, properties.queryCostlyLaneThreads(), capacity));
+        }
+    }
+
+    /**
+     * Runs the given answer flow in the lane for the given function; or inline, if pooled
+     * execution is disabled.
+     *
+     * @param function the stated function of the query being answered
+     * @param flow the answer flow
+     * @return false if the lane's queue was full and the flow will never run, true otherwise
+     */
+    public boolean submit(final HederaFunctionality function, final Runnable flow) {
+        final var lane = laneFor(function);
+        if (!pooled) {
+            runTimed(lane, flow, System.nanoTime());
+            return true;
+        }
+        final var executor = executors.get(lane);
+        stats.recordQueueDepth(lane, executor.getQueue().size());
+        final var submittedAt = System.nanoTime();
+        try {
+            executor.execute(() -> runTimed(lane, flow, submittedAt));
+            return true;
+        } catch (RejectedExecutionException ignore) {
+            stats.countRejection(lane);
+            return false;
+        }
+    }
+
+    public Lane laneFor(final HederaFunctionality function) {
+        return costlyFunctions.contains(function) ? Lane.COSTLY : Lane.CHEAP;
+    }
+
+    public int queueDepth(final Lane lane) {
+        return pooled ? executors.get(lane).getQueue().size() : 0;
+    }
+
+    public void shutdown() {
+        executors.values().forEach(ThreadPoolExecutor::shutdownNow);
+    }
+
+    private void runTimed(final Lane lane, final Runnable flow, final long submittedAt) {
+        final var startedAt = System.nanoTime();
+        try {
+            flow.run();
+        } finally {
+            stats.recordTimes(lane, startedAt - submittedAt, System.nanoTime() - startedAt);
+        }
+    }
+
+    private static ThreadPoolExecutor laneExecutor(
+            final Lane lane, final int numThreads, final int capacity) {
+        final var n = Math.max(1, numThreads);
+        final var executor =
+                new ThreadPoolExecutor(
+                        n,
+                        n,
+                        0L,
+                        TimeUnit.MILLISECONDS,
+                        new ArrayBlockingQueue<>(capacity),
+                        laneThreadFactory(lane));
+        executor.prestartAllCoreThreads();
+        return executor;
+    }
+
+    private static ThreadFactory laneThreadFactory(final Lane lane) {
+        final var prefix = "query-" + lane.name().toLowerCase() + "-lane-";
+        final var nextId = new AtomicInteger();
+        return runnable -> {
+            final var thread = new Thread(runnable, prefix + nextId.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    /* --- Only used by unit tests --- */
+    @VisibleForTesting
+    boolean isPooled() {
+        return pooled;
+    }
+}
@@ -15,6 +15,7 @@
  */
 package com.hedera.services.queries.answering;
 
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.FAIL_INVALID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 
@@ -39,11 +40,13 @@ public class QueryResponseHelper {
 
     private final AnswerFlow answerFlow;
     private final HapiOpCounters opCounters;
+    private final QueryLanes lanes;
 
     @Inject
-    public QueryResponseHelper(AnswerFlow answerFlow, HapiOpCounters opCounters) {
+    public QueryResponseHelper(AnswerFlow answerFlow, HapiOpCounters opCounters, QueryLanes lanes) {
         this.opCounters = opCounters;
         this.answerFlow = answerFlow;
+        this.lanes = lanes;
     }
 
     public void answer(
@@ -51,12 +54,19 @@ public class QueryResponseHelper {
             StreamObserver<Response> observer,
             AnswerService answer,
             HederaFunctionality statedFunction) {
-        respondWithMetrics(
-                query,
-                observer,
-                answer,
-                () -> opCounters.countReceived(statedFunction),
-                () -> opCounters.countAnswered(statedFunction));
+        final Runnable flow =
+                () ->
+                        respondWithMetrics(
+                                query,
+                                observer,
+                                answer,
+                                () -> opCounters.countReceived(statedFunction),
+                                () -> opCounters.countAnswered(statedFunction));
+        if (!lanes.submit(statedFunction, flow)) {
+            opCounters.countReceived(statedFunction);
+            observer.onNext(answer.responseGiven(query, null, BUSY, 0L));
+            observer.onCompleted();
+        }
     }
 
     private void respondWithMetrics(
@@ -32,7 +32,6 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 import javax.inject.Inject;
@@ -47,11 +46,10 @@ public class RecordCache {
 
     private EntityCreator creator;
     private Cache<TransactionID, Boolean> timedReceiptCache;
-    private Map<TransactionID, TxnIdRecentHistory> histories;
+    private TxnIdHistories histories;
 
     @Inject
-    public RecordCache(
-            Cache<TransactionID, Boolean> cache, Map<TransactionID, TxnIdRecentHistory> histories) {
+    public RecordCache(Cache<TransactionID, Boolean> cache, TxnIdHistories histories) {
         this.histories = histories;
         this.timedReceiptCache = cache;
     }
@@ -69,8 +67,7 @@ public class RecordCache {
             final TransactionID txnId,
             final ResponseCodeEnum status,
             final ExpirableTxnRecord expirableTxnRecord) {
-        final var recentHistory =
-                histories.computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory());
+        final var recentHistory = histories.getOrCreate(txnId);
         recentHistory.observe(expirableTxnRecord, status);
     }
 
@@ -87,8 +84,7 @@ public class RecordCache {
                         consensusTimestamp.getEpochSecond(),
                         submittingMember);
 
-        final var recentHistory =
-                histories.computeIfAbsent(accessor.getTxnId(), ignore -> new TxnIdRecentHistory());
+        final var recentHistory = histories.getOrCreate(accessor.getTxnId());
         recentHistory.observe(expiringRecord, FAIL_INVALID);
     }
 
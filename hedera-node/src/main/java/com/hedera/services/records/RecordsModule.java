@@ -31,8 +31,6 @@ import dagger.Module;
 import dagger.Provides;
 import java.io.IOException;
 import java.security.NoSuchAlgorithmException;
-import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import javax.inject.Singleton;
 
 @Module
@@ -45,12 +43,6 @@ public interface RecordsModule {
     @Singleton
     RecordsHistorian bindRecordsHistorian(TxnAwareRecordsHistorian txnAwareRecordsHistorian);
 
-    @Provides
-    @Singleton
-    static Map<TransactionID, TxnIdRecentHistory> txnHistories() {
-        return new ConcurrentHashMap<>();
-    }
-
     @Provides
     @Singleton
     static Cache<TransactionID, Boolean> provideCache(RecordCacheFactory recordCacheFactory) {
@@ -0,0 +1,363 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.records;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Consumer;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * The {@link TxnIdRecentHistory} of every {@link TransactionID} with a record still in state,
+ * which the node uses for duplicate detection and receipt queries.
+ *
+ * <p>At high throughput this store can hold millions of histories; so instead of a map keyed by
+ * {@code TransactionID} messages (each with its own {@code AccountID} and {@code Timestamp}), it
+ * uses an open-addressing table with linear probing whose keys are the fixed-width encoding of a
+ * transaction id into {@link #KEY_WIDTH} longs:
+ *
+ * <ol>
+ *   <li>The payer account number.
+ *   <li>The seconds of the valid start.
+ *   <li>The nanos of the valid start in the high 32 bits, and the nonce in the low 32 bits.
+ *   <li>The payer shard and realm, shifted left one bit to make room for the scheduled flag.
+ * </ol>
+ *
+ * A transaction id that cannot be encoded this way (for example, one whose payer is an alias) is
+ * kept in a small overflow map with exactly the previous semantics. Removal uses backward-shift
+ * deletion, so the table never accumulates tombstones as records expire.
+ *
+ * <p>Only the {@code handleTransaction} thread changes the store; queries and pre-checks read it
+ * from other threads with an optimistic {@link StampedLock} read that falls back to a read lock if
+ * the table changed underneath it.
+ */
+@Singleton
+public class TxnIdHistories {
+    static final int KEY_WIDTH = 4;
+    static final int MIN_CAPACITY = 1 << 10;
+    private static final int MAX_SHARD = (1 << 30) - 1;
+    private static final long MAX_REALM = (1L << 32) - 1;
+
+    private final StampedLock lock = new StampedLock();
+    private final Map<TransactionID, TxnIdRecentHistory> overflow = new ConcurrentHashMap<>();
+
+    private int size = 0;
+    private long[] keys = new long[MIN_CAPACITY * KEY_WIDTH];
+    private TxnIdRecentHistory[] histories = new TxnIdRecentHistory[MIN_CAPACITY];
+
+    @Inject
+    public TxnIdHistories() {
+        // Dagger2
+    }
+
+    /**
+     * Returns the recent history of the given transaction id, if it has one.
+     *
+     * @param txnId the transaction id of interest
+     * @return its history, or null if none exists
+     */
+    public TxnIdRecentHistory get(final TransactionID txnId) {
+        if (!isEncodable(txnId)) {
+            return overflow.get(txnId);
+        }
+        return find(k0(txnId), k1(txnId), k2(txnId), k3(txnId));
+    }
+
+    public boolean containsKey(final TransactionID txnId) {
+        return get(txnId) != null;
+    }
+
+    /**
+     * Returns the recent history of the given transaction id, creating an empty history for it if
+     * it does not have one yet.
+     *
+     * @param txnId the transaction id of interest
+     * @return its (possibly new) history
+     */
+    public TxnIdRecentHistory getOrCreate(final TransactionID txnId) {
+        if (!isEncodable(txnId)) {
+            return overflow.computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory());
+        }
+        final var k0 = k0(txnId);
+        final var k1 = k1(txnId);
+        final var k2 = k2(txnId);
+        final var k3 = k3(txnId);
+        final var existing = find(k0, k1, k2, k3);
+        if (existing != null) {
+            return existing;
+        }
+        final var stamp = lock.writeLock();
+        try {
+            if (4 * (size + 1) > 3 * histories.length) {
+                rehash(2 * histories.length);
+            }
+            final var mask = histories.length - 1;
+            var slot = slotFor(k0, k1, k2, k3, mask);
+            while (histories[slot] != null) {
+                if (keyMatches(keys, slot, k0, k1, k2, k3)) {
+                    return histories[slot];
+                }
+                slot = (slot + 1) & mask;
+            }
+            final var created = new TxnIdRecentHistory();
+            final var base = slot * KEY_WIDTH;
+            keys[base] = k0;
+            keys[base + 1] = k1;
+            keys[base + 2] = k2;
+            keys[base + 3] = k3;
+            histories[slot] = created;
+            size++;
+            return created;
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Removes the recent history of the given transaction id, if it has one.
+     *
+     * @param txnId the transaction id whose history should be removed
+     */
+    public void remove(final TransactionID txnId) {
+        if (!isEncodable(txnId)) {
+            overflow.remove(txnId);
+            return;
+        }
+        final var k0 = k0(txnId);
+        final var k1 = k1(txnId);
+        final var k2 = k2(txnId);
+        final var k3 = k3(txnId);
+        final var stamp = lock.writeLock();
+        try {
+            final var mask = histories.length - 1;
+            var slot = slotFor(k0, k1, k2, k3, mask);
+            while (histories[slot] != null) {
+                if (keyMatches(keys, slot, k0, k1, k2, k3)) {
+                    deleteAt(slot, mask);
+                    size--;
+                    return;
+                }
+                slot = (slot + 1) & mask;
+            }
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * Performs the given action on every recent history in the store, in no particular order.
+     *
+     * @param action the action to perform
+     */
+    public void forEach(final Consumer<TxnIdRecentHistory> action) {
+        final var stamp = lock.readLock();
+        try {
+            for (final var history : histories) {
+                if (history != null) {
+                    action.accept(history);
+                }
+            }
+        } finally {
+            lock.unlockRead(stamp);
+        }
+        overflow.values().forEach(action);
+    }
+
+    public void clear() {
+        final var stamp = lock.writeLock();
+        try {
+            size = 0;
+            keys = new long[MIN_CAPACITY * KEY_WIDTH];
+            histories = new TxnIdRecentHistory[MIN_CAPACITY];
+        } finally {
+            lock.unlockWrite(stamp);
+        }
+        overflow.clear();
+    }
+
+    public int size() {
+        final var stamp = lock.readLock();
+        try {
+            return size + overflow.size();
+        } finally {
+            lock.unlockRead(stamp);
+        }
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    /* --- Internal helpers --- */
+    private TxnIdRecentHistory find(final long k0, final long k1, final long k2, final long k3) {
+        var stamp = lock.tryOptimisticRead();
+        var history = lookup(k0, k1, k2, k3);
+        if (!lock.validate(stamp)) {
+            stamp = lock.readLock();
+            try {
+                history = lookup(k0, k1, k2, k3);
+            } finally {
+                lock.unlockRead(stamp);
+            }
+        }
+        return history;
+    }
+
+    private TxnIdRecentHistory lookup(final long k0, final long k1, final long k2, final long k3) {
+        // Under an optimistic read these may be mid-rehash; the caller re-validates the stamp
+        final var curKeys = keys;
+        final var curHistories = histories;
+        final var mask = curHistories.length - 1;
+        if (curKeys.length != curHistories.length * KEY_WIDTH) {
+            return null;
+        }
+        var slot = slotFor(k0, k1, k2, k3, mask);
+        for (int probes = 0; probes < curHistories.length; probes++) {
+            final var history = curHistories[slot];
+            if (history == null) {
+                return null;
+            }
+            if (keyMatches(curKeys, slot, k0, k1, k2, k3)) {
+                return history;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    private void deleteAt(int hole, final int mask) {
+        var slot = hole;
+        while (true) {
+            slot = (slot + 1) & mask;
+            if (histories[slot] == null) {
+                break;
+            }
+            final var base = slot * KEY_WIDTH;
+            final var home =
+                    slotFor(keys[base], keys[base + 1], keys[base + 2], keys[base + 3], mask);
+            // Entries whose home is cyclically in (hole, slot] are still reachable from their home
+            final var reachable =
+                    (hole <= slot) ? (hole < home && home <= slot) : (hole < home || home <= slot);
+            if (!reachable) {
+                System.arraycopy(keys, base, keys, hole * KEY_WIDTH, KEY_WIDTH);
+                histories[hole] = histories[slot];
+                hole = slot;
+            }
+        }
+        Arrays.fill(keys, hole * KEY_WIDTH, (hole + 1) * KEY_WIDTH, 0L);
+        histories[hole] = null;
+    }
+
+    private void rehash(final int newCapacity) {
+        final var oldKeys = keys;
+        final var oldHistories = histories;
+        final var newKeys = new long[newCapacity * KEY_WIDTH];
+        final var newHistories = new TxnIdRecentHistory[newCapacity];
+        final var mask = newCapacity - 1;
+        for (int i = 0; i < oldHistories.length; i++) {
+            if (oldHistories[i] == null) {
+                continue;
+            }
+            final var base = i * KEY_WIDTH;
+            var slot =
+                    slotFor(
+                            oldKeys[base],
+                            oldKeys[base + 1],
+                            oldKeys[base + 2],
+                            oldKeys[base + 3],
+                            mask);
+            while (newHistories[slot] != null) {
+                slot = (slot + 1) & mask;
+            }
+            System.arraycopy(oldKeys, base, newKeys, slot * KEY_WIDTH, KEY_WIDTH);
+            newHistories[slot] = oldHistories[i];
+        }
+        keys = newKeys;
+        histories = newHistories;
+    }
+
+    private static boolean keyMatches(
+            final long[] keys,
+            final int slot,
+            final long k0,
+            final long k1,
+            final long k2,
+            final long k3) {
+        final var base = slot * KEY_WIDTH;
+        return keys[base] == k0
+                && keys[base + 1] == k1
+                && keys[base + 2] == k2
+                && keys[base + 3] == k3;
+    }
+
+    static int slotFor(final long k0, final long k1, final long k2, final long k3, final int mask) {
+        var h = k0 * 0x9E3779B97F4A7C15L;
+        h = (h ^ k1) * 0xC2B2AE3D27D4EB4FL;
+        h = (h ^ k2) * 0x165667B19E3779F9L;
+        h = (h ^ k3) * 0x9E3779B97F4A7C15L;
+        h ^= h >>> 29;
+        return (int) h & mask;
+    }
+
+    static boolean isEncodable(final TransactionID txnId) {
+        if (!txnId.hasAccountID() || !txnId.hasTransactionValidStart()) {
+            return false;
+        }
+        final var payer = txnId.getAccountID();
+        return payer.getAccountCase() == AccountID.AccountCase.ACCOUNTNUM
+                && 0 <= payer.getShardNum()
+                && payer.getShardNum() <= MAX_SHARD
+                && 0 <= payer.getRealmNum()
+                && payer.getRealmNum() <= MAX_REALM;
+    }
+
+    private static long k0(final TransactionID txnId) {
+        return txnId.getAccountID().getAccountNum();
+    }
+
+    private static long k1(final TransactionID txnId) {
+        return txnId.getTransactionValidStart().getSeconds();
+    }
+
+    private static long k2(final TransactionID txnId) {
+        return ((long) txnId.getTransactionValidStart().getNanos() << 32)
+                | (txnId.getNonce() & 0xFFFFFFFFL);
+    }
+
+    private static long k3(final TransactionID txnId) {
+        final var payer = txnId.getAccountID();
+        return (payer.getShardNum() << 33)
+                | (payer.getRealmNum() << 1)
+                | (txnId.getScheduled() ? 1L : 0L);
+    }
+
+    /* --- Only used by unit tests --- */
+    @VisibleForTesting
+    int capacity() {
+        return histories.length;
+    }
+
+    @VisibleForTesting
+    int overflowSize() {
+        return overflow.size();
+    }
+}
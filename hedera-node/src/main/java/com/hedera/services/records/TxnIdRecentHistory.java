@@ -27,13 +27,12 @@ import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.txns.diligence.DuplicateClassification;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
-import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Set;
-import java.util.stream.Stream;
 
 /**
  * Manages the recent history of a {@code TransactionID}. This history consists of records, where
@@ -52,30 +51,36 @@ import java.util.stream.Stream;
  *       consensus <i>after</i> a previous classifiable transaction submitted by the same node.)
  * </ol>
  *
- * <p>The implementation uses two linked lists of records, one for classifiable records and one for
- * unclassifiable. We ensure node duplicates can be identified in constant time (depending only on
- * the number of nodes in the network) by keeping all the non-node duplicates at the start of the
- * classifiable record list in a prefix of length {@code numDuplicatesFromDifferentNodes}.
+ * <p>The implementation keeps both kinds of records in a single packed array, the classifiable
+ * records first and then the unclassifiable records, so a history costs one array instead of
+ * linked-list nodes per record; and almost every history has exactly one record. We ensure node
+ * duplicates can be identified in constant time (depending only on the number of nodes in the
+ * network) by keeping all the non-node duplicates at the start of the classifiable records in a
+ * prefix of length {@code numDuplicatesFromDifferentNodes}.
  *
  * <p>So to classify a new record from node X as either unique, duplicate, or node duplicate, we
- * only need to iterate through the first {@code numDuplicatesFromDifferentNodes} records in the
- * classifiable list. If none of these records were submitted by node X, the new record cannot be a
- * node duplicate. We then insert it at position {@code numDuplicatesFromDifferentNodes}, and
- * increment {@code numDuplicatesFromDifferentNodes++}. (If any <i>were</i> submitted by node X, of
- * course the new record is a node duplicate; and we just add it to the very end of the classifiable
- * list, leaving {@code numDuplicatesFromDifferentNodes} unchanged.)
+ * only need to iterate through the first {@code numDuplicatesFromDifferentNodes} classifiable
+ * records. If none of these records were submitted by node X, the new record cannot be a node
+ * duplicate. We then insert it at position {@code numDuplicatesFromDifferentNodes}, and increment
+ * {@code numDuplicatesFromDifferentNodes++}. (If any <i>were</i> submitted by node X, of course the
+ * new record is a node duplicate; and we just add it after the last classifiable record, leaving
+ * {@code numDuplicatesFromDifferentNodes} unchanged.)
+ *
+ * <p>Records staged during a restart or reconnect are kept at the end of the same array until
+ * {@link #observeStaged()} replays them.
  */
 public class TxnIdRecentHistory {
     private static final Comparator<RichInstant> RI_CMP =
             comparingLong(RichInstant::getSeconds).thenComparingInt(RichInstant::getNanos);
     private static final Comparator<ExpirableTxnRecord> CONSENSUS_TIME_COMPARATOR =
             comparing(ExpirableTxnRecord::getConsensusTime, RI_CMP);
+    private static final ExpirableTxnRecord[] NO_RECORDS = new ExpirableTxnRecord[0];
 
     private int numDuplicatesFromDifferentNodes = 0;
-
-    List<ExpirableTxnRecord> memory = null;
-    List<ExpirableTxnRecord> classifiableRecords = null;
-    List<ExpirableTxnRecord> unclassifiableRecords = null;
+    private int numClassifiable = 0;
+    private int numUnclassifiable = 0;
+    private int numStaged = 0;
+    private ExpirableTxnRecord[] records = NO_RECORDS;
 
     private static final Set<ResponseCodeEnum> UNCLASSIFIABLE_STATUSES =
             EnumSet.of(INVALID_NODE_ACCOUNT, INVALID_PAYER_SIGNATURE);
@@ -88,11 +93,8 @@ public class TxnIdRecentHistory {
      * @return the highest-priority record if any exists, null otherwise
      */
     public ExpirableTxnRecord priorityRecord() {
-        if (areForgotten(classifiableRecords)) {
-            return areForgotten(unclassifiableRecords) ? null : unclassifiableRecords.get(0);
-        } else {
-            return classifiableRecords.get(0);
-        }
+        // The classifiable records come first, so either way the priority record is at index 0
+        return isForgotten() ? null : records[0];
     }
 
     /**
@@ -101,9 +103,14 @@ public class TxnIdRecentHistory {
      * @return all the duplicate historical records in chronological order
      */
     public List<ExpirableTxnRecord> allDuplicateRecords() {
-        return Stream.concat(duplicateClassifiableRecords(), duplicateUnclassifiableRecords())
-                .sorted(CONSENSUS_TIME_COMPARATOR)
-                .toList();
+        final var end = numClassifiable + numUnclassifiable;
+        if (end <= 1) {
+            return Collections.emptyList();
+        }
+        // Every record except the priority record at index 0 is a duplicate
+        final var duplicates = Arrays.copyOfRange(records, 1, end);
+        Arrays.sort(duplicates, CONSENSUS_TIME_COMPARATOR);
+        return List.of(duplicates);
     }
 
     /**
@@ -112,7 +119,7 @@ public class TxnIdRecentHistory {
      * @return true if there are no records in the recent history, false otherwise
      */
     public boolean isForgotten() {
-        return areForgotten(classifiableRecords) && areForgotten(unclassifiableRecords);
+        return numClassifiable == 0 && numUnclassifiable == 0;
     }
 
     /**
@@ -125,7 +132,8 @@ public class TxnIdRecentHistory {
     public void observe(
             final ExpirableTxnRecord expirableTxnRecord, final ResponseCodeEnum status) {
         if (UNCLASSIFIABLE_STATUSES.contains(status)) {
-            addUnclassifiable(expirableTxnRecord);
+            insertAt(numClassifiable + numUnclassifiable, expirableTxnRecord);
+            numUnclassifiable++;
         } else {
             addClassifiable(expirableTxnRecord);
         }
@@ -140,10 +148,8 @@ public class TxnIdRecentHistory {
      * @param unorderedRecord a record from a saved state that belongs to this recent history
      */
     public void stage(final ExpirableTxnRecord unorderedRecord) {
-        if (memory == null) {
-            memory = new ArrayList<>();
-        }
-        memory.add(unorderedRecord);
+        insertAt(size(), unorderedRecord);
+        numStaged++;
     }
 
     /**
@@ -152,14 +158,16 @@ public class TxnIdRecentHistory {
      * order.
      */
     public void observeStaged() {
-        memory.sort(CONSENSUS_TIME_COMPARATOR);
-        memory.forEach(
-                expirableTxnRecord ->
-                        this.observe(
-                                expirableTxnRecord,
-                                ResponseCodeEnum.valueOf(
-                                        expirableTxnRecord.getReceipt().getStatus())));
-        memory = null;
+        final var observed = numClassifiable + numUnclassifiable;
+        final var staged = Arrays.copyOfRange(records, observed, observed + numStaged);
+        Arrays.fill(records, observed, observed + numStaged, null);
+        numStaged = 0;
+        Arrays.sort(staged, CONSENSUS_TIME_COMPARATOR);
+        for (final var expirableTxnRecord : staged) {
+            observe(
+                    expirableTxnRecord,
+                    ResponseCodeEnum.valueOf(expirableTxnRecord.getReceipt().getStatus()));
+        }
     }
 
     /**
@@ -169,12 +177,34 @@ public class TxnIdRecentHistory {
      * @param now the current consensus second
      */
     public void forgetExpiredAt(final long now) {
-        if (classifiableRecords != null) {
-            forgetFromClassifiableList(now);
+        final var size = size();
+        int kept = 0;
+        int discardedDuplicatesFromDifferentNodes = 0;
+        for (int i = 0; i < numClassifiable; i++) {
+            final var nextRecord = records[i];
+            if (nextRecord.getExpiry() <= now) {
+                if (i < numDuplicatesFromDifferentNodes) {
+                    discardedDuplicatesFromDifferentNodes++;
+                }
+            } else {
+                records[kept++] = nextRecord;
+            }
+        }
+        final var keptClassifiable = kept;
+        for (int i = numClassifiable, n = numClassifiable + numUnclassifiable; i < n; i++) {
+            final var nextRecord = records[i];
+            if (nextRecord.getExpiry() > now) {
+                records[kept++] = nextRecord;
+            }
         }
-        if (unclassifiableRecords != null) {
-            forgetFromUnclassifiableList(now);
+        final var keptUnclassifiable = kept - keptClassifiable;
+        for (int i = numClassifiable + numUnclassifiable; i < size; i++) {
+            records[kept++] = records[i];
         }
+        Arrays.fill(records, kept, size, null);
+        numDuplicatesFromDifferentNodes -= discardedDuplicatesFromDifferentNodes;
+        numClassifiable = keptClassifiable;
+        numUnclassifiable = keptUnclassifiable;
     }
 
     /**
@@ -188,9 +218,8 @@ public class TxnIdRecentHistory {
         if (numDuplicatesFromDifferentNodes == 0) {
             return BELIEVED_UNIQUE;
         }
-        final var iter = classifiableRecords.listIterator();
         for (int i = 0; i < numDuplicatesFromDifferentNodes; i++) {
-            if (iter.next().getSubmittingMember() == submittingMember) {
+            if (records[i].getSubmittingMember() == submittingMember) {
                 return NODE_DUPLICATE;
             }
         }
@@ -198,91 +227,48 @@ public class TxnIdRecentHistory {
     }
 
     /* --- Internal helpers --- */
-    private Stream<ExpirableTxnRecord> duplicateClassifiableRecords() {
-        if (areForgotten(classifiableRecords) || classifiableRecords.size() == 1) {
-            return Stream.empty();
-        } else {
-            return classifiableRecords.subList(1, classifiableRecords.size()).stream();
-        }
-    }
-
-    private Stream<ExpirableTxnRecord> duplicateUnclassifiableRecords() {
-        final var startIndex = areForgotten(classifiableRecords) ? 1 : 0;
-        if (areForgotten(unclassifiableRecords) || unclassifiableRecords.size() <= startIndex) {
-            return Stream.empty();
-        } else {
-            return unclassifiableRecords.subList(startIndex, unclassifiableRecords.size()).stream();
-        }
-    }
-
     private void addClassifiable(final ExpirableTxnRecord expirableTxnRecord) {
-        if (classifiableRecords == null) {
-            classifiableRecords = new LinkedList<>();
-        }
-        int i = 0;
         final var submittingMember = expirableTxnRecord.getSubmittingMember();
-        final var iter = classifiableRecords.listIterator();
         boolean isNodeDuplicate = false;
-        while (i < numDuplicatesFromDifferentNodes) {
-            if (submittingMember == iter.next().getSubmittingMember()) {
+        for (int i = 0; i < numDuplicatesFromDifferentNodes; i++) {
+            if (submittingMember == records[i].getSubmittingMember()) {
                 isNodeDuplicate = true;
                 break;
             }
-            i++;
         }
         if (isNodeDuplicate) {
-            classifiableRecords.add(expirableTxnRecord);
+            insertAt(numClassifiable, expirableTxnRecord);
         } else {
+            insertAt(numDuplicatesFromDifferentNodes, expirableTxnRecord);
             numDuplicatesFromDifferentNodes++;
-            iter.add(expirableTxnRecord);
         }
+        numClassifiable++;
     }
 
-    private void addUnclassifiable(final ExpirableTxnRecord expirableTxnRecord) {
-        if (unclassifiableRecords == null) {
-            unclassifiableRecords = new LinkedList<>();
+    private void insertAt(final int i, final ExpirableTxnRecord expirableTxnRecord) {
+        final var size = size();
+        if (size == records.length) {
+            records = Arrays.copyOf(records, size == 0 ? 1 : 2 * size);
         }
-        unclassifiableRecords.add(expirableTxnRecord);
+        System.arraycopy(records, i, records, i + 1, size - i);
+        records[i] = expirableTxnRecord;
     }
 
-    private boolean areForgotten(final List<ExpirableTxnRecord> records) {
-        return records == null || records.isEmpty();
+    private int size() {
+        return numClassifiable + numUnclassifiable + numStaged;
     }
 
-    private void forgetFromUnclassifiableList(final long now) {
-        final var size = unclassifiableRecords.size();
-        if (size > 1) {
-            unclassifiableRecords.removeIf(
-                    expirableTxnRecord -> expirableTxnRecord.getExpiry() <= now);
-        } else if (size == 1) {
-            final var onlyRecord = unclassifiableRecords.get(0);
-            if (onlyRecord.getExpiry() <= now) {
-                unclassifiableRecords.clear();
-            }
-        }
+    /* --- Only used by unit tests --- */
+    List<ExpirableTxnRecord> classifiableRecords() {
+        return List.of(Arrays.copyOfRange(records, 0, numClassifiable));
     }
 
-    private void forgetFromClassifiableList(final long now) {
-        final var size = classifiableRecords.size();
-        if (size > 1) {
-            final var iter = classifiableRecords.iterator();
-            var discardedDuplicatesFromDifferentNodes = 0;
-            for (int i = 0; iter.hasNext(); i++) {
-                final var nextRecord = iter.next();
-                if (nextRecord.getExpiry() <= now) {
-                    iter.remove();
-                    if (i < numDuplicatesFromDifferentNodes) {
-                        discardedDuplicatesFromDifferentNodes++;
-                    }
-                }
-            }
-            numDuplicatesFromDifferentNodes -= discardedDuplicatesFromDifferentNodes;
-        } else if (size == 1) {
-            final var onlyRecord = classifiableRecords.get(0);
-            if (onlyRecord.getExpiry() <= now) {
-                classifiableRecords.clear();
-                numDuplicatesFromDifferentNodes = 0;
-            }
-        }
+    List<ExpirableTxnRecord> unclassifiableRecords() {
+        return List.of(
+                Arrays.copyOfRange(records, numClassifiable, numClassifiable + numUnclassifiable));
+    }
+
+    int numStaged() {
+        return numStaged;
     }
 }
@@ -17,57 +17,241 @@ package com.hedera.services.sigs;
 
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.ServicesState;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.sigs.order.SigReqsManager;
 import com.hedera.services.txns.prefetch.PrefetchProcessor;
+import com.hedera.services.txns.schedule.ScheduleLookAhead;
 import com.hedera.services.txns.span.ExpandHandleSpan;
-import com.swirlds.common.crypto.Cryptography;
+import com.hedera.services.utils.accessors.SwirldsTxnAccessor;
+import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.system.events.Event;
+import com.swirlds.common.system.transaction.Transaction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+/**
+ * Expands the signatures linked to each transaction in a pre-consensus event, and submits them to
+ * the {@link SigVerificationBatcher} for asynchronous verification.
+ *
+ * <p>When {@code sigs.expandInParallel=true} (off by default) and an event has more than one
+ * transaction, the work is done in stages on a small dedicated pool:
+ *
+ * <ol>
+ *   <li>Each transaction is parsed and its span expanded concurrently, on a worker pool.
+ *   <li>The parsed transactions are submitted for pre-fetch on the intake thread, in event order.
+ *   <li>If the latest signed state is usable, each transaction's signatures are expanded from it
+ *       concurrently; otherwise (or for any transaction whose concurrent expansion failed), they
+ *       are expanded on the intake thread.
+ *   <li>All the expanded signatures are submitted to the batcher together.
+ * </ol>
+ *
+ * In either mode, every transaction's span metadata and expanded signatures are in place before
+ * this method returns, so {@code handleTransaction} sees exactly what it would have seen from the
+ * sequential expansion; and the batcher is told to submit whatever signatures it still has
+ * pending, so none of them wait on the next event. Finally, the same signed state is given to the
+ * {@link ScheduleLookAhead} to prepare any schedules expiring in the next few seconds.
+ */
 @Singleton
 public class EventExpansion {
     private static final Logger log = LogManager.getLogger(EventExpansion.class);
 
-    private final Cryptography engine;
+    private static final int MAX_EXPANSION_THREADS = 8;
+    private static final int EXPANSION_QUEUE_CAPACITY = 1024;
+
+    private final Executor workers;
+    private final SigVerificationBatcher sigBatcher;
     private final SigReqsManager sigReqsManager;
     private final ExpandHandleSpan expandHandleSpan;
     private final PrefetchProcessor prefetchProcessor;
+    private final ScheduleLookAhead scheduleLookAhead;
+    private final GlobalDynamicProperties dynamicProperties;
 
     @Inject
     public EventExpansion(
-            final Cryptography engine,
+            final SigVerificationBatcher sigBatcher,
             final SigReqsManager sigReqsManager,
             final ExpandHandleSpan expandHandleSpan,
-            final PrefetchProcessor prefetchProcessor) {
-        this.engine = engine;
+            final PrefetchProcessor prefetchProcessor,
+            final ScheduleLookAhead scheduleLookAhead,
+            final GlobalDynamicProperties dynamicProperties) {
+        this(
+                expansionWorkers(),
+                sigBatcher,
+                sigReqsManager,
+                expandHandleSpan,
+                prefetchProcessor,
+                scheduleLookAhead,
+                dynamicProperties);
+    }
+
+    EventExpansion(
+            final Executor workers,
+            final SigVerificationBatcher sigBatcher,
+            final SigReqsManager sigReqsManager,
+            final ExpandHandleSpan expandHandleSpan,
+            final PrefetchProcessor prefetchProcessor,
+            final ScheduleLookAhead scheduleLookAhead,
+            final GlobalDynamicProperties dynamicProperties) {
+        this.workers = workers;
+        this.sigBatcher = sigBatcher;
         this.sigReqsManager = sigReqsManager;
         this.expandHandleSpan = expandHandleSpan;
         this.prefetchProcessor = prefetchProcessor;
+        this.scheduleLookAhead = scheduleLookAhead;
+        this.dynamicProperties = dynamicProperties;
     }
 
     public void expandAllSigs(final Event event, final ServicesState sourceState) {
-        event.forEachTransaction(
-                txn -> {
-                    try {
-                        final var accessor = expandHandleSpan.track(txn);
-                        // Submit the transaction for any pre-handle processing that can be
-                        // performed asynchronously; for
-                        // example, pre-fetching of contract bytecode; should start before
-                        // synchronous signature expansion
-                        prefetchProcessor.submit(accessor);
-                        sigReqsManager.expandSigs(sourceState, accessor);
-                        engine.verifyAsync(txn.getSignatures());
-                    } catch (final InvalidProtocolBufferException e) {
-                        log.warn("Event contained a non-GRPC transaction", e);
-                    } catch (final Exception race) {
-                        log.warn(
-                                "Unable to expand signatures, will be verified synchronously in"
-                                        + " handleTransaction",
-                                race);
-                    }
-                });
+        if (!dynamicProperties.expandSigsInParallel()) {
+            event.forEachTransaction(txn -> expandSequentially(txn, sourceState));
+        } else {
+            final List<Transaction> txns = new ArrayList<>();
+            event.forEachTransaction(txns::add);
+            if (txns.size() < 2) {
+                txns.forEach(txn -> expandSequentially(txn, sourceState));
+            } else {
+                expandInParallel(txns, sourceState);
+            }
+        }
+        sigBatcher.flushPending();
+        scheduleLookAhead.prepareFrom(sourceState);
+    }
+
+    private void expandSequentially(final Transaction txn, final ServicesState sourceState) {
+        try {
+            final var accessor = expandHandleSpan.track(txn);
+            // Submit the transaction for any pre-handle processing that can be performed
+            // asynchronously; for example, pre-fetching of contract bytecode; should start
+            // before synchronous signature expansion
+            prefetchProcessor.submit(accessor);
+            sigReqsManager.expandSigs(sourceState, accessor);
+            sigBatcher.submit(txn.getSignatures());
+        } catch (final InvalidProtocolBufferException e) {
+            log.warn("Event contained a non-GRPC transaction", e);
+        } catch (final Exception race) {
+            warnOfExpansionFailure(race);
+        }
+    }
+
+    private void expandInParallel(final List<Transaction> txns, final ServicesState sourceState) {
+        final var n = txns.size();
+        final var accessors = new SwirldsTxnAccessor[n];
+
+        forEachConcurrently(n, i -> accessors[i] = tryToTrack(txns.get(i)));
+        for (int i = 0; i < n; i++) {
+            if (accessors[i] != null) {
+                try {
+                    prefetchProcessor.submit(accessors[i]);
+                } catch (final Exception race) {
+                    warnOfExpansionFailure(race);
+                    accessors[i] = null;
+                }
+            }
+        }
+
+        final var needsRetry = new boolean[n];
+        if (sigReqsManager.prepareConcurrentExpansion(sourceState)) {
+            forEachConcurrently(n, i -> needsRetry[i] = !tryToExpandConcurrently(accessors[i]));
+        } else {
+            Arrays.fill(needsRetry, true);
+        }
+        for (int i = 0; i < n; i++) {
+            if (needsRetry[i] && accessors[i] != null) {
+                try {
+                    sigReqsManager.expandSigs(sourceState, accessors[i]);
+                } catch (final Exception race) {
+                    warnOfExpansionFailure(race);
+                    accessors[i] = null;
+                }
+            }
+        }
+
+        final List<TransactionSignature> batch = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            if (accessors[i] != null) {
+                batch.addAll(txns.get(i).getSignatures());
+            }
+        }
+        try {
+            sigBatcher.submit(batch);
+        } catch (final Exception race) {
+            warnOfExpansionFailure(race);
+        }
+    }
+
+    private SwirldsTxnAccessor tryToTrack(final Transaction txn) {
+        try {
+            return expandHandleSpan.track(txn);
+        } catch (final InvalidProtocolBufferException e) {
+            log.warn("Event contained a non-GRPC transaction", e);
+        } catch (final Exception race) {
+            warnOfExpansionFailure(race);
+        }
+        return null;
+    }
+
+    private boolean tryToExpandConcurrently(final SwirldsTxnAccessor accessor) {
+        if (accessor == null) {
+            return true;
+        }
+        try {
+            sigReqsManager.expandSigsConcurrently(accessor);
+            return true;
+        } catch (final Exception e) {
+            log.debug("Concurrent signature expansion failed, will retry on intake thread", e);
+            return false;
+        }
+    }
+
+    private void forEachConcurrently(final int n, final IntConsumer task) {
+        final var futures = new CompletableFuture<?>[n];
+        for (int i = 0; i < n; i++) {
+            final var j = i;
+            futures[i] = CompletableFuture.runAsync(() -> task.accept(j), workers);
+        }
+        CompletableFuture.allOf(futures).join();
+    }
+
+    private static Executor expansionWorkers() {
+        final var n =
+                Math.max(
+                        1,
+                        Math.min(
+                                MAX_EXPANSION_THREADS,
+                                Runtime.getRuntime().availableProcessors() / 2));
+        final var nextId = new AtomicInteger();
+        /* If the queue ever fills, the intake thread just does the work itself. */
+        return new ThreadPoolExecutor(
+                n,
+                n,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(EXPANSION_QUEUE_CAPACITY),
+                runnable -> {
+                    final var thread =
+                            new Thread(runnable, "sig-expansion-" + nextId.getAndIncrement());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.CallerRunsPolicy());
+    }
+
+    private void warnOfExpansionFailure(final Exception race) {
+        log.warn(
+                "Unable to expand signatures, will be verified synchronously in"
+                        + " handleTransaction",
+                race);
     }
 }
@@ -0,0 +1,288 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.sigs;
+
+import static com.swirlds.common.crypto.VerificationStatus.UNKNOWN;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.stats.SigVerificationStats;
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.SignatureType;
+import com.swirlds.common.crypto.TransactionSignature;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.LongSupplier;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Collects the signatures expanded by {@link EventExpansion}, and submits them to the platform's
+ * crypto engine in batches of at most {@code sigs.verificationBatchSize}. Whatever is still pending
+ * once an event has been expanded is submitted right away, so no signature waits on a later event
+ * (or the next round) to fill its batch.
+ *
+ * <p>Within a round, a signature identical to one already submitted (the same key signing the same
+ * bytes, as with a transaction submitted to several nodes) is not verified again. Instead its
+ * future waits on the first signature's verification, and then copies its status.
+ *
+ * <p>If the engine rejects a batch, its signatures are verified synchronously instead; so every
+ * submitted signature always ends up with a status (or a failed future) for {@code
+ * handleTransaction} to use.
+ */
+@Singleton
+public class SigVerificationBatcher {
+    private static final Logger log = LogManager.getLogger(SigVerificationBatcher.class);
+
+    // Bounds the number of signatures remembered for de-duplication if rounds stop coming; past
+    // it, new signatures are still verified, just not de-duplicated until the next round
+    static final int MAX_REMEMBERED_SIGS = 1 << 16;
+
+    private final Cryptography engine;
+    private final LongSupplier nanoClock;
+    private final SigVerificationStats stats;
+    private final GlobalDynamicProperties dynamicProperties;
+
+    // All guarded by this
+    private List<TransactionSignature> pending = new ArrayList<>();
+    private final Map<SigMaterial, TransactionSignature> submitted = new HashMap<>();
+    private final Deque<InFlightBatch> inFlight = new ArrayDeque<>();
+    private int numSubmittedThisRound = 0;
+    private int numDuplicatesThisRound = 0;
+
+    @Inject
+    public SigVerificationBatcher(
+            final Cryptography engine,
+            final SigVerificationStats stats,
+            final GlobalDynamicProperties dynamicProperties) {
+        this(engine, stats, dynamicProperties, System::nanoTime);
+    }
+
+    SigVerificationBatcher(
+            final Cryptography engine,
+            final SigVerificationStats stats,
+            final GlobalDynamicProperties dynamicProperties,
+            final LongSupplier nanoClock) {
+        this.engine = engine;
+        this.stats = stats;
+        this.nanoClock = nanoClock;
+        this.dynamicProperties = dynamicProperties;
+    }
+
+    /**
+     * Adds the given signatures to the pending batch, submitting it if it is now full.
+     *
+     * @param sigs the signatures to verify
+     */
+    public synchronized void submit(final List<TransactionSignature> sigs) {
+        recordVerifiedBatches();
+        for (final var sig : sigs) {
+            numSubmittedThisRound++;
+            final var material = new SigMaterial(sig);
+            final var prior =
+                    (submitted.size() < MAX_REMEMBERED_SIGS)
+                            ? submitted.putIfAbsent(material, sig)
+                            : submitted.get(material);
+            if (prior == null) {
+                pending.add(sig);
+            } else if (prior != sig) {
+                numDuplicatesThisRound++;
+                sig.setFuture(new DuplicateSigFuture(prior, sig));
+            }
+        }
+        if (pending.size() >= dynamicProperties.sigVerificationBatchSize()) {
+            submitPending();
+        }
+    }
+
+    /**
+     * Submits any pending signatures; called once all the signatures in an event have been
+     * submitted, since {@code handleTransaction} may need them before another event arrives.
+     */
+    public synchronized void flushPending() {
+        recordVerifiedBatches();
+        submitPending();
+    }
+
+    /**
+     * Submits any pending signatures, and forgets the round's signatures for de-duplication;
+     * called at the start of each consensus round, before any of its transactions are handled.
+     */
+    public synchronized void flushRound() {
+        recordVerifiedBatches();
+        submitPending();
+        stats.recordRoundDedup(numSubmittedThisRound, numDuplicatesThisRound);
+        numSubmittedThisRound = 0;
+        numDuplicatesThisRound = 0;
+        submitted.clear();
+    }
+
+    private void submitPending() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        final var batch = pending;
+        pending = new ArrayList<>();
+        stats.recordBatchSize(batch.size());
+        try {
+            engine.verifyAsync(batch);
+            inFlight.addLast(new InFlightBatch(batch.get(batch.size() - 1), nanoClock.getAsLong()));
+        } catch (final Exception e) {
+            log.warn("Unable to submit {} signatures, verifying synchronously", batch.size(), e);
+            verifySynchronously(batch);
+        }
+    }
+
+    private void verifySynchronously(final List<TransactionSignature> batch) {
+        try {
+            engine.verifySync(batch);
+        } catch (final Exception e) {
+            log.error("Unable to verify {} signatures, failing their futures", batch.size(), e);
+            final var failure = CompletableFuture.<Void>failedFuture(e);
+            batch.forEach(sig -> sig.setFuture(failure));
+        }
+    }
+
+    private void recordVerifiedBatches() {
+        final var now = nanoClock.getAsLong();
+        // The engine verifies each batch as a unit, so its last signature stands for all of them
+        while (!inFlight.isEmpty()
+                && inFlight.peekFirst().lastSig().getSignatureStatus() != UNKNOWN) {
+            stats.recordVerificationLatencyNanos(now - inFlight.removeFirst().submittedAt());
+        }
+    }
+
+    private record InFlightBatch(TransactionSignature lastSig, long submittedAt) {}
+
+    /**
+     * The bytes that determine a signature's verification status. (All our signatures come from
+     * {@link com.hedera.services.sigs.factories.PlatformSigFactory}, whose contents are the
+     * signature followed by the signed data; so these plus the signature length fix the message.)
+     */
+    private static final class SigMaterial {
+        private final byte[] publicKey;
+        private final byte[] contents;
+        private final int sigOffset;
+        private final int sigLength;
+        private final SignatureType type;
+        private final int hashCode;
+
+        private SigMaterial(final TransactionSignature sig) {
+            this.publicKey = sig.getExpandedPublicKeyDirect();
+            this.contents = sig.getContentsDirect();
+            this.sigOffset = sig.getSignatureOffset();
+            this.sigLength = sig.getSignatureLength();
+            this.type = sig.getSignatureType();
+            var result = Arrays.hashCode(publicKey);
+            result = 31 * result + Arrays.hashCode(contents);
+            result = 31 * result + sigOffset;
+            this.hashCode = 31 * result + sigLength;
+        }
+
+        @Override
+        public boolean equals(final Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (o == null || SigMaterial.class != o.getClass()) {
+                return false;
+            }
+            final var that = (SigMaterial) o;
+            return hashCode == that.hashCode
+                    && sigOffset == that.sigOffset
+                    && sigLength == that.sigLength
+                    && type == that.type
+                    && Arrays.equals(publicKey, that.publicKey)
+                    && Arrays.equals(contents, that.contents);
+        }
+
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+    }
+
+    /** Completes a duplicate signature with the status of the signature it duplicates. */
+    @VisibleForTesting
+    static final class DuplicateSigFuture implements Future<Void> {
+        private final TransactionSignature original;
+        private final TransactionSignature duplicate;
+
+        DuplicateSigFuture(
+                final TransactionSignature original, final TransactionSignature duplicate) {
+            this.original = original;
+            this.duplicate = duplicate;
+        }
+
+        @Override
+        public boolean cancel(final boolean mayInterruptIfRunning) {
+            return false;
+        }
+
+        @Override
+        public boolean isCancelled() {
+            return false;
+        }
+
+        @Override
+        public boolean isDone() {
+            return original.getSignatureStatus() != UNKNOWN;
+        }
+
+        @Override
+        public Void get() throws InterruptedException, ExecutionException {
+            // The original may have been verified synchronously, without a future
+            if (original.getSignatureStatus() == UNKNOWN) {
+                original.waitForFuture().get();
+            }
+            duplicate.setSignatureStatus(original.getSignatureStatus());
+            return null;
+        }
+
+        @Override
+        public Void get(final long timeout, final TimeUnit unit)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            if (original.getSignatureStatus() == UNKNOWN) {
+                original.waitForFuture().get(timeout, unit);
+            }
+            duplicate.setSignatureStatus(original.getSignatureStatus());
+            return null;
+        }
+    }
+
+    /* --- Only used by unit tests --- */
+    @VisibleForTesting
+    synchronized int numPending() {
+        return pending.size();
+    }
+
+    @VisibleForTesting
+    synchronized int numInFlight() {
+        return inFlight.size();
+    }
+}
@@ -73,7 +73,7 @@ public final class StateChildrenSigMetadataLookup implements SigMetadataLookup {
         this.aliasManager = new AliasManager(stateChildren::aliases);
 
         final var blobStore = new FcBlobsBytesStore(stateChildren::storage);
-        this.metaMap = MetadataMapFactory.metaMapFrom(blobStore);
+        this.metaMap = MetadataMapFactory.typedMetaMapFrom(blobStore);
     }
 
     @Override
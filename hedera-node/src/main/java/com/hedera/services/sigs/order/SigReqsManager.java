@@ -55,7 +55,11 @@ import org.apache.logging.log4j.Logger;
  * the otherwise necessary step of re-expanding signatures in {@link
  * Rationalization#performFor(SwirldsTxnAccessor)}.
  *
- * <p>This class is <b>NOT</b> thread-safe.
+ * <p>This class is <b>NOT</b> thread-safe, except for concurrent calls to {@link
+ * #expandSigsConcurrently(SwirldsTxnAccessor)} after a successful {@link
+ * #prepareConcurrentExpansion(ServicesState)}. Each thread making such calls uses its own {@link
+ * SigRequirements} (and metadata lookups) over the prepared immutable state, so the only thing
+ * they share is that state's children, which are only read.
  */
 @Singleton
 public class SigReqsManager {
@@ -81,6 +85,9 @@ public class SigReqsManager {
     private SigRequirements immutableSigReqs;
     // Used to expand signatures when one or more of the above conditions is not met
     private SigRequirements workingSigReqs;
+    // Used by each thread expanding signatures concurrently from the prepared immutable state
+    private final ThreadLocal<SigRequirements> concurrentSigReqs =
+            ThreadLocal.withInitial(this::newImmutableStateSigReqs);
 
     @Inject
     public SigReqsManager(
@@ -112,6 +119,45 @@ public class SigReqsManager {
         expandFromWorkingState(accessor);
     }
 
+    /**
+     * Prepares to expand the signatures of a batch of transactions from the given immutable state
+     * using concurrent calls to {@link #expandSigsConcurrently(SwirldsTxnAccessor)}. Must be called
+     * from the (single) event intake thread before any such calls.
+     *
+     * <p>Only the immutable state supports concurrent expansion, since everything read from it is
+     * fixed for the duration of the batch; if it is unavailable or disabled, returns false and the
+     * caller should fall back to {@link #expandSigs(ServicesState, SwirldsTxnAccessor)}.
+     *
+     * @param sourceState an immutable state appropriate for signature expansion
+     * @return whether the batch can be expanded concurrently
+     */
+    public boolean prepareConcurrentExpansion(final ServicesState sourceState) {
+        if (!dynamicProperties.expandSigsFromImmutableState() || !isUsable(sourceState)) {
+            return false;
+        }
+        try {
+            immutableChildren.updateFromImmutable(
+                    sourceState, sourceState.getTimeOfLastHandledTxn());
+            ensureImmutableStateSigReqsIsConstructed();
+            return true;
+        } catch (Exception e) {
+            log.warn("Unable to prepare concurrent signature expansion from immutable state", e);
+            return false;
+        }
+    }
+
+    /**
+     * Expands the platform signatures linked to the given transaction from the immutable state
+     * given to the last successful call to {@link #prepareConcurrentExpansion(ServicesState)}. Safe
+     * to call from multiple threads at once, as long as no other method of this manager is called
+     * until they have all returned.
+     *
+     * @param accessor a transaction that needs linked signatures expanded
+     */
+    public void expandSigsConcurrently(final SwirldsTxnAccessor accessor) {
+        expansionHelper.expandIn(accessor, concurrentSigReqs.get(), accessor.getPkToSigsFn());
+    }
+
     /**
      * Uses the working state to expand the platform signatures linked to the given transaction.
      *
@@ -163,12 +209,16 @@ public class SigReqsManager {
 
     private void ensureImmutableStateSigReqsIsConstructed() {
         if (immutableSigReqs == null) {
-            final var lookup =
-                    lookupsFactory.from(fileNumbers, immutableChildren, TOKEN_META_TRANSFORM);
-            immutableSigReqs = sigReqsFactory.from(lookup, signatureWaivers);
+            immutableSigReqs = newImmutableStateSigReqs();
         }
     }
 
+    private SigRequirements newImmutableStateSigReqs() {
+        final var lookup =
+                lookupsFactory.from(fileNumbers, immutableChildren, TOKEN_META_TRANSFORM);
+        return sigReqsFactory.from(lookup, signatureWaivers);
+    }
+
     @FunctionalInterface
     interface SigReqsFactory {
         SigRequirements from(SigMetadataLookup sigMetaLookup, SignatureWaivers signatureWaivers);
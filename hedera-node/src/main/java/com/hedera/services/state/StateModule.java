@@ -21,10 +21,13 @@ import com.google.protobuf.ByteString;
 import com.hedera.services.config.NetworkInfo;
 import com.hedera.services.context.MutableStateChildren;
 import com.hedera.services.context.annotations.CompositeProps;
+import com.hedera.services.context.primitives.QueryResponseCache;
 import com.hedera.services.context.primitives.StateView;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.context.properties.PropertySource;
 import com.hedera.services.ethereum.EthTxData;
 import com.hedera.services.ethereum.EthTxSigs;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.ledger.ids.EntityIdSource;
 import com.hedera.services.ledger.ids.SeqNoEntityIdSource;
 import com.hedera.services.legacy.core.jproto.JEd25519Key;
@@ -205,8 +208,35 @@ public interface StateModule {
     static Supplier<StateView> provideStateViews(
             final ScheduleStore scheduleStore,
             final MutableStateChildren workingState,
-            final NetworkInfo networkInfo) {
-        return () -> new StateView(scheduleStore, workingState, networkInfo);
+            final NetworkInfo networkInfo,
+            final QueryResponseCache queryResponseCache) {
+        return () -> new StateView(scheduleStore, workingState, networkInfo, queryResponseCache);
+    }
+
+    @Provides
+    @Singleton
+    static QueryResponseCache provideQueryResponseCache(
+            final NodeLocalProperties nodeLocalProperties,
+            final SigImpactHistorian sigImpactHistorian) {
+        final var queryResponseCache = new QueryResponseCache(nodeLocalProperties);
+        sigImpactHistorian.registerChangeListener(
+                new SigImpactHistorian.ChangeListener() {
+                    @Override
+                    public void entityChanged(final long entityNum) {
+                        queryResponseCache.invalidate(entityNum);
+                    }
+
+                    @Override
+                    public void changesCommitted() {
+                        queryResponseCache.confirmInvalidations();
+                    }
+
+                    @Override
+                    public void windowInvalidated() {
+                        queryResponseCache.invalidateAll();
+                    }
+                });
+        return queryResponseCache;
     }
 
     @Provides
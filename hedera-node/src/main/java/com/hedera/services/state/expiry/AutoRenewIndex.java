@@ -0,0 +1,235 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.expiry;
+
+import static com.hedera.services.utils.MiscUtils.forEach;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.services.config.HederaNumbers;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.submerkle.SequenceNumber;
+import com.hedera.services.utils.EntityNum;
+import com.swirlds.merkle.map.MerkleMap;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.function.Supplier;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * An expiry-ordered index of the accounts and contracts that {@link EntityAutoExpiry} may need to
+ * renew or remove, which lets it visit only the entities that are actually due instead of every
+ * entity number.
+ *
+ * <p>Only entities of the types in {@code autoRenew.targetTypes} are indexed; if those types
+ * change, the index is rebuilt on the next {@link #advanceTo(long)}. Entities that are not yet due
+ * wait in a priority queue ordered by expiry; once consensus time passes their queued expiry they
+ * move to a bitset of due entity numbers, which {@link EntityAutoExpiry} walks in the same circular
+ * numeric order as its legacy scan.
+ *
+ * <p>The index is maintained lazily. Newly created entities are picked up by number (since
+ * numbers are assigned in increasing order), and a queued expiry is only guaranteed to be <i>no
+ * later</i> than the entity's real expiry (which never decreases). So every candidate is re-checked
+ * against state before {@link #nextDueAfter(long, long)} returns it, and an entity whose expiry
+ * was extended is just re-queued. This makes the sequence of returned entities a pure function of
+ * state and consensus time, whether or not this node rebuilt the index after a restart or
+ * reconnect.
+ */
+@Singleton
+public class AutoRenewIndex {
+    public static final long NONE = -1L;
+
+    private static final Comparator<ExpiryEvent<Long>> EXPIRY_ORDER =
+            Comparator.comparingLong(ExpiryEvent<Long>::expiry)
+                    .thenComparingLong(ExpiryEvent::id);
+
+    private final long firstIndexedNum;
+    private final Supplier<SequenceNumber> seqNo;
+    private final Supplier<MerkleMap<EntityNum, MerkleAccount>> accounts;
+    private final GlobalDynamicProperties dynamicProperties;
+    private final PriorityQueueExpiries<Long> notYetDue = new PriorityQueueExpiries<>(EXPIRY_ORDER);
+    /* Bit i is set if entity number (firstIndexedNum + i) is due. */
+    private final BitSet dueNums = new BitSet();
+
+    private int dueCount;
+    private long nextNumToIndex;
+    private long lastDueExpiry;
+    private boolean indexesAccounts;
+    private boolean indexesContracts;
+    private volatile int numDue = 0;
+
+    @Inject
+    public AutoRenewIndex(
+            final HederaNumbers hederaNumbers,
+            final Supplier<SequenceNumber> seqNo,
+            final Supplier<MerkleMap<EntityNum, MerkleAccount>> accounts,
+            final GlobalDynamicProperties dynamicProperties) {
+        this.seqNo = seqNo;
+        this.accounts = accounts;
+        this.dynamicProperties = dynamicProperties;
+        this.firstIndexedNum = hederaNumbers.numReservedSystemEntities() + 1;
+        this.nextNumToIndex = firstIndexedNum;
+        this.indexesAccounts = dynamicProperties.shouldAutoRenewAccounts();
+        this.indexesContracts = dynamicProperties.shouldAutoRenewContracts();
+    }
+
+    /**
+     * Rebuilds the index from the accounts and contracts in state, on restart or reconnect (or
+     * when the auto-renew target types change).
+     */
+    public void reviewExistingEntities() {
+        notYetDue.reset();
+        dueNums.clear();
+        dueCount = 0;
+        numDue = 0;
+        indexesAccounts = dynamicProperties.shouldAutoRenewAccounts();
+        indexesContracts = dynamicProperties.shouldAutoRenewContracts();
+        nextNumToIndex = Math.max(firstIndexedNum, seqNo.get().current());
+        forEach(
+                accounts.get(),
+                (num, account) -> {
+                    final var literalNum = num.longValue();
+                    if (literalNum >= firstIndexedNum && isTargeted(account)) {
+                        notYetDue.track(literalNum, account.getExpiry());
+                    }
+                });
+    }
+
+    /**
+     * Indexes any entities created since the last call, and moves every entity whose queued expiry
+     * is at or before the given consensus second into the due set.
+     *
+     * @param now the current consensus second
+     */
+    public void advanceTo(final long now) {
+        if (indexesAccounts != dynamicProperties.shouldAutoRenewAccounts()
+                || indexesContracts != dynamicProperties.shouldAutoRenewContracts()) {
+            reviewExistingEntities();
+        }
+        final var curAccounts = accounts.get();
+        final var wrapNum = seqNo.get().current();
+        for (; nextNumToIndex < wrapNum; nextNumToIndex++) {
+            final var account = curAccounts.get(EntityNum.fromLong(nextNumToIndex));
+            if (account != null && isTargeted(account)) {
+                notYetDue.track(nextNumToIndex, account.getExpiry());
+            }
+        }
+        while (notYetDue.hasExpiringAt(now)) {
+            markDue(notYetDue.expireNextAt(now));
+        }
+        numDue = dueCount;
+    }
+
+    /**
+     * Returns the number of the first due entity after the given number, wrapping around to the
+     * lowest due number if necessary; or {@link #NONE} if no entity is due. Entities that turn out
+     * to be gone, or no longer due, are dropped from the due set along the way.
+     *
+     * @param num the number to start after
+     * @param now the current consensus second
+     * @return the next due entity number, or {@link #NONE}
+     */
+    public long nextDueAfter(final long num, final long now) {
+        final var curAccounts = accounts.get();
+        long candidate;
+        while ((candidate = dueCandidateAfter(num)) != NONE) {
+            final var account = curAccounts.get(EntityNum.fromLong(candidate));
+            if (account != null && account.getExpiry() <= now) {
+                lastDueExpiry = account.getExpiry();
+                numDue = dueCount;
+                return candidate;
+            }
+            requeue(candidate, account);
+        }
+        numDue = 0;
+        return NONE;
+    }
+
+    /**
+     * Drops an entity that was just visited from the due set, whatever the outcome of the visit;
+     * and re-queues it by its current expiry, unless it was removed.
+     *
+     * @param num the visited entity number
+     */
+    public void refresh(final long num) {
+        requeue(num, accounts.get().get(EntityNum.fromLong(num)));
+        numDue = dueCount;
+    }
+
+    /**
+     * Returns the expiry of the entity most recently returned by {@link #nextDueAfter(long,
+     * long)}.
+     *
+     * @return the expiry of the last due entity
+     */
+    public long lastDueExpiry() {
+        return lastDueExpiry;
+    }
+
+    /**
+     * Returns how many entities were in the due set after the last update; safe to call from any
+     * thread.
+     *
+     * @return the number of due entities
+     */
+    public int numDue() {
+        return numDue;
+    }
+
+    private boolean isTargeted(final MerkleAccount account) {
+        return account.isSmartContract() ? indexesContracts : indexesAccounts;
+    }
+
+    private long dueCandidateAfter(final long num) {
+        final var from = (int) Math.max(0L, num + 1 - firstIndexedNum);
+        var next = dueNums.nextSetBit(from);
+        if (next < 0 && from > 0) {
+            next = dueNums.nextSetBit(0);
+        }
+        return (next < 0) ? NONE : firstIndexedNum + next;
+    }
+
+    private void markDue(final long num) {
+        final var i = (int) (num - firstIndexedNum);
+        if (!dueNums.get(i)) {
+            dueNums.set(i);
+            dueCount++;
+        }
+    }
+
+    private void requeue(final long num, final MerkleAccount account) {
+        final var i = (int) (num - firstIndexedNum);
+        if (dueNums.get(i)) {
+            dueNums.clear(i);
+            dueCount--;
+        }
+        if (account != null) {
+            notYetDue.track(num, account.getExpiry());
+        }
+    }
+
+    /* --- Only used by unit tests --- */
+    @VisibleForTesting
+    int numNotYetDue() {
+        return notYetDue.getAllExpiries().size();
+    }
+
+    @VisibleForTesting
+    long getNextNumToIndex() {
+        return nextNumToIndex;
+    }
+}
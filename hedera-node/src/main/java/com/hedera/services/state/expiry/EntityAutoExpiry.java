@@ -26,6 +26,7 @@ import com.hedera.services.state.merkle.MerkleNetworkContext;
 import com.hedera.services.state.submerkle.SequenceNumber;
 import com.hedera.services.throttling.ExpiryThrottle;
 import java.time.Instant;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Supplier;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -44,6 +45,11 @@ public class EntityAutoExpiry {
     private final Supplier<MerkleNetworkContext> networkCtx;
     private final Supplier<SequenceNumber> seqNo;
     private final ConsensusTimeTracker consensusTimeTracker;
+    private final AutoRenewIndex dueIndex;
+
+    private final LongAdder totalScanned = new LongAdder();
+    private final LongAdder totalTouched = new LongAdder();
+    private volatile long lagSecs = 0L;
 
     @Inject
     public EntityAutoExpiry(
@@ -54,8 +60,10 @@ public class EntityAutoExpiry {
             final NetworkCtxManager networkCtxManager,
             final Supplier<MerkleNetworkContext> networkCtx,
             final ConsensusTimeTracker consensusTimeTracker,
-            final Supplier<SequenceNumber> seqNo) {
+            final Supplier<SequenceNumber> seqNo,
+            final AutoRenewIndex dueIndex) {
         this.seqNo = seqNo;
+        this.dueIndex = dueIndex;
         this.networkCtx = networkCtx;
         this.networkCtxManager = networkCtxManager;
         this.expiryThrottle = expiryThrottle;
@@ -91,12 +99,21 @@ public class EntityAutoExpiry {
         }
 
         final var curNetworkCtx = networkCtx.get();
-        final int maxEntitiesToTouch = dynamicProps.autoRenewMaxNumberOfEntitiesToRenewOrDelete();
-        final int maxEntitiesToScan = dynamicProps.autoRenewNumberOfEntitiesToScan();
         if (networkCtxManager.currentTxnIsFirstInConsensusSecond()) {
             curNetworkCtx.clearAutoRenewSummaryCounts();
         }
         autoExpiryCycle.beginCycle(currentConsTime);
+        if (dynamicProps.shouldAutoRenewScanByExpiry()) {
+            scanDueEntities(curNetworkCtx, currentConsTime.getEpochSecond());
+        } else {
+            scanAllEntities(curNetworkCtx, wrapNum);
+        }
+        autoExpiryCycle.endCycle();
+    }
+
+    private void scanAllEntities(final MerkleNetworkContext curNetworkCtx, final long wrapNum) {
+        final int maxEntitiesToTouch = dynamicProps.autoRenewMaxNumberOfEntitiesToRenewOrDelete();
+        final int maxEntitiesToScan = dynamicProps.autoRenewNumberOfEntitiesToScan();
 
         int i = 1;
         int entitiesTouched = 0;
@@ -123,19 +140,116 @@ public class EntityAutoExpiry {
             }
         }
 
-        autoExpiryCycle.endCycle();
-        curNetworkCtx.updateAutoRenewSummaryCounts(i - 1, entitiesTouched);
+        finishScan(curNetworkCtx, scanNum, advanceScan, i - 1, entitiesTouched);
+    }
+
+    /**
+     * Visits, in circular numeric order starting after the last scanned entity, only the entities
+     * the {@link AutoRenewIndex} reports as due; and stops after one full circle, so each due
+     * entity is processed at most once per cycle (unless it has more work still to do). Once an
+     * entity's visit is finished, whatever its outcome, it leaves the due set until a later cycle.
+     */
+    private void scanDueEntities(final MerkleNetworkContext curNetworkCtx, final long now) {
+        final int maxEntitiesToTouch = dynamicProps.autoRenewMaxNumberOfEntitiesToRenewOrDelete();
+        final int maxEntitiesToScan = dynamicProps.autoRenewNumberOfEntitiesToScan();
+        dueIndex.advanceTo(now);
+
+        int entitiesScanned = 0;
+        int entitiesTouched = 0;
+        final long startNum = curNetworkCtx.lastScannedEntity();
+        long scanNum = startNum;
+        boolean wrapped = false;
+        boolean advanceScan = true;
+        long maxLag = 0L;
+        EntityProcessResult result;
+        log.debug("Auto-renew scan of due entities beginning from last DONE @ {}", scanNum);
+        while (entitiesScanned < maxEntitiesToScan) {
+            if (advanceScan) {
+                final long nextNum = dueIndex.nextDueAfter(scanNum, now);
+                if (nextNum == AutoRenewIndex.NONE) {
+                    break;
+                }
+                if (nextNum <= scanNum) {
+                    if (wrapped) {
+                        break;
+                    }
+                    wrapped = true;
+                }
+                if (wrapped && nextNum > startNum) {
+                    break;
+                }
+                scanNum = nextNum;
+                maxLag = Math.max(maxLag, now - dueIndex.lastDueExpiry());
+            }
+            entitiesScanned++;
+            if ((result = autoExpiryCycle.process(scanNum)) != NOTHING_TO_DO) {
+                entitiesTouched++;
+                advanceScan = (result == DONE);
+            } else {
+                advanceScan = true;
+            }
+            if (advanceScan) {
+                dueIndex.refresh(scanNum);
+            }
+            if ((entitiesTouched >= maxEntitiesToTouch)
+                    || (!consensusTimeTracker.hasMoreStandaloneRecordTime())) {
+                break;
+            }
+        }
+
+        lagSecs = maxLag;
+        finishScan(curNetworkCtx, scanNum, advanceScan, entitiesScanned, entitiesTouched);
+    }
+
+    private void finishScan(
+            final MerkleNetworkContext curNetworkCtx,
+            final long scanNum,
+            final boolean advanceScan,
+            final int entitiesScanned,
+            final int entitiesTouched) {
+        totalScanned.add(entitiesScanned);
+        totalTouched.add(entitiesTouched);
+        curNetworkCtx.updateAutoRenewSummaryCounts(entitiesScanned, entitiesTouched);
         curNetworkCtx.updateLastScannedEntity(advanceScan ? scanNum : scanNum - 1);
         log.debug(
                 "Auto-renew scan finished at {} with {}/{} scanned/touched (Total this second:"
                         + " {}/{})",
                 scanNum,
-                i - 1,
+                entitiesScanned,
                 entitiesTouched,
                 curNetworkCtx.getEntitiesScannedThisSecond(),
                 curNetworkCtx.getEntitiesTouchedThisSecond());
     }
 
+    /**
+     * Returns the total number of entities processed by all auto-renew scans since startup.
+     *
+     * @return the total entities scanned
+     */
+    public long totalScanned() {
+        return totalScanned.sum();
+    }
+
+    /**
+     * Returns the total number of entities renewed or removed (or partially removed) by all
+     * auto-renew scans since startup.
+     *
+     * @return the total entities touched
+     */
+    public long totalTouched() {
+        return totalTouched.sum();
+    }
+
+    /**
+     * Returns, for the last scan of due entities, the longest time any entity it processed had
+     * been expired; that is, how far behind expiry processing is running.
+     *
+     * @return the latest expiry lag in seconds
+     */
+    public long lagSecs() {
+        return lagSecs;
+    }
+
     private long next(long scanNum, final long wrapNum) {
         return (++scanNum >= wrapNum) ? firstEntityToScan : scanNum;
     }
@@ -16,10 +16,10 @@
 package com.hedera.services.state.expiry;
 
 import static com.hedera.services.utils.MiscUtils.forEach;
-import static java.util.Comparator.comparing;
 
 import com.hedera.services.config.HederaNumbers;
 import com.hedera.services.ledger.SigImpactHistorian;
+import com.hedera.services.records.TxnIdHistories;
 import com.hedera.services.records.TxnIdRecentHistory;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.submerkle.EntityId;
@@ -29,11 +29,7 @@ import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.swirlds.fcqueue.FCQueue;
 import com.swirlds.merkle.map.MerkleMap;
-import java.util.AbstractMap;
-import java.util.ArrayList;
 import java.util.Comparator;
-import java.util.List;
-import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import javax.inject.Inject;
@@ -64,11 +60,10 @@ public class ExpiryManager {
     private final long realm;
 
     private final SigImpactHistorian sigImpactHistorian;
-    private final Map<TransactionID, TxnIdRecentHistory> txnHistories;
+    private final TxnIdHistories txnHistories;
     private final Supplier<MerkleMap<EntityNum, MerkleAccount>> accounts;
 
-    private final MonotonicFullQueueExpiries<Long> payerRecordExpiries =
-            new MonotonicFullQueueExpiries<>();
+    private final TimingWheelExpiries payerRecordExpiries = new TimingWheelExpiries();
     private final PriorityQueueExpiries<Pair<Long, Consumer<EntityId>>> shortLivedEntityExpiries =
             new PriorityQueueExpiries<>(PQ_CMP);
 
@@ -76,7 +71,7 @@ public class ExpiryManager {
     public ExpiryManager(
             final HederaNumbers hederaNums,
             final SigImpactHistorian sigImpactHistorian,
-            final Map<TransactionID, TxnIdRecentHistory> txnHistories,
+            final TxnIdHistories txnHistories,
             final Supplier<MerkleMap<EntityNum, MerkleAccount>> accounts) {
         this.accounts = accounts;
         this.txnHistories = txnHistories;
@@ -120,17 +115,12 @@ public class ExpiryManager {
         txnHistories.clear();
         payerRecordExpiries.reset();
 
-        final var payerExpiries = new ArrayList<Map.Entry<Long, Long>>();
         final var currentAccounts = accounts.get();
         forEach(
                 currentAccounts,
-                (id, account) ->
-                        stageExpiringRecords(id.longValue(), account.records(), payerExpiries));
-        payerExpiries.sort(
-                comparing(Map.Entry<Long, Long>::getValue).thenComparing(Map.Entry::getKey));
-        payerExpiries.forEach(entry -> payerRecordExpiries.track(entry.getKey(), entry.getValue()));
+                (id, account) -> stageExpiringRecords(id.longValue(), account.records()));
 
-        txnHistories.values().forEach(TxnIdRecentHistory::observeStaged);
+        txnHistories.forEach(TxnIdRecentHistory::observeStaged);
     }
 
     /**
@@ -151,14 +141,16 @@ public class ExpiryManager {
     }
 
     private void purgeExpiredRecordsAt(final long now) {
-        final var currentAccounts = accounts.get();
-        while (payerRecordExpiries.hasExpiringAt(now)) {
-            final var key = EntityNum.fromLong(payerRecordExpiries.expireNextAt(now));
-
-            final var mutableAccount = currentAccounts.getForModify(key);
-            final var mutableRecords = mutableAccount.records();
-            purgeExpiredFrom(mutableRecords, now);
+        if (!payerRecordExpiries.hasExpiringAt(now)) {
+            return;
         }
+        final var currentAccounts = accounts.get();
+        payerRecordExpiries.expireAllAt(
+                now,
+                num -> {
+                    final var key = EntityNum.fromLong(num);
+                    purgeExpiredFrom(currentAccounts.getForModify(key).records(), now);
+                });
     }
 
     private void purgeExpiredFrom(final FCQueue<ExpirableTxnRecord> records, final long now) {
@@ -185,26 +177,16 @@ public class ExpiryManager {
         }
     }
 
-    private void stageExpiringRecords(
-            final Long num,
-            final FCQueue<ExpirableTxnRecord> records,
-            final List<Map.Entry<Long, Long>> expiries) {
-        long lastAdded = -1;
+    private void stageExpiringRecords(final long num, final FCQueue<ExpirableTxnRecord> records) {
         for (final var expirableTxnRecord : records) {
             stage(expirableTxnRecord);
-            final var expiry = expirableTxnRecord.getExpiry();
-            if (expiry != lastAdded) {
-                expiries.add(new AbstractMap.SimpleImmutableEntry<>(num, expiry));
-                lastAdded = expiry;
-            }
+            payerRecordExpiries.track(num, expirableTxnRecord.getExpiry());
         }
     }
 
     private void stage(final ExpirableTxnRecord expirableTxnRecord) {
         final var txnId = expirableTxnRecord.getTxnId().toGrpc();
-        txnHistories
-                .computeIfAbsent(txnId, ignore -> new TxnIdRecentHistory())
-                .stage(expirableTxnRecord);
+        txnHistories.getOrCreate(txnId).stage(expirableTxnRecord);
     }
 
     private EntityId entityWith(final long num) {
@@ -0,0 +1,267 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.expiry;
+
+import com.google.common.annotations.VisibleForTesting;
+import java.util.Arrays;
+import java.util.function.LongConsumer;
+
+/**
+ * A timing wheel of per-second buckets of {@code long} ids (at this time, payer account numbers)
+ * that have something expiring in that consensus second. Each bucket is a primitive array with the
+ * ids in insertion order, and an id is added to a bucket at most once; so a payer with hundreds of
+ * records expiring in the same second costs one {@code long} in that bucket, and no per-record
+ * objects at all.
+ *
+ * <p>The wheel has a power-of-two number of slots, and a bucket for second {@code s} lives in slot
+ * {@code s & (numSlots - 1)}. The wheel doubles whenever the tracked seconds would no longer fit in
+ * one turn, so unlike {@link MonotonicFullQueueExpiries}, expiries can be tracked in any order.
+ * This means rebuilding from saved state needs no sort; and {@link #expireAllAt(long,
+ * LongConsumer)} only visits the ids actually expiring, plus each second on the wheel at most once.
+ */
+public class TimingWheelExpiries {
+    private static final int MIN_SLOTS = 256;
+    private static final int INITIAL_BUCKET_CAPACITY = 4;
+    private static final int MAX_LINEAR_DEDUPE = 16;
+    private static final long NO_ID = -1L;
+
+    /* While any bucket is non-empty, the earliest and latest seconds with a non-empty bucket */
+    private long earliest = 0L;
+    private long latest = -1L;
+    private int numBuckets = 0;
+    private long[] seconds = new long[MIN_SLOTS];
+    private int[] sizes = new int[MIN_SLOTS];
+    private long[][] ids = new long[MIN_SLOTS][];
+    private long[][] seen = new long[MIN_SLOTS][];
+
+    /** Forgets all tracked expiries, keeping the wheel at its minimum size. */
+    public void reset() {
+        earliest = 0L;
+        latest = -1L;
+        numBuckets = 0;
+        seconds = new long[MIN_SLOTS];
+        sizes = new int[MIN_SLOTS];
+        ids = new long[MIN_SLOTS][];
+        seen = new long[MIN_SLOTS][];
+    }
+
+    /**
+     * Tracks that the given (non-negative) id has something expiring at the given consensus
+     * second. Tracking the same id and second more than once has no further effect.
+     *
+     * @param id the id with an expiration
+     * @param expiry the consensus second of the expiration
+     */
+    public void track(final long id, final long expiry) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Cannot track negative id " + id);
+        }
+        if (numBuckets == 0) {
+            earliest = expiry;
+            latest = expiry;
+        } else {
+            final var lo = Math.min(earliest, expiry);
+            final var hi = Math.max(latest, expiry);
+            if (hi - lo >= seconds.length) {
+                growToFit(hi - lo + 1);
+            }
+            earliest = lo;
+            latest = hi;
+        }
+        final var slot = slotOf(expiry);
+        if (sizes[slot] == 0) {
+            seconds[slot] = expiry;
+            numBuckets++;
+        }
+        addToBucket(slot, id);
+    }
+
+    /**
+     * Indicates if any id has something expiring at or before the given consensus second.
+     *
+     * @param now the consensus second
+     * @return whether {@link #expireAllAt(long, LongConsumer)} would expire anything
+     */
+    public boolean hasExpiringAt(final long now) {
+        return numBuckets > 0 && earliest <= now;
+    }
+
+    /**
+     * Removes every bucket for a second at or before the given consensus second, passing each of
+     * their ids to the given action in order of expiry, and then insertion.
+     *
+     * @param now the consensus second
+     * @param action the action to take with each expiring id
+     */
+    public void expireAllAt(final long now, final LongConsumer action) {
+        if (!hasExpiringAt(now)) {
+            return;
+        }
+        final var last = Math.min(now, latest);
+        for (long second = earliest; second <= last; second++) {
+            final var slot = slotOf(second);
+            final var n = sizes[slot];
+            if (n == 0) {
+                continue;
+            }
+            final var bucket = ids[slot];
+            clearBucket(slot);
+            for (int i = 0; i < n; i++) {
+                action.accept(bucket[i]);
+            }
+        }
+        var next = last + 1;
+        while (next <= latest && !hasBucketFor(next)) {
+            next++;
+        }
+        earliest = next;
+    }
+
+    private void addToBucket(final int slot, final long id) {
+        final var n = sizes[slot];
+        var bucket = ids[slot];
+        if (n > 0 && (bucket[n - 1] == id || contains(slot, id))) {
+            return;
+        }
+        if (bucket == null) {
+            bucket = ids[slot] = new long[INITIAL_BUCKET_CAPACITY];
+        } else if (n == bucket.length) {
+            bucket = ids[slot] = Arrays.copyOf(bucket, 2 * n);
+        }
+        bucket[n] = id;
+        sizes[slot] = n + 1;
+        if (n + 1 > MAX_LINEAR_DEDUPE) {
+            addToSeen(slot, id);
+        }
+    }
+
+    private boolean contains(final int slot, final long id) {
+        final var n = sizes[slot];
+        if (n <= MAX_LINEAR_DEDUPE) {
+            final var bucket = ids[slot];
+            for (int i = 0; i < n; i++) {
+                if (bucket[i] == id) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        final var table = seen[slot];
+        final var mask = table.length - 1;
+        for (var i = mix(id) & mask; ; i = (i + 1) & mask) {
+            if (table[i] == NO_ID) {
+                return false;
+            } else if (table[i] == id) {
+                return true;
+            }
+        }
+    }
+
+    private void addToSeen(final int slot, final long id) {
+        final var n = sizes[slot];
+        var table = seen[slot];
+        var rebuild = (n == MAX_LINEAR_DEDUPE + 1);
+        if (table == null || 2 * n > table.length) {
+            table = seen[slot] = new long[Integer.highestOneBit(4 * n - 1) << 1];
+            rebuild = true;
+        }
+        if (rebuild) {
+            // The bucket already includes the new id
+            Arrays.fill(table, NO_ID);
+            final var bucket = ids[slot];
+            for (int i = 0; i < n; i++) {
+                insert(table, bucket[i]);
+            }
+        } else {
+            insert(table, id);
+        }
+    }
+
+    private void clearBucket(final int slot) {
+        // Keep the arrays for re-use; the dedupe set is rebuilt if the bucket grows large again
+        sizes[slot] = 0;
+        numBuckets--;
+    }
+
+    private boolean hasBucketFor(final long second) {
+        final var slot = slotOf(second);
+        return sizes[slot] > 0 && seconds[slot] == second;
+    }
+
+    private void growToFit(final long span) {
+        var numSlots = seconds.length;
+        while (numSlots < span) {
+            numSlots *= 2;
+        }
+        final var newSeconds = new long[numSlots];
+        final var newSizes = new int[numSlots];
+        final var newIds = new long[numSlots][];
+        final var newSeen = new long[numSlots][];
+        final var newMask = numSlots - 1;
+        for (int slot = 0; slot < seconds.length; slot++) {
+            if (sizes[slot] > 0) {
+                final var newSlot = (int) (seconds[slot] & newMask);
+                newSeconds[newSlot] = seconds[slot];
+                newSizes[newSlot] = sizes[slot];
+                newIds[newSlot] = ids[slot];
+                newSeen[newSlot] = seen[slot];
+            }
+        }
+        seconds = newSeconds;
+        sizes = newSizes;
+        ids = newIds;
+        seen = newSeen;
+    }
+
+    private int slotOf(final long second) {
+        return (int) (second & (seconds.length - 1));
+    }
+
+    private static void insert(final long[] table, final long id) {
+        final var mask = table.length - 1;
+        var i = mix(id) & mask;
+        while (table[i] != NO_ID) {
+            i = (i + 1) & mask;
+        }
+        table[i] = id;
+    }
+
+    private static int mix(final long id) {
+        final var h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /* --- Only used by unit tests --- */
+    @VisibleForTesting
+    int numSlots() {
+        return seconds.length;
+    }
+
+    @VisibleForTesting
+    int numBuckets() {
+        return numBuckets;
+    }
+
+    @VisibleForTesting
+    int bucketSize(final long second) {
+        return hasBucketFor(second) ? sizes[slotOf(second)] : 0;
+    }
+
+    @VisibleForTesting
+    long getEarliest() {
+        return earliest;
+    }
+}
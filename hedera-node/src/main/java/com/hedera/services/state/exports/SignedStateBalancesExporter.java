@@ -17,9 +17,10 @@ package com.hedera.services.state.exports;
 
 import static com.hedera.services.context.primitives.StateView.doBoundedIteration;
 import static com.hedera.services.context.properties.PropertyNames.LEDGER_TOTAL_TINY_BAR_FLOAT;
-import static com.hedera.services.ledger.HederaLedger.ACCOUNT_ID_COMPARATOR;
 import static com.hedera.services.utils.EntityIdUtils.readableId;
 
+import com.google.common.annotations.VisibleForTesting;
+import com.google.protobuf.CodedOutputStream;
 import com.hedera.services.ServicesState;
 import com.hedera.services.context.annotations.CompositeProps;
 import com.hedera.services.context.primitives.StateView;
@@ -41,15 +42,24 @@ import com.hederahashgraph.api.proto.java.TokenID;
 import com.swirlds.common.system.NodeId;
 import com.swirlds.merkle.map.MerkleMap;
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.math.BigInteger;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
+import java.nio.file.Path;
 import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
+import java.util.Deque;
 import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import java.util.concurrent.TimeUnit;
 import java.util.function.UnaryOperator;
 import javax.inject.Inject;
@@ -58,6 +68,21 @@ import org.apache.commons.lang3.time.StopWatch;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+/**
+ * Exports the balances in a signed state as an {@link AllAccountBalances} protobuf file, and signs
+ * it.
+ *
+ * <p>To keep peak heap small, the exporter never materializes the full {@link AllAccountBalances}
+ * message. Instead it sorts just the numbers of the accounts in the state (8 bytes per account),
+ * splits them into fixed-size partitions, summarizes a bounded number of partitions at a time on a
+ * {@link ForkJoinPool}, and streams each partition's balances&mdash;which are already in account
+ * order, since the partitions are disjoint and ascending&mdash;to a {@link FileChannel} as
+ * length-delimited {@code allAccounts} entries. The resulting bytes are identical to those of the
+ * equivalent fully-built message, so the file is hashed and signed exactly as before.
+ *
+ * <p>The file is written under a temporary name and only moved into place once the total float is
+ * validated.
+ */
 @Singleton
 public class SignedStateBalancesExporter implements BalancesExporter {
     private static final Logger log = LogManager.getLogger(SignedStateBalancesExporter.class);
@@ -74,6 +99,15 @@ public class SignedStateBalancesExporter implements BalancesExporter {
             "Created balance signature file '{}'.";
 
     private static final String PROTO_FILE_EXTENSION = ".pb";
+    private static final String IN_PROGRESS_SUFFIX = ".tmp";
+
+    private static final int ACCOUNTS_PER_PARTITION = 10_000;
+    private static final int PARTITIONS_IN_FLIGHT_PER_WORKER = 4;
+    private static final int OUTPUT_BUFFER_SIZE = 1 << 16;
+
+    /** Shared by all exports; its workers are daemon threads, so it never needs to be shut down. */
+    private static final ForkJoinPool SHARED_EXPORT_POOL =
+            new ForkJoinPool(Runtime.getRuntime().availableProcessors());
 
     private Instant nextExportTime = null;
 
@@ -85,15 +119,13 @@ public class SignedStateBalancesExporter implements BalancesExporter {
     SigFileWriter sigFileWriter = new StandardSigFileWriter();
     FileHashReader hashReader = new Sha384HashReader();
     DirectoryAssurance directories = loc -> Files.createDirectories(Paths.get(loc));
+    ForkJoinPool exportPool = SHARED_EXPORT_POOL;
+    int accountsPerPartition = ACCOUNTS_PER_PARTITION;
 
     private String lastUsedExportDir = UNKNOWN_EXPORT_DIR;
-    private BalancesSummary summary;
 
     private final int exportPeriod;
 
-    static final Comparator<SingleAccountBalances> SINGLE_ACCOUNT_BALANCES_COMPARATOR =
-            Comparator.comparing(SingleAccountBalances::getAccountID, ACCOUNT_ID_COMPARATOR);
-
     @Inject
     public SignedStateBalancesExporter(
             SystemExits systemExits,
@@ -142,42 +174,56 @@ public class SignedStateBalancesExporter implements BalancesExporter {
             return;
         }
         var watch = StopWatch.createStarted();
-        summary = summarized(signedState);
+        final var protoLoc =
+                lastUsedExportDir
+                        + consensusTime.toString().replace(":", "_")
+                        + "_Balances"
+                        + PROTO_FILE_EXTENSION;
+        final var inProgressLoc = Paths.get(protoLoc + IN_PROGRESS_SUFFIX);
+        final BigInteger totalFloat;
+        try {
+            totalFloat = exportBalancesProtoFile(signedState, consensusTime, inProgressLoc);
+        } catch (IOException e) {
+            log.error(BAD_EXPORT_ATTEMPT_ERROR_MSG_TPL, protoLoc, e);
+            deleteQuietly(inProgressLoc);
+            return;
+        }
         final var expected = BigInteger.valueOf(expectedFloat);
-        if (expected.equals(summary.totalFloat())) {
+        if (expected.equals(totalFloat)) {
             log.info(
-                    "Took {}ms to summarize signed state balances",
+                    "Took {}ms to summarize and stream signed state balances",
                     watch.getTime(TimeUnit.MILLISECONDS));
-            toProtoFile(consensusTime);
+            if (publish(inProgressLoc, protoLoc)) {
+                tryToSign(protoLoc);
+            }
+            log.info(
+                    " -> Took {}ms to export and sign proto balances file at {}",
+                    watch.getTime(TimeUnit.MILLISECONDS),
+                    consensusTime);
         } else {
+            deleteQuietly(inProgressLoc);
             log.error(
                     "Signed state @ {} had total balance {} not {}; exiting",
                     consensusTime,
-                    summary.totalFloat(),
+                    totalFloat,
                     expectedFloat);
             systemExits.fail(1);
         }
     }
 
-    private void toProtoFile(Instant exportTimeStamp) {
-        var watch = StopWatch.createStarted();
-
-        var builder = AllAccountBalances.newBuilder();
-        summarizeAsProto(exportTimeStamp, builder);
-        var protoLoc =
-                lastUsedExportDir
-                        + exportTimeStamp.toString().replace(":", "_")
-                        + "_Balances"
-                        + PROTO_FILE_EXTENSION;
-        boolean exportSucceeded = exportBalancesProtoFile(builder, protoLoc);
-        if (exportSucceeded) {
-            tryToSign(protoLoc);
+    private boolean publish(final Path inProgressLoc, final String protoLoc) {
+        try {
+            Files.move(
+                    inProgressLoc,
+                    Paths.get(protoLoc),
+                    StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.error(BAD_EXPORT_ATTEMPT_ERROR_MSG_TPL, protoLoc, e);
+            deleteQuietly(inProgressLoc);
+            return false;
         }
-
-        log.info(
-                " -> Took {}ms to export and sign proto balances file at {}",
-                watch.getTime(TimeUnit.MILLISECONDS),
-                exportTimeStamp);
+        return true;
     }
 
     private void tryToSign(String fileLoc) {
@@ -193,54 +239,138 @@ public class SignedStateBalancesExporter implements BalancesExporter {
         }
     }
 
-    private void summarizeAsProto(Instant exportTimeStamp, AllAccountBalances.Builder builder) {
-        builder.setConsensusTimestamp(
-                Timestamp.newBuilder()
-                        .setSeconds(exportTimeStamp.getEpochSecond())
-                        .setNanos(exportTimeStamp.getNano()));
-        builder.addAllAllAccounts(summary.orderedBalances());
+    /**
+     * Writes the balances in the given state to the given location, returning the total float
+     * they sum to. Fields are written in the same order a serialized {@link AllAccountBalances}
+     * would list them&mdash;the consensus timestamp first, then one length-delimited entry per
+     * account&mdash;so the file is byte-for-byte the same as {@code AllAccountBalances#writeTo}.
+     */
+    private BigInteger exportBalancesProtoFile(
+            final ServicesState signedState, final Instant exportTimeStamp, final Path loc)
+            throws IOException {
+        try (final var channel =
+                FileChannel.open(
+                        loc,
+                        StandardOpenOption.CREATE,
+                        StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+            final var out =
+                    CodedOutputStream.newInstance(
+                            Channels.newOutputStream(channel), OUTPUT_BUFFER_SIZE);
+            out.writeMessage(
+                    AllAccountBalances.CONSENSUSTIMESTAMP_FIELD_NUMBER,
+                    Timestamp.newBuilder()
+                            .setSeconds(exportTimeStamp.getEpochSecond())
+                            .setNanos(exportTimeStamp.getNano())
+                            .build());
+            final var totalFloat =
+                    streamBalancesFrom(
+                            signedState,
+                            balances ->
+                                    out.writeMessage(
+                                            AllAccountBalances.ALLACCOUNTS_FIELD_NUMBER,
+                                            balances));
+            out.flush();
+            return totalFloat;
+        }
     }
 
-    private boolean exportBalancesProtoFile(
-            AllAccountBalances.Builder allAccountsBuilder, String protoLoc) {
-        try (FileOutputStream fout = new FileOutputStream(protoLoc)) {
-            allAccountsBuilder.build().writeTo(fout);
-        } catch (IOException e) {
-            log.error(BAD_EXPORT_ATTEMPT_ERROR_MSG_TPL, protoLoc, e);
-            return false;
+    @VisibleForTesting
+    BalancesSummary summarized(ServicesState signedState) {
+        final List<SingleAccountBalances> accountBalances = new ArrayList<>();
+        try {
+            final var totalFloat = streamBalancesFrom(signedState, accountBalances::add);
+            return new BalancesSummary(totalFloat, accountBalances);
+        } catch (IOException unreachable) {
+            throw new IllegalStateException(unreachable);
         }
-        return true;
     }
 
-    BalancesSummary summarized(ServicesState signedState) {
-        long nodeBalanceWarnThreshold = dynamicProperties.nodeBalanceWarningThreshold();
-        BigInteger totalFloat = BigInteger.valueOf(0L);
-        List<SingleAccountBalances> accountBalances = new ArrayList<>();
-
-        var nodeIds = MiscUtils.getNodeAccounts(signedState.addressBook());
-        var tokens = signedState.tokens();
-        var accounts = signedState.accounts();
-        var tokenAssociations = signedState.tokenAssociations();
-        for (var entry : accounts.entrySet()) {
-            var id = entry.getKey();
-            var account = entry.getValue();
-            if (!account.isDeleted()) {
-                var accountId = id.toGrpcAccountId();
-                var balance = account.getBalance();
-                if (nodeIds.contains(accountId) && balance < nodeBalanceWarnThreshold) {
-                    log.warn(LOW_NODE_BALANCE_WARN_MSG_TPL, readableId(accountId), balance);
+    /**
+     * Summarizes the balances of all non-deleted accounts in the given state, passing them to the
+     * given sink in account order.
+     *
+     * <p>At most {@code PARTITIONS_IN_FLIGHT_PER_WORKER} partitions per pool worker are
+     * submitted ahead of the partition currently being drained to the sink, so no more than that
+     * many partitions' worth of balances are ever live on the heap at once.
+     *
+     * @param signedState the state to summarize
+     * @param sink the consumer of the per-account balances
+     * @return the total float of the summarized accounts
+     * @throws IOException if the sink fails
+     */
+    private BigInteger streamBalancesFrom(
+            final ServicesState signedState, final BalancesSink sink) throws IOException {
+        final var ctx =
+                new SummaryContext(
+                        MiscUtils.getNodeAccounts(signedState.addressBook()),
+                        dynamicProperties.nodeBalanceWarningThreshold(),
+                        dynamicProperties.shouldExportTokenBalances(),
+                        signedState.accounts(),
+                        signedState.tokens(),
+                        signedState.tokenAssociations());
+        final var nums = sortedAccountNums(signedState.accounts());
+        final var numAccounts = nums.length;
+        final var maxInFlight = exportPool.getParallelism() * PARTITIONS_IN_FLIGHT_PER_WORKER;
+
+        var totalFloat = BigInteger.ZERO;
+        final Deque<ForkJoinTask<PartitionSummary>> inFlight = new ArrayDeque<>();
+        try {
+            int nextFrom = 0;
+            while (nextFrom < numAccounts || !inFlight.isEmpty()) {
+                while (nextFrom < numAccounts && inFlight.size() < maxInFlight) {
+                    final var from = nextFrom;
+                    final var to = Math.min(numAccounts, from + accountsPerPartition);
+                    inFlight.addLast(
+                            exportPool.submit(() -> summarizePartition(nums, from, to, ctx)));
+                    nextFrom = to;
                 }
-                totalFloat = totalFloat.add(BigInteger.valueOf(account.getBalance()));
-                SingleAccountBalances.Builder sabBuilder = SingleAccountBalances.newBuilder();
-                sabBuilder.setHbarBalance(balance).setAccountID(accountId);
-                if (dynamicProperties.shouldExportTokenBalances()) {
-                    addTokenBalances(account, sabBuilder, tokens, tokenAssociations);
+                final var partition = inFlight.removeFirst().join();
+                for (final var balances : partition.balances()) {
+                    sink.accept(balances);
                 }
-                accountBalances.add(sabBuilder.build());
+                totalFloat = totalFloat.add(BigInteger.valueOf(partition.hbarTotal()));
             }
+        } finally {
+            inFlight.forEach(task -> task.cancel(true));
         }
-        accountBalances.sort(SINGLE_ACCOUNT_BALANCES_COMPARATOR);
-        return new BalancesSummary(totalFloat, accountBalances);
+        return totalFloat;
+    }
+
+    private static long[] sortedAccountNums(final MerkleMap<EntityNum, MerkleAccount> accounts) {
+        final var nums = new long[accounts.size()];
+        int i = 0;
+        for (final var num : accounts.keySet()) {
+            nums[i++] = num.longValue();
+        }
+        Arrays.sort(nums);
+        return nums;
+    }
+
+    private PartitionSummary summarizePartition(
+            final long[] nums, final int from, final int to, final SummaryContext ctx) {
+        long hbarTotal = 0;
+        final List<SingleAccountBalances> balances = new ArrayList<>(to - from);
+        for (int i = from; i < to; i++) {
+            final var id = EntityNum.fromLong(nums[i]);
+            final var account = ctx.accounts().get(id);
+            if (account == null || account.isDeleted()) {
+                continue;
+            }
+            final var accountId = id.toGrpcAccountId();
+            final var balance = account.getBalance();
+            if (ctx.nodeIds().contains(accountId) && balance < ctx.nodeBalanceWarnThreshold()) {
+                log.warn(LOW_NODE_BALANCE_WARN_MSG_TPL, readableId(accountId), balance);
+            }
+            hbarTotal += balance;
+            final var sabBuilder = SingleAccountBalances.newBuilder();
+            sabBuilder.setHbarBalance(balance).setAccountID(accountId);
+            if (ctx.includeTokenBalances()) {
+                addTokenBalances(account, sabBuilder, ctx.tokens(), ctx.tokenAssociations());
+            }
+            balances.add(sabBuilder.build());
+        }
+        return new PartitionSummary(hbarTotal, balances);
     }
 
     private void addTokenBalances(
@@ -264,6 +394,14 @@ public class SignedStateBalancesExporter implements BalancesExporter {
         return TokenUnitBalance.newBuilder().setTokenId(id).setBalance(balance).build();
     }
 
+    private static void deleteQuietly(final Path loc) {
+        try {
+            Files.deleteIfExists(loc);
+        } catch (IOException ignore) {
+            log.warn("Could not remove incomplete balance file '{}'", loc);
+        }
+    }
+
     private boolean ensureExportDir(AccountID node) {
         var correctDir = dynamicProperties.pathToBalancesExportDir();
         if (!lastUsedExportDir.startsWith(correctDir)) {
@@ -283,4 +421,19 @@ public class SignedStateBalancesExporter implements BalancesExporter {
         }
         return true;
     }
+
+    @FunctionalInterface
+    private interface BalancesSink {
+        void accept(SingleAccountBalances balances) throws IOException;
+    }
+
+    private record SummaryContext(
+            Set<AccountID> nodeIds,
+            long nodeBalanceWarnThreshold,
+            boolean includeTokenBalances,
+            MerkleMap<EntityNum, MerkleAccount> accounts,
+            MerkleMap<EntityNum, MerkleToken> tokens,
+            MerkleMap<EntityNumPair, MerkleTokenRelStatus> tokenAssociations) {}
+
+    private record PartitionSummary(long hbarTotal, List<SingleAccountBalances> balances) {}
 }
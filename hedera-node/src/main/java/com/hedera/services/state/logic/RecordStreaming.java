@@ -121,9 +121,8 @@ public class RecordStreaming {
         if (blockManager.shouldLogEveryTransaction()) {
             logTransaction(rso);
         }
-        while (!nonBlockingHandoff.offer(rso)) {
-            // Cannot proceed until we have handed off the record.
-        }
+        // Cannot proceed until we have handed off the record
+        nonBlockingHandoff.put(rso);
     }
 
     private void logTransaction(final RecordStreamObject rso) {
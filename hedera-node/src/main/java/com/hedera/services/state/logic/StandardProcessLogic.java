@@ -108,6 +108,7 @@ public class StandardProcessLogic implements ProcessLogic {
             }
 
             autoRenewal.execute(consensusTime);
+            sigImpactHistorian.commitChanges();
             platformTxn.clearSignatures();
         } catch (InvalidProtocolBufferException e) {
             log.warn("Consensus platform txn was not gRPC!", e);
@@ -117,6 +118,14 @@ public class StandardProcessLogic implements ProcessLogic {
     }
 
     private void processScheduledTransactions(Instant consensusTime, long submittingMember) {
+        try {
+            triggerScheduledTransactions(consensusTime, submittingMember);
+        } finally {
+            scheduleProcessing.flushPendingExpirations();
+        }
+    }
+
+    private void triggerScheduledTransactions(Instant consensusTime, long submittingMember) {
         TxnAccessor triggeredAccessor = null;
 
         for (int i = 0; i < scheduleProcessing.getMaxProcessingLoopIterations(); ++i) {
@@ -15,9 +15,15 @@
  */
 package com.hedera.services.state.merkle;
 
+import static com.hedera.services.ServicesState.EMPTY_HASH;
 import static com.hedera.services.legacy.core.jproto.JKey.equalUpToDecodability;
 import static com.hedera.services.state.merkle.internals.BitPackUtils.getAlreadyUsedAutomaticAssociationsFrom;
 import static com.hedera.services.state.merkle.internals.BitPackUtils.getMaxAutomaticAssociationsFrom;
+import static com.hedera.services.state.merkle.internals.LeafHashing.hashOf;
+import static com.hedera.services.state.merkle.internals.LeafHashing.putBoolean;
+import static com.hedera.services.state.merkle.internals.LeafHashing.putNullableId;
+import static com.hedera.services.state.merkle.internals.LeafHashing.refreshed;
+import static com.hedera.services.state.merkle.internals.LeafHashing.scratchWithCapacity;
 import static com.hedera.services.state.serdes.IoUtils.readNullable;
 import static com.hedera.services.state.serdes.IoUtils.readNullableSerializable;
 import static com.hedera.services.state.serdes.IoUtils.writeNullable;
@@ -40,17 +46,21 @@ import com.google.protobuf.ByteString;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.legacy.core.jproto.JKeySerializer;
 import com.hedera.services.state.merkle.internals.BitPackUtils;
+import com.hedera.services.state.merkle.internals.LeafHashing;
+import com.hedera.services.state.merkle.internals.LeafHashing.ComponentDigest;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.FcTokenAllowanceId;
 import com.hedera.services.state.virtual.ContractKey;
 import com.hedera.services.state.virtual.KeyPackingUtils;
 import com.hedera.services.utils.EntityNum;
+import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.exceptions.MutabilityException;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.merkle.MerkleLeaf;
 import com.swirlds.common.merkle.impl.PartialMerkleLeaf;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.Map;
@@ -58,10 +68,19 @@ import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.SortedMap;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 import org.jetbrains.annotations.Nullable;
 
 public class MerkleAccountState extends PartialMerkleLeaf implements MerkleLeaf {
+    private static final Logger log = LogManager.getLogger(MerkleAccountState.class);
+
     private static final int MAX_CONCEIVABLE_MEMO_UTF8_BYTES = 1_024;
+    // Upper bound on the bytes hashed for everything except allowances
+    private static final int FIXED_HASHED_BYTES = 512;
+    private static final int CRYPTO_ALLOWANCE_HASHED_BYTES = 2 * Long.BYTES;
+    private static final int TOKEN_ALLOWANCE_HASHED_BYTES = 3 * Long.BYTES;
+    private static final int NFT_ALLOWANCE_HASHED_BYTES = 2 * Long.BYTES;
 
     static final int RELEASE_0230_VERSION = 10;
     static final int RELEASE_0250_ALPHA_VERSION = 11;
@@ -122,6 +141,14 @@ public class MerkleAccountState extends PartialMerkleLeaf implements MerkleLeaf
 
     private EntityId autoRenewAccount;
 
+    // Digests of the rarely-changing components, shared by fast-copies until a component changes;
+    // volatile, since hashing threads write them and the handle thread reads them in copy()
+    private volatile ComponentDigest keyDigest;
+    private volatile ComponentDigest memoDigest;
+    private volatile ComponentDigest aliasDigest;
+    // The leaf hash, computed at most once after this copy becomes immutable
+    private volatile Hash immutableHash;
+
     public MerkleAccountState() {
         // RuntimeConstructable
     }
@@ -160,6 +187,9 @@ public class MerkleAccountState extends PartialMerkleLeaf implements MerkleLeaf
         this.stakedNum = that.stakedNum;
         this.declineReward = that.declineReward;
         this.stakeAtStartOfLastRewardedPeriod = that.stakeAtStartOfLastRewardedPeriod;
+        this.keyDigest = that.keyDigest;
+        this.memoDigest = that.memoDigest;
+        this.aliasDigest = that.aliasDigest;
     }
 
     public MerkleAccountState(
@@ -360,6 +390,96 @@ public class MerkleAccountState extends PartialMerkleLeaf implements MerkleLeaf
         return new MerkleAccountState(this);
     }
 
+    /* --- Self-hashing --- */
+    @Override
+    public boolean isSelfHashing() {
+        return true;
+    }
+
+    @Override
+    public Hash getHash() {
+        if (!isImmutable()) {
+            return computeHash();
+        }
+        var hash = immutableHash;
+        if (hash == null) {
+            hash = computeHash();
+            if (hash != EMPTY_HASH) {
+                immutableHash = hash;
+            }
+        }
+        return hash;
+    }
+
+    private Hash computeHash() {
+        try {
+            keyDigest = refreshed(keyDigest, key, LeafHashing::keyBytes);
+            memoDigest = refreshed(memoDigest, memo, LeafHashing::utf8Bytes);
+            aliasDigest = refreshed(aliasDigest, alias, ByteString::toByteArray);
+        } catch (UncheckedIOException e) {
+            log.error(String.format("Hash computation failed on account %d", number), e);
+            return EMPTY_HASH;
+        }
+        final var scratch =
+                scratchWithCapacity(
+                        FIXED_HASHED_BYTES
+                                + CRYPTO_ALLOWANCE_HASHED_BYTES * cryptoAllowances.size()
+                                + TOKEN_ALLOWANCE_HASHED_BYTES * fungibleTokenAllowances.size()
+                                + NFT_ALLOWANCE_HASHED_BYTES * approveForAllNfts.size());
+        scratch.put(keyDigest.digest());
+        scratch.putLong(expiry);
+        scratch.putLong(hbarBalance);
+        scratch.putLong(autoRenewSecs);
+        scratch.put(memoDigest.digest());
+        putBoolean(scratch, deleted);
+        putBoolean(scratch, smartContract);
+        putBoolean(scratch, receiverSigRequired);
+        putNullableId(scratch, proxy);
+        scratch.putLong(nftsOwned);
+        scratch.putInt(maxAutoAssociations);
+        scratch.putInt(usedAutoAssociations);
+        scratch.putInt(number);
+        scratch.put(aliasDigest.digest());
+        scratch.putInt(numContractKvPairs);
+        // Allowances can be changed in-place via the unsafe getters, so are never cached
+        scratch.putInt(cryptoAllowances.size());
+        for (final var entry : cryptoAllowances.entrySet()) {
+            scratch.putLong(entry.getKey().longValue());
+            scratch.putLong(entry.getValue());
+        }
+        scratch.putInt(fungibleTokenAllowances.size());
+        for (final var entry : fungibleTokenAllowances.entrySet()) {
+            scratch.putLong(entry.getKey().getTokenNum().longValue());
+            scratch.putLong(entry.getKey().getSpenderNum().longValue());
+            scratch.putLong(entry.getValue());
+        }
+        scratch.putInt(approveForAllNfts.size());
+        for (final var id : approveForAllNfts) {
+            scratch.putLong(id.getTokenNum().longValue());
+            scratch.putLong(id.getSpenderNum().longValue());
+        }
+        scratch.putInt(numAssociations);
+        scratch.putInt(numPositiveBalances);
+        scratch.putLong(headTokenId);
+        scratch.putInt(numTreasuryTitles);
+        scratch.putLong(ethereumNonce);
+        if (smartContract && firstUint256Key != null) {
+            scratch.put(firstUint256KeyNonZeroBytes);
+            for (final var word : firstUint256Key) {
+                scratch.putInt(word);
+            }
+        }
+        putNullableId(scratch, autoRenewAccount);
+        scratch.putLong(headNftId);
+        scratch.putLong(headNftSerialNum);
+        scratch.putLong(stakedToMe);
+        scratch.putLong(stakePeriodStart);
+        scratch.putLong(stakedNum);
+        putBoolean(scratch, declineReward);
+        scratch.putLong(stakeAtStartOfLastRewardedPeriod);
+        return hashOf(scratch);
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) {
@@ -815,4 +935,9 @@ public class MerkleAccountState extends PartialMerkleLeaf implements MerkleLeaf
                     "Cannot set " + proximalField + " on an immutable account state!");
         }
     }
+
+    /* --- Only used by unit tests --- */
+    ComponentDigest keyDigest() {
+        return keyDigest;
+    }
 }
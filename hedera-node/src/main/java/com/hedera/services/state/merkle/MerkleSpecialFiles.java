@@ -17,13 +17,12 @@ package com.hedera.services.state.merkle;
 
 import static com.hedera.services.context.properties.StaticPropertiesHolder.STATIC_PROPERTIES;
 import static com.hedera.services.legacy.proto.utils.CommonUtils.noThrowSha384HashOf;
-import static com.hedera.services.utils.EntityIdUtils.readableId;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.primitives.Longs;
 import com.hedera.services.state.merkle.internals.BytesElement;
+import com.hedera.services.state.merkle.internals.SpecialFileSnapshot;
 import com.hederahashgraph.api.proto.java.FileID;
-import com.swirlds.common.crypto.CryptoFactory;
 import com.swirlds.common.crypto.DigestType;
 import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
@@ -35,11 +34,12 @@ import com.swirlds.fcqueue.FCQueue;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
-import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Supplier;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -52,6 +52,11 @@ import org.apache.logging.log4j.Logger;
  * with a very naive implementation of the {@link MerkleNode#copy()} contract. Each copy keeps its
  * own map of file contents; and when a file's bytes change in the mutable copy, it updates that map
  * with a completely new {@code byte[]}.
+ *
+ * <p>Besides the {@link FCQueue} of parts that make up each file's state, we keep a {@link
+ * SpecialFileSnapshot} of its concatenated contents and hash. Each change publishes a new snapshot,
+ * so the read methods ({@link #get(FileID)}, {@link #getView(FileID)}, {@link #contains(FileID)},
+ * and {@link #hashMatches(FileID, byte[])}) never take a lock, nor concatenate any parts.
  */
 public class MerkleSpecialFiles extends PartialMerkleLeaf implements MerkleLeaf {
     private static final Logger log = LogManager.getLogger(MerkleSpecialFiles.class);
@@ -62,18 +67,18 @@ public class MerkleSpecialFiles extends PartialMerkleLeaf implements MerkleLeaf
     public static final int MEMCOPY_VERSION = 1;
     public static final int CURRENT_VERSION = 2;
 
-    private final Map<FileID, byte[]> hashCache;
+    private final Map<FileID, SpecialFileSnapshot> snapshots;
     private final Map<FileID, FCQueue<BytesElement>> fileContents;
 
     private static Supplier<ByteArrayOutputStream> baosSupplier = ByteArrayOutputStream::new;
 
     public MerkleSpecialFiles() {
-        this.hashCache = new LinkedHashMap<>();
+        this.snapshots = new ConcurrentHashMap<>();
         this.fileContents = new LinkedHashMap<>();
     }
 
     public MerkleSpecialFiles(MerkleSpecialFiles that) {
-        hashCache = new HashMap<>(that.hashCache);
+        snapshots = new ConcurrentHashMap<>(that.snapshots);
         fileContents = new LinkedHashMap<>();
         for (final var entry : that.getFileContents().entrySet()) {
             fileContents.put(entry.getKey(), entry.getValue().copy());
@@ -99,34 +104,33 @@ public class MerkleSpecialFiles extends PartialMerkleLeaf implements MerkleLeaf
      * @param sha384Hash the candidate hash
      * @return if the given file's contents match the given hash
      */
-    public synchronized boolean hashMatches(final FileID fid, final byte[] sha384Hash) {
-        if (!fileContents.containsKey(fid)) {
+    public boolean hashMatches(final FileID fid, final byte[] sha384Hash) {
+        final var snapshot = snapshots.get(fid);
+        if (snapshot == null) {
             return false;
         }
-        return Arrays.equals(sha384Hash, hashOfKnown(fid));
+        return Arrays.equals(sha384Hash, snapshot.sha384Hash());
     }
 
     /**
-     * Gets the contents of the given file.
+     * Gets (a copy of) the contents of the given file.
      *
      * @param fid the id of the file to get
      * @return the file's contents
      */
-    public synchronized byte[] get(FileID fid) {
-        final var fileByParts = fileContents.get(fid);
-        if (fileByParts == null) {
-            return NO_CONTENTS;
-        }
-        final var baos = baosSupplier.get();
-        for (final BytesElement part : fileByParts) {
-            try {
-                baos.write(part.getData());
-            } catch (IOException e) {
-                log.error("Special file concatenation failed for {}", readableId(fid), e);
-                throw new UncheckedIOException(e);
-            }
-        }
-        return baos.toByteArray();
+    public byte[] get(FileID fid) {
+        final var snapshot = snapshots.get(fid);
+        return (snapshot == null) ? NO_CONTENTS : snapshot.contentsCopy();
+    }
+
+    /**
+     * Gets a read-only view of the contents of the given file, without copying them.
+     *
+     * @param fid the id of the file to get
+     * @return the file's contents
+     */
+    public ByteBuffer getView(FileID fid) {
+        return snapshots.getOrDefault(fid, SpecialFileSnapshot.EMPTY_SNAPSHOT).contents();
     }
 
     /**
@@ -135,8 +139,8 @@ public class MerkleSpecialFiles extends PartialMerkleLeaf implements MerkleLeaf
      * @param fid the id of a file to check existence of
      * @return if the file exixts
      */
-    public synchronized boolean contains(FileID fid) {
-        return fileContents.containsKey(fid);
+    public boolean contains(FileID fid) {
+        return snapshots.containsKey(fid);
     }
 
     /**
@@ -154,7 +158,7 @@ public class MerkleSpecialFiles extends PartialMerkleLeaf implements MerkleLeaf
             return;
         }
         fileByParts.add(new BytesElement(extraContents));
-        hashCache.remove(fid);
+        snapshots.put(fid, snapshots.get(fid).appending(extraContents));
     }
 
     /**
@@ -166,7 +170,7 @@ public class MerkleSpecialFiles extends PartialMerkleLeaf implements MerkleLeaf
     public synchronized void update(FileID fid, byte[] newContents) {
         throwIfImmutable();
         fileContents.put(fid, newFcqWith(newContents));
-        hashCache.remove(fid);
+        snapshots.put(fid, SpecialFileSnapshot.of(newContents));
     }
 
     /** {@inheritDoc} */
@@ -178,10 +182,14 @@ public class MerkleSpecialFiles extends PartialMerkleLeaf implements MerkleLeaf
             final var fidNum = in.readLong();
             if (version == MEMCOPY_VERSION) {
                 final var contents = in.readByteArray(Integer.MAX_VALUE);
-                fileContents.put(STATIC_PROPERTIES.scopedFileWith(fidNum), newFcqWith(contents));
+                final var fid = STATIC_PROPERTIES.scopedFileWith(fidNum);
+                fileContents.put(fid, newFcqWith(contents));
+                snapshots.put(fid, SpecialFileSnapshot.of(contents));
             } else {
                 final FCQueue<BytesElement> fileByParts = in.readSerializable();
-                fileContents.put(STATIC_PROPERTIES.scopedFileWith(fidNum), fileByParts);
+                final var fid = STATIC_PROPERTIES.scopedFileWith(fidNum);
+                fileContents.put(fid, fileByParts);
+                snapshots.put(fid, snapshotOf(fileByParts));
             }
         }
     }
@@ -248,10 +256,12 @@ public class MerkleSpecialFiles extends PartialMerkleLeaf implements MerkleLeaf
         return Objects.hash(this.fileContents);
     }
 
-    private byte[] hashOfKnown(FileID fid) {
-        return hashCache.computeIfAbsent(
-                fid,
-                missingFid -> CryptoFactory.getInstance().digestSync(get(missingFid)).getValue());
+    private static SpecialFileSnapshot snapshotOf(final FCQueue<BytesElement> fileByParts) {
+        var snapshot = SpecialFileSnapshot.EMPTY_SNAPSHOT;
+        for (final var part : fileByParts) {
+            snapshot = snapshot.appending(part.getData());
+        }
+        return snapshot;
     }
 
     private FCQueue<BytesElement> newFcqWith(byte[] initialContents) {
@@ -265,8 +275,8 @@ public class MerkleSpecialFiles extends PartialMerkleLeaf implements MerkleLeaf
         return fileContents;
     }
 
-    public Map<FileID, byte[]> getHashCache() {
-        return hashCache;
+    Map<FileID, SpecialFileSnapshot> getSnapshots() {
+        return snapshots;
     }
 
     static void setBaosSupplier(Supplier<ByteArrayOutputStream> baosSupplier) {
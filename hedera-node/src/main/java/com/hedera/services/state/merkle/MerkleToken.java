@@ -15,8 +15,15 @@
  */
 package com.hedera.services.state.merkle;
 
+import static com.hedera.services.ServicesState.EMPTY_HASH;
 import static com.hedera.services.legacy.core.jproto.JKey.equalUpToDecodability;
 import static com.hedera.services.state.merkle.MerkleAccountState.DEFAULT_MEMO;
+import static com.hedera.services.state.merkle.internals.LeafHashing.DIGEST_BYTES;
+import static com.hedera.services.state.merkle.internals.LeafHashing.hashOf;
+import static com.hedera.services.state.merkle.internals.LeafHashing.putBoolean;
+import static com.hedera.services.state.merkle.internals.LeafHashing.putNullableId;
+import static com.hedera.services.state.merkle.internals.LeafHashing.refreshed;
+import static com.hedera.services.state.merkle.internals.LeafHashing.scratchWithCapacity;
 import static com.hedera.services.state.serdes.IoUtils.readNullable;
 import static com.hedera.services.state.serdes.IoUtils.readNullableSerializable;
 import static com.hedera.services.state.serdes.IoUtils.writeNullable;
@@ -31,6 +38,8 @@ import com.hedera.services.legacy.core.jproto.JKeySerializer;
 import com.hedera.services.state.enums.TokenSupplyType;
 import com.hedera.services.state.enums.TokenType;
 import com.hedera.services.state.merkle.internals.BitPackUtils;
+import com.hedera.services.state.merkle.internals.LeafHashing;
+import com.hedera.services.state.merkle.internals.LeafHashing.ComponentDigest;
 import com.hedera.services.state.serdes.IoUtils;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.submerkle.FcCustomFee;
@@ -38,18 +47,23 @@ import com.hedera.services.utils.EntityIdUtils;
 import com.hedera.services.utils.EntityNum;
 import com.hederahashgraph.api.proto.java.CustomFee;
 import com.hederahashgraph.api.proto.java.TokenID;
+import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.merkle.MerkleLeaf;
 import com.swirlds.common.merkle.impl.PartialMerkleLeaf;
 import com.swirlds.common.merkle.utility.Keyed;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
 import javax.annotation.Nullable;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 public class MerkleToken extends PartialMerkleLeaf implements Keyed<EntityNum>, MerkleLeaf {
     static final int RELEASE_0160_VERSION = 3;
@@ -59,9 +73,27 @@ public class MerkleToken extends PartialMerkleLeaf implements Keyed<EntityNum>,
     static final int CURRENT_VERSION = RELEASE_0190_VERSION;
     static final long RUNTIME_CONSTRUCTABLE_ID = 0xd23ce8814b35fc2fL;
 
+    private static final Logger log = LogManager.getLogger(MerkleToken.class);
+
+    static final int ADMIN_KEY_DIGEST = 0;
+    static final int FREEZE_KEY_DIGEST = 1;
+    static final int KYC_KEY_DIGEST = 2;
+    static final int SUPPLY_KEY_DIGEST = 3;
+    static final int WIPE_KEY_DIGEST = 4;
+    static final int FEE_SCHEDULE_KEY_DIGEST = 5;
+    static final int PAUSE_KEY_DIGEST = 6;
+    static final int SYMBOL_DIGEST = 7;
+    static final int NAME_DIGEST = 8;
+    static final int MEMO_DIGEST = 9;
+    static final int FEE_SCHEDULE_DIGEST = 10;
+    private static final int NUM_COMPONENT_DIGESTS = 11;
+
     private static final long UNUSED_AUTO_RENEW_PERIOD = -1L;
     private static final int UPPER_BOUND_MEMO_UTF8_BYTES = 1024;
 
+    // Upper bound on the bytes hashed for everything except the component digests
+    private static final int FIXED_HASHED_BYTES = 256 + NUM_COMPONENT_DIGESTS * DIGEST_BYTES;
+
     public static final JKey UNUSED_KEY = null;
     public static final int UPPER_BOUND_SYMBOL_UTF8_BYTES = 1024;
     public static final int UPPER_BOUND_TOKEN_NAME_UTF8_BYTES = 1024;
@@ -93,6 +125,13 @@ public class MerkleToken extends PartialMerkleLeaf implements Keyed<EntityNum>,
     private List<FcCustomFee> feeSchedule = Collections.emptyList();
     private int number;
 
+    // Digests of the rarely-changing components, reused by fast-copies until a component changes;
+    // never updated in place, but republished (volatile) as a new array by each hashing thread
+    private volatile ComponentDigest[] componentDigests =
+            new ComponentDigest[NUM_COMPONENT_DIGESTS];
+    // The leaf hash, computed at most once after this copy becomes immutable
+    private volatile Hash immutableHash;
+
     public MerkleToken() {
         /* No-op. */
     }
@@ -379,9 +418,96 @@ public class MerkleToken extends PartialMerkleLeaf implements Keyed<EntityNum>,
         if (pauseKey != UNUSED_KEY) {
             fc.setPauseKey(pauseKey);
         }
+        fc.componentDigests = componentDigests;
         return fc;
     }
 
+    /* --- Self-hashing --- */
+    @Override
+    public boolean isSelfHashing() {
+        return true;
+    }
+
+    @Override
+    public Hash getHash() {
+        if (!isImmutable()) {
+            return computeHash();
+        }
+        var hash = immutableHash;
+        if (hash == null) {
+            hash = computeHash();
+            if (hash != EMPTY_HASH) {
+                immutableHash = hash;
+            }
+        }
+        return hash;
+    }
+
+    private Hash computeHash() {
+        final var digests = componentDigests.clone();
+        try {
+            refreshKeyDigest(digests, ADMIN_KEY_DIGEST, adminKey);
+            refreshKeyDigest(digests, FREEZE_KEY_DIGEST, freezeKey);
+            refreshKeyDigest(digests, KYC_KEY_DIGEST, kycKey);
+            refreshKeyDigest(digests, SUPPLY_KEY_DIGEST, supplyKey);
+            refreshKeyDigest(digests, WIPE_KEY_DIGEST, wipeKey);
+            refreshKeyDigest(digests, FEE_SCHEDULE_KEY_DIGEST, feeScheduleKey);
+            refreshKeyDigest(digests, PAUSE_KEY_DIGEST, pauseKey);
+            refreshStringDigest(digests, SYMBOL_DIGEST, symbol);
+            refreshStringDigest(digests, NAME_DIGEST, name);
+            refreshStringDigest(digests, MEMO_DIGEST, memo);
+            digests[FEE_SCHEDULE_DIGEST] =
+                    refreshed(
+                            digests[FEE_SCHEDULE_DIGEST],
+                            feeSchedule,
+                            MerkleToken::feeScheduleBytes);
+        } catch (UncheckedIOException e) {
+            log.error(String.format("Hash computation failed on token %d", number), e);
+            return EMPTY_HASH;
+        }
+        componentDigests = digests;
+        final var scratch = scratchWithCapacity(FIXED_HASHED_BYTES);
+        putBoolean(scratch, deleted);
+        scratch.putLong(expiry);
+        putNullableId(scratch, autoRenewAccount);
+        scratch.putLong(autoRenewPeriod);
+        putNullableId(scratch, treasury);
+        scratch.putLong(totalSupply);
+        scratch.putInt(decimals);
+        putBoolean(scratch, accountsFrozenByDefault);
+        putBoolean(scratch, accountsKycGrantedByDefault);
+        scratch.putInt(tokenType.ordinal());
+        scratch.putInt(supplyType.ordinal());
+        scratch.putLong(maxSupply);
+        scratch.putLong(lastUsedSerialNumber);
+        scratch.putInt(number);
+        putBoolean(scratch, paused);
+        for (final var componentDigest : digests) {
+            scratch.put(componentDigest.digest());
+        }
+        return hashOf(scratch);
+    }
+
+    private static void refreshKeyDigest(
+            final ComponentDigest[] digests, final int i, @Nullable final JKey key) {
+        digests[i] = refreshed(digests[i], key, LeafHashing::keyBytes);
+    }
+
+    private static void refreshStringDigest(
+            final ComponentDigest[] digests, final int i, @Nullable final String s) {
+        digests[i] = refreshed(digests[i], s, LeafHashing::utf8Bytes);
+    }
+
+    private static byte[] feeScheduleBytes(final List<FcCustomFee> feeSchedule) {
+        final var baos = new ByteArrayOutputStream();
+        try (final var out = new SerializableDataOutputStream(baos)) {
+            out.writeSerializableList(feeSchedule, true, true);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return baos.toByteArray();
+    }
+
     /* --- Bean --- */
     public long totalSupply() {
         return totalSupply;
@@ -733,4 +859,9 @@ public class MerkleToken extends PartialMerkleLeaf implements Keyed<EntityNum>,
     public void setKey(EntityNum phi) {
         this.number = phi.intValue();
     }
+
+    /* --- Only used by unit tests --- */
+    ComponentDigest componentDigest(final int i) {
+        return componentDigests[i];
+    }
 }
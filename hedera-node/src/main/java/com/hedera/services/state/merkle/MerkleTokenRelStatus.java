@@ -16,12 +16,16 @@
 package com.hedera.services.state.merkle;
 
 import static com.hedera.services.state.merkle.internals.BitPackUtils.packedNums;
+import static com.hedera.services.state.merkle.internals.LeafHashing.hashOf;
+import static com.hedera.services.state.merkle.internals.LeafHashing.putBoolean;
+import static com.hedera.services.state.merkle.internals.LeafHashing.scratchWithCapacity;
 import static com.hedera.services.utils.EntityIdUtils.asRelationshipLiteral;
 
 import com.google.common.base.MoreObjects;
 import com.hedera.services.utils.EntityNumPair;
 import com.hederahashgraph.api.proto.java.AccountID;
 import com.hederahashgraph.api.proto.java.TokenID;
+import com.swirlds.common.crypto.Hash;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import com.swirlds.common.merkle.MerkleLeaf;
@@ -41,6 +45,8 @@ public class MerkleTokenRelStatus extends PartialMerkleLeaf
 
     static final long RUNTIME_CONSTRUCTABLE_ID = 0xe487c7b8b4e7233fL;
 
+    private static final int HASHED_BYTES = 4 * Long.BYTES + 3;
+
     private long numbers;
     private long balance;
     private boolean frozen;
@@ -50,6 +56,9 @@ public class MerkleTokenRelStatus extends PartialMerkleLeaf
     private long next;
     private long prev;
 
+    // The leaf hash, computed at most once after this copy becomes immutable
+    private volatile Hash immutableHash;
+
     public MerkleTokenRelStatus() {
         /* RuntimeConstructable */
     }
@@ -215,6 +224,37 @@ public class MerkleTokenRelStatus extends PartialMerkleLeaf
         return new MerkleTokenRelStatus(this);
     }
 
+    /* --- Self-hashing --- */
+    @Override
+    public boolean isSelfHashing() {
+        return true;
+    }
+
+    @Override
+    public Hash getHash() {
+        if (!isImmutable()) {
+            return computeHash();
+        }
+        var hash = immutableHash;
+        if (hash == null) {
+            hash = computeHash();
+            immutableHash = hash;
+        }
+        return hash;
+    }
+
+    private Hash computeHash() {
+        final var scratch = scratchWithCapacity(HASHED_BYTES);
+        scratch.putLong(balance);
+        putBoolean(scratch, frozen);
+        putBoolean(scratch, kycGranted);
+        putBoolean(scratch, automaticAssociation);
+        scratch.putLong(numbers);
+        scratch.putLong(next);
+        scratch.putLong(prev);
+        return hashOf(scratch);
+    }
+
     @Override
     public String toString() {
         return MoreObjects.toStringHelper(this)
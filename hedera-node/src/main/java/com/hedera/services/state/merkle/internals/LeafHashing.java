@@ -0,0 +1,163 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.merkle.internals;
+
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.state.submerkle.EntityId;
+import com.swirlds.common.crypto.DigestType;
+import com.swirlds.common.crypto.Hash;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.function.Function;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Supports self-hashing leaves that write their fields straight into a reusable, per-thread buffer
+ * instead of serializing themselves through a {@code SerializableDataOutputStream}; and that reuse
+ * the digests of their rarely-changing components (keys, memos, aliases) across fast-copies, so
+ * only the components that changed since the last copy are re-serialized and re-digested.
+ *
+ * <p>Components are matched by identity, so they must be treated as immutable values once given
+ * to a leaf; which is already required, since fast-copies share them.
+ */
+public final class LeafHashing {
+    public static final int DIGEST_BYTES = DigestType.SHA_384.digestLength();
+    // Markers written before optional fields and for boolean flags
+    private static final byte ABSENT = 0;
+    private static final byte PRESENT = 1;
+    private static final byte[] ABSENT_DIGEST = new byte[DIGEST_BYTES];
+    private static final int INITIAL_SCRATCH_CAPACITY = 1_024;
+
+    private static final ThreadLocal<ByteBuffer> SCRATCH =
+            ThreadLocal.withInitial(() -> ByteBuffer.allocate(INITIAL_SCRATCH_CAPACITY));
+    private static final ThreadLocal<MessageDigest> SHA_384 =
+            ThreadLocal.withInitial(LeafHashing::newSha384);
+
+    private LeafHashing() {
+        throw new UnsupportedOperationException("Utility Class");
+    }
+
+    /**
+     * The digest of a leaf component, reusable for as long as the leaf has the same component.
+     *
+     * @param component the component digested
+     * @param digest its digest
+     */
+    public record ComponentDigest(@Nullable Object component, byte[] digest) {}
+
+    /**
+     * Returns the given cached digest if it is still for the given component; otherwise digests
+     * the serialized component.
+     *
+     * @param cached the digest computed for the leaf's component at the last hashing, if any
+     * @param component the leaf's current component
+     * @param serializer how to serialize the component
+     * @param <T> the type of the component
+     * @return a digest for the current component
+     */
+    public static <T> ComponentDigest refreshed(
+            @Nullable final ComponentDigest cached,
+            @Nullable final T component,
+            final Function<T, byte[]> serializer) {
+        if (cached != null && cached.component() == component) {
+            return cached;
+        }
+        final var digest =
+                (component == null)
+                        ? ABSENT_DIGEST
+                        : SHA_384.get().digest(serializer.apply(component));
+        return new ComponentDigest(component, digest);
+    }
+
+    /**
+     * Returns this thread's scratch buffer, cleared and with at least the given capacity.
+     *
+     * @param capacity the minimum capacity needed
+     * @return the scratch buffer
+     */
+    public static ByteBuffer scratchWithCapacity(final int capacity) {
+        var scratch = SCRATCH.get();
+        if (scratch.capacity() < capacity) {
+            scratch = ByteBuffer.allocate(Math.max(capacity, 2 * scratch.capacity()));
+            SCRATCH.set(scratch);
+        }
+        return scratch.clear();
+    }
+
+    /**
+     * Returns the SHA-384 hash of the bytes written to the given scratch buffer.
+     *
+     * @param scratch a buffer from {@link #scratchWithCapacity(int)}
+     * @return the hash of its contents
+     */
+    public static Hash hashOf(final ByteBuffer scratch) {
+        final var digest = SHA_384.get();
+        digest.update(scratch.array(), 0, scratch.position());
+        return new Hash(digest.digest(), DigestType.SHA_384);
+    }
+
+    /**
+     * Returns the SHA-384 digest of the remaining bytes in the given buffer, without moving its
+     * position.
+     *
+     * @param contents the bytes to digest
+     * @return their digest
+     */
+    public static byte[] sha384Of(final ByteBuffer contents) {
+        final var digest = SHA_384.get();
+        digest.update(contents.duplicate());
+        return digest.digest();
+    }
+
+    public static void putNullableId(final ByteBuffer scratch, @Nullable final EntityId id) {
+        if (id == null) {
+            scratch.put(ABSENT);
+        } else {
+            scratch.put(PRESENT);
+            scratch.putLong(id.shard());
+            scratch.putLong(id.realm());
+            scratch.putLong(id.num());
+        }
+    }
+
+    public static void putBoolean(final ByteBuffer scratch, final boolean flag) {
+        scratch.put(flag ? PRESENT : ABSENT);
+    }
+
+    public static byte[] keyBytes(final JKey key) {
+        try {
+            return key.serialize();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public static byte[] utf8Bytes(final String s) {
+        return s.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static MessageDigest newSha384() {
+        try {
+            return MessageDigest.getInstance(DigestType.SHA_384.algorithmName());
+        } catch (NoSuchAlgorithmException fatal) {
+            throw new IllegalStateException(fatal);
+        }
+    }
+}
@@ -0,0 +1,116 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.merkle.internals;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An immutable view of the contents of a special file, along with their lazily computed SHA-384
+ * hash. A new snapshot is published every time the file changes; so readers never need a lock, and
+ * never see a partially applied change.
+ *
+ * <p>To keep a long series of appends from copying the whole file every time, snapshots of the
+ * same file can share a backing array with spare capacity. The bytes below a snapshot's length are
+ * never overwritten; and an append only writes past the end of a shared array if no other append
+ * has already claimed that space, which is tracked by an {@link AtomicInteger} shared along with
+ * the array. Otherwise the append copies the contents into a new, larger array.
+ */
+public final class SpecialFileSnapshot {
+    public static final SpecialFileSnapshot EMPTY_SNAPSHOT = SpecialFileSnapshot.of(new byte[0]);
+
+    private final byte[] buffer;
+    private final int length;
+    private final AtomicInteger claimedLength;
+
+    private volatile byte[] sha384Hash;
+
+    private SpecialFileSnapshot(
+            final byte[] buffer, final int length, final AtomicInteger claimedLength) {
+        this.buffer = buffer;
+        this.length = length;
+        this.claimedLength = claimedLength;
+    }
+
+    /**
+     * Returns a snapshot of a private copy of the given contents.
+     *
+     * @param contents the contents of the file
+     * @return a snapshot with those contents
+     */
+    public static SpecialFileSnapshot of(final byte[] contents) {
+        final var copy = contents.clone();
+        return new SpecialFileSnapshot(copy, copy.length, new AtomicInteger(copy.length));
+    }
+
+    /**
+     * Returns a snapshot whose contents are this snapshot's contents followed by the given bytes;
+     * this snapshot is not changed.
+     *
+     * @param moreContents the bytes to append
+     * @return the new snapshot
+     */
+    public SpecialFileSnapshot appending(final byte[] moreContents) {
+        final var newLength = Math.addExact(length, moreContents.length);
+        if (newLength <= buffer.length && claimedLength.compareAndSet(length, newLength)) {
+            System.arraycopy(moreContents, 0, buffer, length, moreContents.length);
+            return new SpecialFileSnapshot(buffer, newLength, claimedLength);
+        }
+        final var capacity = (int) Math.min(Integer.MAX_VALUE - 8L, 2L * newLength);
+        final var grown = new byte[Math.max(newLength, capacity)];
+        System.arraycopy(buffer, 0, grown, 0, length);
+        System.arraycopy(moreContents, 0, grown, length, moreContents.length);
+        return new SpecialFileSnapshot(grown, newLength, new AtomicInteger(newLength));
+    }
+
+    /**
+     * Returns a read-only view of the contents, without copying them.
+     *
+     * @return the contents
+     */
+    public ByteBuffer contents() {
+        return ByteBuffer.wrap(buffer, 0, length).asReadOnlyBuffer();
+    }
+
+    /**
+     * Returns a private copy of the contents.
+     *
+     * @return the contents
+     */
+    public byte[] contentsCopy() {
+        return Arrays.copyOf(buffer, length);
+    }
+
+    public int length() {
+        return length;
+    }
+
+    /**
+     * Returns the SHA-384 hash of the contents, computing it on first use. Concurrent first uses
+     * may each compute the hash, but always get the same result.
+     *
+     * @return the hash of the contents
+     */
+    public byte[] sha384Hash() {
+        var hash = sha384Hash;
+        if (hash == null) {
+            hash = LeafHashing.sha384Of(contents());
+            sha384Hash = hash;
+        }
+        return hash;
+    }
+}
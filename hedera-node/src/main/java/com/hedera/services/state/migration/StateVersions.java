@@ -47,10 +47,17 @@ public final class StateVersions {
     //   - Release 0.27.x was state version 20
     //   - Release 0.28.x was state version 21
     //   - Release 0.29.x was state version 22
+    //   - Release 0.30.x was state version 23
+    //
+    // State version 24 changes the Merkle hash of account, token, and token relationship
+    // leaves to be computed by the leaves themselves (see LeafHashing); their serialized
+    // form is unchanged, so no data migration is needed---but nodes on different state
+    // versions will not agree on the hash of any state containing these leaves
     public static final int RELEASE_025X_VERSION = 18;
     public static final int RELEASE_0260_VERSION = 19;
     public static final int RELEASE_0270_VERSION = 20;
     public static final int RELEASE_0300_VERSION = 23;
+    public static final int RELEASE_0310_VERSION = 24;
 
     public static final SerializableSemVers LAST_025X_VERSION =
             forHapiAndHedera("0.25.1", "0.25.4");
@@ -68,7 +75,7 @@ public final class StateVersions {
             forHapiAndHedera("0.30.0", "0.30.0");
 
     public static final int MINIMUM_SUPPORTED_VERSION = RELEASE_025X_VERSION;
-    public static final int CURRENT_VERSION = RELEASE_0300_VERSION;
+    public static final int CURRENT_VERSION = RELEASE_0310_VERSION;
 
     @Nullable
     public static SerializableSemVers lastSoftwareVersionOf(final int stateVersion) {
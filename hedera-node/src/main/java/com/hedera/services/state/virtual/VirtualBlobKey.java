@@ -19,6 +19,7 @@ import static com.hedera.services.files.store.FcBlobsBytesStore.LEGACY_BLOB_CODE
 import static java.lang.Long.parseLong;
 
 import com.hedera.services.state.merkle.internals.BitPackUtils;
+import com.hedera.services.state.merkle.internals.BlobKey;
 import com.hedera.services.utils.MiscUtils;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
@@ -34,15 +35,23 @@ public class VirtualBlobKey implements VirtualKey<VirtualBlobKey> {
 
     private static final Type[] BLOB_TYPES = Type.values();
 
+    // The serialized type byte keeps the type ordinal in its low bits and the index of a file
+    // data chunk in its high bits; so keys of the original types serialize exactly as before
+    private static final int TYPE_BITS = 3;
+    private static final int TYPE_MASK = (1 << TYPE_BITS) - 1;
+    public static final int MAX_CHUNK_INDEX = 0xff >>> TYPE_BITS;
+
     public enum Type {
         FILE_DATA,
         FILE_METADATA,
         CONTRACT_BYTECODE,
-        SYSTEM_DELETED_ENTITY_EXPIRY
+        SYSTEM_DELETED_ENTITY_EXPIRY,
+        FILE_DATA_CHUNK
     }
 
     private Type type;
     private int entityNumCode;
+    private int chunkIndex;
 
     public VirtualBlobKey() {
         /* Required by deserialization facility */
@@ -53,6 +62,51 @@ public class VirtualBlobKey implements VirtualKey<VirtualBlobKey> {
         this.entityNumCode = entityNumCode;
     }
 
+    private VirtualBlobKey(final int entityNumCode, final int chunkIndex) {
+        this(Type.FILE_DATA_CHUNK, entityNumCode);
+        this.chunkIndex = chunkIndex;
+    }
+
+    /**
+     * Returns the key of the given chunk of a file's data. The first chunk is just the {@link
+     * Type#FILE_DATA} blob, so a file stored in a single blob is also a file with one chunk.
+     *
+     * @param entityNumCode the code of the file's number
+     * @param chunkIndex the index of the chunk
+     * @return the key of the chunk
+     * @throws IllegalArgumentException if the chunk index is out of range
+     */
+    public static VirtualBlobKey fileDataChunkKey(final int entityNumCode, final int chunkIndex) {
+        if (chunkIndex < 0 || chunkIndex > MAX_CHUNK_INDEX) {
+            throw new IllegalArgumentException("Invalid file data chunk index " + chunkIndex);
+        }
+        return (chunkIndex == 0)
+                ? new VirtualBlobKey(Type.FILE_DATA, entityNumCode)
+                : new VirtualBlobKey(entityNumCode, chunkIndex);
+    }
+
+    /**
+     * Returns the key of the blob with the given type for the given entity, without the string
+     * building and parsing of a legacy path.
+     *
+     * @param type the type of the blob
+     * @param entityNum the number of the entity it belongs to
+     * @return the key of the blob
+     * @throws IllegalArgumentException if the type has no blobs in this map
+     */
+    public static VirtualBlobKey of(final BlobKey.BlobType type, final long entityNum) {
+        final var code = BitPackUtils.codeFromNum(entityNum);
+        return switch (type) {
+            case FILE_DATA -> new VirtualBlobKey(Type.FILE_DATA, code);
+            case FILE_METADATA -> new VirtualBlobKey(Type.FILE_METADATA, code);
+            case CONTRACT_BYTECODE -> new VirtualBlobKey(Type.CONTRACT_BYTECODE, code);
+            case SYSTEM_DELETED_ENTITY_EXPIRY -> new VirtualBlobKey(
+                    Type.SYSTEM_DELETED_ENTITY_EXPIRY, code);
+            case CONTRACT_STORAGE -> throw new IllegalArgumentException(
+                    "Contract storage is not kept in blobs");
+        };
+    }
+
     public static VirtualBlobKey fromPath(final String path) {
         final var code = path.charAt(LEGACY_BLOB_CODE_INDEX);
         final var packedNum =
@@ -74,19 +128,19 @@ public class VirtualBlobKey implements VirtualKey<VirtualBlobKey> {
 
     @Override
     public void serialize(final ByteBuffer buffer) throws IOException {
-        buffer.put((byte) type.ordinal());
+        buffer.put(typeByte());
         buffer.putInt(entityNumCode);
     }
 
     @Override
     public void deserialize(ByteBuffer buffer, int version) throws IOException {
-        type = BLOB_TYPES[0xff & buffer.get()];
+        setTypeFrom(buffer.get());
         entityNumCode = buffer.getInt();
     }
 
     @Override
     public void deserialize(SerializableDataInputStream in, int version) throws IOException {
-        type = BLOB_TYPES[0xff & in.readByte()];
+        setTypeFrom(in.readByte());
         entityNumCode = in.readInt();
     }
 
@@ -97,7 +151,7 @@ public class VirtualBlobKey implements VirtualKey<VirtualBlobKey> {
 
     @Override
     public void serialize(SerializableDataOutputStream out) throws IOException {
-        out.writeByte(type.ordinal());
+        out.writeByte(typeByte());
         out.writeInt(entityNumCode);
     }
 
@@ -117,12 +171,14 @@ public class VirtualBlobKey implements VirtualKey<VirtualBlobKey> {
 
         var that = (VirtualBlobKey) o;
 
-        return this.type == that.type && this.entityNumCode == that.entityNumCode;
+        return this.type == that.type
+                && this.entityNumCode == that.entityNumCode
+                && this.chunkIndex == that.chunkIndex;
     }
 
     @Override
     public int hashCode() {
-        return (int) MiscUtils.perm64(entityNumCode | ((long) type.ordinal()) << 4);
+        return (int) MiscUtils.perm64(entityNumCode | ((long) (0xff & typeByte())) << 4);
     }
 
     public static int sizeInBytes() {
@@ -137,6 +193,10 @@ public class VirtualBlobKey implements VirtualKey<VirtualBlobKey> {
         return entityNumCode;
     }
 
+    public int getChunkIndex() {
+        return chunkIndex;
+    }
+
     @Override
     public int compareTo(@NotNull final VirtualBlobKey that) {
         if (this == that) {
@@ -146,11 +206,25 @@ public class VirtualBlobKey implements VirtualKey<VirtualBlobKey> {
         if (order != 0) {
             return order;
         }
-        return this.type.compareTo(that.type);
+        order = this.type.compareTo(that.type);
+        if (order != 0) {
+            return order;
+        }
+        return Integer.compare(this.chunkIndex, that.chunkIndex);
     }
 
     @Override
     public int getMinimumSupportedVersion() {
         return CURRENT_VERSION;
     }
+
+    byte typeByte() {
+        return (byte) (type.ordinal() | chunkIndex << TYPE_BITS);
+    }
+
+    private void setTypeFrom(final byte typeByte) {
+        final var unsigned = 0xff & typeByte;
+        type = BLOB_TYPES[unsigned & TYPE_MASK];
+        chunkIndex = unsigned >>> TYPE_BITS;
+    }
 }
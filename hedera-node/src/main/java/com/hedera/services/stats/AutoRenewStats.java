@@ -0,0 +1,115 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static com.hedera.services.stats.ServicesStatsManager.GAUGE_FORMAT;
+import static com.hedera.services.stats.ServicesStatsManager.STAT_CATEGORY;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.services.state.expiry.AutoRenewIndex;
+import com.hedera.services.state.expiry.EntityAutoExpiry;
+import com.swirlds.common.metrics.DoubleGauge;
+import com.swirlds.common.system.Platform;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Gauges for the {@link EntityAutoExpiry} scans. Scan efficiency is the percentage of entities
+ * scanned since the previous update that were actually renewed or removed; the expiry lag and the
+ * number of due entities are readings from the last scan.
+ */
+@Singleton
+public class AutoRenewStats {
+    private final EntityAutoExpiry autoExpiry;
+    private final AutoRenewIndex dueIndex;
+
+    private DoubleGauge scanEfficiency;
+    private DoubleGauge expiryLag;
+    private DoubleGauge dueEntities;
+
+    private long lastScanned = 0L;
+    private long lastTouched = 0L;
+
+    @Inject
+    public AutoRenewStats(final EntityAutoExpiry autoExpiry, final AutoRenewIndex dueIndex) {
+        this.autoExpiry = autoExpiry;
+        this.dueIndex = dueIndex;
+        scanEfficiency = gaugeFor(Names.SCAN_EFFICIENCY, Descriptions.SCAN_EFFICIENCY);
+        expiryLag = gaugeFor(Names.EXPIRY_LAG, Descriptions.EXPIRY_LAG);
+        dueEntities = gaugeFor(Names.DUE_ENTITIES, Descriptions.DUE_ENTITIES);
+    }
+
+    public void registerWith(final Platform platform) {
+        platform.addAppMetrics(scanEfficiency, expiryLag, dueEntities);
+    }
+
+    public void updateAll() {
+        final var scanned = autoExpiry.totalScanned();
+        final var touched = autoExpiry.totalTouched();
+        final var newScanned = scanned - lastScanned;
+        if (newScanned > 0) {
+            scanEfficiency.set(100.0 * (touched - lastTouched) / newScanned);
+        }
+        lastScanned = scanned;
+        lastTouched = touched;
+        expiryLag.set(autoExpiry.lagSecs());
+        dueEntities.set(dueIndex.numDue());
+    }
+
+    private static DoubleGauge gaugeFor(final String name, final String description) {
+        return new DoubleGauge(STAT_CATEGORY, name, description, GAUGE_FORMAT);
+    }
+
+    public static final class Names {
+        static final String SCAN_EFFICIENCY = "autoRenewScanEfficiencyPercent";
+        static final String EXPIRY_LAG = "autoRenewExpiryLagSecs";
+        static final String DUE_ENTITIES = "autoRenewDueEntities";
+
+        private Names() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+
+    public static final class Descriptions {
+        static final String SCAN_EFFICIENCY =
+                "percent of auto-renew scanned entities since the last update that were renewed or"
+                        + " removed";
+        static final String EXPIRY_LAG =
+                "longest time in seconds any entity processed by the last auto-renew scan had been"
+                        + " expired";
+        static final String DUE_ENTITIES =
+                "number of expired accounts and contracts waiting for auto-renew processing";
+
+        private Descriptions() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+
+    @VisibleForTesting
+    void setScanEfficiency(final DoubleGauge scanEfficiency) {
+        this.scanEfficiency = scanEfficiency;
+    }
+
+    @VisibleForTesting
+    void setExpiryLag(final DoubleGauge expiryLag) {
+        this.expiryLag = expiryLag;
+    }
+
+    @VisibleForTesting
+    void setDueEntities(final DoubleGauge dueEntities) {
+        this.dueEntities = dueEntities;
+    }
+}
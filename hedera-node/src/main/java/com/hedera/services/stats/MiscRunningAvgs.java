@@ -29,6 +29,13 @@ public class MiscRunningAvgs {
     private RunningAverageMetric handledSubmitMessageSize;
     private RunningAverageMetric writeQueueSizeRecordStream;
     private RunningAverageMetric hashQueueSizeRecordStream;
+    private RunningAverageMetric handoffQueueSizeRecordStream;
+    private RunningAverageMetric handoffBatchSizeRecordStream;
+    private RunningAverageMetric handoffStallMsRecordStream;
+    private RunningAverageMetric serializeMsRecordStream;
+    private RunningAverageMetric compressMsRecordStream;
+    private RunningAverageMetric fsyncMsRecordStream;
+    private RunningAverageMetric signMsRecordStream;
 
     public MiscRunningAvgs(final double halfLife) {
         gasPerConsSec =
@@ -73,6 +80,55 @@ public class MiscRunningAvgs {
                         Descriptions.HASH_QUEUE_SIZE_RECORD_STREAM,
                         RUNNING_AVG_FORMAT,
                         halfLife);
+        handoffQueueSizeRecordStream =
+                new RunningAverageMetric(
+                        STAT_CATEGORY,
+                        Names.HANDOFF_QUEUE_SIZE_RECORD_STREAM,
+                        Descriptions.HANDOFF_QUEUE_SIZE_RECORD_STREAM,
+                        RUNNING_AVG_FORMAT,
+                        halfLife);
+        handoffBatchSizeRecordStream =
+                new RunningAverageMetric(
+                        STAT_CATEGORY,
+                        Names.HANDOFF_BATCH_SIZE_RECORD_STREAM,
+                        Descriptions.HANDOFF_BATCH_SIZE_RECORD_STREAM,
+                        RUNNING_AVG_FORMAT,
+                        halfLife);
+        handoffStallMsRecordStream =
+                new RunningAverageMetric(
+                        STAT_CATEGORY,
+                        Names.HANDOFF_STALL_MS_RECORD_STREAM,
+                        Descriptions.HANDOFF_STALL_MS_RECORD_STREAM,
+                        RUNNING_AVG_FORMAT,
+                        halfLife);
+        serializeMsRecordStream =
+                new RunningAverageMetric(
+                        STAT_CATEGORY,
+                        Names.SERIALIZE_MS_RECORD_STREAM,
+                        Descriptions.SERIALIZE_MS_RECORD_STREAM,
+                        RUNNING_AVG_FORMAT,
+                        halfLife);
+        compressMsRecordStream =
+                new RunningAverageMetric(
+                        STAT_CATEGORY,
+                        Names.COMPRESS_MS_RECORD_STREAM,
+                        Descriptions.COMPRESS_MS_RECORD_STREAM,
+                        RUNNING_AVG_FORMAT,
+                        halfLife);
+        fsyncMsRecordStream =
+                new RunningAverageMetric(
+                        STAT_CATEGORY,
+                        Names.FSYNC_MS_RECORD_STREAM,
+                        Descriptions.FSYNC_MS_RECORD_STREAM,
+                        RUNNING_AVG_FORMAT,
+                        halfLife);
+        signMsRecordStream =
+                new RunningAverageMetric(
+                        STAT_CATEGORY,
+                        Names.SIGN_MS_RECORD_STREAM,
+                        Descriptions.SIGN_MS_RECORD_STREAM,
+                        RUNNING_AVG_FORMAT,
+                        halfLife);
     }
 
     public void registerWith(final Platform platform) {
@@ -82,7 +138,14 @@ public class MiscRunningAvgs {
                 accountLookupRetries,
                 handledSubmitMessageSize,
                 writeQueueSizeRecordStream,
-                hashQueueSizeRecordStream);
+                hashQueueSizeRecordStream,
+                handoffQueueSizeRecordStream,
+                handoffBatchSizeRecordStream,
+                handoffStallMsRecordStream,
+                serializeMsRecordStream,
+                compressMsRecordStream,
+                fsyncMsRecordStream,
+                signMsRecordStream);
     }
 
     public void recordAccountLookupRetries(final int num) {
@@ -105,6 +168,34 @@ public class MiscRunningAvgs {
         hashQueueSizeRecordStream.recordValue(num);
     }
 
+    public void handoffQueueSizeRecordStream(final int num) {
+        handoffQueueSizeRecordStream.recordValue(num);
+    }
+
+    public void handoffBatchSizeRecordStream(final int num) {
+        handoffBatchSizeRecordStream.recordValue(num);
+    }
+
+    public void handoffStallMsRecordStream(final double ms) {
+        handoffStallMsRecordStream.recordValue(ms);
+    }
+
+    public void serializeMsRecordStream(final double ms) {
+        serializeMsRecordStream.recordValue(ms);
+    }
+
+    public void compressMsRecordStream(final double ms) {
+        compressMsRecordStream.recordValue(ms);
+    }
+
+    public void fsyncMsRecordStream(final double ms) {
+        fsyncMsRecordStream.recordValue(ms);
+    }
+
+    public void signMsRecordStream(final double ms) {
+        signMsRecordStream.recordValue(ms);
+    }
+
     public void recordGasPerConsSec(final long gas) {
         gasPerConsSec.recordValue(gas);
     }
@@ -117,6 +208,13 @@ public class MiscRunningAvgs {
 
         static final String WRITE_QUEUE_SIZE_RECORD_STREAM = "writeQueueSizeRecordStream";
         static final String HASH_QUEUE_SIZE_RECORD_STREAM = "hashQueueSizeRecordStream";
+        static final String HANDOFF_QUEUE_SIZE_RECORD_STREAM = "handoffQueueSizeRecordStream";
+        static final String HANDOFF_BATCH_SIZE_RECORD_STREAM = "handoffBatchSizeRecordStream";
+        static final String HANDOFF_STALL_MS_RECORD_STREAM = "handoffStallMsRecordStream";
+        static final String SERIALIZE_MS_RECORD_STREAM = "serializeMsRecordStream";
+        static final String COMPRESS_MS_RECORD_STREAM = "compressMsRecordStream";
+        static final String FSYNC_MS_RECORD_STREAM = "fsyncMsRecordStream";
+        static final String SIGN_MS_RECORD_STREAM = "signMsRecordStream";
 
         private Names() {
             throw new UnsupportedOperationException("Utility Class");
@@ -137,6 +235,20 @@ public class MiscRunningAvgs {
                 "size of the queue from which we take records and write to RecordStream file";
         static final String HASH_QUEUE_SIZE_RECORD_STREAM =
                 "size of working queue for calculating hash and runningHash";
+        static final String HANDOFF_QUEUE_SIZE_RECORD_STREAM =
+                "size of the buffer from which handled records are handed off to the RecordStream";
+        static final String HANDOFF_BATCH_SIZE_RECORD_STREAM =
+                "number of records handed off to the RecordStream in each batch";
+        static final String HANDOFF_STALL_MS_RECORD_STREAM =
+                "time in millis the handle thread waited on a full record handoff buffer";
+        static final String SERIALIZE_MS_RECORD_STREAM =
+                "time in millis to serialize a closed record or sidecar file";
+        static final String COMPRESS_MS_RECORD_STREAM =
+                "time in millis to compress (if enabled) and write a closed record or sidecar file";
+        static final String FSYNC_MS_RECORD_STREAM =
+                "time in millis to fsync a closed record or sidecar file to disk";
+        static final String SIGN_MS_RECORD_STREAM =
+                "time in millis to sign a record file and write its signature file";
 
         private Descriptions() {
             throw new UnsupportedOperationException("Utility Class");
@@ -172,4 +284,39 @@ public class MiscRunningAvgs {
     void setHashQueueSizeRecordStream(RunningAverageMetric hashQueueSizeRecordStream) {
         this.hashQueueSizeRecordStream = hashQueueSizeRecordStream;
     }
+
+    @VisibleForTesting
+    void setHandoffQueueSizeRecordStream(RunningAverageMetric handoffQueueSizeRecordStream) {
+        this.handoffQueueSizeRecordStream = handoffQueueSizeRecordStream;
+    }
+
+    @VisibleForTesting
+    void setHandoffBatchSizeRecordStream(RunningAverageMetric handoffBatchSizeRecordStream) {
+        this.handoffBatchSizeRecordStream = handoffBatchSizeRecordStream;
+    }
+
+    @VisibleForTesting
+    void setHandoffStallMsRecordStream(RunningAverageMetric handoffStallMsRecordStream) {
+        this.handoffStallMsRecordStream = handoffStallMsRecordStream;
+    }
+
+    @VisibleForTesting
+    void setSerializeMsRecordStream(RunningAverageMetric serializeMsRecordStream) {
+        this.serializeMsRecordStream = serializeMsRecordStream;
+    }
+
+    @VisibleForTesting
+    void setCompressMsRecordStream(RunningAverageMetric compressMsRecordStream) {
+        this.compressMsRecordStream = compressMsRecordStream;
+    }
+
+    @VisibleForTesting
+    void setFsyncMsRecordStream(RunningAverageMetric fsyncMsRecordStream) {
+        this.fsyncMsRecordStream = fsyncMsRecordStream;
+    }
+
+    @VisibleForTesting
+    void setSignMsRecordStream(RunningAverageMetric signMsRecordStream) {
+        this.signMsRecordStream = signMsRecordStream;
+    }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static com.hedera.services.stats.ServicesStatsManager.RUNNING_AVG_FORMAT;
+import static com.hedera.services.stats.ServicesStatsManager.STAT_CATEGORY;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.swirlds.common.metrics.Counter;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.system.Platform;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Back-pressure metrics for the {@link com.hedera.services.txns.prefetch.PrefetchProcessor}.
+ *
+ * <ul>
+ *   <li>A <i>hit</i> is a pre-fetch that finished before {@code handleTransaction} reached its
+ *       transaction.
+ *   <li>A <i>miss</i> is a pre-fetch that did not finish before {@code handleTransaction} reached
+ *       its transaction; if it had not yet started, it is skipped as stale.
+ *   <li>A <i>drop</i> is a pre-fetch that was never scheduled because the queue was full.
+ * </ul>
+ */
+@Singleton
+public class PrefetchStats {
+    private Counter hits;
+    private Counter misses;
+    private Counter drops;
+    private RunningAverageMetric queueWaitMs;
+    private RunningAverageMetric queueDepth;
+
+    @Inject
+    public PrefetchStats(final NodeLocalProperties nodeLocalProperties) {
+        this(nodeLocalProperties.statsRunningAvgHalfLifeSecs());
+    }
+
+    PrefetchStats(final double halfLife) {
+        hits = counterFor(Names.HITS, Descriptions.HITS);
+        misses = counterFor(Names.MISSES, Descriptions.MISSES);
+        drops = counterFor(Names.DROPS, Descriptions.DROPS);
+        queueWaitMs =
+                new RunningAverageMetric(
+                        STAT_CATEGORY,
+                        Names.QUEUE_WAIT_MS,
+                        Descriptions.QUEUE_WAIT_MS,
+                        RUNNING_AVG_FORMAT,
+                        halfLife);
+        queueDepth =
+                new RunningAverageMetric(
+                        STAT_CATEGORY,
+                        Names.QUEUE_DEPTH,
+                        Descriptions.QUEUE_DEPTH,
+                        RUNNING_AVG_FORMAT,
+                        halfLife);
+    }
+
+    public void registerWith(final Platform platform) {
+        platform.addAppMetrics(hits, misses, drops, queueWaitMs, queueDepth);
+    }
+
+    public void countHit() {
+        hits.increment();
+    }
+
+    public void countMiss() {
+        misses.increment();
+    }
+
+    public void countDrop() {
+        drops.increment();
+    }
+
+    public void recordQueueWaitMs(final double waitMs) {
+        queueWaitMs.recordValue(waitMs);
+    }
+
+    public void recordQueueDepth(final int depth) {
+        queueDepth.recordValue(depth);
+    }
+
+    private static Counter counterFor(final String name, final String description) {
+        return new Counter(STAT_CATEGORY, name, description, Counter.Mode.INCREASE_ONLY);
+    }
+
+    public static final class Names {
+        static final String HITS = "prefetchHits";
+        static final String MISSES = "prefetchMisses";
+        static final String DROPS = "prefetchDrops";
+        static final String QUEUE_WAIT_MS = "avgPrefetchQueueWaitMs";
+        static final String QUEUE_DEPTH = "avgPrefetchQueueDepth";
+
+        private Names() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+
+    public static final class Descriptions {
+        static final String HITS =
+                "number of pre-fetches completed before their transaction was handled";
+        static final String MISSES =
+                "number of pre-fetches that did not finish before their transaction was handled";
+        static final String DROPS =
+                "number of pre-fetches not scheduled because the pre-fetch queue was full";
+        static final String QUEUE_WAIT_MS =
+                "average time in millis a pre-fetch task waits in the queue before running";
+        static final String QUEUE_DEPTH =
+                "average number of pre-fetch tasks waiting when a new task is submitted";
+
+        private Descriptions() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+
+    @VisibleForTesting
+    void setHits(final Counter hits) {
+        this.hits = hits;
+    }
+
+    @VisibleForTesting
+    void setMisses(final Counter misses) {
+        this.misses = misses;
+    }
+
+    @VisibleForTesting
+    void setDrops(final Counter drops) {
+        this.drops = drops;
+    }
+
+    @VisibleForTesting
+    void setQueueWaitMs(final RunningAverageMetric queueWaitMs) {
+        this.queueWaitMs = queueWaitMs;
+    }
+
+    @VisibleForTesting
+    void setQueueDepth(final RunningAverageMetric queueDepth) {
+        this.queueDepth = queueDepth;
+    }
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static com.hedera.services.stats.ServicesStatsManager.RUNNING_AVG_FORMAT;
+import static com.hedera.services.stats.ServicesStatsManager.STAT_CATEGORY;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.queries.answering.QueryLanes.Lane;
+import com.swirlds.common.metrics.Counter;
+import com.swirlds.common.metrics.Metric;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.system.Platform;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Per-lane metrics for the {@link com.hedera.services.queries.answering.QueryLanes}.
+ *
+ * <p>Besides running averages of the queue depth, queue wait, and execution latency of each lane,
+ * the latencies are bucketed into increase-only counters with upper bounds given by {@link
+ * #LATENCY_BUCKET_BOUNDS_MS}; since the platform metrics have no histogram type, these counters
+ * (one of which is the unbounded overflow bucket) together serve as the lane's latency histogram.
+ */
+@Singleton
+public class QueryLaneStats {
+    static final long[] LATENCY_BUCKET_BOUNDS_MS = {1, 5, 25, 100, 500};
+
+    private final Map<Lane, RunningAverageMetric> queueDepths = new EnumMap<>(Lane.class);
+    private final Map<Lane, RunningAverageMetric> queueWaitsMs = new EnumMap<>(Lane.class);
+    private final Map<Lane, RunningAverageMetric> latenciesMs = new EnumMap<>(Lane.class);
+    private final Map<Lane, Counter> rejections = new EnumMap<>(Lane.class);
+    private final Map<Lane, Counter[]> latencyBuckets = new EnumMap<>(Lane.class);
+
+    @Inject
+    public QueryLaneStats(final NodeLocalProperties nodeLocalProperties) {
+        this(nodeLocalProperties.statsRunningAvgHalfLifeSecs());
+    }
+
+    QueryLaneStats(final double halfLife) {
+        for (final var lane : Lane.values()) {
+            final var prefix = Names.prefixFor(lane);
+            final var desc = Descriptions.suffixFor(lane);
+            queueDepths.put(
+                    lane,
+                    runningAvgFor(
+                            prefix + Names.QUEUE_DEPTH, Descriptions.QUEUE_DEPTH + desc, halfLife));
+            queueWaitsMs.put(
+                    lane,
+                    runningAvgFor(
+                            prefix + Names.QUEUE_WAIT_MS,
+                            Descriptions.QUEUE_WAIT_MS + desc,
+                            halfLife));
+            latenciesMs.put(
+                    lane,
+                    runningAvgFor(
+                            prefix + Names.LATENCY_MS, Descriptions.LATENCY_MS + desc, halfLife));
+            rejections.put(
+                    lane, counterFor(prefix + Names.REJECTIONS, Descriptions.REJECTIONS + desc));
+            final var buckets = new Counter[LATENCY_BUCKET_BOUNDS_MS.length + 1];
+            for (int i = 0; i < buckets.length; i++) {
+                buckets[i] =
+                        counterFor(
+                                prefix + Names.latencyBucket(i),
+                                Descriptions.latencyBucket(i) + desc);
+            }
+            latencyBuckets.put(lane, buckets);
+        }
+    }
+
+    public void registerWith(final Platform platform) {
+        final List<Metric> metrics = new ArrayList<>();
+        for (final var lane : Lane.values()) {
+            metrics.add(queueDepths.get(lane));
+            metrics.add(queueWaitsMs.get(lane));
+            metrics.add(latenciesMs.get(lane));
+            metrics.add(rejections.get(lane));
+            metrics.addAll(List.of(latencyBuckets.get(lane)));
+        }
+        platform.addAppMetrics(metrics.toArray(Metric[]::new));
+    }
+
+    public void recordQueueDepth(final Lane lane, final int depth) {
+        queueDepths.get(lane).recordValue(depth);
+    }
+
+    public void countRejection(final Lane lane) {
+        rejections.get(lane).increment();
+    }
+
+    public void recordTimes(final Lane lane, final long waitNanos, final long runNanos) {
+        queueWaitsMs.get(lane).recordValue(waitNanos / 1_000_000.0);
+        final var runMs = runNanos / 1_000_000.0;
+        latenciesMs.get(lane).recordValue(runMs);
+        latencyBuckets.get(lane)[bucketFor(runMs)].increment();
+    }
+
+    static int bucketFor(final double latencyMs) {
+        for (int i = 0; i < LATENCY_BUCKET_BOUNDS_MS.length; i++) {
+            if (latencyMs <= LATENCY_BUCKET_BOUNDS_MS[i]) {
+                return i;
+            }
+        }
+        return LATENCY_BUCKET_BOUNDS_MS.length;
+    }
+
+    private static RunningAverageMetric runningAvgFor(
+            final String name, final String description, final double halfLife) {
+        return new RunningAverageMetric(
+                STAT_CATEGORY, name, description, RUNNING_AVG_FORMAT, halfLife);
+    }
+
+    private static Counter counterFor(final String name, final String description) {
+        return new Counter(STAT_CATEGORY, name, description, Counter.Mode.INCREASE_ONLY);
+    }
+
+    public static final class Names {
+        static final String QUEUE_DEPTH = "LaneAvgQueueDepth";
+        static final String QUEUE_WAIT_MS = "LaneAvgQueueWaitMs";
+        static final String LATENCY_MS = "LaneAvgLatencyMs";
+        static final String REJECTIONS = "LaneRejections";
+
+        static String prefixFor(final Lane lane) {
+            return lane == Lane.CHEAP ? "queryCheap" : "queryCostly";
+        }
+
+        static String latencyBucket(final int i) {
+            return i < LATENCY_BUCKET_BOUNDS_MS.length
+                    ? "LaneLatencyLe" + LATENCY_BUCKET_BOUNDS_MS[i] + "Ms"
+                    : "LaneLatencyGt" + LATENCY_BUCKET_BOUNDS_MS[i - 1] + "Ms";
+        }
+
+        private Names() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+
+    public static final class Descriptions {
+        static final String QUEUE_DEPTH =
+                "average number of queries waiting when a query is queued";
+        static final String QUEUE_WAIT_MS =
+                "average time in millis a query waits in the queue before running";
+        static final String LATENCY_MS = "average time in millis to answer a query";
+        static final String REJECTIONS =
+                "number of queries answered BUSY because the queue was full";
+
+        static String suffixFor(final Lane lane) {
+            return lane == Lane.CHEAP ? " in the cheap query lane" : " in the costly query lane";
+        }
+
+        static String latencyBucket(final int i) {
+            return i < LATENCY_BUCKET_BOUNDS_MS.length
+                    ? "number of queries answered within " + LATENCY_BUCKET_BOUNDS_MS[i] + "ms"
+                    : "number of queries taking over " + LATENCY_BUCKET_BOUNDS_MS[i - 1] + "ms";
+        }
+
+        private Descriptions() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+
+    @VisibleForTesting
+    void setQueueDepth(final Lane lane, final RunningAverageMetric queueDepth) {
+        queueDepths.put(lane, queueDepth);
+    }
+
+    @VisibleForTesting
+    void setQueueWaitMs(final Lane lane, final RunningAverageMetric queueWaitMs) {
+        queueWaitsMs.put(lane, queueWaitMs);
+    }
+
+    @VisibleForTesting
+    void setLatencyMs(final Lane lane, final RunningAverageMetric latencyMs) {
+        latenciesMs.put(lane, latencyMs);
+    }
+
+    @VisibleForTesting
+    void setRejections(final Lane lane, final Counter rejectionCount) {
+        rejections.put(lane, rejectionCount);
+    }
+
+    @VisibleForTesting
+    void setLatencyBuckets(final Lane lane, final Counter[] buckets) {
+        latencyBuckets.put(lane, buckets);
+    }
+}
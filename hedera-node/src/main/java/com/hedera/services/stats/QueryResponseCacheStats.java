@@ -0,0 +1,111 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static com.hedera.services.stats.ServicesStatsManager.GAUGE_FORMAT;
+import static com.hedera.services.stats.ServicesStatsManager.STAT_CATEGORY;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.services.context.primitives.QueryResponseCache;
+import com.swirlds.common.metrics.DoubleGauge;
+import com.swirlds.common.system.Platform;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Gauges for the {@link QueryResponseCache} of rendered info query responses. The hit ratio is the
+ * percentage of lookups since the previous update that found a cached response; bytes used and
+ * evictions are instantaneous readings.
+ */
+@Singleton
+public class QueryResponseCacheStats {
+    private final QueryResponseCache responseCache;
+
+    private DoubleGauge hitRatio;
+    private DoubleGauge bytesUsed;
+    private DoubleGauge evictions;
+
+    private long lastHits = 0L;
+    private long lastMisses = 0L;
+
+    @Inject
+    public QueryResponseCacheStats(final QueryResponseCache responseCache) {
+        this.responseCache = responseCache;
+        hitRatio = gaugeFor(Names.HIT_RATIO, Descriptions.HIT_RATIO);
+        bytesUsed = gaugeFor(Names.BYTES_USED, Descriptions.BYTES_USED);
+        evictions = gaugeFor(Names.EVICTIONS, Descriptions.EVICTIONS);
+    }
+
+    public void registerWith(final Platform platform) {
+        platform.addAppMetrics(hitRatio, bytesUsed, evictions);
+    }
+
+    public void updateAll() {
+        final var hits = responseCache.hits();
+        final var misses = responseCache.misses();
+        final var newHits = hits - lastHits;
+        final var lookups = newHits + (misses - lastMisses);
+        if (lookups > 0) {
+            hitRatio.set(100.0 * newHits / lookups);
+        }
+        lastHits = hits;
+        lastMisses = misses;
+        bytesUsed.set(responseCache.bytesUsed());
+        evictions.set(responseCache.evictions());
+    }
+
+    private static DoubleGauge gaugeFor(final String name, final String description) {
+        return new DoubleGauge(STAT_CATEGORY, name, description, GAUGE_FORMAT);
+    }
+
+    public static final class Names {
+        static final String HIT_RATIO = "queryResponseCacheHitPercent";
+        static final String BYTES_USED = "queryResponseCacheBytesUsed";
+        static final String EVICTIONS = "queryResponseCacheEvictions";
+
+        private Names() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+
+    public static final class Descriptions {
+        static final String HIT_RATIO =
+                "percent of info query lookups served from the response cache since last update";
+        static final String BYTES_USED =
+                "total serialized bytes of responses in the query response cache";
+        static final String EVICTIONS =
+                "number of responses evicted from the response cache to stay within its size";
+
+        private Descriptions() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+
+    @VisibleForTesting
+    void setHitRatio(final DoubleGauge hitRatio) {
+        this.hitRatio = hitRatio;
+    }
+
+    @VisibleForTesting
+    void setBytesUsed(final DoubleGauge bytesUsed) {
+        this.bytesUsed = bytesUsed;
+    }
+
+    @VisibleForTesting
+    void setEvictions(final DoubleGauge evictions) {
+        this.evictions = evictions;
+    }
+}
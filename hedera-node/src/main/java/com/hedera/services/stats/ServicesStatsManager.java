@@ -57,6 +57,12 @@ public class ServicesStatsManager {
     private final NodeLocalProperties localProperties;
     private final ThrottleGauges throttleGauges;
     private final EntityUtilGauges entityUtilGauges;
+    private final PrefetchStats prefetchStats;
+    private final CodeCacheStats codeCacheStats;
+    private final AutoRenewStats autoRenewStats;
+    private final QueryLaneStats queryLaneStats;
+    private final QueryResponseCacheStats queryResponseCacheStats;
+    private final SigVerificationStats sigVerificationStats;
     private final Supplier<VirtualMap<ContractKey, IterableContractValue>> storage;
     private final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> bytecode;
 
@@ -69,6 +75,12 @@ public class ServicesStatsManager {
             final MiscSpeedometers speedometers,
             final HapiOpSpeedometers opSpeedometers,
             final NodeLocalProperties localProperties,
+            final PrefetchStats prefetchStats,
+            final CodeCacheStats codeCacheStats,
+            final AutoRenewStats autoRenewStats,
+            final QueryLaneStats queryLaneStats,
+            final QueryResponseCacheStats queryResponseCacheStats,
+            final SigVerificationStats sigVerificationStats,
             final Supplier<VirtualMap<ContractKey, IterableContractValue>> storage,
             final Supplier<VirtualMap<VirtualBlobKey, VirtualBlobValue>> bytecode) {
         this.storage = storage;
@@ -80,6 +92,12 @@ public class ServicesStatsManager {
         this.opSpeedometers = opSpeedometers;
         this.throttleGauges = throttleGauges;
         this.entityUtilGauges = entityUtilGauges;
+        this.prefetchStats = prefetchStats;
+        this.codeCacheStats = codeCacheStats;
+        this.autoRenewStats = autoRenewStats;
+        this.queryLaneStats = queryLaneStats;
+        this.queryResponseCacheStats = queryResponseCacheStats;
+        this.sigVerificationStats = sigVerificationStats;
     }
 
     public void initializeFor(final Platform platform) {
@@ -89,6 +107,12 @@ public class ServicesStatsManager {
         throttleGauges.registerWith(platform);
         opSpeedometers.registerWith(platform);
         entityUtilGauges.registerWith(platform);
+        prefetchStats.registerWith(platform);
+        codeCacheStats.registerWith(platform);
+        autoRenewStats.registerWith(platform);
+        queryLaneStats.registerWith(platform);
+        queryResponseCacheStats.registerWith(platform);
+        sigVerificationStats.registerWith(platform);
         storage.get().registerStatistics(platform::addAppMetrics);
         bytecode.get().registerStatistics(platform::addAppMetrics);
 
@@ -128,6 +152,9 @@ public class ServicesStatsManager {
                             }
                             if (n % pausesBetweenEntityUtilUpdate == 0) {
                                 entityUtilGauges.updateAll();
+                                codeCacheStats.updateAll();
+                                queryResponseCacheStats.updateAll();
+                                autoRenewStats.updateAll();
                             }
                         });
 
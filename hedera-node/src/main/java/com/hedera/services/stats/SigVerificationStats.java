@@ -0,0 +1,123 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static com.hedera.services.stats.ServicesStatsManager.RUNNING_AVG_FORMAT;
+import static com.hedera.services.stats.ServicesStatsManager.STAT_CATEGORY;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.system.Platform;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+
+/**
+ * Metrics for the {@link com.hedera.services.sigs.SigVerificationBatcher}.
+ *
+ * <ul>
+ *   <li>The <i>batch size</i> is the number of signatures in a batch submitted to the platform's
+ *       crypto engine.
+ *   <li>The <i>dedup percent</i> is the share of the signatures submitted in a round that were
+ *       skipped because an identical signature was already submitted in that round.
+ *   <li>The <i>verification latency</i> is the time from a batch's submission until the batcher
+ *       saw its verification complete; since the batcher only checks when it has other work, this
+ *       is an upper bound.
+ * </ul>
+ */
+@Singleton
+public class SigVerificationStats {
+    private RunningAverageMetric batchSize;
+    private RunningAverageMetric dedupPercent;
+    private RunningAverageMetric verificationLatencyMs;
+
+    @Inject
+    public SigVerificationStats(final NodeLocalProperties nodeLocalProperties) {
+        this(nodeLocalProperties.statsRunningAvgHalfLifeSecs());
+    }
+
+    SigVerificationStats(final double halfLife) {
+        batchSize = runningAvgFor(Names.BATCH_SIZE, Descriptions.BATCH_SIZE, halfLife);
+        dedupPercent = runningAvgFor(Names.DEDUP_PERCENT, Descriptions.DEDUP_PERCENT, halfLife);
+        verificationLatencyMs =
+                runningAvgFor(
+                        Names.VERIFICATION_LATENCY_MS,
+                        Descriptions.VERIFICATION_LATENCY_MS,
+                        halfLife);
+    }
+
+    public void registerWith(final Platform platform) {
+        platform.addAppMetrics(batchSize, dedupPercent, verificationLatencyMs);
+    }
+
+    public void recordBatchSize(final int size) {
+        batchSize.recordValue(size);
+    }
+
+    public void recordRoundDedup(final int numSubmitted, final int numDuplicates) {
+        if (numSubmitted > 0) {
+            dedupPercent.recordValue(100.0 * numDuplicates / numSubmitted);
+        }
+    }
+
+    public void recordVerificationLatencyNanos(final long latencyNanos) {
+        verificationLatencyMs.recordValue(latencyNanos / 1_000_000.0);
+    }
+
+    private static RunningAverageMetric runningAvgFor(
+            final String name, final String description, final double halfLife) {
+        return new RunningAverageMetric(
+                STAT_CATEGORY, name, description, RUNNING_AVG_FORMAT, halfLife);
+    }
+
+    public static final class Names {
+        static final String BATCH_SIZE = "avgSigVerificationBatchSize";
+        static final String DEDUP_PERCENT = "avgSigVerificationDedupPercent";
+        static final String VERIFICATION_LATENCY_MS = "avgSigVerificationLatencyMs";
+
+        private Names() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+
+    public static final class Descriptions {
+        static final String BATCH_SIZE =
+                "average number of signatures per batch submitted to the crypto engine";
+        static final String DEDUP_PERCENT =
+                "average percent of a round's signatures skipped as duplicates";
+        static final String VERIFICATION_LATENCY_MS =
+                "average time in millis from submitting a signature batch to its verification";
+
+        private Descriptions() {
+            throw new UnsupportedOperationException("Utility Class");
+        }
+    }
+
+    @VisibleForTesting
+    void setBatchSize(final RunningAverageMetric batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @VisibleForTesting
+    void setDedupPercent(final RunningAverageMetric dedupPercent) {
+        this.dedupPercent = dedupPercent;
+    }
+
+    @VisibleForTesting
+    void setVerificationLatencyMs(final RunningAverageMetric verificationLatencyMs) {
+        this.verificationLatencyMs = verificationLatencyMs;
+    }
+}
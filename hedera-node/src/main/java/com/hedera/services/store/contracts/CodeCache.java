@@ -23,80 +23,130 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.utils.BytesKey;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 import javax.inject.Inject;
 import javax.inject.Singleton;
+import org.apache.tuweni.bytes.Bytes;
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.evm.Code;
 
 /**
- * Weak reference cache with expiration TTL for EVM bytecode. This cache is primarily used to store
- * bytecode pre-fetched during prepare phase (aka expand signatures) to be used later on during the
- * handle phase (aka handle transaction). The cache also has the side effect of eliminating bytecode
- * reads from the underlying store if the contract is called repeatedly during a short period of
- * time.
+ * Content-addressed cache for EVM bytecode. This cache is primarily used to store bytecode
+ * pre-fetched during prepare phase (aka expand signatures) to be used later on during the handle
+ * phase (aka handle transaction). The cache also has the side effect of eliminating bytecode reads
+ * from the underlying store if the contract is called repeatedly during a short period of time.
+ *
+ * <p>The {@link Code} values are keyed by their code hash, so contracts deployed with identical
+ * bytecode share a single entry; and each value's jump destination analysis is done once, when it
+ * is loaded, and then reused by every call. The code cache is bounded by the total size of the
+ * cached bytecode; a small side index from contract address to code hash expires after the
+ * configured TTL.
  *
  * <p>This cache assumes that the bytecode values are immutable, hence no logic to determine whether
  * a value is stale is present.
  */
 @Singleton
 public class CodeCache {
+    static final long DEFAULT_MAX_BYTES = 128L * 1024 * 1024;
+
     private final EntityAccess entityAccess;
-    private final Cache<BytesKey, Code> cache;
+    private final Cache<BytesKey, Hash> codeHashes;
+    private final Cache<Hash, Code> cache;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
 
     @Inject
     public CodeCache(final NodeLocalProperties properties, final EntityAccess entityAccess) {
-        this(properties.prefetchCodeCacheTtlSecs(), entityAccess);
+        this(
+                properties.prefetchCodeCacheTtlSecs(),
+                properties.prefetchCodeCacheMaxBytes(),
+                entityAccess);
     }
 
     public CodeCache(final int cacheTTL, final EntityAccess entityAccess) {
+        this(cacheTTL, DEFAULT_MAX_BYTES, entityAccess);
+    }
+
+    public CodeCache(final int cacheTTL, final long maxBytes, final EntityAccess entityAccess) {
         this.entityAccess = entityAccess;
+        this.codeHashes =
+                Caffeine.newBuilder().expireAfterAccess(cacheTTL, TimeUnit.SECONDS).build();
         this.cache =
                 Caffeine.newBuilder()
-                        .expireAfterAccess(cacheTTL, TimeUnit.SECONDS)
-                        .softValues()
+                        .maximumWeight(maxBytes)
+                        .weigher((Hash codeHash, Code code) -> code.getBytes().size())
+                        .recordStats()
                         .build();
     }
 
     public Code getIfPresent(final Address address) {
         final var cacheKey = new BytesKey(address.toArray());
 
-        var code = cache.getIfPresent(cacheKey);
-
-        if (code != null) {
-            return code;
+        final var codeHash = codeHashes.getIfPresent(cacheKey);
+        if (codeHash != null) {
+            final var code = cache.getIfPresent(codeHash);
+            if (code != null) {
+                hits.increment();
+                return code;
+            }
         }
+        misses.increment();
 
+        final Bytes bytecode;
         if (entityAccess.isTokenAccount(address)) {
-            final var interpolatedBytecode = proxyBytecodeFor(address);
-            code = Code.createLegacyCode(interpolatedBytecode, Hash.hash(interpolatedBytecode));
-            cache.put(cacheKey, code);
-            return code;
+            bytecode = proxyBytecodeFor(address);
+        } else {
+            bytecode = entityAccess.fetchCodeIfPresent(accountIdFromEvmAddress(address));
+            if (bytecode == null) {
+                return null;
+            }
         }
-
-        final var bytecode = entityAccess.fetchCodeIfPresent(accountIdFromEvmAddress(address));
-        if (bytecode != null) {
-            code = Code.createLegacyCode(bytecode, Hash.hash(bytecode));
-            cache.put(cacheKey, code);
-        }
-
+        final var loadedHash = Hash.hash(bytecode);
+        final var code = cache.get(loadedHash, ignore -> analyzed(bytecode, loadedHash));
+        codeHashes.put(cacheKey, loadedHash);
         return code;
     }
 
     public void invalidate(Address address) {
-        cache.invalidate(new BytesKey(address.toArray()));
+        codeHashes.invalidate(new BytesKey(address.toArray()));
     }
 
     public long size() {
         return cache.estimatedSize();
     }
 
+    public long hits() {
+        return hits.sum();
+    }
+
+    public long misses() {
+        return misses.sum();
+    }
+
+    public long evictions() {
+        return cache.stats().evictionCount();
+    }
+
+    public long bytesUsed() {
+        return cache.policy().eviction().orElseThrow().weightedSize().orElse(0L);
+    }
+
+    private static Code analyzed(final Bytes bytecode, final Hash codeHash) {
+        final var code = Code.createLegacyCode(bytecode, codeHash);
+        // Any in-range query forces (and memoizes) the jump destination analysis now, on the
+        // loading thread, instead of on the first JUMP executed by the EVM
+        code.isJumpDestInvalid(0);
+        return code;
+    }
+
     /* --- Only used by unit tests --- */
-    Cache<BytesKey, Code> getCache() {
+    Cache<Hash, Code> getCache() {
         return cache;
     }
 
     void cacheValue(BytesKey key, Code value) {
-        cache.put(key, value);
+        cache.put(value.getCodeHash(), value);
+        codeHashes.put(key, value.getCodeHash());
     }
 }
@@ -14,6 +14,7 @@
  * limitations under the License.
  */
 package com.hedera.services.store.contracts;
+import static com.hedera.services.state.merkle.internals.BlobKey.BlobType.CONTRACT_BYTECODE;
 
 import static com.hedera.services.store.contracts.StaticEntityAccess.explicitCodeFetch;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCall;
@@ -143,8 +144,7 @@ public class MutableEntityAccess implements EntityAccess {
 
     @Override
     public void storeCode(final AccountID id, final Bytes code) {
-        final var key =
-                new VirtualBlobKey(VirtualBlobKey.Type.CONTRACT_BYTECODE, (int) id.getAccountNum());
+        final var key = VirtualBlobKey.of(CONTRACT_BYTECODE, id.getAccountNum());
         final var value = new VirtualBlobValue(code.toArray());
         bytecode.get().put(key, value);
     }
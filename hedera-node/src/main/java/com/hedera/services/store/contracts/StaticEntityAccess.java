@@ -17,7 +17,7 @@ package com.hedera.services.store.contracts;
 
 import static com.hedera.services.exceptions.ValidationUtils.validateTrue;
 import static com.hedera.services.exceptions.ValidationUtils.validateTrueOrRevert;
-import static com.hedera.services.state.merkle.internals.BitPackUtils.codeFromNum;
+import static com.hedera.services.state.merkle.internals.BlobKey.BlobType.CONTRACT_BYTECODE;
 import static com.hedera.services.state.submerkle.EntityId.MISSING_ENTITY_ID;
 import static com.hedera.services.utils.EntityNum.fromAccountId;
 import static com.hedera.services.utils.EntityNumPair.fromAccountTokenRel;
@@ -171,8 +171,7 @@ public class StaticEntityAccess implements EntityAccess {
     @Nullable
     public static Bytes explicitCodeFetch(
             final VirtualMap<VirtualBlobKey, VirtualBlobValue> bytecode, final long contractNum) {
-        final var key =
-                new VirtualBlobKey(VirtualBlobKey.Type.CONTRACT_BYTECODE, codeFromNum(contractNum));
+        final var key = VirtualBlobKey.of(CONTRACT_BYTECODE, contractNum);
         final var value = bytecode.get(key);
         return (value != null) ? Bytes.of(value.getData()) : null;
     }
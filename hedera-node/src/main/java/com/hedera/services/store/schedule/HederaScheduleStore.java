@@ -71,6 +71,8 @@ import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.NavigableMap;
+import java.util.TreeMap;
 import java.util.function.Consumer;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
@@ -91,6 +93,13 @@ public final class HederaScheduleStore extends HederaStore implements ScheduleSt
     private final GlobalDynamicProperties properties;
     private final Supplier<MerkleScheduledTransactions> schedules;
 
+    /**
+     * Writable copies of the by-second buckets changed in the current processing pass, in second
+     * order; so that each bucket is written back (and re-hashed) once per pass, instead of once
+     * per expired schedule.
+     */
+    private final NavigableMap<Long, ScheduleSecondVirtualValue> pendingBySecond = new TreeMap<>();
+
     ScheduleID pendingId = NO_PENDING_ID;
     ScheduleVirtualValue pendingCreation;
 
@@ -227,6 +236,7 @@ public final class HederaScheduleStore extends HederaStore implements ScheduleSt
     @Override
     public void commitCreation() {
         throwIfNoCreationPending();
+        flushPendingExpirations();
 
         var id = new EntityNumVirtualKey(fromScheduleId(pendingId));
         schedules.get().byId().put(id, pendingCreation);
@@ -344,22 +354,15 @@ public final class HederaScheduleStore extends HederaStore implements ScheduleSt
 
         if (existingSchedule != null) {
 
-            var secondKey =
-                    new SecondSinceEpocVirtualKey(
-                            existingSchedule.calculatedExpirationTime().getSeconds());
+            var second = existingSchedule.calculatedExpirationTime().getSeconds();
 
-            var bySecond = schedules.get().byExpirationSecond().get(secondKey);
+            var bySecond = bySecondOrPending(second);
 
             if (bySecond != null) {
-                bySecond = bySecond.asWritable();
-                bySecond.removeId(
-                        existingSchedule.calculatedExpirationTime(), idToDelete.getKeyAsLong());
-
-                if (bySecond.getIds().isEmpty()) {
-                    schedules.get().byExpirationSecond().remove(secondKey);
-                } else {
-                    schedules.get().byExpirationSecond().put(secondKey, bySecond);
-                }
+                pendingFor(second, bySecond)
+                        .removeId(
+                                existingSchedule.calculatedExpirationTime(),
+                                idToDelete.getKeyAsLong());
             }
 
             var equalityKey = new ScheduleEqualityVirtualKey(existingSchedule.equalityCheckKey());
@@ -386,11 +389,7 @@ public final class HederaScheduleStore extends HederaStore implements ScheduleSt
 
         long curSecond = schedules.get().getCurrentMinSecond();
 
-        while ((consensusTime.getEpochSecond() > curSecond)
-                && (!schedules
-                        .get()
-                        .byExpirationSecond()
-                        .containsKey(new SecondSinceEpocVirtualKey(curSecond)))) {
+        while ((consensusTime.getEpochSecond() > curSecond) && !hasBySecond(curSecond)) {
 
             ++curSecond;
             changed = true;
@@ -415,9 +414,7 @@ public final class HederaScheduleStore extends HederaStore implements ScheduleSt
             return Collections.emptyList();
         }
 
-        final var bySecondKey = new SecondSinceEpocVirtualKey(curSecond);
-
-        var bySecond = schedules.get().byExpirationSecond().get(bySecondKey);
+        var bySecond = bySecondOrPending(curSecond);
 
         final List<ScheduleID> list = new ArrayList<>();
         final List<Pair<RichInstant, Long>> toRemove = new ArrayList<>();
@@ -461,16 +458,13 @@ public final class HederaScheduleStore extends HederaStore implements ScheduleSt
             }
 
             if ((!toRemove.isEmpty()) || bySecond.getIds().isEmpty()) {
-                bySecond = bySecond.asWritable();
+                bySecond = pendingFor(curSecond, bySecond);
                 for (var p : toRemove) {
                     bySecond.removeId(p.getKey(), p.getValue());
                 }
 
                 if (bySecond.getIds().size() <= 0) {
                     log.error("bySecond was unexpectedly empty! Removing it! second={}", curSecond);
-                    schedules.get().byExpirationSecond().remove(bySecondKey);
-                } else {
-                    schedules.get().byExpirationSecond().put(bySecondKey, bySecond);
                 }
             }
         }
@@ -488,8 +482,7 @@ public final class HederaScheduleStore extends HederaStore implements ScheduleSt
             return null;
         }
 
-        final var bySecond =
-                schedules.get().byExpirationSecond().get(new SecondSinceEpocVirtualKey(curSecond));
+        final var bySecond = bySecondOrPending(curSecond);
 
         if (bySecond != null) {
             for (var ids : bySecond.getIds().values()) {
@@ -531,7 +524,48 @@ public final class HederaScheduleStore extends HederaStore implements ScheduleSt
 
     @Override
     public ScheduleSecondVirtualValue getBySecond(long second) {
-        return schedules.get().byExpirationSecond().get(new SecondSinceEpocVirtualKey(second));
+        return bySecondOrPending(second);
+    }
+
+    @Override
+    public void flushPendingExpirations() {
+        if (pendingBySecond.isEmpty()) {
+            return;
+        }
+        final var byExpirationSecond = schedules.get().byExpirationSecond();
+        for (var entry : pendingBySecond.entrySet()) {
+            final var key = new SecondSinceEpocVirtualKey(entry.getKey());
+            final var bySecond = entry.getValue();
+            if (bySecond.getIds().isEmpty()) {
+                byExpirationSecond.remove(key);
+            } else {
+                byExpirationSecond.put(key, bySecond);
+            }
+        }
+        pendingBySecond.clear();
+    }
+
+    @Nullable
+    private ScheduleSecondVirtualValue bySecondOrPending(final long second) {
+        final var pending = pendingBySecond.get(second);
+        return (pending != null)
+                ? pending
+                : schedules.get().byExpirationSecond().get(new SecondSinceEpocVirtualKey(second));
+    }
+
+    private ScheduleSecondVirtualValue pendingFor(
+            final long second, final ScheduleSecondVirtualValue current) {
+        return pendingBySecond.computeIfAbsent(second, ignore -> current.asWritable());
+    }
+
+    private boolean hasBySecond(final long second) {
+        final var pending = pendingBySecond.get(second);
+        return (pending != null)
+                ? !pending.getIds().isEmpty()
+                : schedules
+                        .get()
+                        .byExpirationSecond()
+                        .containsKey(new SecondSinceEpocVirtualKey(second));
     }
 
     private boolean shouldProcessSecond(final Instant consensusTime, final long curSecond) {
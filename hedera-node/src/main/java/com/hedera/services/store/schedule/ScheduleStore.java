@@ -60,4 +60,12 @@ public interface ScheduleStore extends Store<ScheduleID, ScheduleVirtualValue> {
 
     @Nullable
     ScheduleSecondVirtualValue getBySecond(long second);
+
+    /**
+     * Writes back any by-second buckets changed by {@link #expire(ScheduleID)} or {@link
+     * #nextSchedulesToExpire(Instant)} since the last flush. Until then, the changes are visible
+     * through this store, but not in the underlying state; so this must be called before the
+     * current transaction finishes.
+     */
+    void flushPendingExpirations();
 }
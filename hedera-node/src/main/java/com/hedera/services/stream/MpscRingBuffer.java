@@ -0,0 +1,118 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stream;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * A bounded, lock-free ring buffer for many producers and a single consumer.
+ *
+ * <p>Producers claim a slot by CAS on the tail sequence, then publish their element into it. The
+ * consumer drains published elements in claim order, clearing each slot before advancing the head;
+ * it stops at the first claimed-but-unpublished slot, so ordering is never violated.
+ *
+ * @param <T> the type of element in the buffer
+ */
+public final class MpscRingBuffer<T> {
+    private final int mask;
+    private final int capacity;
+    private final AtomicLong head = new AtomicLong();
+    private final AtomicLong tail = new AtomicLong();
+    private final AtomicReferenceArray<T> slots;
+
+    /**
+     * Creates a buffer holding at least the requested number of elements (rounded up to the next
+     * power of two).
+     *
+     * @param requestedCapacity the minimum capacity
+     */
+    public MpscRingBuffer(final int requestedCapacity) {
+        if (requestedCapacity < 1 || requestedCapacity > (1 << 30)) {
+            throw new IllegalArgumentException("Unusable capacity " + requestedCapacity);
+        }
+        capacity = requestedCapacity == 1 ? 1 : Integer.highestOneBit(requestedCapacity - 1) << 1;
+        mask = capacity - 1;
+        slots = new AtomicReferenceArray<>(capacity);
+    }
+
+    /**
+     * Attempts to add an element to the buffer without blocking. Safe to call from any thread.
+     *
+     * @param element the element to add
+     * @return whether the element was added; false if the buffer was full
+     */
+    public boolean offer(final T element) {
+        Objects.requireNonNull(element);
+        long claim;
+        do {
+            claim = tail.get();
+            if (claim - head.get() >= capacity) {
+                return false;
+            }
+        } while (!tail.compareAndSet(claim, claim + 1));
+        slots.lazySet(indexOf(claim), element);
+        return true;
+    }
+
+    /**
+     * Moves up to {@code maxElements} published elements into the given collection, in the order
+     * they were claimed. Must only be called from the single consumer thread.
+     *
+     * @param sink the collection to receive the elements
+     * @param maxElements the most elements to move
+     * @return the number of elements moved
+     */
+    public int drainTo(final Collection<? super T> sink, final int maxElements) {
+        long next = head.get();
+        int n = 0;
+        while (n < maxElements) {
+            final var i = indexOf(next);
+            final var element = slots.get(i);
+            if (element == null) {
+                break;
+            }
+            slots.lazySet(i, null);
+            sink.add(element);
+            next++;
+            n++;
+        }
+        if (n > 0) {
+            head.lazySet(next);
+        }
+        return n;
+    }
+
+    /**
+     * Returns the number of claimed slots; may briefly include elements whose producers have not
+     * yet finished publishing them.
+     *
+     * @return the approximate number of elements in the buffer
+     */
+    public int size() {
+        return (int) Math.max(0, tail.get() - head.get());
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+
+    private int indexOf(final long sequence) {
+        return (int) (sequence & mask);
+    }
+}
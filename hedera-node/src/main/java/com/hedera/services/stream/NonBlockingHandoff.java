@@ -18,51 +18,122 @@ package com.hedera.services.stream;
 import static java.util.concurrent.Executors.newSingleThreadExecutor;
 
 import com.hedera.services.context.properties.NodeLocalProperties;
-import java.util.concurrent.ArrayBlockingQueue;
-import java.util.concurrent.BlockingQueue;
+import com.hedera.services.stats.MiscRunningAvgs;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.LockSupport;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
+/**
+ * Hands off {@link RecordStreamObject}s from the handle thread to the {@link RecordStreamManager}
+ * without making the handle thread wait on record stream hashing or file I/O.
+ *
+ * <p>Records are published into a lock-free {@link MpscRingBuffer}; a single consumer thread
+ * drains them in batches of up to {@link #MAX_BATCH_SIZE} and passes each batch to {@link
+ * RecordStreamManager#addRecordStreamObjects(List)}, which in turn fans the records out to its
+ * independent running-hash and file-writing queues. When the buffer is empty the consumer parks
+ * until a producer publishes a record and unparks it, so an idle handoff uses no CPU.
+ */
 @Singleton
 public class NonBlockingHandoff {
     private static final int MIN_CAPACITY = 5_000;
+    static final int MAX_BATCH_SIZE = 256;
 
     private ExecutorService executor = newSingleThreadExecutor();
 
     private final AtomicBoolean timeToStop = new AtomicBoolean(false);
+    private final AtomicBoolean consumerParked = new AtomicBoolean(false);
+    private final MiscRunningAvgs runningAvgs;
     private final RecordStreamManager recordStreamManager;
-    private final BlockingQueue<RecordStreamObject> queue;
+    private final MpscRingBuffer<RecordStreamObject> buffer;
+
+    private volatile Thread consumer;
 
     @Inject
     public NonBlockingHandoff(
             final RecordStreamManager recordStreamManager,
-            final NodeLocalProperties nodeLocalProperties) {
+            final NodeLocalProperties nodeLocalProperties,
+            final MiscRunningAvgs runningAvgs) {
         this.recordStreamManager = recordStreamManager;
+        this.runningAvgs = runningAvgs;
         final int capacity =
                 Math.max(MIN_CAPACITY, nodeLocalProperties.recordStreamQueueCapacity());
-        queue = new ArrayBlockingQueue<>(capacity);
+        buffer = new MpscRingBuffer<>(capacity);
         executor.execute(this::handoff);
         Runtime.getRuntime().addShutdownHook(new Thread(getShutdownHook()));
     }
 
     public boolean offer(RecordStreamObject rso) {
-        return queue.offer(rso);
+        if (buffer.offer(rso)) {
+            wakeConsumer();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Hands off the given record, spinning until there is room for it in the buffer; any time
+     * spent waiting is recorded as a stall.
+     *
+     * @param rso the record to hand off
+     */
+    public void put(final RecordStreamObject rso) {
+        if (offer(rso)) {
+            return;
+        }
+        final var stallStart = System.nanoTime();
+        while (!offer(rso)) {
+            Thread.onSpinWait();
+        }
+        runningAvgs.handoffStallMsRecordStream((System.nanoTime() - stallStart) / 1_000_000.0);
     }
 
     private void handoff() {
+        consumer = Thread.currentThread();
+        final List<RecordStreamObject> batch = new ArrayList<>(MAX_BATCH_SIZE);
         while (!timeToStop.get()) {
-            try {
-                recordStreamManager.addRecordStreamObject(queue.take());
-            } catch (final InterruptedException e) {
-                // Thread interrupted because of shutdown.
-                Thread.currentThread().interrupt();
-                break;
+            final var depth = buffer.size();
+            if (buffer.drainTo(batch, MAX_BATCH_SIZE) == 0) {
+                awaitRecords();
+                if (Thread.currentThread().isInterrupted()) {
+                    // Thread interrupted because of shutdown.
+                    break;
+                }
+                continue;
             }
+            runningAvgs.handoffQueueSizeRecordStream(depth);
+            runningAvgs.handoffBatchSizeRecordStream(batch.size());
+            recordStreamManager.addRecordStreamObjects(batch);
+            batch.clear();
         }
     }
 
+    /**
+     * Parks the consumer until a producer publishes a record. The flag is raised before
+     * re-checking the buffer, so a producer that publishes after the check is sure to see it and
+     * unpark us; and an unpark that arrives before we park just makes the park return at once.
+     */
+    private void awaitRecords() {
+        consumerParked.set(true);
+        if (buffer.size() == 0 && !timeToStop.get()) {
+            LockSupport.park(this);
+        }
+        consumerParked.set(false);
+    }
+
+    private void wakeConsumer() {
+        if (consumerParked.get() && consumerParked.compareAndSet(true, false)) {
+            LockSupport.unpark(consumer);
+        }
+    }
+
+    MpscRingBuffer<RecordStreamObject> getBuffer() {
+        return buffer;
+    }
+
     ExecutorService getExecutor() {
         return executor;
     }
@@ -74,6 +145,10 @@ public class NonBlockingHandoff {
     Runnable getShutdownHook() {
         return () -> {
             timeToStop.set(true);
+            final var parked = consumer;
+            if (parked != null) {
+                LockSupport.unpark(parked);
+            }
             executor.shutdown();
         };
     }
@@ -81,4 +156,8 @@ public class NonBlockingHandoff {
     AtomicBoolean getTimeToStop() {
         return timeToStop;
     }
+
+    AtomicBoolean getConsumerParked() {
+        return consumerParked;
+    }
 }
@@ -28,12 +28,12 @@ import com.google.protobuf.CodedOutputStream;
 import com.google.protobuf.Message;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.legacy.proto.utils.ByteStringUtils;
+import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.stream.proto.HashAlgorithm;
 import com.hedera.services.stream.proto.HashObject;
 import com.hedera.services.stream.proto.RecordStreamFile;
 import com.hedera.services.stream.proto.RecordStreamItem;
 import com.hedera.services.stream.proto.SidecarFile;
-import com.hedera.services.stream.proto.SidecarFile.Builder;
 import com.hedera.services.stream.proto.SidecarMetadata;
 import com.hedera.services.stream.proto.SidecarType;
 import com.hedera.services.stream.proto.SignatureFile;
@@ -57,8 +57,15 @@ import java.io.IOException;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.zip.GZIPOutputStream;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -68,6 +75,8 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
 
     private static final DigestType currentDigestType = DigestType.SHA_384;
     private static final String COMPRESSION_EXTENSION = ".gz";
+    private static final String FINALIZER_THREAD_NAME = "record-stream-finalizer";
+    private static final long FINALIZER_SHUTDOWN_TIMEOUT_SECS = 30;
 
     /** < * the current record stream type; used to obtain file extensions and versioning */
     private final RecordStreamType streamType;
@@ -81,11 +90,15 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
     /**
      * a messageDigest object for digesting metaData in the stream file and generating metaData
      * hash. Metadata contains: record stream version || HAPI proto version || startRunningHash ||
-     * endRunningHash || blockNumber, where || denotes concatenation
+     * endRunningHash || blockNumber, where || denotes concatenation. A fresh digest is used for
+     * each file, since the finalizer may still be digesting the previous file's metadata.
      */
-    private final MessageDigest metadataStreamDigest;
+    private MessageDigest metadataStreamDigest;
 
-    /** a messageDigest object for digesting sidecar files and generating sidecar file hash */
+    /**
+     * a messageDigest object for digesting sidecar files and generating sidecar file hash; only
+     * used by the finalizer
+     */
     private final MessageDigest sidecarStreamDigest;
 
     /**
@@ -155,6 +168,24 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
     private final EnumSet<SidecarType> sidecarTypesInCurrentSidecar;
     private final GlobalDynamicProperties dynamicProperties;
 
+    /**
+     * Metadata of the sidecar files already written for the current file. Only read or written by
+     * the finalizer, which adds it to the record file once that is closed.
+     */
+    private List<SidecarMetadata.Builder> sidecarMetadata = new ArrayList<>();
+
+    /**
+     * Single-threaded executor that writes, compresses, fsyncs and signs closed files (and full
+     * sidecar files) off the thread receiving objects; running on one thread keeps them in order.
+     */
+    private final Executor finalizer;
+
+    /** Completes once everything handed to the finalizer so far has been written. */
+    private CompletableFuture<Void> lastFinalization = CompletableFuture.completedFuture(null);
+
+    /** Records how long each stage of finalizing a file takes */
+    private final MiscRunningAvgs runningAvgs;
+
     public RecordStreamFileWriter(
             final String dirPath,
             final long logPeriodMs,
@@ -163,7 +194,33 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
             final RecordStreamType streamType,
             final String sidecarDirPath,
             final int maxSidecarFileSize,
-            final GlobalDynamicProperties globalDynamicProperties)
+            final GlobalDynamicProperties globalDynamicProperties,
+            final MiscRunningAvgs runningAvgs)
+            throws NoSuchAlgorithmException {
+        this(
+                dirPath,
+                logPeriodMs,
+                signer,
+                startWriteAtCompleteWindow,
+                streamType,
+                sidecarDirPath,
+                maxSidecarFileSize,
+                globalDynamicProperties,
+                runningAvgs,
+                newFinalizer());
+    }
+
+    RecordStreamFileWriter(
+            final String dirPath,
+            final long logPeriodMs,
+            final Signer signer,
+            final boolean startWriteAtCompleteWindow,
+            final RecordStreamType streamType,
+            final String sidecarDirPath,
+            final int maxSidecarFileSize,
+            final GlobalDynamicProperties globalDynamicProperties,
+            final MiscRunningAvgs runningAvgs,
+            final Executor finalizer)
             throws NoSuchAlgorithmException {
         this.dirPath = dirPath;
         this.logPeriodMs = logPeriodMs;
@@ -178,6 +235,8 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
         this.sidecarFileId = 1;
         this.maxSidecarFileSize = maxSidecarFileSize;
         this.dynamicProperties = globalDynamicProperties;
+        this.runningAvgs = runningAvgs;
+        this.finalizer = finalizer;
     }
 
     @Override
@@ -256,141 +315,168 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
     }
 
     /**
-     * if recordStreamFile is not null: write last runningHash to current file; close current file;
-     * and generate a corresponding signature file
+     * if recordStreamFile is not null: hand the current file off to the finalizer, which writes the
+     * last runningHash to it, closes it and generates a corresponding signature file.
+     *
+     * <p>Files are double-buffered: the finalizer works on the closed file while this thread keeps
+     * accepting objects into a fresh one. Before handing off another file we wait for the previous
+     * one to finish, so at most one closed file is ever in flight.
      */
     public void closeCurrentAndSign() {
         if (recordStreamFileBuilder != null) {
-            // generate record file name
             assertFirstTxnInstantIsKnown();
-            final var uncompressedRecordFilePath = generateRecordFilePath(firstTxnInstant);
-            final var recordFile =
-                    new File(
-                            dynamicProperties.shouldCompressRecordFilesOnCreation()
-                                    ? uncompressedRecordFilePath + COMPRESSION_EXTENSION
-                                    : uncompressedRecordFilePath);
-            final var recordFileNameShort = recordFile.getName(); // for logging purposes
-            if (recordFile.exists() && !recordFile.isDirectory()) {
-                LOG.debug(
-                        OBJECT_STREAM.getMarker(),
-                        "Stream file already exists {}",
-                        recordFileNameShort);
-            } else {
-                try {
-                    // write endRunningHash
-                    final var endRunningHash = runningHash.getFutureHash().get();
-                    recordStreamFileBuilder.setEndObjectRunningHash(
-                            toProto(endRunningHash.getValue()));
-                    dosMeta.write(endRunningHash.getValue());
-                    LOG.debug(
-                            OBJECT_STREAM_FILE.getMarker(),
-                            "closeCurrentAndSign :: write endRunningHash {}",
-                            endRunningHash);
-
-                    // write block number to metadata
-                    dosMeta.writeLong(recordStreamFileBuilder.getBlockNumber());
-                    LOG.debug(
-                            OBJECT_STREAM_FILE.getMarker(),
-                            "closeCurrentAndSign :: write block number {}",
-                            recordStreamFileBuilder.getBlockNumber());
-                } catch (InterruptedException | ExecutionException e) {
-                    Thread.currentThread().interrupt();
-                    LOG.error(
-                            EXCEPTION.getMarker(),
-                            "closeCurrentAndSign :: failed when getting endRunningHash for writing"
-                                    + " {}",
-                            recordFileNameShort,
-                            e);
-                    return;
-                } catch (IOException e) {
-                    Thread.currentThread().interrupt();
-                    LOG.warn(
-                            EXCEPTION.getMarker(),
-                            "closeCurrentAndSign :: IOException when serializing endRunningHash and"
-                                    + " block number into metadata",
-                            e);
-                    return;
-                }
+            final var shouldCompress = dynamicProperties.shouldCompressRecordFilesOnCreation();
+            final var lastSidecarPath =
+                    sidecarFileBuilder.getSidecarRecordsCount() > 0
+                            ? generateSidecarFilePath(firstTxnInstant, sidecarFileId)
+                            : null;
+            final var closedBlock =
+                    new ClosedBlock(
+                            recordStreamFileBuilder,
+                            dosMeta,
+                            metadataStreamDigest,
+                            runningHash,
+                            generateRecordFilePath(firstTxnInstant),
+                            recordFileVersion,
+                            shouldCompress,
+                            sidecarMetadata,
+                            lastSidecarPath == null
+                                    ? null
+                                    : new ClosedSidecar(
+                                            sidecarFileBuilder,
+                                            new File(lastSidecarPath),
+                                            sidecarFileId,
+                                            EnumSet.copyOf(sidecarTypesInCurrentSidecar)));
+            dosMeta = null;
+            recordStreamFileBuilder = null;
+            awaitFinalization();
+            submitToFinalizer(() -> finalizeBlock(closedBlock));
+        }
+    }
 
-                // create sidecar file
-                if (sidecarFileBuilder.getSidecarRecordsCount() > 0) {
-                    try {
-                        finalizeCurrentSidecar();
-                    } catch (IOException e) {
-                        Thread.currentThread().interrupt();
-                        LOG.warn(
-                                EXCEPTION.getMarker(),
-                                "closeCurrentAndSign :: {} when creating sidecar files",
-                                e.getClass().getSimpleName(),
-                                e);
-                        return;
-                    }
-                }
+    /**
+     * Blocks until every closed record and sidecar file handed to the finalizer has been written
+     * (and, for record files, signed).
+     */
+    void awaitFinalization() {
+        lastFinalization.join();
+    }
 
-                // create record file
-                try (FileOutputStream stream = new FileOutputStream(recordFile, false);
-                        GZIPOutputStream gzipStream =
-                                dynamicProperties.shouldCompressRecordFilesOnCreation()
-                                        ? new GZIPOutputStream(stream)
-                                        : null;
-                        SerializableDataOutputStream dos =
-                                new SerializableDataOutputStream(
-                                        new BufferedOutputStream(
-                                                new HashingOutputStream(
-                                                        streamDigest,
-                                                        gzipStream != null
-                                                                ? gzipStream
-                                                                : stream)))) {
-                    LOG.debug(
-                            OBJECT_STREAM_FILE.getMarker(),
-                            "Stream file created {}",
-                            recordFileNameShort);
-
-                    // write contents of record file - record file version and serialized RecordFile
-                    // protobuf
-                    dos.writeInt(recordFileVersion);
-                    dos.write(serialize(recordStreamFileBuilder));
-
-                    // make sure the whole file is written to disk
-                    dos.flush();
-                    if (gzipStream != null) {
-                        // GZIPOutputStream takes care of flushing its wrapped stream
-                        gzipStream.flush();
-                    } else {
-                        stream.flush();
-                    }
-                    stream.getChannel().force(true);
-                    stream.getFD().sync();
-                    LOG.debug(
-                            OBJECT_STREAM_FILE.getMarker(),
-                            "Stream file written successfully {}",
-                            recordFileNameShort);
-
-                    // close dosMeta manually; stream and dos will be automatically closed
-                    dosMeta.close();
-                    dosMeta = null;
-                    recordStreamFileBuilder = null;
-
-                    LOG.debug(
-                            OBJECT_STREAM_FILE.getMarker(),
-                            "File {} is closed at {}",
-                            () -> recordFileNameShort,
-                            Instant::now);
-                } catch (IOException e) {
-                    Thread.currentThread().interrupt();
-                    LOG.warn(
-                            EXCEPTION.getMarker(),
-                            "closeCurrentAndSign :: IOException when serializing {}",
-                            recordStreamFileBuilder,
-                            e);
-                    return;
-                }
+    private void finalizeBlock(final ClosedBlock block) {
+        final var uncompressedRecordFilePath = block.recordFilePath();
+        final var recordFile =
+                new File(
+                        block.compress()
+                                ? uncompressedRecordFilePath + COMPRESSION_EXTENSION
+                                : uncompressedRecordFilePath);
+        final var recordFileNameShort = recordFile.getName(); // for logging purposes
+        if (recordFile.exists() && !recordFile.isDirectory()) {
+            LOG.debug(
+                    OBJECT_STREAM.getMarker(),
+                    "Stream file already exists {}",
+                    recordFileNameShort);
+            return;
+        }
+        final var builder = block.builder();
+        final var blockDosMeta = block.dosMeta();
+        try {
+            // write endRunningHash
+            final var endRunningHash = block.endRunningHash().getFutureHash().get();
+            builder.setEndObjectRunningHash(toProto(endRunningHash.getValue()));
+            blockDosMeta.write(endRunningHash.getValue());
+            LOG.debug(
+                    OBJECT_STREAM_FILE.getMarker(),
+                    "closeCurrentAndSign :: write endRunningHash {}",
+                    endRunningHash);
+
+            // write block number to metadata
+            blockDosMeta.writeLong(builder.getBlockNumber());
+            LOG.debug(
+                    OBJECT_STREAM_FILE.getMarker(),
+                    "closeCurrentAndSign :: write block number {}",
+                    builder.getBlockNumber());
+        } catch (InterruptedException | ExecutionException e) {
+            Thread.currentThread().interrupt();
+            LOG.error(
+                    EXCEPTION.getMarker(),
+                    "closeCurrentAndSign :: failed when getting endRunningHash for writing {}",
+                    recordFileNameShort,
+                    e);
+            return;
+        } catch (IOException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn(
+                    EXCEPTION.getMarker(),
+                    "closeCurrentAndSign :: IOException when serializing endRunningHash and"
+                            + " block number into metadata",
+                    e);
+            return;
+        }
 
-                // if this line is reached, record file has been created successfully, so create its
-                // signature
-                createSignatureFileFor(uncompressedRecordFilePath);
+        // create last sidecar file
+        if (block.lastSidecar() != null) {
+            try {
+                finalizeSidecar(block.lastSidecar(), block.compress(), block.sidecarMetadata());
+            } catch (IOException e) {
+                Thread.currentThread().interrupt();
+                LOG.warn(
+                        EXCEPTION.getMarker(),
+                        "closeCurrentAndSign :: {} when creating sidecar files",
+                        e.getClass().getSimpleName(),
+                        e);
+                return;
             }
         }
+        block.sidecarMetadata().forEach(builder::addSidecars);
+
+        // create record file
+        try (FileOutputStream stream = new FileOutputStream(recordFile, false);
+                GZIPOutputStream gzipStream =
+                        block.compress() ? new GZIPOutputStream(stream) : null;
+                SerializableDataOutputStream dos =
+                        new SerializableDataOutputStream(
+                                new BufferedOutputStream(
+                                        new HashingOutputStream(
+                                                streamDigest,
+                                                gzipStream != null ? gzipStream : stream)))) {
+            LOG.debug(
+                    OBJECT_STREAM_FILE.getMarker(),
+                    "Stream file created {}",
+                    recordFileNameShort);
+
+            // write contents of record file - record file version and serialized RecordFile
+            // protobuf
+            final var contents = serialized(builder);
+            dos.writeInt(block.recordFileVersion());
+            writeFully(stream, gzipStream, dos, contents);
+            LOG.debug(
+                    OBJECT_STREAM_FILE.getMarker(),
+                    "Stream file written successfully {}",
+                    recordFileNameShort);
+
+            // close dosMeta manually; stream and dos will be automatically closed
+            blockDosMeta.close();
+
+            LOG.debug(
+                    OBJECT_STREAM_FILE.getMarker(),
+                    "File {} is closed at {}",
+                    () -> recordFileNameShort,
+                    Instant::now);
+        } catch (IOException e) {
+            Thread.currentThread().interrupt();
+            LOG.warn(
+                    EXCEPTION.getMarker(),
+                    "closeCurrentAndSign :: IOException when serializing {}",
+                    builder,
+                    e);
+            return;
+        }
+
+        // if this line is reached, record file has been created successfully, so create its
+        // signature
+        final var start = System.nanoTime();
+        createSignatureFileFor(uncompressedRecordFilePath, block.metadataDigest());
+        runningAvgs.signMsRecordStream(msSince(start));
     }
 
     /**
@@ -407,6 +493,7 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
         firstTxnInstant = null;
         resetSidecarFields();
         sidecarFileId = 1;
+        sidecarMetadata = new ArrayList<>();
         recordStreamFileBuilder =
                 RecordStreamFile.newBuilder().setBlockNumber(object.getStreamAlignment());
         recordStreamFileBuilder.setHapiProtoVersion(
@@ -414,6 +501,7 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
                         .setMajor(fileHeader[1])
                         .setMinor(fileHeader[2])
                         .setPatch(fileHeader[3]));
+        metadataStreamDigest = newDigest();
         dosMeta = new SerializableDataOutputStream(new HashingOutputStream(metadataStreamDigest));
         try {
             // write record stream version and HAPI version to metadata
@@ -466,17 +554,31 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
                 final var sidecarSizeInBytes = sidecar.getSerializedSize();
                 if (currentSidecarFileSize + sidecarSizeInBytes >= maxSidecarFileSize) {
                     assertFirstTxnInstantIsKnown();
-                    try {
-                        finalizeCurrentSidecar();
-                    } catch (IOException e) {
-                        Thread.currentThread().interrupt();
-                        LOG.warn(
-                                EXCEPTION.getMarker(),
-                                "consume :: {} when creating sidecar files",
-                                e.getClass().getSimpleName(),
-                                e);
-                        return;
-                    }
+                    final var fullSidecar =
+                            new ClosedSidecar(
+                                    sidecarFileBuilder,
+                                    new File(
+                                            generateSidecarFilePath(
+                                                    firstTxnInstant, sidecarFileId)),
+                                    sidecarFileId,
+                                    EnumSet.copyOf(sidecarTypesInCurrentSidecar));
+                    final var shouldCompress =
+                            dynamicProperties.shouldCompressRecordFilesOnCreation();
+                    final var blockSidecarMetadata = sidecarMetadata;
+                    submitToFinalizer(
+                            () -> {
+                                try {
+                                    finalizeSidecar(
+                                            fullSidecar, shouldCompress, blockSidecarMetadata);
+                                } catch (IOException e) {
+                                    Thread.currentThread().interrupt();
+                                    LOG.warn(
+                                            EXCEPTION.getMarker(),
+                                            "consume :: {} when creating sidecar files",
+                                            e.getClass().getSimpleName(),
+                                            e);
+                                }
+                            });
                     resetSidecarFields();
                     sidecarFileId++;
                 }
@@ -560,6 +662,12 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
 
     public void close() {
         this.closeCurrentAndSign();
+        if (finalizer instanceof ExecutorService service) {
+            // Lets the finalizer run everything already submitted, then waits for it to stop
+            shutdownAndAwait(service);
+        } else {
+            awaitFinalization();
+        }
         LOG.debug(
                 LogMarker.FREEZE.getMarker(),
                 "RecordStreamFileWriter finished writing the last object, is stopped");
@@ -615,10 +723,11 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
                 .build();
     }
 
-    private void createSignatureFileFor(final String relatedRecordStreamFile) {
+    private void createSignatureFileFor(
+            final String relatedRecordStreamFile, final MessageDigest metadataDigest) {
         // create proto messages for signature file
         final var fileSignature = generateSignatureObject(streamDigest.digest());
-        final var metadataSignature = generateSignatureObject(metadataStreamDigest.digest());
+        final var metadataSignature = generateSignatureObject(metadataDigest.digest());
         final var signatureFile =
                 SignatureFile.newBuilder()
                         .setFileSignature(fileSignature)
@@ -656,52 +765,131 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
                 .build();
     }
 
-    private void createSidecarFile(final Builder sidecarFileBuilder, final File sidecarFile)
+    private void createSidecarFile(final ClosedSidecar sidecar, final boolean shouldCompress)
             throws IOException {
-        try (FileOutputStream stream = new FileOutputStream(sidecarFile, false);
-                GZIPOutputStream gzipStream =
-                        dynamicProperties.shouldCompressRecordFilesOnCreation()
-                                ? new GZIPOutputStream(stream)
-                                : null;
+        try (FileOutputStream stream = new FileOutputStream(sidecar.file(), false);
+                GZIPOutputStream gzipStream = shouldCompress ? new GZIPOutputStream(stream) : null;
                 SerializableDataOutputStream dos =
                         new SerializableDataOutputStream(
                                 new BufferedOutputStream(
                                         new HashingOutputStream(
                                                 sidecarStreamDigest,
                                                 gzipStream != null ? gzipStream : stream)))) {
-            // write contents of sidecar
-            dos.write(serialize(sidecarFileBuilder));
-
-            // make sure the whole sidecar is written to disk before continuing
-            // with calculating its hash and saving it as part of the SidecarMetadata
-            dos.flush();
-            if (gzipStream != null) {
-                // GZIPOutputStream takes care of flushing its wrapped stream
-                gzipStream.flush();
-            } else {
-                stream.flush();
-            }
-            stream.getChannel().force(true);
-            stream.getFD().sync();
+            // write contents of sidecar; make sure the whole sidecar is written to disk before
+            // continuing with calculating its hash and saving it as part of the SidecarMetadata
+            writeFully(stream, gzipStream, dos, serialized(sidecar.builder()));
 
             LOG.debug(
                     OBJECT_STREAM_FILE.getMarker(),
                     "Sidecar file created successfully {}",
-                    sidecarFile.getName());
+                    sidecar.file().getName());
         }
     }
 
-    private SidecarMetadata.Builder createSidecarMetadata() {
+    private SidecarMetadata.Builder createSidecarMetadata(final ClosedSidecar sidecar) {
         return SidecarMetadata.newBuilder()
                 .setHash(toProto(sidecarStreamDigest.digest()))
-                .setId(sidecarFileId)
-                .addAllTypes(sidecarTypesInCurrentSidecar);
+                .setId(sidecar.id())
+                .addAllTypes(sidecar.types());
     }
 
-    private void finalizeCurrentSidecar() throws IOException {
-        final var sidecarFile = new File(generateSidecarFilePath(firstTxnInstant, sidecarFileId));
-        createSidecarFile(sidecarFileBuilder, sidecarFile);
-        recordStreamFileBuilder.addSidecars(createSidecarMetadata());
+    private void finalizeSidecar(
+            final ClosedSidecar sidecar,
+            final boolean shouldCompress,
+            final List<SidecarMetadata.Builder> blockSidecarMetadata)
+            throws IOException {
+        createSidecarFile(sidecar, shouldCompress);
+        blockSidecarMetadata.add(createSidecarMetadata(sidecar));
+    }
+
+    /**
+     * Writes the given contents through the stream chain, then flushes and fsyncs it, recording
+     * the time taken by each stage.
+     */
+    private void writeFully(
+            final FileOutputStream stream,
+            final GZIPOutputStream gzipStream,
+            final SerializableDataOutputStream dos,
+            final byte[] contents)
+            throws IOException {
+        var start = System.nanoTime();
+        dos.write(contents);
+        dos.flush();
+        if (gzipStream != null) {
+            // GZIPOutputStream takes care of flushing its wrapped stream
+            gzipStream.flush();
+        } else {
+            stream.flush();
+        }
+        runningAvgs.compressMsRecordStream(msSince(start));
+
+        start = System.nanoTime();
+        stream.getChannel().force(true);
+        stream.getFD().sync();
+        runningAvgs.fsyncMsRecordStream(msSince(start));
+    }
+
+    private byte[] serialized(final Message.Builder messageBuilder) throws IOException {
+        final var start = System.nanoTime();
+        final var result = serialize(messageBuilder);
+        runningAvgs.serializeMsRecordStream(msSince(start));
+        return result;
+    }
+
+    /**
+     * Returns a single-threaded executor for finalizing files, whose (daemon) thread never keeps
+     * the JVM alive by itself; {@link #close()} shuts it down after the last file is finalized.
+     *
+     * @return the finalizer
+     */
+    static ExecutorService newFinalizer() {
+        return Executors.newSingleThreadExecutor(
+                runnable -> {
+                    final var thread = new Thread(runnable, FINALIZER_THREAD_NAME);
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    private static void shutdownAndAwait(final ExecutorService service) {
+        service.shutdown();
+        try {
+            if (!service.awaitTermination(FINALIZER_SHUTDOWN_TIMEOUT_SECS, TimeUnit.SECONDS)) {
+                LOG.warn(
+                        EXCEPTION.getMarker(),
+                        "Stream files were still being finalized after {}s",
+                        FINALIZER_SHUTDOWN_TIMEOUT_SECS);
+            }
+        } catch (InterruptedException e) {
+            LOG.warn(EXCEPTION.getMarker(), "Interrupted while finalizing stream files", e);
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void submitToFinalizer(final Runnable task) {
+        lastFinalization =
+                CompletableFuture.runAsync(task, finalizer)
+                        .exceptionally(
+                                e -> {
+                                    LOG.error(
+                                            EXCEPTION.getMarker(),
+                                            "Unhandled exception while finalizing stream files",
+                                            e);
+                                    return null;
+                                });
+    }
+
+    private static double msSince(final long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000.0;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance(currentDigestType.algorithmName());
+        } catch (NoSuchAlgorithmException unreachable) {
+            // the constructor already obtained a digest for this algorithm
+            throw new IllegalStateException(unreachable);
+        }
     }
 
     private void resetSidecarFields() {
@@ -718,4 +906,23 @@ class RecordStreamFileWriter implements LinkedObjectStream<RecordStreamObject> {
     void clearRunningHash() {
         runningHash = new RunningHash();
     }
+
+    /** A full sidecar file, no longer written to by the thread receiving objects. */
+    private record ClosedSidecar(
+            SidecarFile.Builder builder, File file, int id, EnumSet<SidecarType> types) {}
+
+    /**
+     * Everything the finalizer needs to write, close and sign a record file that is no longer
+     * written to by the thread receiving objects.
+     */
+    private record ClosedBlock(
+            RecordStreamFile.Builder builder,
+            SerializableDataOutputStream dosMeta,
+            MessageDigest metadataDigest,
+            RunningHash endRunningHash,
+            String recordFilePath,
+            int recordFileVersion,
+            boolean compress,
+            List<SidecarMetadata.Builder> sidecarMetadata,
+            ClosedSidecar lastSidecar) {}
 }
@@ -128,7 +128,8 @@ public class RecordStreamManager {
                                 streamType,
                                 nodeScopedSidecarDir,
                                 globalDynamicProperties.getSidecarMaxSizeMb() * MB_TO_BYTES,
-                                globalDynamicProperties);
+                                globalDynamicProperties,
+                                runningAvgs);
             } else {
                 v5StreamFileWriter =
                         new TimestampStreamFileWriter<>(
@@ -220,6 +221,25 @@ public class RecordStreamManager {
      * @param recordStreamObject the {@link RecordStreamObject} object to be added
      */
     public void addRecordStreamObject(final RecordStreamObject recordStreamObject) {
+        addToMultiStream(recordStreamObject);
+        recordQueueSizes();
+    }
+
+    /**
+     * receives a batch of consensus records, in consensus order, from the {@link
+     * NonBlockingHandoff}; sends each to multiStream as in {@link
+     * #addRecordStreamObject(RecordStreamObject)}, but samples the queue sizes only once per batch
+     *
+     * @param recordStreamObjects the {@link RecordStreamObject}s to be added
+     */
+    public void addRecordStreamObjects(final List<RecordStreamObject> recordStreamObjects) {
+        for (final var recordStreamObject : recordStreamObjects) {
+            addToMultiStream(recordStreamObject);
+        }
+        recordQueueSizes();
+    }
+
+    private void addToMultiStream(final RecordStreamObject recordStreamObject) {
         if (!inFreeze) {
             try {
                 multiStream.addObject(recordStreamObject);
@@ -227,6 +247,9 @@ public class RecordStreamManager {
                 log.warn("Unhandled exception while streaming {}", recordStreamObject, e);
             }
         }
+    }
+
+    private void recordQueueSizes() {
         if (writeQueueThread != null) {
             runningAvgs.writeQueueSizeRecordStream(getWriteQueueSize());
         }
@@ -47,6 +47,7 @@ import java.util.EnumMap;
 import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.function.IntSupplier;
+import java.util.function.LongFunction;
 import org.apache.commons.lang3.tuple.Pair;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -69,6 +70,7 @@ public class DeterministicThrottling implements TimedFunctionalityThrottling {
     private final AliasManager aliasManager;
     private final GlobalDynamicProperties dynamicProperties;
     private final ScheduleStore scheduleStore;
+    private final LongFunction<GasLimitDeterministicThrottle> gasThrottleFactory;
 
     private List<DeterministicThrottle> activeThrottles = Collections.emptyList();
     private EnumMap<HederaFunctionality, ThrottleReqsManager> functionReqs =
@@ -89,6 +91,23 @@ public class DeterministicThrottling implements TimedFunctionalityThrottling {
             final GlobalDynamicProperties dynamicProperties,
             final DeterministicThrottlingMode mode,
             final ScheduleStore scheduleStore) {
+        this(
+                capacitySplitSource,
+                aliasManager,
+                dynamicProperties,
+                mode,
+                scheduleStore,
+                GasLimitDeterministicThrottle::new);
+    }
+
+    DeterministicThrottling(
+            final IntSupplier capacitySplitSource,
+            final AliasManager aliasManager,
+            final GlobalDynamicProperties dynamicProperties,
+            final DeterministicThrottlingMode mode,
+            final ScheduleStore scheduleStore,
+            final LongFunction<GasLimitDeterministicThrottle> gasThrottleFactory) {
+        this.gasThrottleFactory = gasThrottleFactory;
         this.capacitySplitSource = capacitySplitSource;
         this.dynamicProperties = dynamicProperties;
         this.mode = mode;
@@ -216,7 +235,7 @@ public class DeterministicThrottling implements TimedFunctionalityThrottling {
                 throw new IllegalStateException("unknown mode " + mode);
         }
 
-        gasThrottle = new GasLimitDeterministicThrottle(capacity);
+        gasThrottle = gasThrottleFactory.apply(capacity);
 
         final var configDesc =
                 "Resolved "
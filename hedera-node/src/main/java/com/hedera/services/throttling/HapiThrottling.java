@@ -15,6 +15,7 @@
  */
 package com.hedera.services.throttling;
 
+import com.hedera.services.sysfiles.domain.throttling.ThrottleBucket;
 import com.hedera.services.sysfiles.domain.throttling.ThrottleDefinitions;
 import com.hedera.services.throttles.DeterministicThrottle;
 import com.hedera.services.throttles.GasLimitDeterministicThrottle;
@@ -23,41 +24,113 @@ import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.Query;
 import java.time.Instant;
 import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.IntSupplier;
+import java.util.function.LongFunction;
+import java.util.function.Predicate;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
+/**
+ * The frontend throttle consulted by gRPC ingest threads before submitting a transaction or
+ * answering a query.
+ *
+ * <p>With a single stripe, every decision is made by one {@link TimedFunctionalityThrottling}
+ * under one lock. With {@code n > 1} stripes, the node's share of each throttle bucket is split
+ * {@code n} more ways between independent stripes, each with its own lock; a thread first asks
+ * its "home" stripe, and only if that stripe is out of capacity does it spill over to the others.
+ * So the stripes together never allow more than the unsplit throttles would, but ingest threads
+ * rarely contend with each other. (The gas throttle is not split, but shared by all stripes
+ * through a {@link SharedGasLimitThrottle}.)
+ *
+ * <p>If splitting some bucket {@code n} more ways would leave a stripe unable to satisfy one of its
+ * operations, or force a longer burst period (and hence more aggregate burst capacity) than the
+ * unsplit bucket has, the number of active stripes is reduced until that is no longer the case.
+ * Even so, up to one transaction's worth of each stripe's capacity may be unusable when a
+ * bucket's capacity does not divide evenly.
+ */
 public class HapiThrottling implements FunctionalityThrottling {
+    private static final Logger log = LogManager.getLogger(HapiThrottling.class);
+
     private static final String STABLE_SOURCE_OF_THROTTLES_ERROR =
             "HAPI throttling should not be treated as a stable source of throttles";
 
-    private final TimedFunctionalityThrottling delegate;
+    /** Creates one stripe, given its capacity split and the factory for its gas throttle. */
+    @FunctionalInterface
+    interface StripeFactory {
+        TimedFunctionalityThrottling create(
+                IntSupplier capacitySplitSource,
+                LongFunction<GasLimitDeterministicThrottle> gasThrottleFactory);
+    }
+
+    private final IntSupplier capacitySplitSource;
+    private final ReentrantLock[] locks;
+    private final TimedFunctionalityThrottling[] stripes;
+
+    private volatile int activeStripes = 1;
+    private SharedGasLimitThrottle.Pool gasPool = null;
 
-    public HapiThrottling(TimedFunctionalityThrottling delegate) {
-        this.delegate = delegate;
+    public HapiThrottling(final TimedFunctionalityThrottling delegate) {
+        this.capacitySplitSource = () -> 1;
+        this.locks = new ReentrantLock[] {new ReentrantLock()};
+        this.stripes = new TimedFunctionalityThrottling[] {delegate};
+    }
+
+    HapiThrottling(
+            final int numStripes,
+            final IntSupplier capacitySplitSource,
+            final StripeFactory stripeFactory) {
+        if (numStripes < 1) {
+            throw new IllegalArgumentException("Cannot use " + numStripes + " throttle stripes");
+        }
+        this.capacitySplitSource = capacitySplitSource;
+        this.locks = new ReentrantLock[numStripes];
+        this.stripes = new TimedFunctionalityThrottling[numStripes];
+        for (int i = 0; i < numStripes; i++) {
+            locks[i] = new ReentrantLock();
+            stripes[i] =
+                    stripeFactory.create(
+                            () -> capacitySplitSource.getAsInt() * activeStripes,
+                            this::sharedGasThrottle);
+        }
     }
 
     @Override
-    public synchronized boolean shouldThrottleTxn(TxnAccessor accessor) {
-        return delegate.shouldThrottleTxn(accessor, Instant.now());
+    public boolean shouldThrottleTxn(final TxnAccessor accessor) {
+        return shouldThrottle(stripe -> stripe.shouldThrottleTxn(accessor, Instant.now()));
     }
 
     @Override
-    public synchronized boolean shouldThrottleQuery(
-            HederaFunctionality queryFunction, Query query) {
-        return delegate.shouldThrottleQuery(queryFunction, Instant.now(), query);
+    public boolean shouldThrottleQuery(
+            final HederaFunctionality queryFunction, final Query query) {
+        return shouldThrottle(
+                stripe -> stripe.shouldThrottleQuery(queryFunction, Instant.now(), query));
     }
 
     @Override
-    public void leakUnusedGasPreviouslyReserved(TxnAccessor accessor, long value) {
-        delegate.leakUnusedGasPreviouslyReserved(accessor, value);
+    public void leakUnusedGasPreviouslyReserved(final TxnAccessor accessor, final long value) {
+        locks[0].lock();
+        try {
+            stripes[0].leakUnusedGasPreviouslyReserved(accessor, value);
+        } finally {
+            locks[0].unlock();
+        }
     }
 
+    /**
+     * Returns the throttles of the first stripe; when there are multiple stripes, their
+     * utilization is representative of the others'.
+     *
+     * @return the active throttles of the first stripe
+     */
     @Override
     public List<DeterministicThrottle> allActiveThrottles() {
-        return delegate.allActiveThrottles();
+        return stripes[0].allActiveThrottles();
     }
 
     @Override
     public GasLimitDeterministicThrottle gasLimitThrottle() {
-        return delegate.gasLimitThrottle();
+        return stripes[0].gasLimitThrottle();
     }
 
     @Override
@@ -66,22 +139,128 @@ public class HapiThrottling implements FunctionalityThrottling {
     }
 
     @Override
-    public void rebuildFor(ThrottleDefinitions defs) {
-        delegate.rebuildFor(defs);
+    public void rebuildFor(final ThrottleDefinitions defs) {
+        lockAll();
+        try {
+            if (stripes.length > 1) {
+                activeStripes = stripesSupportedBy(defs);
+            }
+            for (int i = 0; i < activeStripes; i++) {
+                stripes[i].rebuildFor(defs);
+            }
+        } finally {
+            unlockAll();
+        }
     }
 
     @Override
     public void resetUsage() {
-        delegate.resetUsage();
+        lockAll();
+        try {
+            for (final var stripe : stripes) {
+                stripe.resetUsage();
+            }
+        } finally {
+            unlockAll();
+        }
     }
 
     @Override
     public void applyGasConfig() {
-        delegate.applyGasConfig();
+        lockAll();
+        try {
+            gasPool = null;
+            for (final var stripe : stripes) {
+                stripe.applyGasConfig();
+            }
+        } finally {
+            unlockAll();
+        }
     }
 
     @Override
     public boolean wasLastTxnGasThrottled() {
         throw new UnsupportedOperationException();
     }
+
+    private boolean shouldThrottle(final Predicate<TimedFunctionalityThrottling> decision) {
+        final var n = activeStripes;
+        final var home = (n == 1) ? 0 : (int) (Thread.currentThread().getId() % n);
+        for (int i = 0; i < n; i++) {
+            final var s = (home + i) % n;
+            locks[s].lock();
+            try {
+                if (!decision.test(stripes[s])) {
+                    return false;
+                }
+            } finally {
+                locks[s].unlock();
+            }
+        }
+        return true;
+    }
+
+    private GasLimitDeterministicThrottle sharedGasThrottle(final long capacity) {
+        if (gasPool == null || gasPool.capacity() != capacity) {
+            gasPool = new SharedGasLimitThrottle.Pool(capacity);
+        }
+        return new SharedGasLimitThrottle(gasPool);
+    }
+
+    private int stripesSupportedBy(final ThrottleDefinitions defs) {
+        final long nodes = capacitySplitSource.getAsInt();
+        var n = stripes.length;
+        while (n > 1 && !allBucketsSplittable(defs, nodes, n)) {
+            n--;
+        }
+        if (n < stripes.length) {
+            log.warn(
+                    "Only {} of {} HAPI throttle stripes can satisfy every operation in the"
+                            + " active throttle definitions",
+                    n,
+                    stripes.length);
+        }
+        return n;
+    }
+
+    private static boolean allBucketsSplittable(
+            final ThrottleDefinitions defs, final long nodes, final int n) {
+        for (final var bucket : defs.getBuckets()) {
+            final var unsplitCapacity = capacityAt(bucket, nodes);
+            if (unsplitCapacity < 0) {
+                continue;
+            }
+            final var stripeCapacity = capacityAt(bucket, nodes * n);
+            if (stripeCapacity < 0 || stripeCapacity > unsplitCapacity / n) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long capacityAt(
+            final ThrottleBucket<HederaFunctionality> bucket, final long capacitySplit) {
+        try {
+            return bucket.asThrottleMapping(capacitySplit).getLeft().capacity();
+        } catch (IllegalStateException | IllegalArgumentException unusable) {
+            return -1;
+        }
+    }
+
+    private void lockAll() {
+        for (final var lock : locks) {
+            lock.lock();
+        }
+    }
+
+    private void unlockAll() {
+        for (int i = locks.length - 1; i >= 0; i--) {
+            locks[i].unlock();
+        }
+    }
+
+    /* --- Only used by unit tests --- */
+    int activeStripes() {
+        return activeStripes;
+    }
 }
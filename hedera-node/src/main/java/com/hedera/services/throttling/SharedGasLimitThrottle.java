@@ -0,0 +1,134 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.throttling;
+
+import com.hedera.services.throttles.DeterministicThrottle;
+import com.hedera.services.throttles.GasLimitDeterministicThrottle;
+import java.time.Instant;
+
+/**
+ * One stripe's view of a gas throttle shared by all stripes of a {@link HapiThrottling}.
+ *
+ * <p>Gas capacity is not split between stripes (a single contract call may legitimately reserve
+ * the entire per-second limit), so every stripe reserves from the same underlying throttle while
+ * holding the lock of their common {@link Pool}. Since stripes decide concurrently, their {@code
+ * now} values can reach the shared throttle slightly out of order; so the view never lets the
+ * shared timeline move backwards.
+ *
+ * <p>The gas reserved during the current decision is tracked per view, since a view is only ever
+ * used by the thread holding its stripe's lock; this lets {@link #reclaimLastAllowedUse()} return
+ * exactly this stripe's reservation even if other stripes reserved gas in the meantime.
+ */
+final class SharedGasLimitThrottle extends GasLimitDeterministicThrottle {
+    private final Pool pool;
+    private final GasLimitDeterministicThrottle shared;
+
+    private long reservedThisDecision = 0L;
+
+    /** The throttle shared by all stripes, and the time of its latest decision. */
+    static final class Pool {
+        private final GasLimitDeterministicThrottle throttle;
+        private Instant lastDecisionTime;
+
+        Pool(final long capacity) {
+            this.throttle = new GasLimitDeterministicThrottle(capacity);
+        }
+
+        long capacity() {
+            return throttle.getCapacity();
+        }
+    }
+
+    SharedGasLimitThrottle(final Pool pool) {
+        super(pool.capacity());
+        this.pool = pool;
+        this.shared = pool.throttle;
+    }
+
+    @Override
+    public boolean allow(final Instant now, final long txGasLimit) {
+        final boolean allowed;
+        synchronized (pool) {
+            var effectiveNow = now;
+            if (pool.lastDecisionTime != null && now.isBefore(pool.lastDecisionTime)) {
+                effectiveNow = pool.lastDecisionTime;
+            }
+            pool.lastDecisionTime = effectiveNow;
+            allowed = shared.allow(effectiveNow, txGasLimit);
+        }
+        if (allowed) {
+            reservedThisDecision += txGasLimit;
+        }
+        return allowed;
+    }
+
+    @Override
+    public void resetLastAllowedUse() {
+        reservedThisDecision = 0L;
+    }
+
+    @Override
+    public void reclaimLastAllowedUse() {
+        if (reservedThisDecision > 0L) {
+            leakUnusedGasPreviouslyReserved(reservedThisDecision);
+        }
+        reservedThisDecision = 0L;
+    }
+
+    @Override
+    public void leakUnusedGasPreviouslyReserved(final long value) {
+        synchronized (pool) {
+            shared.leakUnusedGasPreviouslyReserved(value);
+        }
+    }
+
+    @Override
+    public double percentUsed(final Instant now) {
+        synchronized (pool) {
+            return shared.percentUsed(now);
+        }
+    }
+
+    @Override
+    public long getUsed() {
+        synchronized (pool) {
+            return shared.getUsed();
+        }
+    }
+
+    @Override
+    public DeterministicThrottle.UsageSnapshot usageSnapshot() {
+        synchronized (pool) {
+            return shared.usageSnapshot();
+        }
+    }
+
+    @Override
+    public void resetUsageTo(final DeterministicThrottle.UsageSnapshot usageSnapshot) {
+        synchronized (pool) {
+            shared.resetUsageTo(usageSnapshot);
+            pool.lastDecisionTime = usageSnapshot.lastDecisionTime();
+        }
+    }
+
+    @Override
+    public void resetUsage() {
+        reservedThisDecision = 0L;
+        synchronized (pool) {
+            shared.resetUsage();
+        }
+    }
+}
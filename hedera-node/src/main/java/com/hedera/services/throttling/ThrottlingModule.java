@@ -17,6 +17,7 @@ package com.hedera.services.throttling;
 
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.store.schedule.ScheduleStore;
 import com.hedera.services.throttling.DeterministicThrottling.DeterministicThrottlingMode;
@@ -38,7 +39,22 @@ public final class ThrottlingModule {
             final AliasManager aliasManager,
             final Supplier<AddressBook> addressBook,
             final GlobalDynamicProperties dynamicProperties,
+            final NodeLocalProperties nodeLocalProperties,
             final ScheduleStore scheduleStore) {
+        final var numStripes = nodeLocalProperties.hapiThrottlingStripes();
+        if (numStripes > 1) {
+            return new HapiThrottling(
+                    numStripes,
+                    () -> addressBook.get().getSize(),
+                    (capacitySplitSource, gasThrottleFactory) ->
+                            new DeterministicThrottling(
+                                    capacitySplitSource,
+                                    aliasManager,
+                                    dynamicProperties,
+                                    DeterministicThrottlingMode.HAPI,
+                                    scheduleStore,
+                                    gasThrottleFactory));
+        }
         final var delegate =
                 new DeterministicThrottling(
                         () -> addressBook.get().getSize(),
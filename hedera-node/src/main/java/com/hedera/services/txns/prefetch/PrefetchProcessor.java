@@ -17,6 +17,7 @@ package com.hedera.services.txns.prefetch;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.PrefetchStats;
 import com.hedera.services.txns.PreFetchableTransition;
 import com.hedera.services.txns.TransitionLogicLookup;
 import com.hedera.services.utils.accessors.SwirldsTxnAccessor;
@@ -25,6 +26,7 @@ import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.logging.log4j.LogManager;
@@ -32,9 +34,19 @@ import org.apache.logging.log4j.Logger;
 
 /**
  * Processing dispatch layer for transactions submitted during the prepare stage (aka expand
- * signatures) that uses an {@code ExecutorService} to schedule the tasks to a static thread pool.
- * The tasks are responsible for fetching data that can be used during the serial execution portion
- * of the transaction (for example, loading of EVM contract bytecode).
+ * signatures) that uses an {@code ExecutorService} to schedule the tasks to an adaptively-sized
+ * thread pool. The tasks are responsible for fetching data that can be used during the serial
+ * execution portion of the transaction (for example, loading of EVM contract bytecode).
+ *
+ * <p>Tasks wait in a bounded FIFO queue, so they run in submission order; which is the order the
+ * platform gives us events and their transactions in pre-handle, and the closest proxy to
+ * consensus order available before consensus. A task whose transaction has already reached {@code
+ * handleTransaction} when it is dequeued is skipped, since the handle thread has already paid the
+ * cost of whatever it would have fetched.
+ *
+ * <p>The pool runs between {@link #MINIMUM_THREAD_POOL_SIZE} and {@code
+ * hedera.prefetch.threadPoolSize} core threads, adding one thread for every {@link
+ * #BACKLOG_PER_THREAD} waiting tasks and letting surplus threads time out once the backlog clears.
  */
 @Singleton
 public class PrefetchProcessor {
@@ -44,28 +56,43 @@ public class PrefetchProcessor {
 
     @VisibleForTesting static final int MINIMUM_THREAD_POOL_SIZE = 2;
 
+    @VisibleForTesting static final int BACKLOG_PER_THREAD = 500;
+
+    private static final long SURPLUS_THREAD_KEEP_ALIVE_MS = 30_000L;
+
+    private final int maxThreadPoolSize;
+    private final PrefetchStats stats;
+    private final AtomicBoolean warnedFull = new AtomicBoolean();
+
     BlockingQueue<Runnable> queue;
     ExecutorService executorService;
     TransitionLogicLookup lookup;
 
     @Inject
-    public PrefetchProcessor(NodeLocalProperties properties, TransitionLogicLookup lookup) {
+    public PrefetchProcessor(
+            final NodeLocalProperties properties,
+            final TransitionLogicLookup lookup,
+            final PrefetchStats stats) {
         final int queueSize = Math.max(properties.prefetchQueueCapacity(), MINIMUM_QUEUE_CAPACITY);
-        final int threadPoolSize =
+        maxThreadPoolSize =
                 Math.max(properties.prefetchThreadPoolSize(), MINIMUM_THREAD_POOL_SIZE);
 
         this.lookup = lookup;
+        this.stats = stats;
         queue = new ArrayBlockingQueue<>(queueSize);
-        executorService = createExecutorService(threadPoolSize, queue);
+        executorService = createExecutorService(maxThreadPoolSize, queue);
     }
 
     @VisibleForTesting
     ExecutorService createExecutorService(int threadPoolSize, BlockingQueue<Runnable> queue) {
         final var executor =
                 new ThreadPoolExecutor(
-                        threadPoolSize, threadPoolSize, 0L, TimeUnit.MILLISECONDS, queue);
-        executor.setRejectedExecutionHandler(
-                (runnable, execService) -> logger.warn("Pre-fetch queue is FULL!"));
+                        MINIMUM_THREAD_POOL_SIZE,
+                        threadPoolSize,
+                        SURPLUS_THREAD_KEEP_ALIVE_MS,
+                        TimeUnit.MILLISECONDS,
+                        queue);
+        executor.setRejectedExecutionHandler((runnable, execService) -> onRejection());
         executor.prestartAllCoreThreads();
         return executor;
     }
@@ -86,14 +113,10 @@ public class PrefetchProcessor {
         if (opt.isPresent()) {
             final var logic = opt.get();
             if (logic instanceof PreFetchableTransition transition) {
-                executorService.execute(
-                        () -> {
-                            try {
-                                transition.preFetch(accessor);
-                            } catch (RuntimeException e) {
-                                logger.warn("Exception thrown during pre-fetch", e);
-                            }
-                        });
+                final var backlog = queue.size();
+                stats.recordQueueDepth(backlog);
+                resizeFor(backlog);
+                executorService.execute(new PrefetchTask(System.nanoTime(), accessor, transition));
             }
         }
     }
@@ -101,4 +124,88 @@ public class PrefetchProcessor {
     public void shutdown() {
         executorService.shutdownNow();
     }
+
+    @VisibleForTesting
+    static int targetPoolSize(final int backlog, final int maxPoolSize) {
+        return Math.min(maxPoolSize, MINIMUM_THREAD_POOL_SIZE + backlog / BACKLOG_PER_THREAD);
+    }
+
+    private void resizeFor(final int backlog) {
+        if (executorService instanceof ThreadPoolExecutor pool) {
+            final var target = targetPoolSize(backlog, pool.getMaximumPoolSize());
+            if (target != pool.getCorePoolSize()) {
+                pool.setCorePoolSize(target);
+            }
+        }
+    }
+
+    private void onRejection() {
+        stats.countDrop();
+        if (warnedFull.compareAndSet(false, true)) {
+            logger.warn("Pre-fetch queue is FULL!");
+        }
+    }
+
+    private void run(final PrefetchTask task) {
+        stats.recordQueueWaitMs((System.nanoTime() - task.submittedAt()) / 1_000_000.0);
+        if (isHandled(task.accessor())) {
+            stats.countMiss();
+            return;
+        }
+        try {
+            task.transition().preFetch(task.accessor());
+        } catch (RuntimeException e) {
+            logger.warn("Exception thrown during pre-fetch", e);
+        }
+        if (isHandled(task.accessor())) {
+            stats.countMiss();
+        } else {
+            stats.countHit();
+        }
+        if (warnedFull.get()) {
+            warnedFull.set(false);
+        }
+    }
+
+    /**
+     * Returns whether {@code handleTransaction} has already claimed the given accessor; {@link
+     * com.hedera.services.txns.span.ExpandHandleSpan#accessorFor} clears the platform transaction's
+     * metadata at exactly that point.
+     */
+    private static boolean isHandled(final SwirldsTxnAccessor accessor) {
+        final var platformTxn = accessor.getPlatformTxn();
+        return platformTxn != null && platformTxn.getMetadata() == null;
+    }
+
+    private final class PrefetchTask implements Runnable {
+        private final long submittedAt;
+        private final SwirldsTxnAccessor accessor;
+        private final PreFetchableTransition transition;
+
+        private PrefetchTask(
+                final long submittedAt,
+                final SwirldsTxnAccessor accessor,
+                final PreFetchableTransition transition) {
+            this.submittedAt = submittedAt;
+            this.accessor = accessor;
+            this.transition = transition;
+        }
+
+        long submittedAt() {
+            return submittedAt;
+        }
+
+        SwirldsTxnAccessor accessor() {
+            return accessor;
+        }
+
+        PreFetchableTransition transition() {
+            return transition;
+        }
+
+        @Override
+        public void run() {
+            PrefetchProcessor.this.run(this);
+        }
+    }
 }
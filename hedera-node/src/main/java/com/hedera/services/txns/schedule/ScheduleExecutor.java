@@ -27,6 +27,7 @@ import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
 import com.hederahashgraph.api.proto.java.ScheduleID;
 import java.util.Objects;
 import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import org.apache.commons.lang3.tuple.Pair;
@@ -69,6 +70,20 @@ public final class ScheduleExecutor {
             @Nonnull final ScheduleStore store,
             final boolean isImmediate)
             throws InvalidProtocolBufferException {
+        return getTriggeredTxnAccessor(id, store, isImmediate, null);
+    }
+
+    /**
+     * As above, but returns the given accessor (if not null) instead of building a new one, after
+     * checking the schedule is still usable. The accessor must have been built by {@link
+     * #getTxnAccessor(ScheduleID, ScheduleVirtualValue, boolean)} from the same schedule.
+     */
+    Pair<ResponseCodeEnum, TxnAccessor> getTriggeredTxnAccessor(
+            @Nonnull final ScheduleID id,
+            @Nonnull final ScheduleStore store,
+            final boolean isImmediate,
+            @Nullable final TxnAccessor prepared)
+            throws InvalidProtocolBufferException {
 
         Objects.requireNonNull(id, "The id of the scheduled transaction cannot be null");
         Objects.requireNonNull(store, "The schedule entity store cannot be null");
@@ -78,6 +93,9 @@ public final class ScheduleExecutor {
             return Pair.of(executionStatus, null);
         }
 
+        if (prepared != null) {
+            return Pair.of(OK, prepared);
+        }
         final var schedule = store.get(id);
         return Pair.of(OK, getTxnAccessor(id, schedule, !isImmediate));
     }
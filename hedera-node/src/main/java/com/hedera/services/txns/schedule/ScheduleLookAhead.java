@@ -0,0 +1,252 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.txns.schedule;
+
+import static com.hedera.services.context.primitives.SignedStateViewFactory.isUsable;
+import static com.hedera.services.sigs.order.SigReqsManager.TOKEN_META_TRANSFORM;
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.config.FileNumbers;
+import com.hedera.services.context.MutableStateChildren;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.ledger.SigImpactHistorian;
+import com.hedera.services.sigs.metadata.StateChildrenSigMetadataLookup;
+import com.hedera.services.sigs.order.LinkedRefs;
+import com.hedera.services.sigs.order.SigRequirements;
+import com.hedera.services.sigs.order.SignatureWaivers;
+import com.hedera.services.state.merkle.MerkleScheduledTransactions;
+import com.hedera.services.state.virtual.EntityNumVirtualKey;
+import com.hedera.services.state.virtual.schedule.ScheduleVirtualValue;
+import com.hedera.services.state.virtual.temporal.SecondSinceEpocVirtualKey;
+import com.hedera.services.utils.EntityNum;
+import com.hedera.services.utils.accessors.TxnAccessor;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import javax.annotation.Nullable;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Prepares the schedules expiring in the next few seconds before {@code handleTransaction} reaches
+ * them, so that {@link ScheduleProcessing} does not have to load, parse, and verify every schedule
+ * in a busy expiration second on the handle thread.
+ *
+ * <p>Preparation runs on the event intake thread, from the same latest signed state used to
+ * expand signatures in pre-handle; which is immutable, so there is no contention with the handle
+ * thread. For each schedule it records whether all its required keys were active, the entities
+ * those keys came from, and (if it was ready to execute) its triggered {@link TxnAccessor}.
+ *
+ * <p>A {@link PreparedSchedule} is only a hint. At handle time, it is reused only if none of its
+ * linked entities has changed since the signed state was current, according to the {@link
+ * SigImpactHistorian}; and, if it was not fully signed, only if the schedule has no new
+ * signatures. Otherwise the schedule is verified again, as if it had never been prepared.
+ *
+ * <p>This class is <b>NOT</b> thread-safe, except that {@link #claim(long)} may be called from the
+ * handle thread concurrently with {@link #prepareFrom(ServicesState)} on the intake thread.
+ */
+@Singleton
+public class ScheduleLookAhead {
+    private static final Logger log = LogManager.getLogger(ScheduleLookAhead.class);
+
+    private final FileNumbers fileNumbers;
+    private final ScheduleExecutor scheduleExecutor;
+    private final SignatureWaivers signatureWaivers;
+    private final ScheduleSigsVerifier scheduleSigsVerifier;
+    private final GlobalDynamicProperties dynamicProperties;
+    private final Map<Long, PreparedSchedule> prepared = new ConcurrentHashMap<>();
+    // The expiration seconds of schedules found not worth preparing (deleted, executed, or with an
+    // unbuildable accessor); so they are neither re-read nor charged to a later call's budget
+    private final Map<Long, Long> skipped = new HashMap<>();
+    // Convenience wrapper for children of the latest signed state
+    private final MutableStateChildren sourceChildren = new MutableStateChildren();
+
+    private SigRequirements sourceSigReqs;
+    private Instant lastCompletedSource = Instant.EPOCH;
+
+    @Inject
+    public ScheduleLookAhead(
+            final FileNumbers fileNumbers,
+            final ScheduleExecutor scheduleExecutor,
+            final SignatureWaivers signatureWaivers,
+            final ScheduleSigsVerifier scheduleSigsVerifier,
+            final GlobalDynamicProperties dynamicProperties) {
+        this.fileNumbers = fileNumbers;
+        this.scheduleExecutor = scheduleExecutor;
+        this.signatureWaivers = signatureWaivers;
+        this.scheduleSigsVerifier = scheduleSigsVerifier;
+        this.dynamicProperties = dynamicProperties;
+    }
+
+    /**
+     * The result of preparing a schedule from a signed state.
+     *
+     * @param second the expiration second of the schedule
+     * @param numSignatories how many signatories the schedule had
+     * @param fullySigned whether all the schedule's required keys were active
+     * @param linkedRefs the entities the required keys came from, and when
+     * @param accessor if fully signed, the accessor to trigger the scheduled transaction
+     */
+    public record PreparedSchedule(
+            long second,
+            int numSignatories,
+            boolean fullySigned,
+            LinkedRefs linkedRefs,
+            @Nullable TxnAccessor accessor) {
+        /**
+         * Returns whether this preparation still holds for the given current value of the
+         * schedule. (Adding a signature can only make a schedule "more signed", so a fully signed
+         * preparation survives new signatures.)
+         *
+         * @param schedule the current value of the schedule
+         * @param historian the source of entity changes since the preparation
+         * @return whether the preparation can be reused
+         */
+        public boolean isReusableFor(
+                final ScheduleVirtualValue schedule, final SigImpactHistorian historian) {
+            return (fullySigned || numSignatories == schedule.signatories().size())
+                    && linkedRefs.haveNoChangesAccordingTo(historian);
+        }
+    }
+
+    /**
+     * Prepares any schedules in the next {@code scheduling.lookAheadSecs} seconds of the given
+     * signed state that are not already prepared (or skipped), up to {@code
+     * scheduling.maxPreparedPerLookAhead} of them. Does nothing if long-term scheduling is
+     * disabled, if no schedules may be prepared per call, if the state is unusable, or if a
+     * previous call already finished with the same state.
+     *
+     * @param sourceState the latest signed state
+     */
+    public void prepareFrom(final ServicesState sourceState) {
+        final var maxPrepared = dynamicProperties.schedulingMaxPreparedPerLookAhead();
+        if (!dynamicProperties.schedulingLongTermEnabled()
+                || maxPrepared <= 0
+                || !isUsable(sourceState)) {
+            return;
+        }
+        final var signedAt = sourceState.getTimeOfLastHandledTxn();
+        if (signedAt.equals(lastCompletedSource)) {
+            return;
+        }
+        try {
+            sourceChildren.updateFromImmutable(sourceState, signedAt);
+            if (prepareUpTo(sourceState.scheduleTxs(), signedAt, maxPrepared)) {
+                lastCompletedSource = signedAt;
+            }
+        } catch (Exception e) {
+            log.warn("Unable to prepare upcoming schedules from signed state", e);
+        }
+    }
+
+    /**
+     * Removes and returns the preparation of the given schedule, if there is one.
+     *
+     * @param scheduleNum the number of the schedule
+     * @return its preparation, or null
+     */
+    @Nullable
+    public PreparedSchedule claim(final long scheduleNum) {
+        return prepared.remove(scheduleNum);
+    }
+
+    private boolean prepareUpTo(
+            final MerkleScheduledTransactions schedules, final Instant signedAt, int budget) {
+        final var minSecond = schedules.getCurrentMinSecond();
+        final var maxSecond = minSecond + dynamicProperties.schedulingLookAheadSecs();
+        prepared.values().removeIf(p -> p.second() < minSecond);
+        skipped.values().removeIf(second -> second < minSecond);
+        for (long second = minSecond; second <= maxSecond; second++) {
+            final var bySecond =
+                    schedules.byExpirationSecond().get(new SecondSinceEpocVirtualKey(second));
+            if (bySecond == null) {
+                continue;
+            }
+            for (final var ids : bySecond.getIds().values()) {
+                for (int i = 0, n = ids.size(); i < n; i++) {
+                    final var num = ids.get(i);
+                    if (prepared.containsKey(num) || skipped.containsKey(num)) {
+                        continue;
+                    }
+                    if (budget-- == 0) {
+                        return false;
+                    }
+                    if (!prepare(schedules, num, second, signedAt)) {
+                        skipped.put(num, second);
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    private boolean prepare(
+            final MerkleScheduledTransactions schedules,
+            final long num,
+            final long second,
+            final Instant signedAt) {
+        final var schedule = schedules.byId().get(new EntityNumVirtualKey(num));
+        if (schedule == null || schedule.isDeleted() || schedule.isExecuted()) {
+            return false;
+        }
+        final var linkedRefs = new LinkedRefs(signedAt);
+        linkedRefs.link(num);
+        final var fullySigned =
+                scheduleSigsVerifier.areAllKeysActive(schedule, sourceSigReqs(), linkedRefs);
+        TxnAccessor accessor = null;
+        if (fullySigned) {
+            try {
+                final var id = EntityNum.fromLong(num).toGrpcScheduleId();
+                accessor = scheduleExecutor.getTxnAccessor(id, schedule, true);
+            } catch (Exception e) {
+                // Leave it to handleTransaction to deal with the problem
+                log.debug("Could not prepare accessor for schedule {}", num, e);
+                return false;
+            }
+        }
+        prepared.put(
+                num,
+                new PreparedSchedule(
+                        second, schedule.signatories().size(), fullySigned, linkedRefs, accessor));
+        return true;
+    }
+
+    private SigRequirements sourceSigReqs() {
+        if (sourceSigReqs == null) {
+            final var lookup =
+                    new StateChildrenSigMetadataLookup(
+                            fileNumbers, sourceChildren, TOKEN_META_TRANSFORM);
+            sourceSigReqs = new SigRequirements(lookup, signatureWaivers);
+        }
+        return sourceSigReqs;
+    }
+
+    /* --- Only used by unit tests --- */
+    Map<Long, PreparedSchedule> getPrepared() {
+        return prepared;
+    }
+
+    Map<Long, Long> getSkipped() {
+        return skipped;
+    }
+
+    void setSourceSigReqs(final SigRequirements sourceSigReqs) {
+        this.sourceSigReqs = sourceSigReqs;
+    }
+}
@@ -70,6 +70,7 @@ public class ScheduleProcessing {
     private static final Logger log = LogManager.getLogger(ScheduleProcessing.class);
 
     private final SigImpactHistorian sigImpactHistorian;
+    private final ScheduleLookAhead lookAhead;
     private final ScheduleStore store;
     private final ScheduleExecutor scheduleExecutor;
     private final GlobalDynamicProperties dynamicProperties;
@@ -88,8 +89,10 @@ public class ScheduleProcessing {
             final GlobalDynamicProperties dynamicProperties,
             final ScheduleSigsVerifier scheduleSigsVerifier,
             @ScheduleThrottle final TimedFunctionalityThrottling scheduleThrottling,
-            final Supplier<MerkleScheduledTransactions> schedules) {
+            final Supplier<MerkleScheduledTransactions> schedules,
+            final ScheduleLookAhead lookAhead) {
         this.sigImpactHistorian = sigImpactHistorian;
+        this.lookAhead = lookAhead;
         this.store = store;
         this.scheduleExecutor = scheduleExecutor;
         this.dynamicProperties = dynamicProperties;
@@ -129,6 +132,10 @@ public class ScheduleProcessing {
      * Gets the next scheduled transaction that is available to execute. Scheduled transactions may
      * be expired as needed during this call.
      *
+     * <p>If the {@link ScheduleLookAhead} already prepared the next schedule from a signed state,
+     * and nothing it depends on has changed since, reuses its signing verdict and triggered
+     * accessor instead of computing them again.
+     *
      * @param consensusTime the current consensus time
      * @param previous the previous accessor returned from this method, if available.
      * @param onlyExpire true if we are only expiring and not trying to execute anything.
@@ -182,8 +189,17 @@ public class ScheduleProcessing {
                 }
 
                 var schedule = store.get(next);
+                var prepared = lookAhead.claim(nextLong);
+                if (prepared != null && !prepared.isReusableFor(schedule, sigImpactHistorian)) {
+                    prepared = null;
+                }
 
-                if (!this.isFullySigned.test(schedule)) {
+                final var fullySigned =
+                        (prepared != null)
+                                ? prepared.fullySigned()
+                                : this.isFullySigned.test(schedule);
+
+                if (!fullySigned) {
 
                     // expire transactions that are not ready to execute
                     store.expire(next);
@@ -197,7 +213,11 @@ public class ScheduleProcessing {
                 } else {
 
                     var triggerResult =
-                            scheduleExecutor.getTriggeredTxnAccessor(next, store, false);
+                            scheduleExecutor.getTriggeredTxnAccessor(
+                                    next,
+                                    store,
+                                    false,
+                                    (prepared != null) ? prepared.accessor() : null);
 
                     if (triggerResult.getLeft() != OK) {
                         log.error(
@@ -335,6 +355,15 @@ public class ScheduleProcessing {
         return consensusTime.getEpochSecond() > schedules.get().getCurrentMinSecond();
     }
 
+    /**
+     * Writes back the by-second schedule buckets changed while expiring and triggering scheduled
+     * transactions. Must be called once the current pass of calls to {@link
+     * #triggerNextTransactionExpiringAsNeeded(Instant, TxnAccessor, boolean)} is done.
+     */
+    public void flushPendingExpirations() {
+        store.flushPendingExpirations();
+    }
+
     /**
      * @return the max number of iterations of any loop calling
      *     triggerNextTransactionExpiringAsNeeded.
@@ -44,6 +44,7 @@ import com.hedera.services.keys.HederaKeyActivation;
 import com.hedera.services.keys.InHandleActivationHelper;
 import com.hedera.services.legacy.core.jproto.JKey;
 import com.hedera.services.sigs.annotations.WorkingStateSigReqs;
+import com.hedera.services.sigs.order.LinkedRefs;
 import com.hedera.services.sigs.order.SigRequirements;
 import com.hedera.services.state.virtual.schedule.ScheduleVirtualValue;
 import com.hederahashgraph.api.proto.java.TransactionBody;
@@ -76,6 +77,22 @@ public class ScheduleSigsVerifier {
     }
 
     public boolean areAllKeysActive(final ScheduleVirtualValue schedule) {
+        return areAllKeysActive(schedule, workingSigReqs, null);
+    }
+
+    /**
+     * Checks if the given schedule has valid signatures for all the non-payer keys its scheduled
+     * transaction requires, looking up those keys with the given {@link SigRequirements}.
+     *
+     * @param schedule the schedule to check
+     * @param sigReqs the source of the required keys
+     * @param linkedRefs if not null, where to record the entities the required keys came from
+     * @return whether all the required keys are active
+     */
+    public boolean areAllKeysActive(
+            final ScheduleVirtualValue schedule,
+            final SigRequirements sigReqs,
+            @Nullable final LinkedRefs linkedRefs) {
         final TransactionBody scheduledTxn = getTransactionBody(schedule);
 
         if (scheduledTxn == null) {
@@ -83,7 +100,7 @@ public class ScheduleSigsVerifier {
         }
 
         final var reqsResult =
-                workingSigReqs.keysForOtherParties(scheduledTxn, CODE_ORDER_RESULT_FACTORY);
+                sigReqs.keysForOtherParties(scheduledTxn, CODE_ORDER_RESULT_FACTORY, linkedRefs);
 
         if (reqsResult.hasErrorReport()) {
             return false;
@@ -56,6 +56,15 @@ public class ExpandHandleSpan {
         this.factory = factory;
     }
 
+    /**
+     * Parses the given transaction, expands its span, and attaches the resulting accessor to it as
+     * metadata. Safe to call concurrently for different transactions; each call only writes to the
+     * new accessor's (synchronized) span map and to its own transaction.
+     *
+     * @param transaction the transaction to track
+     * @return its accessor
+     * @throws InvalidProtocolBufferException if the transaction is not a gRPC transaction
+     */
     public SwirldsTxnAccessor track(Transaction transaction) throws InvalidProtocolBufferException {
         final var accessor = spanAccessorFor(transaction);
         transaction.setMetadata(accessor);
@@ -15,6 +15,7 @@
  */
 package com.hedera.services.txns.span;
 
+import static com.hedera.services.files.store.FcBlobsBytesStore.fileDataFrom;
 import static com.hedera.services.state.merkle.internals.BitPackUtils.codeFromNum;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.EthereumTransaction;
@@ -36,6 +37,7 @@ import com.hedera.services.grpc.marshalling.ImpliedTransfersMarshal;
 import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.sigs.order.LinkedRefs;
+import com.hedera.services.state.merkle.internals.BlobKey.BlobType;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobValue;
@@ -295,7 +297,8 @@ public class SpanMapManager {
                 return Pair.of(FILE_DELETED, ethTxData);
             } else {
                 final var hexedCallData =
-                        Objects.requireNonNull(curBlobs.get(dataKeyFor(callDataId))).getData();
+                        Objects.requireNonNull(
+                                fileDataFrom(curBlobs, codeFromNum(callDataId.getFileNum())));
                 final var callData = Hex.decode(hexedCallData);
                 if (callData.length == 0) {
                     return Pair.of(CONTRACT_FILE_EMPTY, ethTxData);
@@ -308,13 +311,8 @@ public class SpanMapManager {
         return Pair.of(OK, ethTxData);
     }
 
-    private VirtualBlobKey dataKeyFor(final FileID fileId) {
-        return new VirtualBlobKey(VirtualBlobKey.Type.FILE_DATA, codeFromNum(fileId.getFileNum()));
-    }
-
     private VirtualBlobKey metadataKeyFor(final FileID fileId) {
-        return new VirtualBlobKey(
-                VirtualBlobKey.Type.FILE_METADATA, codeFromNum(fileId.getFileNum()));
+        return VirtualBlobKey.of(BlobType.FILE_METADATA, fileId.getFileNum());
     }
 
     private void rationalizeImpliedTransfers(TxnAccessor accessor) {
@@ -17,7 +17,7 @@ package com.hedera.services.utils.accessors;
 
 import static com.hedera.services.context.properties.StaticPropertiesHolder.STATIC_PROPERTIES;
 import static com.hedera.services.legacy.proto.utils.ByteStringUtils.unwrapUnsafelyIfPossible;
-import static com.hedera.services.legacy.proto.utils.CommonUtils.noThrowSha384HashOf;
+import static com.hedera.services.legacy.proto.utils.ByteStringUtils.wrapUnsafely;
 import static com.hedera.services.usage.token.TokenOpsUsageUtils.TOKEN_OPS_USAGE_UTILS;
 import static com.hedera.services.utils.EntityIdUtils.isAlias;
 import static com.hedera.services.utils.MiscUtils.FUNCTION_EXTRACTOR;
@@ -43,6 +43,7 @@ import static com.hederahashgraph.api.proto.java.SubType.TOKEN_NON_FUNGIBLE_UNIQ
 
 import com.google.common.base.MoreObjects;
 import com.google.protobuf.ByteString;
+import com.google.protobuf.CodedInputStream;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.context.primitives.StateView;
 import com.hedera.services.ethereum.EthTxData;
@@ -74,6 +75,8 @@ import com.hederahashgraph.api.proto.java.SubType;
 import com.hederahashgraph.api.proto.java.Transaction;
 import com.hederahashgraph.api.proto.java.TransactionBody;
 import com.hederahashgraph.api.proto.java.TransactionID;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
@@ -89,17 +92,21 @@ public class SignedTxnAccessor implements TxnAccessor {
 
     private static final int UNKNOWN_NUM_AUTO_CREATIONS = -1;
     private static final String ACCESSOR_LITERAL = " accessor";
+    private static final String SHA_384_ALGORITHM = "SHA-384";
 
     private static final TokenOpsUsage TOKEN_OPS_USAGE = new TokenOpsUsage();
     private static final ExpandHandleSpanMapAccessor SPAN_MAP_ACCESSOR =
             new ExpandHandleSpanMapAccessor();
 
-    private Map<String, Object> spanMap = new HashMap<>();
+    // Synchronized, since with sigs.expandInParallel=true, span expansion, pre-fetch, and
+    // signature expansion of the same transaction can run on different threads
+    private Map<String, Object> spanMap = Collections.synchronizedMap(new HashMap<>());
 
     private int sigMapSize;
     private int numSigPairs;
     private int numAutoCreations = UNKNOWN_NUM_AUTO_CREATIONS;
     private byte[] hash;
+    private ByteString hashedBytes;
     private byte[] txnBytes;
     private byte[] utf8MemoBytes;
     private byte[] signedTxnWrapperBytes;
@@ -132,6 +139,15 @@ public class SignedTxnAccessor implements TxnAccessor {
         }
     }
 
+    /**
+     * Parses an accessor from the given serialized {@link Transaction}. The parsed wrapper and
+     * signed transaction share the given array rather than copying it, and the hash is computed
+     * from it on first use; so the caller hands the array over, and must not mutate it afterwards.
+     *
+     * @param signedTxnWrapperBytes the serialized transaction
+     * @return the accessor
+     * @throws InvalidProtocolBufferException if the bytes are not a valid transaction
+     */
     public static SignedTxnAccessor from(byte[] signedTxnWrapperBytes)
             throws InvalidProtocolBufferException {
         return new SignedTxnAccessor(signedTxnWrapperBytes, null);
@@ -152,24 +168,26 @@ public class SignedTxnAccessor implements TxnAccessor {
         if (transaction != null) {
             txnWrapper = transaction;
         } else {
-            txnWrapper = Transaction.parseFrom(signedTxnWrapperBytes);
+            txnWrapper = Transaction.parseFrom(aliasingInputFor(signedTxnWrapperBytes));
         }
         this.signedTxnWrapper = txnWrapper;
 
         final var signedTxnBytes = signedTxnWrapper.getSignedTransactionBytes();
+        final ByteString bodyBytes;
         if (signedTxnBytes.isEmpty()) {
-            txnBytes = unwrapUnsafelyIfPossible(signedTxnWrapper.getBodyBytes());
+            bodyBytes = signedTxnWrapper.getBodyBytes();
             sigMap = signedTxnWrapper.getSigMap();
-            hash = noThrowSha384HashOf(signedTxnWrapperBytes);
+            hashedBytes = wrapUnsafely(signedTxnWrapperBytes);
         } else {
-            final var signedTxn = SignedTransaction.parseFrom(signedTxnBytes);
-            txnBytes = unwrapUnsafelyIfPossible(signedTxn.getBodyBytes());
+            final var signedTxn = SignedTransaction.parseFrom(aliasingInputFor(signedTxnBytes));
+            bodyBytes = signedTxn.getBodyBytes();
             sigMap = signedTxn.getSigMap();
-            hash = noThrowSha384HashOf(unwrapUnsafelyIfPossible(signedTxnBytes));
+            hashedBytes = signedTxnBytes;
         }
+        txnBytes = unwrapUnsafelyIfPossible(bodyBytes);
         pubKeyToSigBytes = new PojoSigMapPubKeyToSigBytes(sigMap);
 
-        txn = TransactionBody.parseFrom(txnBytes);
+        txn = TransactionBody.parseFrom(bodyBytes);
         memo = txn.getMemo();
         txnId = txn.getTransactionID();
         sigMapSize = sigMap.getSerializedSize();
@@ -277,8 +295,17 @@ public class SignedTxnAccessor implements TxnAccessor {
         return memo;
     }
 
+    /**
+     * Returns the SHA-384 hash of the transaction; computed on first use, since only {@code
+     * handleTransaction} needs it (to build the record), and ingest and pre-handle never do.
+     *
+     * @return the transaction hash
+     */
     @Override
     public byte[] getHash() {
+        if (hash == null) {
+            hash = sha384HashOf(hashedBytes);
+        }
         return hash;
     }
 
@@ -433,6 +460,33 @@ public class SignedTxnAccessor implements TxnAccessor {
         return EntityNum.fromAccountId(idOrAlias);
     }
 
+    /**
+     * Returns a parser input over the given bytes that lets {@code bytes} fields of the parsed
+     * message share the given buffer instead of copying it; so for example parsing a {@link
+     * Transaction} does not copy its {@code signedTransactionBytes}, and parsing those does not
+     * copy the {@code bodyBytes}. The buffer must never be mutated afterwards, which holds for both
+     * gRPC requests and platform transaction contents.
+     */
+    private static CodedInputStream aliasingInputFor(final byte[] bytes) {
+        return aliasingInputFor(wrapUnsafely(bytes));
+    }
+
+    private static CodedInputStream aliasingInputFor(final ByteString bytes) {
+        final var input = bytes.newCodedInput();
+        input.enableAliasing(true);
+        return input;
+    }
+
+    private static byte[] sha384HashOf(final ByteString bytes) {
+        try {
+            final var digest = MessageDigest.getInstance(SHA_384_ALGORITHM);
+            digest.update(bytes.asReadOnlyByteBuffer());
+            return digest.digest();
+        } catch (NoSuchAlgorithmException fatal) {
+            throw new IllegalStateException(fatal);
+        }
+    }
+
     private void setBaseUsageMeta() {
         if (function == CryptoTransfer) {
             txnUsageMeta =
@@ -52,6 +52,7 @@ import com.hedera.services.context.MutableStateChildren;
 import com.hedera.services.context.init.ServicesInitFlow;
 import com.hedera.services.context.properties.BootstrapProperties;
 import com.hedera.services.sigs.EventExpansion;
+import com.hedera.services.sigs.SigVerificationBatcher;
 import com.hedera.services.state.DualStateAccessor;
 import com.hedera.services.state.forensics.HashLogger;
 import com.hedera.services.state.initialization.SystemAccountsCreator;
@@ -139,6 +140,7 @@ class ServicesStateTest {
     @Mock private Round round;
     @Mock private Event event;
     @Mock private EventExpansion eventExpansion;
+    @Mock private SigVerificationBatcher sigVerificationBatcher;
     @Mock private SwirldDualState dualState;
     @Mock private StateMetadata metadata;
     @Mock private ProcessLogic logic;
@@ -397,9 +399,11 @@ class ServicesStateTest {
         given(metadata.app()).willReturn(app);
         given(app.logic()).willReturn(logic);
         given(app.dualStateAccessor()).willReturn(dualStateAccessor);
+        given(app.sigVerificationBatcher()).willReturn(sigVerificationBatcher);
 
         subject.handleConsensusRound(round, dualState);
         verify(dualStateAccessor).setDualState(dualState);
+        verify(sigVerificationBatcher).flushRound();
         verify(logic).incorporateConsensus(round);
     }
 
@@ -31,6 +31,7 @@ public class MockGlobalDynamicProps extends GlobalDynamicProperties {
     private long gracePeriod = 604800;
     private boolean useAutoRenew = true;
     private boolean useContractAutoRenew = true;
+    private boolean scanByExpiry = false;
     private boolean schedulingLongTermEnabled = false;
     private boolean exportBalances = true;
     private CongestionMultipliers currentMultipliers = defaultMultipliers;
@@ -210,6 +211,19 @@ public class MockGlobalDynamicProps extends GlobalDynamicProperties {
         return gracePeriod;
     }
 
+    @Override
+    public boolean shouldAutoRenewScanByExpiry() {
+        return scanByExpiry;
+    }
+
+    public void enableScanByExpiry() {
+        scanByExpiry = true;
+    }
+
+    public void disableScanByExpiry() {
+        scanByExpiry = false;
+    }
+
     public void useDifferentMultipliers() {
         currentMultipliers = differentMultipliers;
         minCongestionPeriod = 0;
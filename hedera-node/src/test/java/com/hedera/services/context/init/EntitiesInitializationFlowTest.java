@@ -18,6 +18,7 @@ package com.hedera.services.context.init;
 import static org.mockito.Mockito.verify;
 
 import com.hedera.services.ledger.SigImpactHistorian;
+import com.hedera.services.state.expiry.AutoRenewIndex;
 import com.hedera.services.state.expiry.ExpiryManager;
 import com.hedera.services.state.logic.NetworkCtxManager;
 import org.junit.jupiter.api.BeforeEach;
@@ -29,6 +30,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 class EntitiesInitializationFlowTest {
     @Mock private ExpiryManager expiryManager;
+    @Mock private AutoRenewIndex autoRenewIndex;
     @Mock private NetworkCtxManager networkCtxManager;
     @Mock private SigImpactHistorian sigImpactHistorian;
 
@@ -38,7 +40,7 @@ class EntitiesInitializationFlowTest {
     void setUp() {
         subject =
                 new EntitiesInitializationFlow(
-                        expiryManager, sigImpactHistorian, networkCtxManager);
+                        expiryManager, autoRenewIndex, sigImpactHistorian, networkCtxManager);
     }
 
     @Test
@@ -49,6 +51,7 @@ class EntitiesInitializationFlowTest {
         // then:
         verify(expiryManager).reviewExistingPayerRecords();
         verify(expiryManager).reviewExistingShortLivedEntities();
+        verify(autoRenewIndex).reviewExistingEntities();
         verify(sigImpactHistorian).invalidateCurrentWindow();
         verify(networkCtxManager).setObservableFilesNotLoaded();
         verify(networkCtxManager).loadObservableSysFilesIfNeeded();
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.context.init;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.test.extensions.LogCaptor;
+import com.hedera.test.extensions.LogCaptureExtension;
+import com.hedera.test.extensions.LoggingSubject;
+import com.hedera.test.extensions.LoggingTarget;
+import java.lang.reflect.InvocationTargetException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+@ExtendWith(LogCaptureExtension.class)
+class ParallelRebuildsTest {
+    @LoggingTarget private LogCaptor logCaptor;
+    @LoggingSubject private ParallelRebuilds subject;
+
+    @Test
+    void runsRebuildsConcurrentlyAndLogsEachBuildTime() throws InterruptedException {
+        final var pool = Executors.newFixedThreadPool(2);
+        final var bothStarted = new CountDownLatch(2);
+        final Runnable awaitsOther =
+                () -> {
+                    bothStarted.countDown();
+                    try {
+                        assertTrue(bothStarted.await(5, TimeUnit.SECONDS));
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                };
+        final Map<String, Runnable> rebuilds = new LinkedHashMap<>();
+        rebuilds.put("aliases", awaitsOther);
+        rebuilds.put("accounts", awaitsOther);
+
+        final var buildTimes = ParallelRebuilds.runAll(pool, rebuilds);
+
+        assertEquals(List.of("aliases", "accounts"), List.copyOf(buildTimes.keySet()));
+        assertEquals(0, bothStarted.getCount());
+        assertThat(
+                logCaptor.infoLogs(),
+                contains(
+                        startsWith("  -> Rebuilt aliases in"),
+                        startsWith("  -> Rebuilt accounts in"),
+                        startsWith("Rebuilt 2 indexes in")));
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void runsEachRebuildOnADaemonRebuildThread() {
+        final Map<String, Thread> threads = new ConcurrentHashMap<>();
+        final Map<String, Runnable> rebuilds = new LinkedHashMap<>();
+        rebuilds.put("aliases", () -> threads.put("aliases", Thread.currentThread()));
+        rebuilds.put("accounts", () -> threads.put("accounts", Thread.currentThread()));
+
+        final var buildTimes = ParallelRebuilds.runAll(rebuilds);
+
+        assertEquals(List.of("aliases", "accounts"), List.copyOf(buildTimes.keySet()));
+        for (final var thread : threads.values()) {
+            assertTrue(thread.isDaemon());
+            assertThat(thread.getName(), startsWith("index-rebuild-"));
+        }
+        assertEquals(2, threads.size());
+    }
+
+    @Test
+    void waitsForAllRebuildsBeforeRethrowingFirstFailure() {
+        final var failure = new IllegalStateException("Corrupt state");
+        final var laterFinished = new AtomicBoolean();
+        final Map<String, Runnable> rebuilds = new LinkedHashMap<>();
+        rebuilds.put(
+                "aliases",
+                () -> {
+                    throw failure;
+                });
+        rebuilds.put("accounts", () -> laterFinished.set(true));
+
+        final var thrown =
+                assertThrows(
+                        IllegalStateException.class,
+                        () -> ParallelRebuilds.runAll(Runnable::run, rebuilds));
+
+        assertSame(failure, thrown);
+        assertTrue(laterFinished.get());
+        assertTrue(logCaptor.infoLogs().isEmpty());
+    }
+
+    @Test
+    void rethrowsErrorsAsIs() {
+        final var error = new OutOfMemoryError();
+        final Map<String, Runnable> rebuilds =
+                Map.of(
+                        "aliases",
+                        () -> {
+                            throw error;
+                        });
+
+        final var thrown =
+                assertThrows(
+                        OutOfMemoryError.class,
+                        () -> ParallelRebuilds.runAll(Runnable::run, rebuilds));
+
+        assertSame(error, thrown);
+    }
+
+    @Test
+    void cannotBeConstructed() throws NoSuchMethodException {
+        final var ctor = ParallelRebuilds.class.getDeclaredConstructor();
+        ctor.setAccessible(true);
+
+        final var thrown = assertThrows(InvocationTargetException.class, ctor::newInstance);
+
+        assertTrue(thrown.getCause() instanceof UnsupportedOperationException);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.context.primitives;
+
+import static com.hedera.services.context.primitives.QueryResponseCache.Kind.ACCOUNT_DETAILS;
+import static com.hedera.services.context.primitives.QueryResponseCache.Kind.ACCOUNT_INFO;
+import static com.hedera.services.context.primitives.QueryResponseCache.Kind.TOKEN_INFO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hederahashgraph.api.proto.java.CryptoGetInfoResponse;
+import com.hederahashgraph.api.proto.java.GetAccountDetailsResponse;
+import com.hederahashgraph.api.proto.java.TokenInfo;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QueryResponseCacheTest {
+    private static final long num = 1234L;
+    private static final CryptoGetInfoResponse.AccountInfo accountInfo =
+            CryptoGetInfoResponse.AccountInfo.newBuilder().setMemo("Stable").build();
+    private static final TokenInfo tokenInfo = TokenInfo.newBuilder().setSymbol("STABLE").build();
+
+    @Mock private NodeLocalProperties properties;
+
+    private QueryResponseCache subject = new QueryResponseCache(1_000_000L);
+
+    @Test
+    void usesConfiguredMaxBytes() {
+        given(properties.queryResponseCacheMaxBytes()).willReturn(0L);
+
+        subject = new QueryResponseCache(properties);
+        subject.putIfUnchanged(ACCOUNT_INFO, num, subject.stampFor(num), accountInfo);
+
+        assertNull(
+                subject.getIfPresent(ACCOUNT_INFO, num, CryptoGetInfoResponse.AccountInfo.class));
+        assertEquals(0, subject.misses());
+    }
+
+    @Test
+    void disabledCacheDoesNotRememberInvalidations() {
+        subject = new QueryResponseCache(0L);
+
+        subject.invalidate(num);
+
+        assertEquals(0, subject.numUncommitted());
+    }
+
+    @Test
+    void countsHitsAndMisses() {
+        assertNull(
+                subject.getIfPresent(ACCOUNT_INFO, num, CryptoGetInfoResponse.AccountInfo.class));
+
+        subject.putIfUnchanged(ACCOUNT_INFO, num, subject.stampFor(num), accountInfo);
+
+        assertSame(
+                accountInfo,
+                subject.getIfPresent(ACCOUNT_INFO, num, CryptoGetInfoResponse.AccountInfo.class));
+        assertNull(
+                subject.getIfPresent(
+                        ACCOUNT_DETAILS,
+                        num,
+                        GetAccountDetailsResponse.AccountDetails.class));
+        assertEquals(1, subject.hits());
+        assertEquals(2, subject.misses());
+    }
+
+    @Test
+    void doesNotCacheRenderThatOverlappedInvalidation() {
+        final var stamp = subject.stampFor(num);
+
+        subject.invalidate(num);
+        subject.putIfUnchanged(ACCOUNT_INFO, num, stamp, accountInfo);
+
+        assertNull(
+                subject.getIfPresent(ACCOUNT_INFO, num, CryptoGetInfoResponse.AccountInfo.class));
+    }
+
+    @Test
+    void invalidationClearsAllKindsAndIsRepeatedOnCommit() {
+        subject.putIfUnchanged(ACCOUNT_INFO, num, subject.stampFor(num), accountInfo);
+        subject.putIfUnchanged(TOKEN_INFO, num, subject.stampFor(num), tokenInfo);
+
+        subject.invalidate(num);
+
+        assertNull(
+                subject.getIfPresent(ACCOUNT_INFO, num, CryptoGetInfoResponse.AccountInfo.class));
+        assertNull(subject.getIfPresent(TOKEN_INFO, num, TokenInfo.class));
+        assertEquals(1, subject.numUncommitted());
+
+        // A render that read the pre-commit state slips in before the commit
+        subject.putIfUnchanged(ACCOUNT_INFO, num, subject.stampFor(num), accountInfo);
+        subject.confirmInvalidations();
+
+        assertNull(
+                subject.getIfPresent(ACCOUNT_INFO, num, CryptoGetInfoResponse.AccountInfo.class));
+        assertEquals(0, subject.numUncommitted());
+    }
+
+    @Test
+    void growsUncommittedNumsAsNeeded() {
+        for (long i = 0; i < 100; i++) {
+            subject.invalidate(i);
+        }
+
+        assertEquals(100, subject.numUncommitted());
+    }
+
+    @Test
+    void invalidateAllClearsEverything() {
+        final var stamp = subject.stampFor(num);
+        subject.putIfUnchanged(TOKEN_INFO, num, stamp, tokenInfo);
+        subject.invalidate(num + 1);
+
+        subject.invalidateAll();
+        subject.putIfUnchanged(TOKEN_INFO, num, stamp, tokenInfo);
+
+        assertNull(subject.getIfPresent(TOKEN_INFO, num, TokenInfo.class));
+        assertEquals(0, subject.numUncommitted());
+    }
+
+    @Test
+    void reportsBytesUsedAndEvictions() {
+        subject = new QueryResponseCache(tokenInfo.getSerializedSize());
+
+        subject.putIfUnchanged(TOKEN_INFO, num, subject.stampFor(num), tokenInfo);
+        subject.cleanUp();
+
+        assertEquals(tokenInfo.getSerializedSize(), subject.bytesUsed());
+
+        subject.putIfUnchanged(TOKEN_INFO, num + 1, subject.stampFor(num + 1), tokenInfo);
+        subject.cleanUp();
+
+        assertEquals(tokenInfo.getSerializedSize(), subject.bytesUsed());
+        assertTrue(subject.evictions() >= 1);
+    }
+}
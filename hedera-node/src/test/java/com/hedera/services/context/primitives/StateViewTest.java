@@ -55,6 +55,7 @@ import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.argThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.verify;
 import static org.mockito.Mockito.mockStatic;
 
 import com.google.protobuf.ByteString;
@@ -567,6 +568,24 @@ class StateViewTest {
         assertEquals(ledgerId, info.getLedgerId());
     }
 
+    @Test
+    void overlaysVolatileFieldsOnCachedTokenInfo() {
+        subject =
+                new StateView(
+                        scheduleStore, children, networkInfo, new QueryResponseCache(1_000_000L));
+        given(networkInfo.ledgerId()).willReturn(ledgerId);
+        given(tokens.get(tokenNum)).willReturn(token);
+
+        final var firstInfo = subject.infoForToken(tokenId).get();
+        token.setMemo("Changed without a sig-impacting change");
+        token.setTotalSupply(token.totalSupply() + 1);
+        final var secondInfo = subject.infoForToken(tokenId).get();
+
+        assertEquals(firstInfo.getMemo(), secondInfo.getMemo());
+        assertEquals(firstInfo.getTotalSupply() + 1, secondInfo.getTotalSupply());
+        verify(networkInfo).ledgerId();
+    }
+
     @Test
     void getsContractInfo() throws Exception {
         final var target = EntityNum.fromContractId(cid);
@@ -22,6 +22,16 @@ import static com.hedera.services.stream.proto.SidecarType.CONTRACT_BYTECODE;
 import static com.hedera.services.stream.proto.SidecarType.CONTRACT_STATE_CHANGE;
 import static com.hedera.services.sysfiles.domain.KnownBlockValues.MISSING_BLOCK_VALUES;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCallLocal;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractGetBytecode;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractGetInfo;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractGetRecords;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoGetAccountRecords;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoGetInfo;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.FileGetContents;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.GetAccountDetails;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenGetAccountNftInfos;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenGetNftInfos;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoTransfer;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenBurn;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenMint;
@@ -137,9 +147,11 @@ class BootstrapPropertiesTest {
                     entry(HEDERA_ACCOUNTS_EXPORT_PATH, "data/onboard/exportedAccount.txt"),
                     entry(HEDERA_EXPORT_ACCOUNTS_ON_STARTUP, false),
                     entry(HEDERA_FIRST_USER_ENTITY, 1001L),
+                    entry(HEDERA_HAPI_THROTTLING_STRIPES, 1),
                     entry(HEDERA_PREFETCH_QUEUE_CAPACITY, 10000),
                     entry(HEDERA_PREFETCH_THREAD_POOL_SIZE, 2),
                     entry(HEDERA_PREFETCH_CODE_CACHE_TTL_SECS, 120),
+                    entry(HEDERA_PREFETCH_CODE_CACHE_MAX_BYTES, 16777216L),
                     entry(HEDERA_PROFILES_ACTIVE, Profile.PROD),
                     entry(HEDERA_REALM, 0L),
                     entry(HEDERA_RECORD_STREAM_LOG_DIR, "/opt/hgcapp/recordStreams"),
@@ -165,6 +177,7 @@ class BootstrapPropertiesTest {
                     entry(AUTO_RENEW_NUM_OF_ENTITIES_TO_SCAN, 100),
                     entry(AUTO_RENEW_MAX_NUM_OF_ENTITIES_TO_RENEW_OR_DELETE, 2),
                     entry(AUTO_RENEW_GRACE_PERIOD, 604800L),
+                    entry(AUTO_RENEW_SCAN_BY_EXPIRY, false),
                     entry(LEDGER_AUTO_RENEW_PERIOD_MAX_DURATION, 8000001L),
                     entry(LEDGER_AUTO_RENEW_PERIOD_MIN_DURATION, 2592000L),
                     entry(LEDGER_SCHEDULE_TX_EXPIRY_TIME_SECS, 1800),
@@ -183,6 +196,24 @@ class BootstrapPropertiesTest {
                     entry(NETTY_TLS_CERT_PATH, "hedera.crt"),
                     entry(NETTY_TLS_KEY_PATH, "hedera.key"),
                     entry(QUERIES_BLOB_LOOK_UP_RETRIES, 3),
+                    entry(QUERIES_EXECUTION_POOLED, false),
+                    entry(QUERIES_EXECUTION_CHEAP_LANE_THREADS, 2),
+                    entry(QUERIES_EXECUTION_COSTLY_LANE_THREADS, 1),
+                    entry(QUERIES_EXECUTION_LANE_QUEUE_CAPACITY, 1000),
+                    entry(
+                            QUERIES_EXECUTION_COSTLY_FUNCTIONS,
+                            Set.of(
+                                    ContractCallLocal,
+                                    ContractGetBytecode,
+                                    ContractGetInfo,
+                                    ContractGetRecords,
+                                    CryptoGetAccountRecords,
+                                    CryptoGetInfo,
+                                    FileGetContents,
+                                    GetAccountDetails,
+                                    TokenGetAccountNftInfos,
+                                    TokenGetNftInfos)),
+                    entry(QUERIES_RESPONSE_CACHE_MAX_BYTES, 4194304L),
                     entry(TOKENS_MAX_RELS_PER_INFO_QUERY, 1_000),
                     entry(TOKENS_MAX_PER_ACCOUNT, 1_000),
                     entry(TOKENS_MAX_SYMBOL_UTF8_BYTES, 100),
@@ -196,11 +227,15 @@ class BootstrapPropertiesTest {
                     entry(RATES_MIDNIGHT_CHECK_INTERVAL, 1L),
                     entry(SCHEDULING_LONG_TERM_ENABLED, false),
                     entry(SCHEDULING_MAX_TXN_PER_SEC, 100L),
+                    entry(SCHEDULING_LOOK_AHEAD_SECS, 5),
+                    entry(SCHEDULING_MAX_PREPARED_PER_LOOK_AHEAD, 100),
                     entry(SCHEDULING_MAX_EXPIRATION_FUTURE_SECS, 5356800L),
                     entry(
                             SCHEDULING_WHITE_LIST,
                             Set.of(CryptoTransfer, TokenMint, TokenBurn, ConsensusSubmitMessage)),
                     entry(SIGS_EXPAND_FROM_IMMUTABLE_STATE, true),
+                    entry(SIGS_EXPAND_IN_PARALLEL, false),
+                    entry(SIGS_VERIFICATION_BATCH_SIZE, 256),
                     entry(
                             STATS_CONS_THROTTLES_TO_SAMPLE,
                             List.of("<GAS>", "ThroughputLimits", "CreationLimits")),
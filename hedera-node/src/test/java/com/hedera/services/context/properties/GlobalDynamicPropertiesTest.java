@@ -85,6 +85,8 @@ class GlobalDynamicPropertiesTest {
         assertTrue(subject.shouldThrottleByGas());
         assertFalse(subject.isAutoCreationEnabled());
         assertFalse(subject.expandSigsFromImmutableState());
+        assertTrue(subject.expandSigsInParallel());
+        assertTrue(subject.shouldAutoRenewScanByExpiry());
         assertTrue(subject.shouldExportPrecompileResults());
         assertFalse(subject.isCreate2Enabled());
         assertTrue(subject.isRedirectTokenCallsEnabled());
@@ -170,6 +172,9 @@ class GlobalDynamicPropertiesTest {
         assertEquals(55, subject.maxNumQueryableRecords());
         assertEquals(86, subject.maxNumTokenRels());
         assertEquals(89, subject.getSidecarMaxSizeMb());
+        assertEquals(90, subject.sigVerificationBatchSize());
+        assertEquals(91, subject.schedulingLookAheadSecs());
+        assertEquals(92, subject.schedulingMaxPreparedPerLookAhead());
     }
 
     @Test
@@ -229,6 +234,8 @@ class GlobalDynamicPropertiesTest {
         assertFalse(subject.shouldThrottleByGas());
         assertTrue(subject.isAutoCreationEnabled());
         assertTrue(subject.expandSigsFromImmutableState());
+        assertFalse(subject.expandSigsInParallel());
+        assertFalse(subject.shouldAutoRenewScanByExpiry());
         assertFalse(subject.shouldExportPrecompileResults());
         assertTrue(subject.isCreate2Enabled());
         assertFalse(subject.isRedirectTokenCallsEnabled());
@@ -299,6 +306,9 @@ class GlobalDynamicPropertiesTest {
         assertEquals(79, subject.recordFileVersion());
         assertEquals(80, subject.recordSignatureFileVersion());
         assertEquals(90, subject.getSidecarMaxSizeMb());
+        assertEquals(91, subject.sigVerificationBatchSize());
+        assertEquals(92, subject.schedulingLookAheadSecs());
+        assertEquals(93, subject.schedulingMaxPreparedPerLookAhead());
     }
 
     @Test
@@ -398,6 +408,7 @@ class GlobalDynamicPropertiesTest {
         given(properties.getIntProperty(AUTO_RENEW_MAX_NUM_OF_ENTITIES_TO_RENEW_OR_DELETE))
                 .willReturn(i + 32);
         given(properties.getLongProperty(AUTO_RENEW_GRACE_PERIOD)).willReturn(i + 33L);
+        given(properties.getBooleanProperty(AUTO_RENEW_SCAN_BY_EXPIRY)).willReturn(i % 2 == 1);
         given(properties.getIntProperty(TOKENS_MAX_CUSTOM_FEES_ALLOWED)).willReturn(i + 35);
         given(properties.getIntProperty(LEDGER_NFT_TRANSFERS_MAX_LEN)).willReturn(i + 36);
         given(properties.getIntProperty(TOKENS_NFTS_MAX_BATCH_SIZE_BURN)).willReturn(i + 37);
@@ -425,6 +436,8 @@ class GlobalDynamicPropertiesTest {
         given(properties.getBooleanProperty(AUTO_CREATION_ENABLED)).willReturn(i % 2 == 0);
         given(properties.getBooleanProperty(SIGS_EXPAND_FROM_IMMUTABLE_STATE))
                 .willReturn(i % 2 == 0);
+        given(properties.getBooleanProperty(SIGS_EXPAND_IN_PARALLEL)).willReturn(i % 2 == 1);
+        given(properties.getIntProperty(SIGS_VERIFICATION_BATCH_SIZE)).willReturn(i + 89);
         given(properties.getLongProperty(CONTRACTS_MAX_KV_PAIRS_AGGREGATE)).willReturn(i + 52L);
         given(properties.getIntProperty(CONTRACTS_MAX_KV_PAIRS_INDIVIDUAL)).willReturn(i + 53);
         given(properties.getIntProperty(LEDGER_RECORDS_MAX_QUERYABLE_BY_ACCOUNT))
@@ -494,6 +507,9 @@ class GlobalDynamicPropertiesTest {
                 .willReturn((i + 79) % 2 == 1);
         given(properties.getLongProperty(CONTRACTS_REFERENCE_SLOT_LIFETIME)).willReturn(i + 86L);
         given(properties.getIntProperty(CONTRACTS_FREE_STORAGE_TIER_LIMIT)).willReturn(i + 87);
+        given(properties.getIntProperty(SCHEDULING_LOOK_AHEAD_SECS)).willReturn(i + 90);
+        given(properties.getIntProperty(SCHEDULING_MAX_PREPARED_PER_LOOK_AHEAD))
+                .willReturn(i + 91);
         given(properties.getStringProperty(CONTRACTS_STORAGE_SLOT_PRICE_TIERS))
                 .willReturn("0til100M,2000til450M");
         given(properties.getBooleanProperty(HEDERA_RECORD_STREAM_COMPRESS_FILES_ON_CREATION))
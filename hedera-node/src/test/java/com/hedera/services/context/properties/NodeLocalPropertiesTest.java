@@ -24,7 +24,9 @@ import static com.hedera.services.context.properties.PropertyNames.GRPC_PORT;
 import static com.hedera.services.context.properties.PropertyNames.GRPC_TLS_PORT;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_ACCOUNTS_EXPORT_PATH;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_EXPORT_ACCOUNTS_ON_STARTUP;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_CODE_CACHE_MAX_BYTES;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_CODE_CACHE_TTL_SECS;
+import static com.hedera.services.context.properties.PropertyNames.HEDERA_HAPI_THROTTLING_STRIPES;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_QUEUE_CAPACITY;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PREFETCH_THREAD_POOL_SIZE;
 import static com.hedera.services.context.properties.PropertyNames.HEDERA_PROFILES_ACTIVE;
@@ -48,6 +50,12 @@ import static com.hedera.services.context.properties.PropertyNames.NETTY_START_R
 import static com.hedera.services.context.properties.PropertyNames.NETTY_TLS_CERT_PATH;
 import static com.hedera.services.context.properties.PropertyNames.NETTY_TLS_KEY_PATH;
 import static com.hedera.services.context.properties.PropertyNames.QUERIES_BLOB_LOOK_UP_RETRIES;
+import static com.hedera.services.context.properties.PropertyNames.QUERIES_EXECUTION_CHEAP_LANE_THREADS;
+import static com.hedera.services.context.properties.PropertyNames.QUERIES_EXECUTION_COSTLY_FUNCTIONS;
+import static com.hedera.services.context.properties.PropertyNames.QUERIES_EXECUTION_COSTLY_LANE_THREADS;
+import static com.hedera.services.context.properties.PropertyNames.QUERIES_EXECUTION_LANE_QUEUE_CAPACITY;
+import static com.hedera.services.context.properties.PropertyNames.QUERIES_RESPONSE_CACHE_MAX_BYTES;
+import static com.hedera.services.context.properties.PropertyNames.QUERIES_EXECUTION_POOLED;
 import static com.hedera.services.context.properties.PropertyNames.STATS_CONS_THROTTLES_TO_SAMPLE;
 import static com.hedera.services.context.properties.PropertyNames.STATS_ENTITY_UTILS_GAUGE_UPDATE_INTERVAL_MS;
 import static com.hedera.services.context.properties.PropertyNames.STATS_EXECUTION_TIMES_TO_TRACK;
@@ -56,12 +64,15 @@ import static com.hedera.services.context.properties.PropertyNames.STATS_HAPI_TH
 import static com.hedera.services.context.properties.PropertyNames.STATS_RUNNING_AVG_HALF_LIFE_SECS;
 import static com.hedera.services.context.properties.PropertyNames.STATS_SPEEDOMETER_HALF_LIFE_SECS;
 import static com.hedera.services.context.properties.PropertyNames.STATS_THROTTLE_UTILS_GAUGE_UPDATE_INTERVAL_MS;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCallLocal;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoGetInfo;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 
+import java.util.EnumSet;
 import java.util.List;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -97,6 +108,12 @@ class NodeLocalPropertiesTest {
         assertEquals(28, subject.prefetchQueueCapacity());
         assertEquals(29, subject.prefetchThreadPoolSize());
         assertEquals(30, subject.prefetchCodeCacheTtlSecs());
+        assertEquals(32, subject.hapiThrottlingStripes());
+        assertEquals(33L, subject.prefetchCodeCacheMaxBytes());
+        assertEquals(37L, subject.queryResponseCacheMaxBytes());
+        assertEquals(34, subject.queryCheapLaneThreads());
+        assertEquals(35, subject.queryCostlyLaneThreads());
+        assertEquals(36, subject.queryLaneQueueCapacity());
         assertEquals(List.of("80"), subject.consThrottlesToSample());
         assertEquals(List.of("81"), subject.hapiThrottlesToSample());
     }
@@ -127,6 +144,8 @@ class NodeLocalPropertiesTest {
         assertFalse(subject.exportAccountsOnStartup());
         assertEquals(Profile.PROD, subject.nettyMode());
         assertEquals(24L, subject.nettyStartRetryIntervalMs());
+        assertTrue(subject.isQueryExecutionPooled());
+        assertEquals(EnumSet.of(ContractCallLocal), subject.queryCostlyFunctions());
     }
 
     @Test
@@ -152,6 +171,12 @@ class NodeLocalPropertiesTest {
         assertEquals(30, subject.prefetchThreadPoolSize());
         assertEquals(31, subject.prefetchCodeCacheTtlSecs());
         assertEquals(logDir(32), subject.sidecarDir());
+        assertEquals(33, subject.hapiThrottlingStripes());
+        assertEquals(34L, subject.prefetchCodeCacheMaxBytes());
+        assertEquals(38L, subject.queryResponseCacheMaxBytes());
+        assertEquals(35, subject.queryCheapLaneThreads());
+        assertEquals(36, subject.queryCostlyLaneThreads());
+        assertEquals(37, subject.queryLaneQueueCapacity());
     }
 
     @Test
@@ -185,6 +210,9 @@ class NodeLocalPropertiesTest {
         assertEquals(83L, subject.entityUtilStatsUpdateIntervalMs());
         assertEquals(84L, subject.throttleUtilStatsUpdateIntervalMs());
         assertEquals(logDir(32), subject.sidecarDir());
+        assertEquals(33, subject.hapiThrottlingStripes());
+        assertFalse(subject.isQueryExecutionPooled());
+        assertEquals(EnumSet.of(CryptoGetInfo), subject.queryCostlyFunctions());
     }
 
     private void givenPropsWithSeed(int i) {
@@ -241,6 +269,16 @@ class NodeLocalPropertiesTest {
                 .willReturn(i + 82L);
         given(properties.getStringProperty(HEDERA_RECORD_STREAM_SIDE_CAR_DIR))
                 .willReturn(logDir(i + 30));
+        given(properties.getIntProperty(HEDERA_HAPI_THROTTLING_STRIPES)).willReturn(i + 31);
+        given(properties.getLongProperty(HEDERA_PREFETCH_CODE_CACHE_MAX_BYTES))
+                .willReturn(i + 32L);
+        given(properties.getBooleanProperty(QUERIES_EXECUTION_POOLED)).willReturn(i % 2 == 1);
+        given(properties.getIntProperty(QUERIES_EXECUTION_CHEAP_LANE_THREADS)).willReturn(i + 33);
+        given(properties.getIntProperty(QUERIES_EXECUTION_COSTLY_LANE_THREADS)).willReturn(i + 34);
+        given(properties.getIntProperty(QUERIES_EXECUTION_LANE_QUEUE_CAPACITY)).willReturn(i + 35);
+        given(properties.getFunctionsProperty(QUERIES_EXECUTION_COSTLY_FUNCTIONS))
+                .willReturn(i % 2 == 1 ? EnumSet.of(ContractCallLocal) : EnumSet.of(CryptoGetInfo));
+        given(properties.getLongProperty(QUERIES_RESPONSE_CACHE_MAX_BYTES)).willReturn(i + 36L);
     }
 
     static String logDir(int num) {
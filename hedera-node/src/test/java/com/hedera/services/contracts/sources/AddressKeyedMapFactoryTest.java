@@ -22,11 +22,16 @@ import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.stora
 import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.toAddressMapping;
 import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.toKeyMapping;
 import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.toRelevancyPredicate;
+import static com.hedera.services.contracts.sources.AddressKeyedMapFactory.typedBytecodeMapFrom;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
 
+import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.state.merkle.internals.BlobKey.BlobType;
 import com.hedera.services.utils.EntityIdUtils;
 import java.util.Comparator;
 import java.util.HashMap;
@@ -171,4 +176,18 @@ class AddressKeyedMapFactoryTest {
         storageMap.clear();
         assertTrue(storageMap.isEmpty());
     }
+
+    @Test
+    void typedBytecodeProductUsesContractNumsDirectly() {
+        final var store = mock(FcBlobsBytesStore.class);
+        final var address = EntityIdUtils.asEvmAddress(0, 0, 888);
+        final var code = "CODE".getBytes();
+        given(store.get(BlobType.CONTRACT_BYTECODE, 888L)).willReturn(code);
+        given(store.containsKey(BlobType.CONTRACT_BYTECODE, 888L)).willReturn(true);
+
+        final var bytecode = typedBytecodeMapFrom(store);
+
+        assertArrayEquals(code, bytecode.get(address));
+        assertTrue(bytecode.containsKey(address));
+    }
 }
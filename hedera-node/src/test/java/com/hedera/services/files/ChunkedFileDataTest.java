@@ -0,0 +1,82 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.files;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+
+import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.state.merkle.internals.BlobKey.BlobType;
+import com.hedera.test.utils.IdUtils;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ChunkedFileDataTest {
+    private static final byte[] contents = "SOME".getBytes();
+    private static final byte[] moreContents = "MORE".getBytes();
+
+    @Mock private FcBlobsBytesStore blobStore;
+
+    private ChunkedFileData subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = DataMapFactory.chunkedDataMapFrom(blobStore);
+    }
+
+    @Test
+    void delegatesMapOperationsByFileNum() {
+        final var fid = IdUtils.asFile("0.2.7");
+        given(blobStore.get(BlobType.FILE_DATA, 7L)).willReturn(contents);
+        given(blobStore.containsKey(BlobType.FILE_DATA, 7L)).willReturn(true);
+
+        assertArrayEquals(contents, subject.get(fid));
+        assertTrue(subject.containsKey(fid));
+        assertNull(subject.put(fid, moreContents));
+        assertNull(subject.remove(fid));
+        verify(blobStore).put(BlobType.FILE_DATA, 7L, moreContents);
+        verify(blobStore).remove(BlobType.FILE_DATA, 7L);
+    }
+
+    @Test
+    void cannotBeSizedOrIterated() {
+        assertThrows(UnsupportedOperationException.class, subject::size);
+        assertThrows(UnsupportedOperationException.class, subject::entrySet);
+    }
+
+    @Test
+    void delegatesAppendByFileNum() {
+        subject.append(IdUtils.asFile("0.2.7"), moreContents);
+
+        verify(blobStore).append(7L, moreContents);
+    }
+
+    @Test
+    void delegatesLengthByFileNum() {
+        given(blobStore.lengthOf(7L)).willReturn(8);
+
+        assertEquals(8, subject.lengthOf(IdUtils.asFile("0.2.7")));
+    }
+}
@@ -20,9 +20,14 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.verify;
 
 import com.google.common.primitives.Longs;
 import com.hedera.services.fees.calculation.FeeCalcUtilsTest;
+import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.state.merkle.internals.BlobKey.BlobType;
 import com.hedera.services.state.submerkle.EntityId;
 import com.hedera.test.utils.IdUtils;
 import java.util.Comparator;
@@ -133,6 +138,22 @@ class EntityExpiryMapFactoryTest {
         assertThrows(IllegalArgumentException.class, () -> EntityExpiryMapFactory.toLong(bytes));
     }
 
+    @Test
+    void typedProductUsesEntityNumsDirectly() {
+        final var store = mock(FcBlobsBytesStore.class);
+        final var eid = new EntityId(0, 2, 3);
+        given(store.get(BlobType.SYSTEM_DELETED_ENTITY_EXPIRY, 3L))
+                .willReturn(Longs.toByteArray(111L));
+
+        final var expiries = EntityExpiryMapFactory.typedEntityExpiryMapFrom(store);
+        expiries.put(eid, 222L);
+        expiries.remove(eid);
+
+        assertEquals(111L, expiries.get(eid));
+        verify(store).put(BlobType.SYSTEM_DELETED_ENTITY_EXPIRY, 3L, Longs.toByteArray(222L));
+        verify(store).remove(BlobType.SYSTEM_DELETED_ENTITY_EXPIRY, 3L);
+    }
+
     @Test
     void cannotBeConstructed() {
         // expect:
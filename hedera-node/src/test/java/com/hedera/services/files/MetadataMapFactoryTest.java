@@ -20,6 +20,7 @@ import static com.hedera.services.files.MetadataMapFactory.toAttr;
 import static com.hedera.services.files.MetadataMapFactory.toFid;
 import static com.hedera.services.files.MetadataMapFactory.toKeyString;
 import static com.hedera.services.files.MetadataMapFactory.toValueBytes;
+import static com.hedera.services.files.MetadataMapFactory.typedMetaMapFrom;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -28,9 +29,11 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
+import static org.mockito.BDDMockito.verify;
 
 import com.hedera.services.fees.calculation.FeeCalcUtilsTest;
 import com.hedera.services.files.store.FcBlobsBytesStore;
+import com.hedera.services.state.merkle.internals.BlobKey.BlobType;
 import com.hedera.test.factories.scenarios.TxnHandlingScenario;
 import com.hedera.test.utils.IdUtils;
 import java.io.IOException;
@@ -163,6 +166,21 @@ class MetadataMapFactoryTest {
         assertTrue(metaMap.isEmpty());
     }
 
+    @Test
+    void typedProductUsesFileNumsDirectly() throws Exception {
+        final var store = mock(FcBlobsBytesStore.class);
+        final var fid = IdUtils.asFile("0.2.7");
+        final var validKey = TxnHandlingScenario.MISC_FILE_WACL_KT.asJKey();
+        final var attr = new HFileMeta(false, validKey, expiry);
+        given(store.get(BlobType.FILE_METADATA, 7L)).willReturn(attr.serialize());
+
+        final var metaMap = typedMetaMapFrom(store);
+        metaMap.put(fid, attr);
+
+        assertEquals(attr.toString(), metaMap.get(fid).toString());
+        verify(store).put(BlobType.FILE_METADATA, 7L, attr.serialize());
+    }
+
     private String asLegacyPath(final String fid) {
         return FeeCalcUtilsTest.pathOfMeta(IdUtils.asFile(fid));
     }
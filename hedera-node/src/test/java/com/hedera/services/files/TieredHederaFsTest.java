@@ -76,7 +76,7 @@ class TieredHederaFsTest {
     private EntityIdSource ids;
     private GlobalDynamicProperties properties;
     private Supplier<Instant> clock;
-    private Map<FileID, byte[]> data;
+    private ChunkedFileData data;
     private Map<FileID, HFileMeta> metadata;
     private MerkleSpecialFiles specialFiles;
     private TieredHederaFs subject;
@@ -98,7 +98,7 @@ class TieredHederaFsTest {
                 .willReturn(OptionalInt.of(Integer.MIN_VALUE));
 
         ids = mock(EntityIdSource.class);
-        data = mock(Map.class);
+        data = mock(ChunkedFileData.class);
         metadata = mock(Map.class);
         specialFiles = mock(MerkleSpecialFiles.class);
 
@@ -130,6 +130,28 @@ class TieredHederaFsTest {
 
     @Test
     void appendsWithExpectedResultSansInterception() {
+        given(metadata.containsKey(fid)).willReturn(true);
+        given(metadata.get(fid)).willReturn(livingAttr);
+        given(data.lengthOf(fid)).willReturn(origContents.length);
+
+        final var result = subject.append(fid, moreContents);
+
+        assertEquals(SUCCESS, result.outcome());
+        assertTrue(result.fileReplaced());
+        verify(data).append(fid, moreContents);
+        verify(data, never()).get(fid);
+        verify(data, never()).put(any(), any());
+    }
+
+    @Test
+    void appendsFullContentsIfIntercepted() {
+        final var newContents = (new String(origContents) + new String(moreContents)).getBytes();
+        given(
+                        highInterceptor.preUpdate(
+                                argThat(fid::equals),
+                                argThat((byte[] bytes) -> Arrays.equals(bytes, newContents))))
+                .willReturn(new AbstractMap.SimpleEntry<>(SUCCESS, true));
+        subject.register(highInterceptor);
         given(metadata.containsKey(fid)).willReturn(true);
         given(metadata.get(fid)).willReturn(livingAttr);
         given(data.get(fid)).willReturn(origContents);
@@ -138,15 +160,11 @@ class TieredHederaFsTest {
 
         assertEquals(SUCCESS, result.outcome());
         assertTrue(result.fileReplaced());
+        verify(data, never()).append(any(), any());
         verify(data)
                 .put(
                         argThat(fid::equals),
-                        argThat(
-                                bytes ->
-                                        new String(bytes)
-                                                .equals(
-                                                        new String(origContents)
-                                                                + new String(moreContents))));
+                        argThat((byte[] bytes) -> Arrays.equals(bytes, newContents)));
     }
 
     @Test
@@ -226,7 +244,7 @@ class TieredHederaFsTest {
         final var burstContents = new byte[2];
         given(metadata.containsKey(fid)).willReturn(true);
         given(metadata.get(fid)).willReturn(livingAttr);
-        given(data.get(fid)).willReturn(stretchContents);
+        given(data.lengthOf(fid)).willReturn(stretchContents.length);
         given(properties.maxFileSizeKb()).willReturn(1);
 
         final var iae =
@@ -15,27 +15,38 @@
  */
 package com.hedera.services.files.store;
 
+import static com.hedera.services.files.store.FcBlobsBytesStore.FILE_DATA_CHUNK_BYTES;
 import static com.hedera.services.files.store.FcBlobsBytesStore.getEntityNumFromPath;
+import static com.hedera.services.state.virtual.VirtualBlobKey.MAX_CHUNK_INDEX;
+import static com.hedera.services.state.virtual.VirtualBlobKey.fileDataChunkKey;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.verify;
+import static org.mockito.BDDMockito.willAnswer;
 
+import com.hedera.services.state.merkle.internals.BlobKey;
+import com.hedera.services.state.merkle.internals.BlobKey.BlobType;
 import com.hedera.services.state.virtual.VirtualBlobKey;
 import com.hedera.services.state.virtual.VirtualBlobKey.Type;
 import com.hedera.services.state.virtual.VirtualBlobValue;
 import com.swirlds.virtualmap.VirtualMap;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.commons.lang3.ArrayUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
 class FcBlobsBytesStoreTest {
     private static final byte[] aData = "BlobA".getBytes();
+    private static final long dataNum = 112L;
     private static final String dataPath = "/0/f112";
     private static final String metadataPath = "/0/k3";
     private static final String bytecodePath = "/0/s4";
@@ -104,6 +115,127 @@ class FcBlobsBytesStoreTest {
         assertArrayEquals(aData, subject.get(dataPath));
     }
 
+    @Test
+    void appendsAddChunksOnlyWhenLastIsFull() {
+        final var blobs = givenInMemoryBlobs();
+        final var half = new byte[FILE_DATA_CHUNK_BYTES / 2];
+        half[0] = 1;
+
+        subject.put(dataPath, half);
+        subject.append(dataNum, half);
+        subject.append(dataNum, "!".getBytes());
+
+        assertEquals(2, blobs.size());
+        assertEquals(FILE_DATA_CHUNK_BYTES, blobs.get(pathAKey).getData().length);
+        assertArrayEquals("!".getBytes(), blobs.get(fileDataChunkKey(112, 1)).getData());
+        assertEquals(FILE_DATA_CHUNK_BYTES + 1, subject.lengthOf(dataNum));
+        final var expected = ArrayUtils.addAll(ArrayUtils.addAll(half, half), "!".getBytes());
+        assertArrayEquals(expected, subject.get(dataPath));
+    }
+
+    @Test
+    void appendToMissingFileCreatesFirstChunk() {
+        final var blobs = givenInMemoryBlobs();
+
+        subject.append(dataNum, aData);
+
+        assertEquals(aData.length, subject.lengthOf(dataNum));
+        assertArrayEquals(aData, blobs.get(pathAKey).getData());
+    }
+
+    @Test
+    void lastChunkGrowsPastCapacityOnceNoMoreChunksAvailable() {
+        givenInMemoryBlobs();
+        final var full = new byte[FILE_DATA_CHUNK_BYTES];
+
+        subject.put(dataPath, full);
+        for (int i = 1; i <= MAX_CHUNK_INDEX + 1; i++) {
+            subject.append(dataNum, full);
+        }
+
+        assertEquals((MAX_CHUNK_INDEX + 2) * FILE_DATA_CHUNK_BYTES, subject.lengthOf(dataNum));
+        assertEquals((MAX_CHUNK_INDEX + 2) * FILE_DATA_CHUNK_BYTES, subject.get(dataPath).length);
+    }
+
+    @Test
+    void overwriteAndRemoveClearLaterChunks() {
+        final var blobs = givenInMemoryBlobs();
+        final var full = new byte[FILE_DATA_CHUNK_BYTES];
+        subject.put(dataPath, full);
+        subject.append(dataNum, aData);
+        subject.append(dataNum, full);
+
+        subject.put(dataPath, aData);
+
+        assertArrayEquals(aData, subject.get(dataPath));
+        assertEquals(0, blobs.get(fileDataChunkKey(112, 1)).getData().length);
+        assertEquals(0, blobs.get(fileDataChunkKey(112, 2)).getData().length);
+
+        subject.append(dataNum, full);
+        subject.remove(dataPath);
+
+        assertEquals(0, subject.lengthOf(dataNum));
+        assertEquals(0, subject.get(dataPath).length);
+    }
+
+    @Test
+    void typedAccessUsesSameKeysAsPaths() {
+        final var blobs = givenInMemoryBlobs();
+
+        subject.put(BlobType.CONTRACT_BYTECODE, 4L, aData);
+        subject.put(new BlobKey(BlobType.FILE_METADATA, 3L), aData);
+
+        assertArrayEquals(aData, subject.get(bytecodePath));
+        assertArrayEquals(aData, subject.get(new BlobKey(BlobType.CONTRACT_BYTECODE, 4L)));
+        assertArrayEquals(aData, subject.get(BlobType.FILE_METADATA, 3L));
+        assertNull(subject.get(BlobType.SYSTEM_DELETED_ENTITY_EXPIRY, 5L));
+
+        subject.remove(BlobType.CONTRACT_BYTECODE, 4L);
+        subject.remove(new BlobKey(BlobType.FILE_METADATA, 3L));
+
+        assertEquals(2, blobs.size());
+        assertEquals(0, subject.get(bytecodePath).length);
+        assertEquals(0, subject.get(metadataPath).length);
+    }
+
+    @Test
+    void typedFileDataIsChunkedLikePaths() {
+        givenInMemoryBlobs();
+        final var full = new byte[FILE_DATA_CHUNK_BYTES];
+
+        subject.put(BlobType.FILE_DATA, dataNum, full);
+        subject.append(dataNum, aData);
+
+        assertArrayEquals(ArrayUtils.addAll(full, aData), subject.get(BlobType.FILE_DATA, dataNum));
+        assertArrayEquals(subject.get(dataPath), subject.get(BlobType.FILE_DATA, dataNum));
+    }
+
+    @Test
+    void typedContainsKeyDelegates() {
+        given(pathedBlobs.containsKey(pathAKey)).willReturn(true);
+
+        assertTrue(subject.containsKey(BlobType.FILE_DATA, dataNum));
+        assertTrue(subject.containsKey(new BlobKey(BlobType.FILE_DATA, dataNum)));
+    }
+
+    @Test
+    void contractStorageHasNoTypedBlob() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> subject.get(BlobType.CONTRACT_STORAGE, dataNum));
+    }
+
+    @Test
+    void otherBlobsAreNotChunked() {
+        final var blobs = givenInMemoryBlobs();
+
+        subject.put(bytecodePath, aData);
+        subject.remove(bytecodePath);
+
+        assertEquals(1, blobs.size());
+        assertEquals(0, subject.get(bytecodePath).length);
+    }
+
     @Test
     void delegatesContainsKey() {
         given(pathedBlobs.containsKey(pathAKey)).willReturn(true);
@@ -129,6 +261,18 @@ class FcBlobsBytesStoreTest {
         assertThrows(UnsupportedOperationException.class, subject::entrySet);
     }
 
+    private Map<VirtualBlobKey, VirtualBlobValue> givenInMemoryBlobs() {
+        final Map<VirtualBlobKey, VirtualBlobValue> blobs = new HashMap<>();
+        given(pathedBlobs.get(any()))
+                .willAnswer(invocation -> blobs.get(invocation.getArgument(0)));
+        willAnswer(
+                        invocation ->
+                                blobs.put(invocation.getArgument(0), invocation.getArgument(1)))
+                .given(pathedBlobs)
+                .put(any(), any());
+        return blobs;
+    }
+
     private void givenMockBlobs() {
         blobA = mock(VirtualBlobValue.class);
 
@@ -0,0 +1,89 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.files.store;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+
+import com.hedera.services.state.merkle.internals.BlobKey.BlobType;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class TypedBlobsAdapterTest {
+    private static final byte[] bytes = "SOMETHING".getBytes();
+
+    @Mock private FcBlobsBytesStore delegate;
+
+    private TypedBlobsAdapter<Integer, String> subject;
+
+    @BeforeEach
+    void setUp() {
+        subject =
+                new TypedBlobsAdapter<>(
+                        BlobType.FILE_METADATA,
+                        Integer.class,
+                        Integer::longValue,
+                        b -> Optional.ofNullable(b).map(String::new).orElse(null),
+                        String::getBytes,
+                        delegate);
+    }
+
+    @Test
+    void getsByEntityNum() {
+        given(delegate.get(BlobType.FILE_METADATA, 7L)).willReturn(bytes);
+
+        assertEquals("SOMETHING", subject.get(7));
+    }
+
+    @Test
+    void putsAndRemovesByEntityNumWithoutReturningPrior() {
+        assertNull(subject.put(7, "SOMETHING"));
+        assertNull(subject.remove(7));
+
+        verify(delegate).put(BlobType.FILE_METADATA, 7L, bytes);
+        verify(delegate).remove(BlobType.FILE_METADATA, 7L);
+    }
+
+    @Test
+    void delegatesContainsKeyAndIsEmpty() {
+        given(delegate.containsKey(BlobType.FILE_METADATA, 7L)).willReturn(true);
+        given(delegate.isEmpty()).willReturn(true);
+
+        assertTrue(subject.containsKey(7));
+        assertTrue(subject.isEmpty());
+    }
+
+    @Test
+    void rejectsKeysOfWrongType() {
+        assertThrows(ClassCastException.class, () -> subject.get("7"));
+    }
+
+    @Test
+    void cannotBeIteratedSizedOrCleared() {
+        assertThrows(UnsupportedOperationException.class, subject::entrySet);
+        assertThrows(UnsupportedOperationException.class, subject::size);
+        assertThrows(UnsupportedOperationException.class, subject::clear);
+    }
+}
@@ -29,6 +29,7 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.queries.answering.QueryLanes;
 import com.hedera.services.utils.Pause;
 import io.grpc.BindableService;
 import io.grpc.Server;
@@ -57,6 +58,7 @@ class NettyGrpcServerManagerTest {
     private ConfigDrivenNettyFactory nettyFactory;
     private BindableService a, b, c;
     private Set<BindableService> bindableServices;
+    private QueryLanes queryLanes;
 
     private NettyGrpcServerManager subject;
 
@@ -89,10 +91,11 @@ class NettyGrpcServerManagerTest {
 
         println = mock(Consumer.class);
         hookAdder = mock(Consumer.class);
+        queryLanes = mock(QueryLanes.class);
 
         subject =
                 new NettyGrpcServerManager(
-                        hookAdder, nodeProperties, bindableServices, nettyFactory);
+                        hookAdder, nodeProperties, bindableServices, nettyFactory, queryLanes);
     }
 
     @Test
@@ -135,7 +138,7 @@ class NettyGrpcServerManagerTest {
         given(nodeProperties.nettyStartRetries()).willReturn(0);
         subject =
                 new NettyGrpcServerManager(
-                        hookAdder, nodeProperties, bindableServices, nettyFactory);
+                        hookAdder, nodeProperties, bindableServices, nettyFactory, queryLanes);
         given(server.start()).willThrow(new IOException("Failed to bind"));
 
         // expect:
@@ -197,6 +200,7 @@ class NettyGrpcServerManagerTest {
         // and:
         verify(server).awaitTermination(anyLong(), any());
         verify(tlsServer).awaitTermination(anyLong(), any());
+        verify(queryLanes).shutdown();
     }
 
     private void verifyBuilder(NettyServerBuilder builder) {
@@ -20,6 +20,7 @@ import static com.hedera.services.keys.HederaKeyActivation.isActive;
 import static com.hedera.services.keys.HederaKeyActivation.pkToSigMapFrom;
 import static com.hedera.services.legacy.proto.utils.SignatureGenerator.signBytes;
 import static com.hedera.services.sigs.PlatformSigOps.createCryptoSigsFrom;
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ecdsaSecp256k1Sig;
 import static com.hedera.services.sigs.factories.PlatformSigFactory.ed25519Sig;
 import static com.hedera.services.sigs.utils.MiscCryptoUtils.keccak256DigestOf;
 import static com.hedera.test.factories.keys.KeyTree.withRoot;
@@ -30,6 +31,7 @@ import static com.hedera.test.factories.keys.NodeFactory.threshold;
 import static com.swirlds.common.utility.CommonUtils.hex;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.any;
@@ -54,6 +56,7 @@ import com.swirlds.common.crypto.SignatureType;
 import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.crypto.VerificationStatus;
 import com.swirlds.common.crypto.engine.CryptoEngine;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.BiPredicate;
@@ -222,6 +225,65 @@ class HederaKeyActivationTest {
                 HederaKeyActivation.INVALID_MISSING_SIG.getSignatureStatus());
     }
 
+    @Test
+    void indexedMapAgreesWithLinearScanForMixedKeyTypes() {
+        final List<TransactionSignature> presentSigs = new ArrayList<>();
+        final List<byte[]> compressedKeys = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            presentSigs.add(mockSigFn.apply(i));
+            final var kp = KeyFactory.ecdsaKpGenerator.generateKeyPair();
+            final var q = ((ECPublicKeyParameters) kp.getPublic()).getQ();
+            compressedKeys.add(q.getEncoded(true));
+            presentSigs.add(
+                    ecdsaSecp256k1Sig(
+                            Arrays.copyOfRange(q.getEncoded(false), 1, 65),
+                            String.format("SIG%d", i).getBytes(),
+                            String.format("DATA%d", i).getBytes()));
+        }
+        final var duplicateSig = mockSigFn.apply(0);
+        presentSigs.add(duplicateSig);
+
+        final var linearFn = HederaKeyActivation.linearPkToSigMapFrom(presentSigs);
+        final var indexedFn = HederaKeyActivation.indexedPkToSigMapFrom(presentSigs);
+        final var otherParityKey = compressedKeys.get(0).clone();
+        otherParityKey[0] = otherParityKey[0] == (byte) 0x02 ? (byte) 0x03 : (byte) 0x02;
+        final List<byte[]> sourceKeys = new ArrayList<>(compressedKeys);
+        for (int i = 0; i < 6; i++) {
+            sourceKeys.add(mockSigFn.apply(i).getExpandedPublicKeyDirect());
+        }
+        sourceKeys.add(otherParityKey);
+        sourceKeys.add("asdf".getBytes());
+
+        for (final var sourceKey : sourceKeys) {
+            assertSame(linearFn.apply(sourceKey), indexedFn.apply(sourceKey));
+        }
+        assertSame(presentSigs.get(0), indexedFn.apply(duplicateSig.getExpandedPublicKeyDirect()));
+        assertSame(presentSigs.get(1), indexedFn.apply(compressedKeys.get(0)));
+        assertSame(HederaKeyActivation.INVALID_MISSING_SIG, indexedFn.apply(otherParityKey));
+    }
+
+    @Test
+    void onlyIndexesSigsWhenThereAreEnoughToPayOff() {
+        final var fewSigs = List.of(mockSigFn.apply(0), mockSigFn.apply(1));
+        final var manySigs =
+                List.of(
+                        mockSigFn.apply(0),
+                        mockSigFn.apply(1),
+                        mockSigFn.apply(2),
+                        mockSigFn.apply(3),
+                        mockSigFn.apply(4));
+
+        for (final var sigs : List.of(fewSigs, manySigs)) {
+            final var sigsFn = pkToSigMapFrom(sigs);
+            for (final var sig : sigs) {
+                assertSame(sig, sigsFn.apply(sig.getExpandedPublicKeyDirect()));
+            }
+            assertSame(
+                    HederaKeyActivation.INVALID_MISSING_SIG,
+                    sigsFn.apply(mockSigFn.apply(5).getExpandedPublicKeyDirect()));
+        }
+    }
+
     @Test
     void topLevelListActivatesOnlyIfAllChildrenAreActive() {
         given(sigsFn.apply(any())).willReturn(INVALID_SIG, VALID_SIG);
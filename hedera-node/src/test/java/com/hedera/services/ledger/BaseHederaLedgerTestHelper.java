@@ -169,7 +169,7 @@ public class BaseHederaLedgerTestHelper {
         when(accountsLedger.get(id, EXPIRY)).thenReturn(1_234_567_890L);
         when(accountsLedger.get(id, PROXY)).thenReturn(new EntityId(0, 0, 1_234L));
         when(accountsLedger.get(id, AUTO_RENEW_PERIOD)).thenReturn(7776000L);
-        when(accountsLedger.get(id, BALANCE)).thenReturn(balance);
+        when(accountsLedger.getLong(id, BALANCE)).thenReturn(balance);
         when(accountsLedger.get(id, IS_DELETED)).thenReturn(false);
         when(accountsLedger.get(id, IS_RECEIVER_SIG_REQUIRED)).thenReturn(true);
         when(accountsLedger.get(id, IS_SMART_CONTRACT)).thenReturn(false);
@@ -181,13 +181,13 @@ public class BaseHederaLedgerTestHelper {
         for (TokenID tId : tokenInfo.keySet()) {
             var info = tokenInfo.get(tId);
             var relationship = BackingTokenRels.asTokenRel(id, tId);
-            when(tokenRelsLedger.get(relationship, TOKEN_BALANCE)).thenReturn(info.balance);
+            when(tokenRelsLedger.getLong(relationship, TOKEN_BALANCE)).thenReturn(info.balance);
         }
         when(accountsLedger.get(id, NUM_POSITIVE_BALANCES)).thenReturn(numPositiveBalances);
     }
 
     protected void addDeletedAccountToLedger(AccountID id) {
-        when(accountsLedger.get(id, BALANCE)).thenReturn(0L);
+        when(accountsLedger.getLong(id, BALANCE)).thenReturn(0L);
         when(accountsLedger.get(id, IS_DELETED)).thenReturn(true);
     }
 
@@ -63,9 +63,11 @@ class EntityChangeSetTest {
     @Test
     void canClearChanges() {
         subject.include(1L, null, oneChanges);
+        final var generation = subject.generation();
 
         subject.clear();
 
+        assertEquals(generation + 1, subject.generation());
         assertTrue(subject.getIds().isEmpty());
         assertTrue(subject.getEntities().isEmpty());
         assertTrue(subject.getChanges().isEmpty());
@@ -233,7 +233,7 @@ class HederaLedgerTest extends BaseHederaLedgerTestHelper {
     void recognizesDetachedAccount() {
         validator = mock(OptionValidator.class);
         given(validator.isAfterConsensusSecond(anyLong())).willReturn(false);
-        given(accountsLedger.get(genesis, BALANCE)).willReturn(0L);
+        given(accountsLedger.getLong(genesis, BALANCE)).willReturn(0L);
         subject =
                 new HederaLedger(
                         tokenStore,
@@ -254,7 +254,7 @@ class HederaLedgerTest extends BaseHederaLedgerTestHelper {
     void recognizesDetachedContract() {
         validator = mock(OptionValidator.class);
         given(validator.isAfterConsensusSecond(anyLong())).willReturn(false);
-        given(accountsLedger.get(genesis, BALANCE)).willReturn(0L);
+        given(accountsLedger.getLong(genesis, BALANCE)).willReturn(0L);
         given(accountsLedger.get(genesis, IS_SMART_CONTRACT)).willReturn(true);
         subject =
                 new HederaLedger(
@@ -363,9 +363,9 @@ class HederaLedgerTest extends BaseHederaLedgerTestHelper {
         final var created = subject.create(rand, 1_000L, customizer);
 
         assertEquals(NEXT_ID, created.getAccountNum());
-        verify(accountsLedger).set(rand, BALANCE, RAND_BALANCE - 1_000L);
+        verify(accountsLedger).setLong(rand, BALANCE, RAND_BALANCE - 1_000L);
         verify(accountsLedger).create(created);
-        verify(accountsLedger).set(created, BALANCE, 1_000L);
+        verify(accountsLedger).setLong(created, BALANCE, 1_000L);
         verify(customizer).customize(created, accountsLedger);
     }
 
@@ -379,7 +379,7 @@ class HederaLedgerTest extends BaseHederaLedgerTestHelper {
         subject.spawn(contract, balance, customizer);
 
         verify(accountsLedger).create(contract);
-        verify(accountsLedger).set(contract, BALANCE, balance);
+        verify(accountsLedger).setLong(contract, BALANCE, balance);
         verify(customizer).customize(contract, accountsLedger);
     }
 
@@ -387,8 +387,8 @@ class HederaLedgerTest extends BaseHederaLedgerTestHelper {
     void deletesGivenAccount() {
         subject.delete(rand, misc);
 
-        verify(accountsLedger).set(rand, BALANCE, 0L);
-        verify(accountsLedger).set(misc, BALANCE, MISC_BALANCE + RAND_BALANCE);
+        verify(accountsLedger).setLong(rand, BALANCE, 0L);
+        verify(accountsLedger).setLong(misc, BALANCE, MISC_BALANCE + RAND_BALANCE);
         verify(accountsLedger).set(rand, IS_DELETED, true);
     }
 
@@ -422,7 +422,7 @@ class HederaLedgerTest extends BaseHederaLedgerTestHelper {
 
         subject.adjustBalance(genesis, amount);
 
-        verify(accountsLedger).set(genesis, BALANCE, GENESIS_BALANCE + amount);
+        verify(accountsLedger).setLong(genesis, BALANCE, GENESIS_BALANCE + amount);
     }
 
     @Test
@@ -435,7 +435,7 @@ class HederaLedgerTest extends BaseHederaLedgerTestHelper {
                         () -> subject.adjustBalance(genesis, overdraftAdjustment));
 
         assertEquals(messageFor(genesis, overdraftAdjustment), e.getMessage());
-        verify(accountsLedger, never()).set(any(), any(), any());
+        verify(accountsLedger, never()).setLong(any(), any(), anyLong());
     }
 
     @Test
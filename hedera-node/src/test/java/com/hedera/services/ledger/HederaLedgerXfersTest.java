@@ -20,6 +20,7 @@ import static com.hedera.services.ledger.properties.AccountProperty.BALANCE;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anyLong;
 import static org.mockito.BDDMockito.never;
 import static org.mockito.BDDMockito.verify;
 
@@ -42,7 +43,7 @@ class HederaLedgerXfersTest extends BaseHederaLedgerTestHelper {
                         DeletedAccountException.class, () -> subject.doTransfer(deleted, misc, 1L));
 
         assertEquals("0.0.3456", e.getMessage());
-        verify(accountsLedger, never()).set(any(), any(), any());
+        verify(accountsLedger, never()).setLong(any(), any(), anyLong());
     }
 
     @Test
@@ -52,7 +53,7 @@ class HederaLedgerXfersTest extends BaseHederaLedgerTestHelper {
                         DeletedAccountException.class, () -> subject.doTransfer(misc, deleted, 1L));
 
         assertEquals("0.0.3456", e.getMessage());
-        verify(accountsLedger, never()).set(any(), any(), any());
+        verify(accountsLedger, never()).setLong(any(), any(), anyLong());
     }
 
     @Test
@@ -61,8 +62,8 @@ class HederaLedgerXfersTest extends BaseHederaLedgerTestHelper {
 
         subject.doTransfer(genesis, misc, amount);
 
-        verify(accountsLedger).set(genesis, BALANCE, GENESIS_BALANCE - amount);
-        verify(accountsLedger).set(misc, BALANCE, MISC_BALANCE + amount);
+        verify(accountsLedger).setLong(genesis, BALANCE, GENESIS_BALANCE - amount);
+        verify(accountsLedger).setLong(misc, BALANCE, MISC_BALANCE + amount);
     }
 
     @Test
@@ -74,6 +75,6 @@ class HederaLedgerXfersTest extends BaseHederaLedgerTestHelper {
                         () -> subject.doTransfer(genesis, misc, amount));
 
         assertEquals(messageFor(genesis, -1 * amount), e.getMessage());
-        verify(accountsLedger, never()).set(any(), any(), any());
+        verify(accountsLedger, never()).setLong(any(), any(), anyLong());
     }
 }
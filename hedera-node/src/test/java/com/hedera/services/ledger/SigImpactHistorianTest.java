@@ -21,8 +21,11 @@ import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.UNKNOWN
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
-import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 import com.google.protobuf.ByteString;
 import com.hedera.services.config.MockGlobalDynamicProps;
@@ -127,6 +130,32 @@ class SigImpactHistorianTest {
         assertNull(subject.getNow());
     }
 
+    @Test
+    void notifiesListenersOfMarkedAndCommittedChanges() {
+        final var listener = mock(SigImpactHistorian.ChangeListener.class);
+        subject.registerChangeListener(listener);
+
+        subject.setChangeTime(firstNow);
+        subject.markEntityChanged(aNum);
+        subject.commitChanges();
+        subject.setChangeTime(nowInMiddleOfFirstWindow);
+
+        final var inOrder = inOrder(listener);
+        inOrder.verify(listener).changesCommitted();
+        inOrder.verify(listener).entityChanged(aNum);
+        inOrder.verify(listener, times(2)).changesCommitted();
+    }
+
+    @Test
+    void notifiesListenersOfInvalidatedWindow() {
+        final var listener = mock(SigImpactHistorian.ChangeListener.class);
+        subject.registerChangeListener(listener);
+
+        subject.invalidateCurrentWindow();
+
+        verify(listener).windowInvalidated();
+    }
+
     @Test
     void recognizesChangedWithinFirstPartialWindow() {
         subject.setChangeTime(firstNow);
@@ -820,6 +820,69 @@ class TransactionalLedgerTest {
         assertThrows(IllegalStateException.class, () -> accountsLedger.commit());
     }
 
+    @Test
+    void setsAndGetsPrimitiveLongsAndPersistsThemOnCommit() {
+        setupAccountsLedger();
+        final var account = new MerkleAccount();
+        account.setBalanceUnchecked(10L);
+
+        when(backingAccounts.contains(rand)).thenReturn(true);
+        when(backingAccounts.getImmutableRef(rand)).thenReturn(account);
+        when(backingAccounts.getRef(rand)).thenReturn(account);
+
+        accountsLedger.begin();
+        assertEquals(10L, accountsLedger.getLong(rand, AccountProperty.BALANCE));
+        accountsLedger.setLong(rand, AccountProperty.BALANCE, 15L);
+        assertEquals(15L, accountsLedger.getLong(rand, AccountProperty.BALANCE));
+        assertEquals(15L, accountsLedger.get(rand, AccountProperty.BALANCE));
+        accountsLedger.commit();
+
+        assertEquals(15L, account.getBalance());
+        verify(backingAccounts).put(rand, account);
+    }
+
+    @Test
+    void getLongFallsBackToBoxedGetterForNonLongProperties() {
+        setupAccountsLedger();
+        final var account = new MerkleAccount();
+        account.setNumPositiveBalances(3);
+
+        when(backingAccounts.contains(rand)).thenReturn(true);
+        when(backingAccounts.getImmutableRef(rand)).thenReturn(account);
+
+        accountsLedger.begin();
+        assertEquals(3L, accountsLedger.getLong(rand, AccountProperty.NUM_POSITIVE_BALANCES));
+    }
+
+    @Test
+    void setLongRejectsNonLongProperties() {
+        setupAccountsLedger();
+
+        when(backingAccounts.contains(rand)).thenReturn(true);
+
+        accountsLedger.begin();
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> accountsLedger.setLong(rand, AccountProperty.NUM_POSITIVE_BALANCES, 1L));
+    }
+
+    @Test
+    void recyclesChangeSetsWhenNextTxnBegins() {
+        setupTestLedger();
+
+        testLedger.begin();
+        testLedger.create(1L);
+        testLedger.set(1L, OBJ, things[0]);
+        testLedger.rollback();
+        assertEquals(0, testLedger.numSpareChangeSets());
+
+        testLedger.begin();
+        assertEquals(1, testLedger.numSpareChangeSets());
+        testLedger.create(2L);
+        assertEquals(0, testLedger.numSpareChangeSets());
+        assertTrue(testLedger.getChanges().get(2L).isEmpty());
+    }
+
     private void setupAccountsLedger() {
         accountsLedger =
                 new TransactionalLedger<>(
@@ -79,6 +79,29 @@ class AliasManagerTest {
         assertEquals(num.toEvmAddress(), subject.resolveForEvm(nonMirrorAddress));
     }
 
+    @Test
+    void indexBackedManagerMirrorsLinksAndAnswersLookupsFromIndex() {
+        final var index = new OffHeapAliasIndex();
+        final var indexedSubject = new AliasManager(() -> aliases, index);
+
+        indexedSubject.link(nonMirrorAddress, mirrorAddress);
+        indexedSubject.link(alias, num);
+
+        assertEquals(2, index.size());
+        assertEquals(Map.of(ByteString.copyFrom(rawNonMirrorAddress), num, alias, num), aliases);
+        assertEquals(num.toEvmAddress(), indexedSubject.resolveForEvm(nonMirrorAddress));
+        assertTrue(indexedSubject.isInUse(nonMirrorAddress));
+        assertEquals(num, indexedSubject.lookupIdBy(alias));
+
+        assertTrue(indexedSubject.forgetAlias(alias));
+        indexedSubject.unlink(nonMirrorAddress);
+
+        assertEquals(0, index.size());
+        assertEquals(Collections.emptyMap(), aliases);
+        assertSame(nonMirrorAddress, indexedSubject.resolveForEvm(nonMirrorAddress));
+        assertEquals(EntityNum.MISSING_NUM, indexedSubject.lookupIdBy(alias));
+    }
+
     @Test
     void non20ByteStringCannotBeMirror() {
         assertFalse(subject.isMirror(new byte[] {(byte) 0xab, (byte) 0xcd}));
@@ -261,5 +284,15 @@ class AliasManagerTest {
         subject.forgetEvmAddress(ByteString.copyFromUtf8("This is not a valid alias"));
         assertEquals(3, subject.getAliases().size());
         verify(mockObserver, times(6)).accept(any(), any());
+
+        // and an index-backed manager rebuilds its index along with the map
+        final var index = new OffHeapAliasIndex();
+        index.put(expiredAlias.toByteArray(), withoutNum.longValue());
+        final var indexedSubject = new AliasManager(() -> aliases, index);
+        indexedSubject.rebuildAliasesMap(
+                liveAccounts, (BiConsumer<EntityNum, MerkleAccount>) mockObserver);
+        assertEquals(6, index.size());
+        assertEquals(EntityNum.MISSING_NUM, indexedSubject.lookupIdBy(expiredAlias));
+        assertEquals(ecdsaNum, indexedSubject.lookupIdBy(ecdsaAddress));
     }
 }
@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.ledger.accounts;
+
+import static com.hedera.services.ledger.accounts.OffHeapAliasIndex.MISSING;
+import static java.nio.charset.StandardCharsets.ISO_8859_1;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.Test;
+
+class OffHeapAliasIndexTest {
+    private static final byte[] evmAddress = "0123456789abcdefghij".getBytes();
+    private static final byte[] keyAlias = "0123456789abcdefghij0123456789abcde".getBytes();
+    private static final byte[] longAlias = "0123456789abcdefghij0123456789abcdefghij".getBytes();
+
+    private OffHeapAliasIndex subject = new OffHeapAliasIndex(4);
+
+    @Test
+    void rejectsUnusableCapacities() {
+        assertThrows(IllegalArgumentException.class, () -> new OffHeapAliasIndex(1));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new OffHeapAliasIndex(OffHeapAliasIndex.MAX_CAPACITY + 1));
+    }
+
+    @Test
+    void linksReplacesAndUnlinksAliases() {
+        assertEquals(MISSING, subject.get(evmAddress));
+
+        subject.put(evmAddress, 1001L);
+        subject.put(keyAlias, 1002L);
+        assertEquals(1001L, subject.get(evmAddress));
+        assertEquals(1002L, subject.get(keyAlias));
+        assertEquals(2, subject.size());
+
+        subject.put(evmAddress, 1003L);
+        assertEquals(1003L, subject.get(evmAddress));
+        assertEquals(2, subject.size());
+
+        assertTrue(subject.remove(evmAddress));
+        assertFalse(subject.remove(evmAddress));
+        assertFalse(subject.contains(evmAddress));
+        assertTrue(subject.contains(keyAlias));
+        assertEquals(1, subject.size());
+    }
+
+    @Test
+    void keepsOversizedAliasesInOverflow() {
+        subject.put(longAlias, 1001L);
+        subject.put(new byte[0], 1002L);
+
+        assertEquals(1001L, subject.get(longAlias));
+        assertEquals(1002L, subject.get(new byte[0]));
+        assertEquals(2, subject.size());
+        assertTrue(subject.remove(longAlias));
+        assertEquals(MISSING, subject.get(longAlias));
+        assertEquals(1, subject.size());
+    }
+
+    @Test
+    void growsAndReusesDeletedSlotsWithoutLosingLinks() {
+        final var r = new SplittableRandom(42);
+        final Map<String, Long> expected = new HashMap<>();
+        for (long num = 1; num <= 10_000; num++) {
+            final var alias = new byte[1 + r.nextInt(OffHeapAliasIndex.MAX_OFF_HEAP_KEY_LEN)];
+            r.nextBytes(alias);
+            subject.put(alias, num);
+            expected.put(new String(alias, ISO_8859_1), num);
+            if (num % 3 == 0) {
+                subject.remove(alias);
+                expected.remove(new String(alias, ISO_8859_1));
+            }
+        }
+
+        assertEquals(expected.size(), subject.size());
+        expected.forEach(
+                (alias, num) -> assertEquals(num, subject.get(alias.getBytes(ISO_8859_1))));
+        assertTrue(subject.offHeapBytes() > 4L * 48);
+
+        subject.clear();
+        assertEquals(0, subject.size());
+        assertEquals(4L * 48, subject.offHeapBytes());
+        assertEquals(MISSING, subject.get(evmAddress));
+    }
+
+    @Test
+    void readersNeverSeeTornLinksWhileWriterGrowsTable() throws InterruptedException {
+        subject.put(evmAddress, 1001L);
+        final var done = new AtomicBoolean();
+        final var failure = new AtomicReference<String>();
+        final var started = new CountDownLatch(1);
+        final var reader = Executors.newSingleThreadExecutor();
+        reader.execute(
+                () -> {
+                    started.countDown();
+                    while (!done.get()) {
+                        final var num = subject.get(evmAddress);
+                        if (num != 1001L) {
+                            failure.set("Saw " + num);
+                            return;
+                        }
+                    }
+                });
+
+        started.await();
+        for (int i = 0; i < 50_000; i++) {
+            final var alias = Integer.toString(i).getBytes();
+            subject.put(alias, i);
+            if (i % 2 == 0) {
+                subject.remove(alias);
+            }
+        }
+        done.set(true);
+        reader.shutdown();
+
+        assertTrue(reader.awaitTermination(5, TimeUnit.SECONDS));
+        assertNull(failure.get());
+    }
+}
@@ -18,12 +18,22 @@ package com.hedera.services.ledger.accounts.staking;
 import static com.hedera.services.context.properties.PropertyNames.LEDGER_TOTAL_TINY_BAR_FLOAT;
 import static com.hedera.services.context.properties.PropertyNames.STAKING_REWARD_HISTORY_NUM_STORED_PERIODS;
 import static com.hedera.services.ledger.accounts.staking.StakingUtilsTest.buildPendingNodeStakeChanges;
+import static com.hedera.services.ledger.accounts.staking.StakingUtilsTest.randomStakeFieldChanges;
+import static com.hedera.services.ledger.properties.AccountProperty.BALANCE;
 import static com.hedera.services.state.migration.ReleaseTwentySevenMigration.buildStakingInfoMap;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 import com.hedera.services.context.properties.BootstrapProperties;
+import com.hedera.services.ledger.EntityChangeSet;
+import com.hedera.services.ledger.properties.AccountProperty;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.MerkleStakingInfo;
 import com.hedera.services.utils.EntityNum;
@@ -32,6 +42,7 @@ import com.hederahashgraph.api.proto.java.AccountID;
 import com.swirlds.common.system.address.Address;
 import com.swirlds.common.system.address.AddressBook;
 import com.swirlds.merkle.map.MerkleMap;
+import java.util.function.BiConsumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -112,6 +123,74 @@ class StakeChangeManagerTest {
         assertEquals(2, pendingChanges.size());
     }
 
+    @Test
+    void reindexesChangeSetOnceCleared() {
+        final var pendingChanges = buildPendingNodeStakeChanges();
+
+        assertEquals(1, subject.findOrAdd(partyId.getAccountNum(), pendingChanges));
+        final var stakeeChanges = pendingChanges.changes(1);
+        stakeeChanges.put(BALANCE, 1L);
+
+        pendingChanges.clear();
+        pendingChanges.include(partyId, party, randomStakeFieldChanges(100L));
+
+        assertEquals(0, subject.findOrAdd(partyId.getAccountNum(), pendingChanges));
+        assertEquals(1, subject.findOrAdd(counterpartyId.getAccountNum(), pendingChanges));
+        assertEquals(counterpartyId, pendingChanges.id(1));
+        // The stakee changes from the flushed change set are reused, but cleared
+        assertSame(stakeeChanges, pendingChanges.changes(1));
+        assertTrue(pendingChanges.changes(1).isEmpty());
+    }
+
+    @Test
+    void resolvesToFirstOccurrenceAndGrowsIndexAsNeeded() {
+        final var pendingChanges = new EntityChangeSet<AccountID, MerkleAccount, AccountProperty>();
+        final var initialCapacity = subject.indexCapacity();
+        final var n = initialCapacity;
+        for (int i = 0; i < n; i++) {
+            pendingChanges.include(idWith(1_000L + i), null, randomStakeFieldChanges(i));
+        }
+        pendingChanges.include(idWith(1_000L), null, randomStakeFieldChanges(n));
+
+        for (int i = 0; i < n; i++) {
+            assertEquals(i, subject.findOrAdd(1_000L + i, pendingChanges));
+        }
+        assertTrue(subject.indexCapacity() > initialCapacity);
+        assertEquals(n + 1, subject.findOrAdd(2_000L, pendingChanges));
+        assertEquals(n + 1, subject.findOrAdd(2_000L, pendingChanges));
+        assertEquals(n + 2, pendingChanges.size());
+    }
+
+    @Test
+    void onlyModifiesNodeStakersNotAlreadyStartingToday() {
+        final long todayNum = 123456789L;
+        final var nodeStakerNum = EntityNum.fromLong(1_234L);
+        final var upToDateNodeStakerNum = EntityNum.fromLong(2_345L);
+        final var accountStakerNum = EntityNum.fromLong(3_456L);
+        final var nodeStaker = MerkleAccountFactory.newAccount().stakedId(-1).get();
+        final var upToDateNodeStaker = MerkleAccountFactory.newAccount().stakedId(-2).get();
+        upToDateNodeStaker.setStakePeriodStart(todayNum);
+        final var accountStaker = MerkleAccountFactory.newAccount().stakedId(1_234L).get();
+        willAnswer(
+                        invocation -> {
+                            final BiConsumer<EntityNum, MerkleAccount> visitor =
+                                    invocation.getArgument(0);
+                            visitor.accept(nodeStakerNum, nodeStaker);
+                            visitor.accept(upToDateNodeStakerNum, upToDateNodeStaker);
+                            visitor.accept(accountStakerNum, accountStaker);
+                            return null;
+                        })
+                .given(accounts)
+                .forEach(any());
+        given(accounts.getForModify(nodeStakerNum)).willReturn(nodeStaker);
+
+        subject.initializeAllStakingStartsTo(todayNum);
+
+        assertEquals(todayNum, nodeStaker.getStakePeriodStart());
+        verify(accounts, never()).getForModify(upToDateNodeStakerNum);
+        verify(accounts, never()).getForModify(accountStakerNum);
+    }
+
     @Test
     void setsStakePeriodStart() {
         final long todayNum = 123456789L;
@@ -156,6 +235,10 @@ class StakeChangeManagerTest {
         return info;
     }
 
+    private static AccountID idWith(final long num) {
+        return AccountID.newBuilder().setAccountNum(num).build();
+    }
+
     private final long partyBalance = 111L;
     private static final long counterpartyBalance = 555L;
     private final AccountID partyId = AccountID.newBuilder().setAccountNum(123).build();
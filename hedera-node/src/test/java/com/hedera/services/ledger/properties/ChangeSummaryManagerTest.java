@@ -19,11 +19,13 @@ import static com.hedera.services.ledger.properties.TestAccountProperty.FLAG;
 import static com.hedera.services.ledger.properties.TestAccountProperty.LONG;
 import static com.hedera.services.ledger.properties.TestAccountProperty.OBJ;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
 
 import com.hedera.services.ledger.PropertyChangeObserver;
 import com.hedera.services.ledger.accounts.TestAccount;
+import com.hedera.services.state.merkle.MerkleAccount;
 import java.util.EnumMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -87,6 +89,21 @@ class ChangeSummaryManagerTest {
         assertEquals(Long.valueOf(5L), changes.get(LONG));
     }
 
+    @Test
+    void usesPrimitiveSlotsOfPropertyChanges() {
+        final var account = new MerkleAccount();
+        final var accountChanges = new PropertyChanges<>(AccountProperty.class);
+        final var accountSubject = new ChangeSummaryManager<MerkleAccount, AccountProperty>();
+
+        accountSubject.update(accountChanges, AccountProperty.BALANCE, 5L);
+        accountSubject.update(accountChanges, AccountProperty.IS_DELETED, true);
+        accountSubject.persist(accountChanges, account);
+
+        assertEquals(5L, accountChanges.getLong(AccountProperty.BALANCE));
+        assertEquals(5L, account.getBalance());
+        assertTrue(account.isDeleted());
+    }
+
     @Test
     void setsThing() {
         final var thing = new Object();
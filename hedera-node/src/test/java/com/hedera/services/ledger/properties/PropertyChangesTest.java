@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.ledger.properties;
+
+import static com.hedera.services.ledger.properties.AccountProperty.BALANCE;
+import static com.hedera.services.ledger.properties.AccountProperty.EXPIRY;
+import static com.hedera.services.ledger.properties.AccountProperty.IS_DELETED;
+import static com.hedera.services.ledger.properties.AccountProperty.MEMO;
+import static com.hedera.services.ledger.properties.AccountProperty.NUM_POSITIVE_BALANCES;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.services.state.merkle.MerkleAccount;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class PropertyChangesTest {
+    private PropertyChanges<MerkleAccount, AccountProperty> subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new PropertyChanges<>(AccountProperty.class);
+    }
+
+    @Test
+    void longSlotsRoundTripWithoutBoxedValue() {
+        subject.setLong(BALANCE, 123L);
+
+        assertTrue(subject.containsKey(BALANCE));
+        assertEquals(1, subject.size());
+        assertEquals(123L, subject.getLong(BALANCE));
+        assertEquals(123L, subject.get(BALANCE));
+        assertSame(subject.get(BALANCE), subject.get(BALANCE));
+    }
+
+    @Test
+    void boxedLongsAlsoUsePrimitiveSlots() {
+        subject.set(EXPIRY, 1_234_567L);
+        subject.setLong(EXPIRY, 7_654_321L);
+
+        assertEquals(7_654_321L, subject.get(EXPIRY));
+        assertEquals(1, subject.size());
+    }
+
+    @Test
+    void getLongWorksForOtherNumericProperties() {
+        subject.set(NUM_POSITIVE_BALANCES, 3);
+
+        assertEquals(3L, subject.getLong(NUM_POSITIVE_BALANCES));
+    }
+
+    @Test
+    void rejectsPrimitiveAccessWhenNotApplicable() {
+        assertThrows(IllegalArgumentException.class, () -> subject.setLong(MEMO, 1L));
+        assertThrows(IllegalStateException.class, () -> subject.getLong(BALANCE));
+    }
+
+    @Test
+    void behavesAsMapForNonLongProperties() {
+        assertNull(subject.put(MEMO, "a"));
+        assertEquals("a", subject.put(MEMO, "b"));
+        subject.set(IS_DELETED, true);
+
+        assertEquals(Map.of(MEMO, "b", IS_DELETED, true), subject);
+        assertEquals("b", subject.remove(MEMO));
+        assertNull(subject.remove(MEMO));
+        assertNull(subject.get(MEMO));
+        assertNull(subject.get("NOT_A_PROPERTY"));
+        assertFalse(subject.containsKey(TokenRelProperty.TOKEN_BALANCE));
+        assertEquals(1, subject.size());
+    }
+
+    @Test
+    void iteratesInPropertyOrderAndSupportsRemoval() {
+        subject.setLong(BALANCE, 1L);
+        subject.set(MEMO, "memo");
+        subject.set(IS_DELETED, false);
+        final var expected = new EnumMap<AccountProperty, Object>(AccountProperty.class);
+        expected.put(BALANCE, 1L);
+        expected.put(MEMO, "memo");
+        expected.put(IS_DELETED, false);
+
+        final List<AccountProperty> visited = new ArrayList<>();
+        subject.forEach((property, value) -> visited.add(property));
+        assertEquals(new ArrayList<>(expected.keySet()), visited);
+        assertEquals(expected.entrySet(), subject.entrySet());
+
+        final var iter = subject.entrySet().iterator();
+        assertThrows(IllegalStateException.class, iter::remove);
+        while (iter.hasNext()) {
+            if (iter.next().getKey() == MEMO) {
+                iter.remove();
+            }
+        }
+        assertThrows(NoSuchElementException.class, iter::next);
+        assertFalse(subject.containsKey(MEMO));
+        assertEquals(2, subject.entrySet().size());
+    }
+
+    @Test
+    void clearResetsForReuse() {
+        subject.setLong(BALANCE, 1L);
+        subject.set(MEMO, "memo");
+
+        subject.clear();
+
+        assertTrue(subject.isEmpty());
+        assertFalse(subject.containsKey(BALANCE));
+        assertNull(subject.get(MEMO));
+    }
+
+    @Test
+    void persistsBothPrimitiveAndBoxedChanges() {
+        final var account = new MerkleAccount();
+        subject.setLong(BALANCE, 5L);
+        subject.set(EXPIRY, 1_234_567L);
+        subject.set(MEMO, "memo");
+        subject.set(IS_DELETED, true);
+
+        subject.persistTo(account);
+
+        assertEquals(5L, account.getBalance());
+        assertEquals(1_234_567L, account.getExpiry());
+        assertEquals("memo", account.getMemo());
+        assertTrue(account.isDeleted());
+    }
+}
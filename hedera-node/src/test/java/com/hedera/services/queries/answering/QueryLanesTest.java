@@ -0,0 +1,144 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.queries.answering;
+
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCallLocal;
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.CryptoGetAccountBalance;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.timeout;
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.queries.answering.QueryLanes.Lane;
+import com.hedera.services.stats.QueryLaneStats;
+import java.util.EnumSet;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QueryLanesTest {
+    @Mock private NodeLocalProperties properties;
+    @Mock private QueryLaneStats stats;
+
+    private QueryLanes subject;
+
+    @AfterEach
+    void cleanup() {
+        if (subject != null) {
+            subject.shutdown();
+        }
+    }
+
+    @Test
+    void runsInlineIfNotPooled() {
+        givenProps(false, 1, 1, 1);
+        subject = new QueryLanes(properties, stats);
+        final var runner = new AtomicReference<Thread>();
+
+        final var submitted =
+                subject.submit(ContractCallLocal, () -> runner.set(Thread.currentThread()));
+
+        assertTrue(submitted);
+        assertFalse(subject.isPooled());
+        assertEquals(Thread.currentThread(), runner.get());
+        assertEquals(0, subject.queueDepth(Lane.COSTLY));
+        verify(stats).recordTimes(eq(Lane.COSTLY), anyLong(), anyLong());
+    }
+
+    @Test
+    void routesCostlyAndCheapFunctionsToTheirLanes() {
+        givenProps(true, 1, 1, 1);
+        subject = new QueryLanes(properties, stats);
+
+        assertEquals(Lane.COSTLY, subject.laneFor(ContractCallLocal));
+        assertEquals(Lane.CHEAP, subject.laneFor(CryptoGetAccountBalance));
+    }
+
+    @Test
+    void runsOffCallingThreadIfPooled() throws InterruptedException {
+        givenProps(true, 1, 1, 1);
+        subject = new QueryLanes(properties, stats);
+        final var runner = new AtomicReference<Thread>();
+        final var done = new CountDownLatch(1);
+
+        final var submitted =
+                subject.submit(
+                        CryptoGetAccountBalance,
+                        () -> {
+                            runner.set(Thread.currentThread());
+                            done.countDown();
+                        });
+
+        assertTrue(submitted);
+        assertTrue(done.await(5, TimeUnit.SECONDS));
+        assertTrue(runner.get().getName().startsWith("query-cheap-lane-"));
+        verify(stats).recordQueueDepth(Lane.CHEAP, 0);
+        verify(stats, timeout(5_000)).recordTimes(eq(Lane.CHEAP), anyLong(), anyLong());
+    }
+
+    @Test
+    void rejectsOnlyWhenLaneQueueIsFull() throws InterruptedException {
+        givenProps(true, 1, 1, 1);
+        subject = new QueryLanes(properties, stats);
+        final var started = new CountDownLatch(1);
+        final var release = new CountDownLatch(1);
+        final Runnable blocked =
+                () -> {
+                    started.countDown();
+                    try {
+                        release.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                };
+
+        final var first = subject.submit(ContractCallLocal, blocked);
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        final var second = subject.submit(ContractCallLocal, blocked);
+        final var third = subject.submit(ContractCallLocal, blocked);
+        final var cheap = subject.submit(CryptoGetAccountBalance, () -> {});
+
+        assertTrue(first);
+        assertTrue(second);
+        assertFalse(third);
+        assertTrue(cheap);
+        verify(stats).countRejection(Lane.COSTLY);
+        release.countDown();
+        verify(stats, timeout(5_000).times(2)).recordTimes(eq(Lane.COSTLY), anyLong(), anyLong());
+    }
+
+    private void givenProps(
+            final boolean pooled, final int cheapThreads, final int costlyThreads, final int cap) {
+        given(properties.isQueryExecutionPooled()).willReturn(pooled);
+        given(properties.queryCostlyFunctions()).willReturn(EnumSet.of(ContractCallLocal));
+        if (pooled) {
+            given(properties.queryCheapLaneThreads()).willReturn(cheapThreads);
+            given(properties.queryCostlyLaneThreads()).willReturn(costlyThreads);
+            given(properties.queryLaneQueueCapacity()).willReturn(cap);
+        }
+    }
+}
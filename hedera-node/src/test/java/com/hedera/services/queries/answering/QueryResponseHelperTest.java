@@ -16,12 +16,15 @@
 package com.hedera.services.queries.answering;
 
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.TokenGetInfo;
+import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.BUSY;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_TRANSACTION_START;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.inOrder;
 import static org.mockito.BDDMockito.mock;
 import static org.mockito.BDDMockito.never;
+import static org.mockito.BDDMockito.verify;
 
 import com.hedera.services.queries.AnswerFlow;
 import com.hedera.services.queries.AnswerService;
@@ -43,6 +46,7 @@ class QueryResponseHelperTest {
     AnswerService answer;
     HapiOpCounters opCounters;
     StreamObserver<Response> observer;
+    QueryLanes lanes;
 
     QueryResponseHelper subject;
 
@@ -54,8 +58,18 @@ class QueryResponseHelperTest {
         observer = mock(StreamObserver.class);
         okResponse = mock(Response.class);
         notOkResponse = mock(Response.class);
+        lanes = mock(QueryLanes.class);
 
-        subject = new QueryResponseHelper(answerFlow, opCounters);
+        subject = new QueryResponseHelper(answerFlow, opCounters, lanes);
+    }
+
+    private void givenLanesRunInline() {
+        given(lanes.submit(any(), any()))
+                .willAnswer(
+                        invocation -> {
+                            invocation.<Runnable>getArgument(1).run();
+                            return true;
+                        });
     }
 
     @Test
@@ -63,6 +77,7 @@ class QueryResponseHelperTest {
         // setup:
         InOrder inOrder = inOrder(answerFlow, opCounters, observer);
 
+        givenLanesRunInline();
         given(answerFlow.satisfyUsing(answer, query)).willReturn(okResponse);
         given(answer.extractValidityFrom(okResponse)).willReturn(OK);
 
@@ -82,6 +97,7 @@ class QueryResponseHelperTest {
         // setup:
         InOrder inOrder = inOrder(answerFlow, opCounters, observer);
 
+        givenLanesRunInline();
         given(answerFlow.satisfyUsing(answer, query)).willReturn(notOkResponse);
         given(answer.extractValidityFrom(okResponse)).willReturn(INVALID_TRANSACTION_START);
 
@@ -95,4 +111,20 @@ class QueryResponseHelperTest {
         inOrder.verify(observer).onCompleted();
         inOrder.verify(opCounters, never()).countAnswered(TokenGetInfo);
     }
+
+    @Test
+    void answersBusyIfLaneIsFull() {
+        given(lanes.submit(any(), any())).willReturn(false);
+        given(answer.responseGiven(query, null, BUSY, 0L)).willReturn(notOkResponse);
+
+        // when:
+        subject.answer(query, observer, answer, TokenGetInfo);
+
+        // then:
+        verify(opCounters).countReceived(TokenGetInfo);
+        verify(answerFlow, never()).satisfyUsing(answer, query);
+        verify(observer).onNext(notOkResponse);
+        verify(observer).onCompleted();
+        verify(opCounters, never()).countAnswered(TokenGetInfo);
+    }
 }
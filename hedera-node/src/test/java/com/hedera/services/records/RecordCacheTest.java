@@ -57,7 +57,6 @@ import com.swirlds.common.system.transaction.internal.SwirldTransaction;
 import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
-import java.util.Map;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -70,7 +69,7 @@ class RecordCacheTest {
 
     @Mock private EntityCreator creator;
     @Mock private Cache<TransactionID, Boolean> receiptCache;
-    @Mock private Map<TransactionID, TxnIdRecentHistory> histories;
+    @Mock private TxnIdHistories histories;
     @Mock private TxnIdRecentHistory recentHistory;
     @Mock private TxnIdRecentHistory recentChildHistory;
 
@@ -228,7 +227,7 @@ class RecordCacheTest {
 
     @Test
     void delegatesToPutPostConsensus() {
-        given(histories.computeIfAbsent(argThat(txnIdA::equals), any())).willReturn(recentHistory);
+        given(histories.getOrCreate(txnIdA)).willReturn(recentHistory);
 
         subject.setPostConsensus(
                 txnIdA, ResponseCodeEnum.valueOf(aRecord.getReceipt().getStatus()), aRecord);
@@ -252,7 +251,7 @@ class RecordCacheTest {
                         .build();
         final var platformTxn = new SwirldTransaction(signedTxn.toByteArray());
         final var effectivePayer = IdUtils.asAccount("0.0.3");
-        given(histories.computeIfAbsent(argThat(txnId::equals), any())).willReturn(recentHistory);
+        given(histories.getOrCreate(txnId)).willReturn(recentHistory);
         final var accessor =
                 PlatformTxnAccessor.from(
                         SignedTxnAccessor.from(platformTxn.getContents()), platformTxn);
@@ -294,7 +293,7 @@ class RecordCacheTest {
                         .build();
         final var effectivePayer = IdUtils.asAccount("0.0.3");
         final var effectiveScheduleID = IdUtils.asSchedule("0.0.123");
-        given(histories.computeIfAbsent(argThat(txnId::equals), any())).willReturn(recentHistory);
+        given(histories.getOrCreate(txnId)).willReturn(recentHistory);
         final var accessor = SignedTxnAccessor.from(signedTxn.toByteArray());
         final var expirableTxnRecordBuilder =
                 ExpirableTxnRecord.newBuilder()
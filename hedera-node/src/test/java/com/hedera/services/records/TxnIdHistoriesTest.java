@@ -0,0 +1,197 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.records;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.google.protobuf.ByteString;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.Timestamp;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TxnIdHistoriesTest {
+    private TxnIdHistories subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new TxnIdHistories();
+    }
+
+    @Test
+    void createsOnlyOneHistoryPerTxnId() {
+        final var txnId = txnIdWith(1234, 1_234_567L, 890, false, 0);
+
+        assertNull(subject.get(txnId));
+        assertFalse(subject.containsKey(txnId));
+        final var history = subject.getOrCreate(txnId);
+
+        assertSame(history, subject.getOrCreate(txnId));
+        assertSame(history, subject.get(txnId.toBuilder().build()));
+        assertTrue(subject.containsKey(txnId));
+        assertEquals(1, subject.size());
+    }
+
+    @Test
+    void distinguishesEveryEncodedField() {
+        final var base = txnIdWith(1234, 1_234_567L, 890, false, 0);
+        final var variants =
+                List.of(
+                        base,
+                        txnIdWith(1235, 1_234_567L, 890, false, 0),
+                        txnIdWith(1234, 1_234_568L, 890, false, 0),
+                        txnIdWith(1234, 1_234_567L, 891, false, 0),
+                        txnIdWith(1234, 1_234_567L, 890, true, 0),
+                        txnIdWith(1234, 1_234_567L, 890, false, 1),
+                        base.toBuilder()
+                                .setAccountID(base.getAccountID().toBuilder().setRealmNum(1))
+                                .build(),
+                        base.toBuilder()
+                                .setAccountID(base.getAccountID().toBuilder().setShardNum(1))
+                                .build());
+
+        final Map<TxnIdRecentHistory, Boolean> seen = new IdentityHashMap<>();
+        variants.forEach(txnId -> seen.put(subject.getOrCreate(txnId), Boolean.TRUE));
+
+        assertEquals(variants.size(), seen.size());
+        assertEquals(variants.size(), subject.size());
+        assertEquals(0, subject.overflowSize());
+    }
+
+    @Test
+    void usesOverflowForIdsThatCannotBeEncoded() {
+        final var aliased =
+                TransactionID.newBuilder()
+                        .setAccountID(
+                                AccountID.newBuilder().setAlias(ByteString.copyFromUtf8("abc")))
+                        .setTransactionValidStart(Timestamp.newBuilder().setSeconds(1L))
+                        .build();
+        final var noValidStart =
+                TransactionID.newBuilder()
+                        .setAccountID(AccountID.newBuilder().setAccountNum(2L))
+                        .build();
+        final var negativeRealm = txnIdWith(3, 1L, 0, false, 0).toBuilder();
+        negativeRealm.getAccountIDBuilder().setRealmNum(-1L);
+
+        assertFalse(TxnIdHistories.isEncodable(aliased));
+        assertFalse(TxnIdHistories.isEncodable(noValidStart));
+        assertFalse(TxnIdHistories.isEncodable(negativeRealm.build()));
+        final var history = subject.getOrCreate(aliased);
+        subject.getOrCreate(noValidStart);
+
+        assertSame(history, subject.get(aliased));
+        assertEquals(2, subject.overflowSize());
+        assertEquals(2, subject.size());
+
+        subject.remove(aliased);
+        assertNull(subject.get(aliased));
+        assertEquals(1, subject.size());
+    }
+
+    @Test
+    void growsAndStillFindsEverything() {
+        final var n = 3 * TxnIdHistories.MIN_CAPACITY;
+        final List<TransactionID> txnIds = new ArrayList<>();
+        final List<TxnIdRecentHistory> histories = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            final var txnId = txnIdWith(i % 7, 1_000L + i / 7, i % 3, i % 2 == 0, 0);
+            txnIds.add(txnId);
+            histories.add(subject.getOrCreate(txnId));
+        }
+
+        assertEquals(n, subject.size());
+        assertTrue(subject.capacity() >= 4 * n / 3);
+        for (int i = 0; i < n; i++) {
+            assertSame(histories.get(i), subject.get(txnIds.get(i)));
+        }
+    }
+
+    @Test
+    void removalKeepsAllOtherHistoriesReachable() {
+        final var n = 2 * TxnIdHistories.MIN_CAPACITY;
+        final List<TransactionID> txnIds = new ArrayList<>();
+        final List<TxnIdRecentHistory> histories = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            final var txnId = txnIdWith(1001, 1_000L + i, i % 5, false, i % 2);
+            txnIds.add(txnId);
+            histories.add(subject.getOrCreate(txnId));
+        }
+
+        for (int i = 0; i < n; i += 3) {
+            subject.remove(txnIds.get(i));
+        }
+        subject.remove(txnIdWith(1001, 0L, 0, false, 0));
+
+        for (int i = 0; i < n; i++) {
+            if (i % 3 == 0) {
+                assertNull(subject.get(txnIds.get(i)));
+            } else {
+                assertSame(histories.get(i), subject.get(txnIds.get(i)));
+            }
+        }
+        assertEquals(n - (n + 2) / 3, subject.size());
+        assertNotSame(histories.get(0), subject.getOrCreate(txnIds.get(0)));
+    }
+
+    @Test
+    void forEachVisitsAllAndClearForgetsAll() {
+        final var aliased =
+                TransactionID.newBuilder()
+                        .setAccountID(
+                                AccountID.newBuilder().setAlias(ByteString.copyFromUtf8("abc")))
+                        .build();
+        subject.getOrCreate(txnIdWith(1, 1L, 1, false, 0));
+        subject.getOrCreate(txnIdWith(2, 2L, 2, false, 0));
+        subject.getOrCreate(aliased);
+        final List<TxnIdRecentHistory> visited = new ArrayList<>();
+
+        subject.forEach(visited::add);
+        assertEquals(3, visited.size());
+
+        subject.clear();
+        assertTrue(subject.isEmpty());
+        assertNull(subject.get(aliased));
+        assertNull(subject.get(txnIdWith(1, 1L, 1, false, 0)));
+        assertEquals(TxnIdHistories.MIN_CAPACITY, subject.capacity());
+    }
+
+    private static TransactionID txnIdWith(
+            final long payerNum,
+            final long validStartSecs,
+            final int validStartNanos,
+            final boolean scheduled,
+            final int nonce) {
+        return TransactionID.newBuilder()
+                .setAccountID(AccountID.newBuilder().setAccountNum(payerNum))
+                .setTransactionValidStart(
+                        Timestamp.newBuilder()
+                                .setSeconds(validStartSecs)
+                                .setNanos(validStartNanos))
+                .setScheduled(scheduled)
+                .setNonce(nonce)
+                .build();
+    }
+}
@@ -29,7 +29,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
-import static org.mockito.BDDMockito.mock;
 
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hederahashgraph.api.proto.java.ResponseCodeEnum;
@@ -63,15 +62,39 @@ class TxnIdRecentHistoryTest {
 
     @Test
     void getsMemory() {
-        subject.classifiableRecords = List.of(mock(ExpirableTxnRecord.class));
+        subject.observe(recordOf(1, 0, SUCCESS), SUCCESS);
         assertFalse(subject.isForgotten());
 
-        subject.classifiableRecords = null;
-        subject.unclassifiableRecords = List.of(mock(ExpirableTxnRecord.class));
+        subject.forgetExpiredAt(expiryAtOffset(0));
+        subject.observe(recordOf(1, 1, INVALID_PAYER_SIGNATURE), INVALID_PAYER_SIGNATURE);
         assertFalse(subject.isForgotten());
 
-        subject.unclassifiableRecords = null;
+        subject.forgetExpiredAt(expiryAtOffset(1));
+        assertTrue(subject.isForgotten());
+    }
+
+    @Test
+    void stagedRecordsAreNotYetRemembered() {
+        subject.stage(recordOf(1, 0, SUCCESS));
+
         assertTrue(subject.isForgotten());
+        assertNull(subject.priorityRecord());
+        assertEquals(1, subject.numStaged());
+    }
+
+    @Test
+    void keepsStagedRecordsWhenForgetting() {
+        subject.observe(recordOf(1, 0, SUCCESS), SUCCESS);
+        subject.stage(recordOf(2, 1, DUPLICATE_TRANSACTION));
+
+        subject.forgetExpiredAt(expiryAtOffset(0));
+        subject.observeStaged();
+
+        assertEquals(
+                List.of(memoIdentifying(2, 1, DUPLICATE_TRANSACTION)),
+                subject.classifiableRecords().stream()
+                        .map(ExpirableTxnRecord::getMemo)
+                        .collect(toList()));
     }
 
     @Test
@@ -104,14 +127,14 @@ class TxnIdRecentHistoryTest {
                         memoIdentifying(3, 5, DUPLICATE_TRANSACTION),
                         memoIdentifying(1, 2, DUPLICATE_TRANSACTION),
                         memoIdentifying(2, 4, DUPLICATE_TRANSACTION)),
-                subject.classifiableRecords.stream().map(sr -> sr.getMemo()).collect(toList()));
+                subject.classifiableRecords().stream().map(sr -> sr.getMemo()).collect(toList()));
         assertEquals(
                 List.of(
                         memoIdentifying(1, 0, INVALID_PAYER_SIGNATURE),
                         memoIdentifying(1, 6, INVALID_PAYER_SIGNATURE),
                         memoIdentifying(2, 7, INVALID_NODE_ACCOUNT)),
-                subject.unclassifiableRecords.stream().map(sr -> sr.getMemo()).collect(toList()));
-        assertNull(subject.memory);
+                subject.unclassifiableRecords().stream().map(sr -> sr.getMemo()).collect(toList()));
+        assertEquals(0, subject.numStaged());
     }
 
     @Test
@@ -155,14 +178,14 @@ class TxnIdRecentHistoryTest {
 
         assertEquals(
                 List.of(memoIdentifying(3, 5, DUPLICATE_TRANSACTION)),
-                subject.classifiableRecords.stream()
+                subject.classifiableRecords().stream()
                         .map(ExpirableTxnRecord::getMemo)
                         .collect(toList()));
         assertEquals(
                 List.of(
                         memoIdentifying(1, 6, INVALID_PAYER_SIGNATURE),
                         memoIdentifying(2, 7, INVALID_NODE_ACCOUNT)),
-                subject.unclassifiableRecords.stream()
+                subject.unclassifiableRecords().stream()
                         .map(ExpirableTxnRecord::getMemo)
                         .collect(toList()));
     }
@@ -185,10 +208,10 @@ class TxnIdRecentHistoryTest {
 
         assertEquals(
                 List.of(memoIdentifying(3, 5, DUPLICATE_TRANSACTION)),
-                subject.classifiableRecords.stream()
+                subject.classifiableRecords().stream()
                         .map(ExpirableTxnRecord::getMemo)
                         .collect(toList()));
-        assertEquals(0, subject.unclassifiableRecords.size());
+        assertEquals(0, subject.unclassifiableRecords().size());
     }
 
     @Test
@@ -197,7 +220,7 @@ class TxnIdRecentHistoryTest {
 
         subject.forgetExpiredAt(expiryAtOffset(-1));
 
-        assertEquals(1, subject.unclassifiableRecords.size());
+        assertEquals(1, subject.unclassifiableRecords().size());
     }
 
     @Test
@@ -18,27 +18,39 @@ package com.hedera.services.sigs;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.ServicesState;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.sigs.order.SigReqsManager;
 import com.hedera.services.txns.prefetch.PrefetchProcessor;
+import com.hedera.services.txns.schedule.ScheduleLookAhead;
 import com.hedera.services.txns.span.ExpandHandleSpan;
 import com.hedera.services.utils.accessors.PlatformTxnAccessor;
 import com.hedera.test.extensions.LogCaptor;
 import com.hedera.test.extensions.LogCaptureExtension;
 import com.hedera.test.extensions.LoggingSubject;
 import com.hedera.test.extensions.LoggingTarget;
-import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.TransactionSignature;
 import com.swirlds.common.system.events.Event;
 import com.swirlds.common.system.transaction.Transaction;
 import com.swirlds.common.system.transaction.internal.SwirldTransaction;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -52,17 +64,27 @@ class EventExpansionTest {
     @Mock private Event event;
     @Mock private ServicesState sourceState;
     @Mock private PlatformTxnAccessor txnAccessor;
-    @Mock private Cryptography engine;
+    @Mock private SigVerificationBatcher sigBatcher;
     @Mock private SigReqsManager sigReqsManager;
     @Mock private ExpandHandleSpan expandHandleSpan;
     @Mock private PrefetchProcessor prefetchProcessor;
+    @Mock private ScheduleLookAhead scheduleLookAhead;
+    @Mock private GlobalDynamicProperties dynamicProperties;
 
     @LoggingTarget private LogCaptor logCaptor;
     @LoggingSubject private EventExpansion subject;
 
     @BeforeEach
     void setUp() {
-        subject = new EventExpansion(engine, sigReqsManager, expandHandleSpan, prefetchProcessor);
+        subject =
+                new EventExpansion(
+                        Runnable::run,
+                        sigBatcher,
+                        sigReqsManager,
+                        expandHandleSpan,
+                        prefetchProcessor,
+                        scheduleLookAhead,
+                        dynamicProperties);
     }
 
     @Test
@@ -75,7 +97,9 @@ class EventExpansionTest {
 
         verify(prefetchProcessor, times(n)).submit(txnAccessor);
         verify(sigReqsManager, times(n)).expandSigs(sourceState, txnAccessor);
-        verify(engine, times(n)).verifyAsync(Collections.emptyList());
+        verify(sigBatcher, times(n)).submit(Collections.emptyList());
+        verify(sigBatcher).flushPending();
+        verify(scheduleLookAhead).prepareFrom(sourceState);
     }
 
     @Test
@@ -108,15 +132,254 @@ class EventExpansionTest {
                                         + "synchronously in handleTransaction")));
     }
 
-    @SuppressWarnings("unchecked")
+    @Test
+    void canBeConstructedWithDefaultWorkers() throws InvalidProtocolBufferException {
+        subject =
+                new EventExpansion(
+                        sigBatcher,
+                        sigReqsManager,
+                        expandHandleSpan,
+                        prefetchProcessor,
+                        scheduleLookAhead,
+                        dynamicProperties);
+        givenNTransactions(1);
+        given(expandHandleSpan.track(any())).willReturn(txnAccessor);
+
+        subject.expandAllSigs(event, sourceState);
+
+        verify(sigReqsManager).expandSigs(sourceState, txnAccessor);
+    }
+
+    @Test
+    void defaultWorkersAreDedicatedExpansionThreads() throws InvalidProtocolBufferException {
+        subject =
+                new EventExpansion(
+                        sigBatcher,
+                        sigReqsManager,
+                        expandHandleSpan,
+                        prefetchProcessor,
+                        scheduleLookAhead,
+                        dynamicProperties);
+        given(dynamicProperties.expandSigsInParallel()).willReturn(true);
+        final var txns = givenNTransactionsWithSigs(8);
+        givenAccessorsFor(txns);
+        given(sigReqsManager.prepareConcurrentExpansion(sourceState)).willReturn(true);
+        final Set<String> workerNames = ConcurrentHashMap.newKeySet();
+        Mockito.doAnswer(
+                        invocationOnMock -> {
+                            workerNames.add(Thread.currentThread().getName());
+                            return null;
+                        })
+                .when(sigReqsManager)
+                .expandSigsConcurrently(any());
+
+        subject.expandAllSigs(event, sourceState);
+
+        verify(sigReqsManager, times(8)).expandSigsConcurrently(any());
+        assertTrue(
+                workerNames.stream()
+                        .allMatch(
+                                name ->
+                                        name.startsWith("sig-expansion-")
+                                                || name.equals(
+                                                        Thread.currentThread().getName())));
+    }
+
+    @Test
+    void singleTransactionEventIsExpandedSequentiallyEvenInParallelMode()
+            throws InvalidProtocolBufferException {
+        given(dynamicProperties.expandSigsInParallel()).willReturn(true);
+        givenNTransactions(1);
+        given(expandHandleSpan.track(any())).willReturn(txnAccessor);
+
+        subject.expandAllSigs(event, sourceState);
+
+        verify(sigReqsManager).expandSigs(sourceState, txnAccessor);
+        verify(sigReqsManager, never()).prepareConcurrentExpansion(any());
+        verify(sigBatcher).submit(Collections.emptyList());
+    }
+
+    @Test
+    void expandsConcurrentlyAndSubmitsAllSigsInOneBatch() throws InvalidProtocolBufferException {
+        given(dynamicProperties.expandSigsInParallel()).willReturn(true);
+        final var txns = givenNTransactionsWithSigs(3);
+        final var accessors = givenAccessorsFor(txns);
+        given(sigReqsManager.prepareConcurrentExpansion(sourceState)).willReturn(true);
+
+        subject.expandAllSigs(event, sourceState);
+
+        final var inOrder =
+                inOrder(prefetchProcessor, sigReqsManager, sigBatcher, scheduleLookAhead);
+        for (final var accessor : accessors) {
+            inOrder.verify(prefetchProcessor).submit(accessor);
+        }
+        inOrder.verify(sigReqsManager).prepareConcurrentExpansion(sourceState);
+        for (final var accessor : accessors) {
+            inOrder.verify(sigReqsManager).expandSigsConcurrently(accessor);
+        }
+        inOrder.verify(sigBatcher).submit(allSigsOf(txns));
+        inOrder.verify(sigBatcher).flushPending();
+        inOrder.verify(scheduleLookAhead).prepareFrom(sourceState);
+        verify(sigReqsManager, never()).expandSigs(any(), any());
+    }
+
+    @Test
+    void expandsOnIntakeThreadIfConcurrentExpansionUnavailable()
+            throws InvalidProtocolBufferException {
+        given(dynamicProperties.expandSigsInParallel()).willReturn(true);
+        final var txns = givenNTransactionsWithSigs(2);
+        final var accessors = givenAccessorsFor(txns);
+
+        subject.expandAllSigs(event, sourceState);
+
+        verify(sigReqsManager, never()).expandSigsConcurrently(any());
+        for (final var accessor : accessors) {
+            verify(sigReqsManager).expandSigs(sourceState, accessor);
+        }
+        verify(sigBatcher).submit(allSigsOf(txns));
+    }
+
+    @Test
+    void retriesFailedConcurrentExpansionsAndOmitsSigsOfUnexpandableTxns()
+            throws InvalidProtocolBufferException {
+        given(dynamicProperties.expandSigsInParallel()).willReturn(true);
+        final var txns = givenNTransactionsWithSigs(3);
+        final var accessors = givenAccessorsFor(txns);
+        given(sigReqsManager.prepareConcurrentExpansion(sourceState)).willReturn(true);
+        willThrow(IllegalStateException.class)
+                .given(sigReqsManager)
+                .expandSigsConcurrently(accessors.get(1));
+        willThrow(IllegalStateException.class)
+                .given(sigReqsManager)
+                .expandSigsConcurrently(accessors.get(2));
+        willThrow(IllegalStateException.class)
+                .given(sigReqsManager)
+                .expandSigs(sourceState, accessors.get(2));
+
+        subject.expandAllSigs(event, sourceState);
+
+        verify(sigReqsManager, never()).expandSigs(sourceState, accessors.get(0));
+        verify(sigReqsManager).expandSigs(sourceState, accessors.get(1));
+        verify(sigBatcher).submit(allSigsOf(txns.subList(0, 2)));
+        assertThat(
+                logCaptor.warnLogs(),
+                contains(startsWith("Unable to expand signatures, will be verified")));
+    }
+
+    @Test
+    void omitsSigsOfUnparseableOrUnsubmittableTxns() throws InvalidProtocolBufferException {
+        given(dynamicProperties.expandSigsInParallel()).willReturn(true);
+        final var txns = givenNTransactionsWithSigs(3);
+        final var accessors = givenAccessorsFor(txns);
+        willThrow(InvalidProtocolBufferException.class).given(expandHandleSpan).track(txns.get(0));
+        willThrow(IllegalStateException.class).given(prefetchProcessor).submit(accessors.get(1));
+        given(sigReqsManager.prepareConcurrentExpansion(sourceState)).willReturn(true);
+
+        subject.expandAllSigs(event, sourceState);
+
+        verify(sigReqsManager, never()).expandSigsConcurrently(accessors.get(1));
+        verify(sigReqsManager).expandSigsConcurrently(accessors.get(2));
+        verify(sigBatcher).submit(allSigsOf(txns.subList(2, 3)));
+        assertThat(
+                logCaptor.warnLogs(),
+                contains(
+                        startsWith("Event contained a non-GRPC transaction"),
+                        startsWith("Unable to expand signatures, will be verified")));
+    }
+
+    @Test
+    void warnsOfBatchSubmissionFailure() throws InvalidProtocolBufferException {
+        given(dynamicProperties.expandSigsInParallel()).willReturn(true);
+        final var txns = givenNTransactionsWithSigs(2);
+        givenAccessorsFor(txns);
+        willThrow(IllegalStateException.class).given(sigBatcher).submit(any());
+
+        subject.expandAllSigs(event, sourceState);
+
+        assertThat(
+                logCaptor.warnLogs(),
+                contains(startsWith("Unable to expand signatures, will be verified")));
+    }
+
+    @Test
+    void allConcurrentWorkIsVisibleOnReturn() throws Exception {
+        final var pool = Executors.newFixedThreadPool(4);
+        subject =
+                new EventExpansion(
+                        pool,
+                        sigBatcher,
+                        sigReqsManager,
+                        expandHandleSpan,
+                        prefetchProcessor,
+                        scheduleLookAhead,
+                        dynamicProperties);
+        given(dynamicProperties.expandSigsInParallel()).willReturn(true);
+        final var txns = givenNTransactionsWithSigs(64);
+        givenAccessorsFor(txns);
+        given(sigReqsManager.prepareConcurrentExpansion(sourceState)).willReturn(true);
+        final Set<String> workerNames = ConcurrentHashMap.newKeySet();
+        Mockito.doAnswer(
+                        invocationOnMock -> {
+                            workerNames.add(Thread.currentThread().getName());
+                            return null;
+                        })
+                .when(sigReqsManager)
+                .expandSigsConcurrently(any());
+
+        subject.expandAllSigs(event, sourceState);
+
+        verify(sigReqsManager, times(64)).expandSigsConcurrently(any());
+        verify(sigBatcher).submit(allSigsOf(txns));
+        assertTrue(workerNames.stream().allMatch(name -> name.startsWith("pool-")));
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+    }
+
+    private List<Transaction> givenNTransactionsWithSigs(final int n) {
+        final List<Transaction> txns = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            final var txn = mock(Transaction.class);
+            Mockito.lenient()
+                    .when(txn.getSignatures())
+                    .thenReturn(List.of(mock(TransactionSignature.class)));
+            txns.add(txn);
+        }
+        givenTransactions(txns);
+        return txns;
+    }
+
+    private List<PlatformTxnAccessor> givenAccessorsFor(final List<Transaction> txns)
+            throws InvalidProtocolBufferException {
+        final List<PlatformTxnAccessor> accessors = new ArrayList<>();
+        for (final var txn : txns) {
+            final var accessor = mock(PlatformTxnAccessor.class);
+            Mockito.lenient().when(expandHandleSpan.track(txn)).thenReturn(accessor);
+            accessors.add(accessor);
+        }
+        return accessors;
+    }
+
+    private static List<TransactionSignature> allSigsOf(final List<Transaction> txns) {
+        final List<TransactionSignature> sigs = new ArrayList<>();
+        txns.forEach(txn -> sigs.addAll(txn.getSignatures()));
+        return sigs;
+    }
+
     private void givenNTransactions(final int n) {
+        final List<Transaction> txns = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            txns.add(new SwirldTransaction());
+        }
+        givenTransactions(txns);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenTransactions(final List<Transaction> txns) {
         Mockito.doAnswer(
                         invocationOnMock -> {
                             final var consumer =
                                     (Consumer<Transaction>) invocationOnMock.getArgument(0);
-                            for (int i = 0; i < n; i++) {
-                                consumer.accept(new SwirldTransaction());
-                            }
+                            txns.forEach(consumer);
                             return null;
                         })
                 .when(event)
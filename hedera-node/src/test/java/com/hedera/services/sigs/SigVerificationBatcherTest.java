@@ -0,0 +1,293 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.sigs;
+
+import static com.hedera.services.sigs.factories.PlatformSigFactory.ed25519Sig;
+import static com.swirlds.common.crypto.VerificationStatus.UNKNOWN;
+import static com.swirlds.common.crypto.VerificationStatus.VALID;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.startsWith;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.stats.SigVerificationStats;
+import com.hedera.test.extensions.LogCaptor;
+import com.hedera.test.extensions.LogCaptureExtension;
+import com.hedera.test.extensions.LoggingSubject;
+import com.hedera.test.extensions.LoggingTarget;
+import com.swirlds.common.crypto.Cryptography;
+import com.swirlds.common.crypto.TransactionSignature;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith({MockitoExtension.class, LogCaptureExtension.class})
+class SigVerificationBatcherTest {
+    private static final byte[] data = "DATA".getBytes();
+    private static final byte[] otherData = "OTHER_DATA".getBytes();
+    private static final byte[] pk = "012345678901234567890123456789AB".getBytes();
+    private static final byte[] sig =
+            "0123456789012345678901234567890123456789012345678901234567890123".getBytes();
+
+    @Mock private Cryptography engine;
+    @Mock private LongSupplier nanoClock;
+    @Mock private SigVerificationStats stats;
+    @Mock private GlobalDynamicProperties dynamicProperties;
+
+    @LoggingTarget private LogCaptor logCaptor;
+    @LoggingSubject private SigVerificationBatcher subject;
+
+    @BeforeEach
+    void setUp() {
+        subject = new SigVerificationBatcher(engine, stats, dynamicProperties, nanoClock);
+    }
+
+    @Test
+    void canBeConstructedWithDefaultClock() {
+        assertDoesNotThrow(() -> new SigVerificationBatcher(engine, stats, dynamicProperties));
+    }
+
+    @Test
+    void submitsBatchOnceFull() {
+        given(dynamicProperties.sigVerificationBatchSize()).willReturn(2);
+        final var a = ed25519Sig(pk, sig, data);
+        final var b = ed25519Sig(pk, sig, otherData);
+
+        subject.submit(List.of(a));
+
+        verify(engine, never()).verifyAsync(any(List.class));
+        assertEquals(1, subject.numPending());
+
+        subject.submit(List.of(b));
+
+        verify(engine).verifyAsync(List.of(a, b));
+        verify(stats).recordBatchSize(2);
+        assertEquals(0, subject.numPending());
+        assertEquals(1, subject.numInFlight());
+    }
+
+    @Test
+    void roundFlushSubmitsPartialBatch() {
+        given(dynamicProperties.sigVerificationBatchSize()).willReturn(256);
+        final var a = ed25519Sig(pk, sig, data);
+
+        subject.submit(List.of(a));
+        subject.flushRound();
+
+        verify(engine).verifyAsync(List.of(a));
+        verify(stats).recordBatchSize(1);
+        verify(stats).recordRoundDedup(1, 0);
+    }
+
+    @Test
+    void emptyRoundFlushSubmitsNothing() {
+        subject.flushRound();
+
+        verify(engine, never()).verifyAsync(any(List.class));
+        verify(stats).recordRoundDedup(0, 0);
+    }
+
+    @Test
+    void duplicateTakesStatusOfOriginal() throws Exception {
+        given(dynamicProperties.sigVerificationBatchSize()).willReturn(256);
+        final var original = ed25519Sig(pk, sig, data);
+        final var duplicate = ed25519Sig(pk, sig, data);
+
+        subject.submit(List.of(original));
+        subject.submit(List.of(duplicate));
+        subject.flushRound();
+
+        verify(engine).verifyAsync(List.of(original));
+        verify(stats).recordRoundDedup(2, 1);
+
+        final var dupFuture = duplicate.waitForFuture();
+        assertFalse(dupFuture.isDone());
+        assertFalse(dupFuture.isCancelled());
+        assertFalse(dupFuture.cancel(true));
+
+        givenVerified(original);
+
+        assertTrue(dupFuture.isDone());
+        assertNull(dupFuture.get());
+        assertSame(VALID, duplicate.getSignatureStatus());
+    }
+
+    @Test
+    void duplicateCanWaitWithTimeout() throws Exception {
+        given(dynamicProperties.sigVerificationBatchSize()).willReturn(256);
+        final var original = ed25519Sig(pk, sig, data);
+        final var duplicate = ed25519Sig(pk, sig, data);
+
+        subject.submit(List.of(original, duplicate));
+        givenVerified(original);
+
+        assertNull(duplicate.waitForFuture().get(1, TimeUnit.SECONDS));
+        assertSame(VALID, duplicate.getSignatureStatus());
+    }
+
+    @Test
+    void sameSigTwiceIsNotADuplicate() {
+        given(dynamicProperties.sigVerificationBatchSize()).willReturn(256);
+        final var a = ed25519Sig(pk, sig, data);
+
+        subject.submit(List.of(a, a));
+        subject.flushRound();
+
+        verify(engine).verifyAsync(List.of(a));
+        verify(stats).recordRoundDedup(2, 0);
+    }
+
+    @Test
+    void forgetsSigsOfPriorRound() {
+        given(dynamicProperties.sigVerificationBatchSize()).willReturn(256);
+
+        subject.submit(List.of(ed25519Sig(pk, sig, data)));
+        subject.flushRound();
+        subject.submit(List.of(ed25519Sig(pk, sig, data)));
+
+        assertEquals(1, subject.numPending());
+    }
+
+    @Test
+    void recordsLatencyOnceBatchIsVerified() {
+        given(dynamicProperties.sigVerificationBatchSize()).willReturn(1);
+        given(nanoClock.getAsLong()).willReturn(1_000L, 1_000L, 2_000L, 5_000L);
+        final var a = ed25519Sig(pk, sig, data);
+
+        subject.submit(List.of(a));
+        assertSame(UNKNOWN, a.getSignatureStatus());
+        subject.flushRound();
+
+        verify(stats, never()).recordVerificationLatencyNanos(anyLong());
+        assertEquals(1, subject.numInFlight());
+
+        a.setSignatureStatus(VALID);
+        subject.flushRound();
+
+        verify(stats).recordVerificationLatencyNanos(4_000L);
+        assertEquals(0, subject.numInFlight());
+    }
+
+    @Test
+    void flushPendingSubmitsPartialBatchButKeepsRoundDedup() {
+        given(dynamicProperties.sigVerificationBatchSize()).willReturn(256);
+        final var original = ed25519Sig(pk, sig, data);
+        final var duplicate = ed25519Sig(pk, sig, data);
+
+        subject.submit(List.of(original));
+        subject.flushPending();
+
+        verify(engine).verifyAsync(List.of(original));
+        verify(stats).recordBatchSize(1);
+        verify(stats, never()).recordRoundDedup(anyInt(), anyInt());
+
+        subject.submit(List.of(duplicate));
+        subject.flushPending();
+
+        assertEquals(0, subject.numPending());
+        verify(engine).verifyAsync(any(List.class));
+    }
+
+    @Test
+    void keepsDedupStateOnceMemoryIsFull() {
+        given(dynamicProperties.sigVerificationBatchSize()).willReturn(Integer.MAX_VALUE);
+        final List<TransactionSignature> sigs = new ArrayList<>();
+        for (int i = 0; i < SigVerificationBatcher.MAX_REMEMBERED_SIGS; i++) {
+            sigs.add(ed25519Sig(pk, sig, ("DATA" + i).getBytes()));
+        }
+        subject.submit(sigs);
+
+        subject.submit(List.of(ed25519Sig(pk, sig, "DATA0".getBytes())));
+        subject.submit(List.of(ed25519Sig(pk, sig, data), ed25519Sig(pk, sig, data)));
+        subject.flushRound();
+
+        final var total = SigVerificationBatcher.MAX_REMEMBERED_SIGS + 3;
+        verify(stats).recordBatchSize(total - 1);
+        verify(stats).recordRoundDedup(total, 1);
+    }
+
+    @Test
+    void verifiesSynchronouslyIfEngineRejectsBatch() throws Exception {
+        given(dynamicProperties.sigVerificationBatchSize()).willReturn(2);
+        willThrow(IllegalStateException.class).given(engine).verifyAsync(any(List.class));
+        willAnswer(
+                        invocation -> {
+                            final List<TransactionSignature> batch = invocation.getArgument(0);
+                            batch.forEach(s -> s.setSignatureStatus(VALID));
+                            return null;
+                        })
+                .given(engine)
+                .verifySync(any(List.class));
+        final var original = ed25519Sig(pk, sig, data);
+        final var duplicate = ed25519Sig(pk, sig, data);
+        final var other = ed25519Sig(pk, sig, otherData);
+
+        subject.submit(List.of(original, duplicate, other));
+
+        verify(engine).verifySync(List.of(original, other));
+        assertEquals(0, subject.numInFlight());
+        assertSame(VALID, original.getSignatureStatus());
+        assertNull(duplicate.waitForFuture().get());
+        assertSame(VALID, duplicate.getSignatureStatus());
+        assertThat(
+                logCaptor.warnLogs(),
+                contains(startsWith("Unable to submit 2 signatures, verifying synchronously")));
+    }
+
+    @Test
+    void failsFuturesIfBatchCannotBeVerifiedAtAll() {
+        given(dynamicProperties.sigVerificationBatchSize()).willReturn(1);
+        willThrow(IllegalStateException.class).given(engine).verifyAsync(any(List.class));
+        willThrow(IllegalStateException.class).given(engine).verifySync(any(List.class));
+        final var a = ed25519Sig(pk, sig, data);
+
+        subject.submit(List.of(a));
+
+        assertSame(UNKNOWN, a.getSignatureStatus());
+        assertThrows(ExecutionException.class, () -> a.waitForFuture().get());
+        assertThat(
+                logCaptor.errorLogs(),
+                contains(startsWith("Unable to verify 1 signatures, failing their futures")));
+    }
+
+    private void givenVerified(final TransactionSignature sig) {
+        sig.setSignatureStatus(VALID);
+        sig.setFuture(CompletableFuture.completedFuture(null));
+    }
+}
@@ -16,9 +16,14 @@
 package com.hedera.services.sigs.order;
 
 import static com.hedera.services.sigs.order.SigReqsManager.TOKEN_META_TRANSFORM;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.hedera.services.ServicesState;
@@ -31,6 +36,13 @@ import com.hedera.services.sigs.sourcing.PubKeyToSigBytes;
 import com.hedera.services.state.migration.StateVersions;
 import com.hedera.services.utils.accessors.PlatformTxnAccessor;
 import java.time.Instant;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -187,6 +199,143 @@ class SigReqsManagerTest {
         verify(expansionHelper).expandIn(accessor, workingStateSigReqs, pubKeyToSigBytes);
     }
 
+    @Test
+    void concurrentExpansionUsesPreparedImmutableState() {
+        given(
+                        lookupsFactory.from(
+                                fileNumbers, subject.getImmutableChildren(), TOKEN_META_TRANSFORM))
+                .willReturn(immutableStateLookup);
+        given(sigReqsFactory.from(immutableStateLookup, signatureWaivers))
+                .willReturn(immutableStateSigReqs);
+        given(dynamicProperties.expandSigsFromImmutableState()).willReturn(true);
+        given(sourceState.getTimeOfLastHandledTxn()).willReturn(lastHandleTime);
+        given(sourceState.getStateVersion()).willReturn(StateVersions.CURRENT_VERSION);
+        given(sourceState.isInitialized()).willReturn(true);
+        subject.setLookupsFactory(lookupsFactory);
+        subject.setSigReqsFactory(sigReqsFactory);
+
+        assertTrue(subject.prepareConcurrentExpansion(sourceState));
+        subject.expandSigsConcurrently(accessor);
+        subject.expandSigsConcurrently(accessor);
+
+        verify(expansionHelper, times(2))
+                .expandIn(accessor, immutableStateSigReqs, pubKeyToSigBytes);
+    }
+
+    @Test
+    void eachConcurrentThreadExpandsWithItsOwnSigReqs() throws InterruptedException {
+        final var numThreads = 4;
+        given(
+                        lookupsFactory.from(
+                                fileNumbers, subject.getImmutableChildren(), TOKEN_META_TRANSFORM))
+                .willReturn(immutableStateLookup);
+        given(sigReqsFactory.from(immutableStateLookup, signatureWaivers))
+                .willAnswer(invocation -> mock(SigRequirements.class));
+        given(dynamicProperties.expandSigsFromImmutableState()).willReturn(true);
+        given(sourceState.getTimeOfLastHandledTxn()).willReturn(lastHandleTime);
+        given(sourceState.getStateVersion()).willReturn(StateVersions.CURRENT_VERSION);
+        given(sourceState.isInitialized()).willReturn(true);
+        final Map<Thread, Set<SigRequirements>> usedSigReqs = new ConcurrentHashMap<>();
+        willAnswer(
+                        invocation -> {
+                            usedSigReqs
+                                    .computeIfAbsent(
+                                            Thread.currentThread(),
+                                            t -> ConcurrentHashMap.newKeySet())
+                                    .add(invocation.getArgument(1));
+                            return null;
+                        })
+                .given(expansionHelper)
+                .expandIn(any(), any(), any());
+        subject.setLookupsFactory(lookupsFactory);
+        subject.setSigReqsFactory(sigReqsFactory);
+        assertTrue(subject.prepareConcurrentExpansion(sourceState));
+
+        final var ready = new CountDownLatch(numThreads);
+        final var pool = Executors.newFixedThreadPool(numThreads);
+        for (int i = 0; i < numThreads; i++) {
+            pool.execute(
+                    () -> {
+                        ready.countDown();
+                        try {
+                            ready.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        for (int j = 0; j < 100; j++) {
+                            subject.expandSigsConcurrently(accessor);
+                        }
+                    });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(numThreads, usedSigReqs.size());
+        final Set<SigRequirements> distinct = new HashSet<>();
+        for (final var used : usedSigReqs.values()) {
+            assertEquals(1, used.size());
+            distinct.addAll(used);
+        }
+        assertEquals(numThreads, distinct.size());
+        verify(expansionHelper, times(numThreads * 100)).expandIn(any(), any(), any());
+        verify(lookupsFactory, times(numThreads + 1))
+                .from(fileNumbers, subject.getImmutableChildren(), TOKEN_META_TRANSFORM);
+    }
+
+    @Test
+    void cannotPrepareConcurrentExpansionIfPropertiesInsist() {
+        given(lookupsFactory.from(fileNumbers, workingState, TOKEN_META_TRANSFORM))
+                .willReturn(workingStateLookup);
+        given(sigReqsFactory.from(workingStateLookup, signatureWaivers))
+                .willReturn(workingStateSigReqs);
+        subject.setLookupsFactory(lookupsFactory);
+        subject.setSigReqsFactory(sigReqsFactory);
+
+        assertFalse(subject.prepareConcurrentExpansion(sourceState));
+        subject.expandSigs(sourceState, accessor);
+
+        verify(expansionHelper).expandIn(accessor, workingStateSigReqs, pubKeyToSigBytes);
+    }
+
+    @Test
+    void cannotPrepareConcurrentExpansionFromUnusableState() {
+        given(lookupsFactory.from(fileNumbers, workingState, TOKEN_META_TRANSFORM))
+                .willReturn(workingStateLookup);
+        given(sigReqsFactory.from(workingStateLookup, signatureWaivers))
+                .willReturn(workingStateSigReqs);
+        given(dynamicProperties.expandSigsFromImmutableState()).willReturn(true);
+        subject.setLookupsFactory(lookupsFactory);
+        subject.setSigReqsFactory(sigReqsFactory);
+
+        assertFalse(subject.prepareConcurrentExpansion(sourceState));
+        subject.expandSigs(sourceState, accessor);
+
+        verify(expansionHelper).expandIn(accessor, workingStateSigReqs, pubKeyToSigBytes);
+    }
+
+    @Test
+    void cannotPrepareConcurrentExpansionIfImmutableLookupFails() {
+        given(lookupsFactory.from(fileNumbers, workingState, TOKEN_META_TRANSFORM))
+                .willReturn(workingStateLookup);
+        given(
+                        lookupsFactory.from(
+                                fileNumbers, subject.getImmutableChildren(), TOKEN_META_TRANSFORM))
+                .willThrow(IllegalStateException.class);
+        given(sigReqsFactory.from(workingStateLookup, signatureWaivers))
+                .willReturn(workingStateSigReqs);
+        given(dynamicProperties.expandSigsFromImmutableState()).willReturn(true);
+        given(sourceState.getTimeOfLastHandledTxn()).willReturn(lastHandleTime);
+        given(sourceState.getStateVersion()).willReturn(StateVersions.CURRENT_VERSION);
+        given(sourceState.isInitialized()).willReturn(true);
+        subject.setLookupsFactory(lookupsFactory);
+        subject.setSigReqsFactory(sigReqsFactory);
+
+        assertFalse(subject.prepareConcurrentExpansion(sourceState));
+        subject.expandSigs(sourceState, accessor);
+
+        verify(expansionHelper).expandIn(accessor, workingStateSigReqs, pubKeyToSigBytes);
+    }
+
     private static final Instant lastHandleTime = Instant.ofEpochSecond(1_234_567, 890);
     private static final Instant nextLastHandleTime = lastHandleTime.plusSeconds(2);
     private static final MutableStateChildren workingState = new MutableStateChildren();
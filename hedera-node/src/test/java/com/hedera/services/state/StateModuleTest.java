@@ -15,20 +15,30 @@
  */
 package com.hedera.services.state;
 
+import static com.hedera.services.context.primitives.QueryResponseCache.Kind.TOKEN_INFO;
 import static com.hedera.services.context.properties.PropertyNames.BOOTSTRAP_GENESIS_PUBLIC_KEY;
+import static com.hedera.services.state.StateModule.provideQueryResponseCache;
 import static com.hedera.services.state.StateModule.provideStateViews;
 import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.BDDMockito.given;
 
+import com.hedera.services.config.MockGlobalDynamicProps;
 import com.hedera.services.config.NetworkInfo;
 import com.hedera.services.context.MutableStateChildren;
+import com.hedera.services.context.primitives.QueryResponseCache;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.context.properties.PropertySource;
+import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.store.schedule.ScheduleStore;
+import com.hederahashgraph.api.proto.java.TokenInfo;
 import com.swirlds.common.utility.CommonUtils;
 import java.nio.charset.Charset;
+import java.time.Instant;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -40,6 +50,8 @@ class StateModuleTest {
     @Mock private MutableStateChildren workingState;
     @Mock private PropertySource properties;
     @Mock private NetworkInfo networkInfo;
+    @Mock private QueryResponseCache queryResponseCache;
+    @Mock private NodeLocalProperties nodeLocalProperties;
 
     @Test
     void providesDefaultCharset() {
@@ -61,11 +73,37 @@ class StateModuleTest {
 
     @Test
     void viewUsesWorkingStateChildren() {
-        final var viewFactory = provideStateViews(scheduleStore, workingState, networkInfo);
+        final var viewFactory =
+                provideStateViews(scheduleStore, workingState, networkInfo, queryResponseCache);
 
         assertDoesNotThrow(viewFactory::get);
     }
 
+    @Test
+    void queryResponseCacheFollowsSigImpactHistorianChanges() {
+        final var num = 1234L;
+        final var response = TokenInfo.newBuilder().setName("A").build();
+        final var historian = new SigImpactHistorian(new MockGlobalDynamicProps());
+        given(nodeLocalProperties.queryResponseCacheMaxBytes()).willReturn(1_000_000L);
+
+        final var cache = provideQueryResponseCache(nodeLocalProperties, historian);
+        historian.setChangeTime(Instant.ofEpochSecond(1_234_567L));
+
+        cache.putIfUnchanged(TOKEN_INFO, num, cache.stampFor(num), response);
+        historian.markEntityChanged(num);
+        assertNull(cache.getIfPresent(TOKEN_INFO, num, TokenInfo.class));
+
+        // A render that began after the mark, but before the change was committed
+        cache.putIfUnchanged(TOKEN_INFO, num, cache.stampFor(num), response);
+        assertSame(response, cache.getIfPresent(TOKEN_INFO, num, TokenInfo.class));
+        historian.commitChanges();
+        assertNull(cache.getIfPresent(TOKEN_INFO, num, TokenInfo.class));
+
+        cache.putIfUnchanged(TOKEN_INFO, num, cache.stampFor(num), response);
+        historian.invalidateCurrentWindow();
+        assertNull(cache.getIfPresent(TOKEN_INFO, num, TokenInfo.class));
+    }
+
     @Test
     void looksUpExpectedKey() {
         final var keyBytes = "aaaaaaaaaaaaaaaaaaaaaaaaaaaaaaaa".getBytes();
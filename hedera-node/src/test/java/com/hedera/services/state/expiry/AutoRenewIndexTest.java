@@ -0,0 +1,165 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.expiry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.hedera.services.config.MockGlobalDynamicProps;
+import com.hedera.services.config.MockHederaNumbers;
+import com.hedera.services.state.merkle.MerkleAccount;
+import com.hedera.services.state.submerkle.SequenceNumber;
+import com.hedera.services.utils.EntityNum;
+import com.swirlds.merkle.map.MerkleMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class AutoRenewIndexTest {
+    private static final long NOW = 1_234_567L;
+    private static final long SYSTEM_NUM = 2L;
+    private static final long A_NUM = 1_001L;
+    private static final long B_NUM = 1_002L;
+    private static final long C_NUM = 1_004L;
+
+    private final SequenceNumber seqNo = new SequenceNumber(C_NUM + 1);
+    private MerkleMap<EntityNum, MerkleAccount> accounts;
+    private MockGlobalDynamicProps properties;
+
+    private AutoRenewIndex subject;
+
+    @BeforeEach
+    void setUp() {
+        accounts = new MerkleMap<>();
+        properties = new MockGlobalDynamicProps();
+        subject =
+                new AutoRenewIndex(
+                        new MockHederaNumbers(), () -> seqNo, () -> accounts, properties);
+    }
+
+    @Test
+    void rebuildsFromStateIgnoringSystemEntities() {
+        givenAccount(SYSTEM_NUM, NOW - 1);
+        givenAccount(A_NUM, NOW - 1);
+        givenAccount(B_NUM, NOW + 1);
+
+        subject.reviewExistingEntities();
+
+        assertEquals(2, subject.numNotYetDue());
+        assertEquals(C_NUM + 1, subject.getNextNumToIndex());
+        subject.advanceTo(NOW);
+        assertEquals(1, subject.numDue());
+        assertEquals(A_NUM, subject.nextDueAfter(0L, NOW));
+        assertEquals(NOW - 1, subject.lastDueExpiry());
+    }
+
+    @Test
+    void indexesNewlyCreatedEntitiesByNumber() {
+        givenAccount(A_NUM, NOW);
+        givenAccount(C_NUM, NOW - 10);
+
+        subject.advanceTo(NOW);
+
+        assertEquals(C_NUM + 1, subject.getNextNumToIndex());
+        assertEquals(2, subject.numDue());
+        assertEquals(C_NUM, subject.nextDueAfter(A_NUM, NOW));
+        assertEquals(A_NUM, subject.nextDueAfter(C_NUM, NOW));
+    }
+
+    @Test
+    void onlyMovesEntitiesIntoDueSetOnceExpired() {
+        givenAccount(A_NUM, NOW + 2);
+
+        subject.advanceTo(NOW);
+        assertEquals(AutoRenewIndex.NONE, subject.nextDueAfter(0L, NOW));
+
+        subject.advanceTo(NOW + 2);
+        assertEquals(A_NUM, subject.nextDueAfter(0L, NOW + 2));
+    }
+
+    @Test
+    void requeuesCandidatesWithExtendedExpiryAndDropsMissingOnes() {
+        givenAccount(A_NUM, NOW - 1);
+        givenAccount(B_NUM, NOW - 1);
+        givenAccount(C_NUM, NOW - 1);
+        subject.advanceTo(NOW);
+
+        accounts.getForModify(EntityNum.fromLong(A_NUM)).setExpiry(NOW + 100);
+        accounts.remove(EntityNum.fromLong(B_NUM));
+
+        assertEquals(C_NUM, subject.nextDueAfter(0L, NOW));
+        assertEquals(1, subject.numDue());
+        assertEquals(1, subject.numNotYetDue());
+
+        subject.advanceTo(NOW + 100);
+        assertEquals(A_NUM, subject.nextDueAfter(C_NUM, NOW + 100));
+    }
+
+    @Test
+    void refreshDropsVisitedEntitiesWhateverTheOutcome() {
+        givenAccount(A_NUM, NOW - 1);
+        givenAccount(B_NUM, NOW - 1);
+        subject.advanceTo(NOW);
+
+        subject.refresh(B_NUM);
+        assertEquals(1, subject.numDue());
+        assertEquals(1, subject.numNotYetDue());
+        assertEquals(A_NUM, subject.nextDueAfter(A_NUM, NOW));
+
+        subject.advanceTo(NOW);
+        assertEquals(2, subject.numDue());
+
+        accounts.getForModify(EntityNum.fromLong(A_NUM)).setExpiry(NOW + 100);
+        subject.refresh(A_NUM);
+        assertEquals(1, subject.numDue());
+        assertEquals(1, subject.numNotYetDue());
+
+        accounts.remove(EntityNum.fromLong(B_NUM));
+        subject.refresh(B_NUM);
+        assertEquals(0, subject.numDue());
+        assertEquals(AutoRenewIndex.NONE, subject.nextDueAfter(0L, NOW));
+    }
+
+    @Test
+    void indexesOnlyTargetedTypesAndRebuildsWhenTheyChange() {
+        givenAccount(A_NUM, NOW - 1);
+        givenContract(B_NUM, NOW - 1);
+
+        properties.disableAutoRenew();
+        subject.advanceTo(NOW);
+        assertEquals(1, subject.numDue());
+        assertEquals(B_NUM, subject.nextDueAfter(0L, NOW));
+
+        properties.enableAutoRenew();
+        properties.disableContractAutoRenew();
+        subject.advanceTo(NOW);
+        assertEquals(1, subject.numDue());
+        assertEquals(A_NUM, subject.nextDueAfter(0L, NOW));
+
+        properties.enableContractAutoRenew();
+        subject.advanceTo(NOW);
+        assertEquals(2, subject.numDue());
+    }
+
+    private void givenContract(final long num, final long expiry) {
+        givenAccount(num, expiry);
+        accounts.getForModify(EntityNum.fromLong(num)).setSmartContract(true);
+    }
+
+    private void givenAccount(final long num, final long expiry) {
+        final var account = new MerkleAccount();
+        account.setExpiry(expiry);
+        accounts.put(EntityNum.fromLong(num), account);
+    }
+}
@@ -18,6 +18,7 @@ package com.hedera.services.state.expiry;
 import static com.hedera.services.state.expiry.EntityProcessResult.DONE;
 import static com.hedera.services.state.expiry.EntityProcessResult.NOTHING_TO_DO;
 import static com.hedera.services.state.expiry.EntityProcessResult.STILL_MORE_TO_DO;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
@@ -55,6 +56,7 @@ class EntityAutoExpiryTest {
     @Mock private MerkleNetworkContext networkCtx;
     @Mock private ConsensusTimeTracker consensusTimeTracker;
     @Mock private ExpiryThrottle expiryThrottle;
+    @Mock private AutoRenewIndex dueIndex;
 
     private EntityAutoExpiry subject;
 
@@ -69,7 +71,8 @@ class EntityAutoExpiryTest {
                         networkCtxManager,
                         () -> networkCtx,
                         consensusTimeTracker,
-                        () -> seqNo);
+                        () -> seqNo,
+                        dueIndex);
     }
 
     @Test
@@ -272,6 +275,72 @@ class EntityAutoExpiryTest {
         verify(networkCtx).updateAutoRenewSummaryCounts(4, 2);
     }
 
+    @Test
+    void scansOnlyDueEntitiesOnceEachWhenScanningByExpiry() {
+        final var now = instantNow.getEpochSecond();
+        properties.enableScanByExpiry();
+        given(consensusTimeTracker.hasMoreStandaloneRecordTime()).willReturn(true);
+        givenWrapNum(cNum + 1);
+        givenLastScanned(aNum - 1);
+        given(dueIndex.nextDueAfter(aNum - 1, now)).willReturn(aNum);
+        given(dueIndex.nextDueAfter(aNum, now)).willReturn(cNum);
+        given(dueIndex.nextDueAfter(cNum, now)).willReturn(aNum);
+        given(dueIndex.lastDueExpiry()).willReturn(now - 5, now - 2);
+        given(autoExpiryCycle.process(aNum)).willReturn(DONE);
+        given(autoExpiryCycle.process(cNum)).willReturn(NOTHING_TO_DO);
+
+        subject.execute(instantNow);
+
+        verify(dueIndex).advanceTo(now);
+        verify(autoExpiryCycle).beginCycle(instantNow);
+        verify(autoExpiryCycle).process(aNum);
+        verify(dueIndex).refresh(aNum);
+        verify(autoExpiryCycle).process(cNum);
+        verify(dueIndex).refresh(cNum);
+        verify(autoExpiryCycle).endCycle();
+        verifyNoMoreInteractions(autoExpiryCycle);
+        verify(networkCtx).updateLastScannedEntity(cNum);
+        verify(networkCtx).updateAutoRenewSummaryCounts(2, 1);
+        assertEquals(2L, subject.totalScanned());
+        assertEquals(1L, subject.totalTouched());
+        assertEquals(5L, subject.lagSecs());
+    }
+
+    @Test
+    void retriesUnfinishedDueEntityWhenScanningByExpiry() {
+        final var now = instantNow.getEpochSecond();
+        properties.enableScanByExpiry();
+        given(consensusTimeTracker.hasMoreStandaloneRecordTime()).willReturn(true);
+        givenWrapNum(cNum + 1);
+        givenLastScanned(aNum - 1);
+        given(dueIndex.nextDueAfter(aNum - 1, now)).willReturn(aNum);
+        given(autoExpiryCycle.process(aNum)).willReturn(STILL_MORE_TO_DO).willReturn(DONE);
+
+        subject.execute(instantNow);
+
+        verify(autoExpiryCycle, times(2)).process(aNum);
+        verify(dueIndex).refresh(aNum);
+        verify(networkCtx).updateLastScannedEntity(aNum);
+        verify(networkCtx).updateAutoRenewSummaryCounts(2, 2);
+    }
+
+    @Test
+    void scansNothingIfNothingIsDue() {
+        final var now = instantNow.getEpochSecond();
+        properties.enableScanByExpiry();
+        given(consensusTimeTracker.hasMoreStandaloneRecordTime()).willReturn(true);
+        givenWrapNum(cNum + 1);
+        givenLastScanned(aNum - 1);
+        given(dueIndex.nextDueAfter(aNum - 1, now)).willReturn(AutoRenewIndex.NONE);
+
+        subject.execute(instantNow);
+
+        verify(autoExpiryCycle, never()).process(anyLong());
+        verify(networkCtx).updateLastScannedEntity(aNum - 1);
+        verify(networkCtx).updateAutoRenewSummaryCounts(0, 0);
+        assertEquals(0L, subject.lagSecs());
+    }
+
     private void givenWrapNum(long num) {
         given(seqNo.current()).willReturn(num);
     }
@@ -25,7 +25,7 @@ import com.hedera.services.config.HederaNumbers;
 import com.hedera.services.config.MockHederaNumbers;
 import com.hedera.services.ledger.SigImpactHistorian;
 import com.hedera.services.legacy.core.jproto.TxnReceipt;
-import com.hedera.services.records.TxnIdRecentHistory;
+import com.hedera.services.records.TxnIdHistories;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.state.submerkle.RichInstant;
@@ -37,8 +37,6 @@ import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TransactionID;
 import com.swirlds.merkle.map.MerkleMap;
 import java.time.Instant;
-import java.util.HashMap;
-import java.util.Map;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -57,12 +55,12 @@ class ExpiryManagerTest {
     private final MerkleAccount anAccount = new MerkleAccount();
 
     private MerkleMap<EntityNum, MerkleAccount> liveAccounts = new MerkleMap<>();
-    private Map<TransactionID, TxnIdRecentHistory> liveTxnHistories = new HashMap<>();
+    private TxnIdHistories liveTxnHistories = new TxnIdHistories();
 
     private final HederaNumbers nums = new MockHederaNumbers();
 
     @Mock private SigImpactHistorian sigImpactHistorian;
-    @Mock private Map<TransactionID, TxnIdRecentHistory> mockTxnHistories;
+    @Mock private TxnIdHistories mockTxnHistories;
     @Mock private MerkleMap<EntityNum, MerkleAccount> mockAccounts;
 
     private ExpiryManager subject;
@@ -84,7 +82,7 @@ class ExpiryManagerTest {
         subject = new ExpiryManager(nums, sigImpactHistorian, liveTxnHistories, () -> liveAccounts);
         final var newTxnId = recordWith(aGrpcId, start).getTxnId().toGrpc();
         final var leftoverTxnId = recordWith(bGrpcId, now).getTxnId().toGrpc();
-        liveTxnHistories.put(leftoverTxnId, new TxnIdRecentHistory());
+        liveTxnHistories.getOrCreate(leftoverTxnId);
         anAccount.records().offer(expiring(recordWith(aGrpcId, start), firstThen));
         anAccount.records().offer(expiring(recordWith(aGrpcId, start), secondThen));
         liveAccounts.put(aKey, anAccount);
@@ -107,16 +105,12 @@ class ExpiryManagerTest {
 
         final var firstRecord = expiring(recordWith(aGrpcId, start), firstThen);
         addLiveRecord(aKey, firstRecord);
-        liveTxnHistories
-                .computeIfAbsent(newTxnId, ignore -> new TxnIdRecentHistory())
-                .observe(firstRecord, OK);
+        liveTxnHistories.getOrCreate(newTxnId).observe(firstRecord, OK);
         subject.trackRecordInState(aGrpcId, firstThen);
 
         final var secondRecord = expiring(recordWith(aGrpcId, start), secondThen);
         addLiveRecord(aKey, secondRecord);
-        liveTxnHistories
-                .computeIfAbsent(newTxnId, ignore -> new TxnIdRecentHistory())
-                .observe(secondRecord, OK);
+        liveTxnHistories.getOrCreate(newTxnId).observe(secondRecord, OK);
         subject.trackRecordInState(aGrpcId, secondThen);
 
         subject.purge(now);
@@ -133,9 +127,7 @@ class ExpiryManagerTest {
 
         final var firstRecord = expiring(recordWith(aGrpcId, start), firstThen);
         addLiveRecord(aKey, firstRecord);
-        liveTxnHistories
-                .computeIfAbsent(newTxnId, ignore -> new TxnIdRecentHistory())
-                .observe(firstRecord, OK);
+        liveTxnHistories.getOrCreate(newTxnId).observe(firstRecord, OK);
         subject.trackRecordInState(aGrpcId, firstThen);
 
         subject.purge(now);
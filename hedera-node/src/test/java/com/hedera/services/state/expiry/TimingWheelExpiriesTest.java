@@ -0,0 +1,149 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.expiry;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class TimingWheelExpiriesTest {
+    private static final long now = 1_234_567L;
+
+    private final List<Long> expired = new ArrayList<>();
+
+    private TimingWheelExpiries subject;
+
+    @BeforeEach
+    void setup() {
+        subject = new TimingWheelExpiries();
+    }
+
+    @Test
+    void rejectsNegativeIds() {
+        assertThrows(IllegalArgumentException.class, () -> subject.track(-1L, now));
+    }
+
+    @Test
+    void expiresInOrderOfSecondThenInsertion() {
+        subject.track(3L, now + 2);
+        subject.track(2L, now + 1);
+        subject.track(1L, now + 2);
+        subject.track(4L, now + 3);
+
+        assertFalse(subject.hasExpiringAt(now));
+        assertTrue(subject.hasExpiringAt(now + 1));
+
+        subject.expireAllAt(now + 2, expired::add);
+
+        assertEquals(List.of(2L, 3L, 1L), expired);
+        assertEquals(1, subject.numBuckets());
+        assertEquals(now + 3, subject.getEarliest());
+        assertFalse(subject.hasExpiringAt(now + 2));
+        assertTrue(subject.hasExpiringAt(now + 3));
+    }
+
+    @Test
+    void dedupesWithinBucketsOfAnySize() {
+        for (int round = 0; round < 3; round++) {
+            for (long id = 0; id < 100; id++) {
+                subject.track(id, now);
+            }
+        }
+        subject.track(7L, now + 1);
+
+        assertEquals(100, subject.bucketSize(now));
+        assertEquals(1, subject.bucketSize(now + 1));
+
+        subject.expireAllAt(now, expired::add);
+        assertEquals(100, expired.size());
+        assertEquals(0L, expired.get(0));
+        assertEquals(99L, expired.get(99));
+    }
+
+    @Test
+    void reusedBucketStillDedupes() {
+        for (long id = 0; id < 40; id++) {
+            subject.track(id, now);
+        }
+        subject.expireAllAt(now, expired::add);
+
+        final var reusingSecond = now + subject.numSlots();
+        for (int round = 0; round < 2; round++) {
+            for (long id = 100; id < 120; id++) {
+                subject.track(id, reusingSecond);
+            }
+        }
+
+        assertEquals(20, subject.bucketSize(reusingSecond));
+    }
+
+    @Test
+    void growsToFitAnySpanOfSeconds() {
+        final var initialSlots = subject.numSlots();
+        subject.track(1L, now);
+        subject.track(2L, now + 10 * initialSlots);
+        subject.track(3L, now - 1);
+
+        assertTrue(subject.numSlots() > 10 * initialSlots);
+        assertEquals(3, subject.numBuckets());
+
+        subject.expireAllAt(now + 10 * initialSlots, expired::add);
+
+        assertEquals(List.of(3L, 1L, 2L), expired);
+        assertFalse(subject.hasExpiringAt(Long.MAX_VALUE));
+    }
+
+    @Test
+    void tracksExpiriesBeforeLastPurge() {
+        subject.track(1L, now);
+        subject.expireAllAt(now, expired::add);
+
+        subject.track(2L, now - 5);
+        subject.track(3L, now + 5);
+
+        assertTrue(subject.hasExpiringAt(now));
+        subject.expireAllAt(now, expired::add);
+        assertEquals(List.of(1L, 2L), expired);
+    }
+
+    @Test
+    void doesNothingIfNothingExpiring() {
+        subject.expireAllAt(now, expired::add);
+        subject.track(1L, now + 1);
+        subject.expireAllAt(now, expired::add);
+
+        assertTrue(expired.isEmpty());
+        assertEquals(1, subject.numBuckets());
+    }
+
+    @Test
+    void resetWorks() {
+        subject.track(1L, now);
+        subject.track(2L, now + 1_000);
+
+        subject.reset();
+
+        assertEquals(0, subject.numBuckets());
+        assertFalse(subject.hasExpiringAt(Long.MAX_VALUE));
+        assertEquals(256, subject.numSlots());
+    }
+}
@@ -16,7 +16,7 @@
 package com.hedera.services.state.exports;
 
 import static com.hedera.services.context.properties.PropertyNames.LEDGER_TOTAL_TINY_BAR_FLOAT;
-import static com.hedera.services.state.exports.SignedStateBalancesExporter.SINGLE_ACCOUNT_BALANCES_COMPARATOR;
+import static com.hedera.services.ledger.HederaLedger.ACCOUNT_ID_COMPARATOR;
 import static com.hedera.services.utils.EntityNum.fromAccountId;
 import static com.hedera.services.utils.EntityNum.fromTokenId;
 import static com.hedera.services.utils.EntityNumPair.fromAccountTokenRel;
@@ -24,9 +24,9 @@ import static com.hedera.test.utils.IdUtils.asAccount;
 import static com.hedera.test.utils.IdUtils.asToken;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.collection.IsIterableContainingInOrder.contains;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
-import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
@@ -53,6 +53,7 @@ import com.hedera.test.extensions.LoggingSubject;
 import com.hedera.test.extensions.LoggingTarget;
 import com.hedera.test.factories.accounts.MerkleAccountFactory;
 import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.Timestamp;
 import com.hederahashgraph.api.proto.java.TokenID;
 import com.swirlds.common.constructable.ClassConstructorPair;
 import com.swirlds.common.constructable.ConstructableRegistry;
@@ -105,6 +106,7 @@ class SignedStateBalancesExporterTest {
     private static final TokenID theDeletedToken = asToken("0.0.1005");
     private static final long secondNonNodeDeletedTokenBalance = 101;
     private static final TokenID theMissingToken = asToken("0.0.1006");
+    private static final long nextEntityNum = 1007;
 
     private static final byte[] sig = "not-really-a-sig".getBytes();
     private static final byte[] fileHash = "not-really-a-hash".getBytes();
@@ -342,18 +344,48 @@ class SignedStateBalancesExporterTest {
     }
 
     @Test
-    void testSingleAccountBalancingSort() {
-        final var expectedBalances = theExpectedBalances();
-        List<SingleAccountBalances> sorted = new ArrayList<>();
-        sorted.addAll(expectedBalances);
+    void streamedFileIsIdenticalToFullyBuiltMessage() throws IOException {
+        final var loc = expectedExportLoc();
+        given(hashReader.readHash(loc)).willReturn(fileHash);
+
+        subject.exportBalancesFrom(state, now, nodeId);
+
+        final var expected =
+                AllAccountBalances.newBuilder()
+                        .setConsensusTimestamp(
+                                Timestamp.newBuilder()
+                                        .setSeconds(now.getEpochSecond())
+                                        .setNanos(now.getNano()))
+                        .addAllAllAccounts(theExpectedBalances())
+                        .build()
+                        .toByteArray();
+        assertArrayEquals(expected, Files.readAllBytes(Path.of(loc)));
+        assertFalse(new File(loc + ".tmp").exists());
 
-        final var singleAccountBalances = sorted.remove(0);
-        sorted.add(singleAccountBalances);
-        assertNotEquals(expectedBalances, sorted);
+        new File(loc).delete();
+    }
+
+    @Test
+    void summarizesAcrossManyPartitionsInOrder() throws NegativeAccountBalanceException {
+        final var farAccount = accounts.getForModify(fromAccountId(firstNonNode));
+        farAccount.setBalance(firstNonNodeAccountBalance - 2);
+        final var midNum = EntityNum.fromLong(nextEntityNum + 1_000_000L);
+        final var lastNum = EntityNum.fromLong(nextEntityNum + 2_000_000L);
+        accounts.put(midNum, MerkleAccountFactory.newAccount().balance(1).get());
+        accounts.put(lastNum, MerkleAccountFactory.newAccount().balance(1).get());
+        subject.accountsPerPartition = 2;
 
-        sorted.sort(SINGLE_ACCOUNT_BALANCES_COMPARATOR);
+        final var summary = subject.summarized(state);
 
-        assertEquals(expectedBalances, sorted);
+        assertEquals(ledgerFloat, summary.totalFloat().longValue());
+        final var balances = summary.orderedBalances();
+        assertEquals(6, balances.size());
+        assertEquals(midNum.toGrpcAccountId(), balances.get(4).getAccountID());
+        assertEquals(lastNum.toGrpcAccountId(), balances.get(5).getAccountID());
+        final var sorted = new ArrayList<>(balances);
+        sorted.sort(
+                Comparator.comparing(SingleAccountBalances::getAccountID, ACCOUNT_ID_COMPARATOR));
+        assertEquals(sorted, balances);
     }
 
     @Test
@@ -429,6 +461,8 @@ class SignedStateBalancesExporterTest {
         // then:
         assertThat(logCaptor.errorLogs(), contains(Matchers.endsWith(desiredSuffix)));
         verify(systemExits).fail(1);
+        assertFalse(new File(expectedExportLoc()).exists());
+        assertFalse(new File(expectedExportLoc() + ".tmp").exists());
     }
 
     @Test
@@ -20,7 +20,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mockStatic;
 import static org.mockito.Mockito.verify;
-import static org.mockito.internal.verification.VerificationModeFactory.times;
 
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.legacy.proto.utils.CommonUtils;
@@ -105,22 +104,17 @@ class RecordStreamingTest {
                 .willReturn(List.of(firstPrecedingChildRso));
         given(recordsHistorian.hasFollowingChildRecords()).willReturn(true);
         given(recordsHistorian.getTopLevelRecord()).willReturn(topLevelRso);
-        given(nonBlockingHandoff.offer(topLevelRso)).willReturn(true);
         given(recordsHistorian.getFollowingChildRecords())
                 .willReturn(List.of(firstFollowingChildRso, secondFollowingChildRso));
-        given(nonBlockingHandoff.offer(firstPrecedingChildRso)).willReturn(true);
-        given(nonBlockingHandoff.offer(firstFollowingChildRso)).willReturn(true);
-        given(nonBlockingHandoff.offer(secondFollowingChildRso)).willReturn(true);
-        given(nonBlockingHandoff.offer(systemRso)).willReturn(true);
 
         subject.streamUserTxnRecords();
         subject.streamSystemRecord(systemRso);
 
-        verify(nonBlockingHandoff).offer(firstPrecedingChildRso);
-        verify(nonBlockingHandoff).offer(firstFollowingChildRso);
-        verify(nonBlockingHandoff).offer(topLevelRso);
-        verify(nonBlockingHandoff).offer(secondFollowingChildRso);
-        verify(nonBlockingHandoff).offer(systemRso);
+        verify(nonBlockingHandoff).put(firstPrecedingChildRso);
+        verify(nonBlockingHandoff).put(firstFollowingChildRso);
+        verify(nonBlockingHandoff).put(topLevelRso);
+        verify(nonBlockingHandoff).put(secondFollowingChildRso);
+        verify(nonBlockingHandoff).put(systemRso);
         verify(blockManager).updateCurrentBlockHash(mockUserHash);
         verify(blockManager).updateCurrentBlockHash(mockSystemHash);
     }
@@ -132,11 +126,10 @@ class RecordStreamingTest {
         givenForTxLogging(false, topLevelRso);
 
         given(recordsHistorian.getTopLevelRecord()).willReturn(topLevelRso);
-        given(nonBlockingHandoff.offer(topLevelRso)).willReturn(false).willReturn(true);
 
         subject.streamUserTxnRecords();
 
-        verify(nonBlockingHandoff, times(2)).offer(topLevelRso);
+        verify(nonBlockingHandoff).put(topLevelRso);
         verify(blockManager).updateCurrentBlockHash(mockUserHash);
 
         subject.resetBlockNo();
@@ -150,11 +143,10 @@ class RecordStreamingTest {
         givenAlignable(systemRso);
         givenForTxLogging(false, systemRso);
         given(systemRso.getRunningHash()).willReturn(mockSystemHash);
-        given(nonBlockingHandoff.offer(systemRso)).willReturn(true);
 
         subject.streamSystemRecord(systemRso);
 
-        verify(nonBlockingHandoff).offer(systemRso);
+        verify(nonBlockingHandoff).put(systemRso);
         verify(blockManager).updateCurrentBlockHash(mockSystemHash);
     }
 
@@ -164,11 +156,10 @@ class RecordStreamingTest {
         given(systemRso.getRunningHash()).willReturn(mockSystemHash);
         givenAlignable(systemRso);
         givenForTxLogging(true, systemRso);
-        given(nonBlockingHandoff.offer(systemRso)).willReturn(true);
 
         subject.streamSystemRecord(systemRso);
 
-        verify(nonBlockingHandoff).offer(systemRso);
+        verify(nonBlockingHandoff).put(systemRso);
         verify(blockManager).updateCurrentBlockHash(mockSystemHash);
     }
 
@@ -178,11 +169,10 @@ class RecordStreamingTest {
         given(systemRso.getRunningHash()).willReturn(mockSystemHash);
         givenAlignable(systemRso);
         given(blockManager.shouldLogEveryTransaction()).willReturn(false);
-        given(nonBlockingHandoff.offer(systemRso)).willReturn(true);
 
         subject.streamSystemRecord(systemRso);
 
-        verify(nonBlockingHandoff).offer(systemRso);
+        verify(nonBlockingHandoff).put(systemRso);
         verify(blockManager).updateCurrentBlockHash(mockSystemHash);
     }
 
@@ -138,6 +138,7 @@ class StandardProcessLogicTest {
         inOrder.verify(scheduleProcessing)
                 .triggerNextTransactionExpiringAsNeeded(consensusNow, null, true);
         inOrder.verify(autoRenewal).execute(consensusNow);
+        inOrder.verify(sigImpactHistorian).commitChanges();
         assertTrue(txn.getSignatures().isEmpty());
     }
 
@@ -177,6 +178,7 @@ class StandardProcessLogicTest {
         verify(scheduleProcessing, never())
                 .triggerNextTransactionExpiringAsNeeded(any(), any(), anyBoolean());
         verify(scheduleProcessing, never()).getMaxProcessingLoopIterations();
+        verify(scheduleProcessing, never()).flushPendingExpirations();
     }
 
     @Test
@@ -296,6 +298,7 @@ class StandardProcessLogicTest {
         inOrder.verify(consensusTimeTracker).hasMoreTransactionTime(false);
         inOrder.verify(scheduleProcessing)
                 .triggerNextTransactionExpiringAsNeeded(consensusNow, triggeredAccessor, true);
+        inOrder.verify(scheduleProcessing).flushPendingExpirations();
         inOrder.verify(autoRenewal).execute(consensusNow);
     }
 
@@ -363,7 +366,9 @@ class StandardProcessLogicTest {
         inOrder.verify(txnManager, times(1))
                 .process(triggeredAccessor, triggeredConsensusNow, member);
 
+        inOrder.verify(scheduleProcessing).flushPendingExpirations();
         inOrder.verify(autoRenewal).execute(consensusNow);
+        inOrder.verify(sigImpactHistorian).commitChanges();
 
         inOrder.verifyNoMoreInteractions();
     }
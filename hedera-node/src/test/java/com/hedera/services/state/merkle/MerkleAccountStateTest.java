@@ -15,13 +15,17 @@
  */
 package com.hedera.services.state.merkle;
 
+import static com.hedera.services.ServicesState.EMPTY_HASH;
 import static com.hedera.services.state.virtual.KeyPackingUtils.readableContractStorageKey;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
 
 import com.google.protobuf.ByteString;
 import com.hedera.services.legacy.core.jproto.JEd25519Key;
@@ -34,6 +38,7 @@ import com.hedera.services.utils.EntityNum;
 import com.hedera.services.utils.MiscUtils;
 import com.hederahashgraph.api.proto.java.Key;
 import com.swirlds.common.exceptions.MutabilityException;
+import java.io.IOException;
 import java.util.Collections;
 import java.util.TreeMap;
 import java.util.TreeSet;
@@ -344,6 +349,80 @@ class MerkleAccountStateTest {
         assertEquals(subject, copySubject);
     }
 
+    @Test
+    void isSelfHashing() {
+        assertTrue(subject.isSelfHashing());
+    }
+
+    @Test
+    void copiesHashTheSameAndReuseComponentDigests() {
+        final var hash = subject.getHash();
+
+        final var copySubject = subject.copy();
+
+        assertEquals(hash, copySubject.getHash());
+        assertSame(subject.keyDigest(), copySubject.keyDigest());
+    }
+
+    @Test
+    void onlyChangedComponentsAreRedigested() {
+        final var copySubject = subject.copy();
+        subject.getHash();
+
+        copySubject.setMemo("Something else");
+        copySubject.getHash();
+        assertSame(subject.keyDigest(), copySubject.keyDigest());
+
+        copySubject.setAccountKey(otherKey);
+        copySubject.getHash();
+        assertNotSame(subject.keyDigest(), copySubject.keyDigest());
+    }
+
+    @Test
+    void hashChangesWithScalarsAndComponents() {
+        final var hash = subject.getHash();
+
+        final var balanceCopy = subject.copy();
+        balanceCopy.setHbarBalance(balance + 1);
+        final var memoCopy = balanceCopy.copy();
+        memoCopy.setHbarBalance(balance);
+        memoCopy.setMemo("Something else");
+
+        assertNotEquals(hash, balanceCopy.getHash());
+        assertNotEquals(hash, memoCopy.getHash());
+        assertNotEquals(balanceCopy.getHash(), memoCopy.getHash());
+    }
+
+    @Test
+    void immutableCopyHashesOnlyOnce() {
+        final var mutableHash = subject.getHash();
+        assertNotSame(mutableHash, subject.getHash());
+
+        subject.copy();
+
+        final var immutableHash = subject.getHash();
+        assertEquals(mutableHash, immutableHash);
+        assertSame(immutableHash, subject.getHash());
+    }
+
+    @Test
+    void hashSeesInPlaceAllowanceChanges() {
+        final var hash = subject.getHash();
+
+        subject.getCryptoAllowancesUnsafe().put(spenderNum1, cryptoAllowance + 1);
+
+        assertNotEquals(hash, subject.getHash());
+    }
+
+    @Test
+    void returnsEmptyHashIfKeyCannotBeSerialized() throws IOException {
+        final var unserializableKey = mock(JKey.class);
+        given(unserializableKey.serialize()).willThrow(IOException.class);
+        subject.setAccountKey(unserializableKey);
+
+        assertSame(EMPTY_HASH, subject.getHash());
+    }
+
     @Test
     void equalsWorksWithRadicalDifferences() {
         final var identical = subject;
@@ -42,11 +42,13 @@ import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.function.Supplier;
+import org.apache.commons.lang3.ArrayUtils;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
@@ -112,19 +114,63 @@ class MerkleSpecialFilesTest {
     }
 
     @Test
-    void updateClearsHashCache() {
+    void updatePublishesNewSnapshot() {
         subject.update(fid, stuff);
+        final var snapshot = subject.getSnapshots().get(fid);
         assertTrue(subject.hashMatches(fid, stuffHash), "Updated stuff should have SHA-384 hash");
+
         subject.update(fid, stuffHash);
-        assertFalse(subject.getHashCache().containsKey(fid));
+
+        assertNotSame(snapshot, subject.getSnapshots().get(fid));
+        assertFalse(subject.hashMatches(fid, stuffHash));
+        assertArrayEquals(stuff, snapshot.contentsCopy());
     }
 
     @Test
-    void appendClearsHashCache() {
+    void appendPublishesNewSnapshot() {
         subject.update(fid, stuff);
+        final var snapshot = subject.getSnapshots().get(fid);
         assertTrue(subject.hashMatches(fid, stuffHash), "Updated stuff should have SHA-384 hash");
+
+        subject.append(fid, stuffHash);
+
+        assertNotSame(snapshot, subject.getSnapshots().get(fid));
+        assertFalse(subject.hashMatches(fid, stuffHash));
+        assertArrayEquals(stuff, snapshot.contentsCopy());
+    }
+
+    @Test
+    void copiesKeepTheirOwnContentsAfterAppends() {
+        subject.append(fid, stuff);
         subject.append(fid, stuffHash);
-        assertFalse(subject.getHashCache().containsKey(fid));
+        final var expected = ArrayUtils.addAll(stuff, stuffHash);
+        final var copySub = subject.copy();
+
+        copySub.append(fid, stuff);
+
+        assertArrayEquals(expected, subject.get(fid));
+        assertTrue(subject.hashMatches(fid, CommonUtils.noThrowSha384HashOf(expected)));
+        assertArrayEquals(ArrayUtils.addAll(expected, stuff), copySub.get(fid));
+    }
+
+    @Test
+    void viewIsReadOnlyAndUncopied() {
+        subject.update(fid, stuff);
+
+        final var view = subject.getView(fid);
+
+        assertTrue(view.isReadOnly());
+        assertEquals(ByteBuffer.wrap(stuff), view);
+        assertEquals(0, subject.getView(secondFid).remaining());
+    }
+
+    @Test
+    void getReturnsPrivateCopy() {
+        subject.update(fid, stuff);
+
+        subject.get(fid)[0] = (byte) (stuff[0] + 1);
+
+        assertArrayEquals(stuff, subject.get(fid));
     }
 
     @Test
@@ -187,24 +233,6 @@ class MerkleSpecialFilesTest {
         assertArrayEquals(expected, subject.getHash().getValue());
     }
 
-    @Test
-    void propagatesFailureOnGetThatShouldBeNeverProblematic() throws IOException {
-        @SuppressWarnings("unchecked")
-        final Supplier<ByteArrayOutputStream> baosSupplier =
-                (Supplier<ByteArrayOutputStream>) mock(Supplier.class);
-
-        final var baos = mock(ByteArrayOutputStream.class);
-        willThrow(IOException.class).given(baos).write(stuff);
-        given(baosSupplier.get()).willReturn(baos);
-
-        MerkleSpecialFiles.setBaosSupplier(baosSupplier);
-
-        subject.append(secondFid, stuff);
-        assertThrows(UncheckedIOException.class, () -> subject.get(secondFid));
-
-        MerkleSpecialFiles.setBaosSupplier(ByteArrayOutputStream::new);
-    }
-
     @Test
     void propagatesFailureOnHashThatShouldBeNeverProblematic() throws IOException {
         @SuppressWarnings("unchecked")
@@ -267,6 +295,11 @@ class MerkleSpecialFilesTest {
                 subject.get(secondFid),
                 newSubject.get(secondFid),
                 "Deserialized contents should match for second file");
+        assertTrue(
+                newSubject.hashMatches(
+                        fid,
+                        CommonUtils.noThrowSha384HashOf(
+                                Arrays.copyOfRange(stuff, 0, stuff.length / 2))));
     }
 
     @Test
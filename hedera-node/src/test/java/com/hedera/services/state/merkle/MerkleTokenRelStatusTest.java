@@ -19,6 +19,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
@@ -103,6 +104,35 @@ class MerkleTokenRelStatusTest {
         assertTrue(subject.isLeaf());
     }
 
+    @Test
+    void immutableCopyHashesOnlyOnce() {
+        final var mutableHash = subject.getHash();
+        assertNotSame(mutableHash, subject.getHash());
+
+        subject.copy();
+
+        final var immutableHash = subject.getHash();
+        assertEquals(mutableHash, immutableHash);
+        assertSame(immutableHash, subject.getHash());
+    }
+
+    @Test
+    void selfHashesDeterministicallyOverAllFields() {
+        assertTrue(subject.isSelfHashing());
+        final var hash = subject.getHash();
+
+        final var copySubject = subject.copy();
+        assertEquals(hash, copySubject.getHash());
+
+        copySubject.setKycGranted(!kycGranted);
+        final var kycHash = copySubject.getHash();
+        assertNotEquals(hash, kycHash);
+        copySubject.setKycGranted(kycGranted);
+        copySubject.setNext(prevTokenNum);
+        assertNotEquals(hash, copySubject.getHash());
+        assertNotEquals(kycHash, copySubject.getHash());
+    }
+
     @Test
     void serializeWorks() throws IOException {
         final var out = mock(SerializableDataOutputStream.class);
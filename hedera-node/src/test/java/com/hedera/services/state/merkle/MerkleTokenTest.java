@@ -22,6 +22,7 @@ import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -162,6 +163,68 @@ class MerkleTokenTest {
         assertTrue(subject.isImmutable());
     }
 
+    @Test
+    void isSelfHashing() {
+        assertTrue(subject.isSelfHashing());
+    }
+
+    @Test
+    void copiesHashTheSameAndReuseComponentDigests() {
+        final var hash = subject.getHash();
+
+        final var copySubject = subject.copy();
+
+        assertEquals(hash, copySubject.getHash());
+        assertSame(
+                subject.componentDigest(MerkleToken.ADMIN_KEY_DIGEST),
+                copySubject.componentDigest(MerkleToken.ADMIN_KEY_DIGEST));
+        assertSame(
+                subject.componentDigest(MerkleToken.FEE_SCHEDULE_DIGEST),
+                copySubject.componentDigest(MerkleToken.FEE_SCHEDULE_DIGEST));
+    }
+
+    @Test
+    void onlyChangedComponentsAreRedigested() {
+        subject.getHash();
+        final var copySubject = subject.copy();
+
+        copySubject.setAdminKey(otherAdminKey);
+        copySubject.setTotalSupply(otherTotalSupply);
+
+        assertNotEquals(subject.getHash(), copySubject.getHash());
+        assertNotSame(
+                subject.componentDigest(MerkleToken.ADMIN_KEY_DIGEST),
+                copySubject.componentDigest(MerkleToken.ADMIN_KEY_DIGEST));
+        assertSame(
+                subject.componentDigest(MerkleToken.FREEZE_KEY_DIGEST),
+                copySubject.componentDigest(MerkleToken.FREEZE_KEY_DIGEST));
+        assertSame(
+                subject.componentDigest(MerkleToken.MEMO_DIGEST),
+                copySubject.componentDigest(MerkleToken.MEMO_DIGEST));
+    }
+
+    @Test
+    void immutableCopyHashesOnlyOnce() {
+        final var mutableHash = subject.getHash();
+        assertNotSame(mutableHash, subject.getHash());
+
+        subject.copy();
+
+        final var immutableHash = subject.getHash();
+        assertEquals(mutableHash, immutableHash);
+        assertSame(immutableHash, subject.getHash());
+    }
+
+    @Test
+    void hashDistinguishesAbsentAndPresentKeys() {
+        final var hash = subject.getHash();
+        final var copySubject = subject.copy();
+
+        copySubject.setPauseKey(pauseKey);
+
+        assertNotEquals(hash, copySubject.getHash());
+    }
+
     @Test
     void getterWorks() {
         assertEquals(feeSchedule, subject.customFeeSchedule());
@@ -0,0 +1,129 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.merkle.internals;
+
+import static com.hedera.services.state.merkle.internals.LeafHashing.DIGEST_BYTES;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.legacy.proto.utils.CommonUtils;
+import com.hedera.services.state.submerkle.EntityId;
+import com.swirlds.common.crypto.DigestType;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Test;
+
+class LeafHashingTest {
+    @Test
+    void reusesCachedDigestOnlyForSameComponent() {
+        final var numSerializations = new AtomicInteger();
+        final var memo = "Something";
+        final var first = LeafHashing.refreshed(null, memo, s -> serialized(s, numSerializations));
+
+        assertSame(
+                first, LeafHashing.refreshed(first, memo, s -> serialized(s, numSerializations)));
+        assertEquals(1, numSerializations.get());
+
+        final var second =
+                LeafHashing.refreshed(
+                        first, "Something else", s -> serialized(s, numSerializations));
+        assertNotSame(first, second);
+        assertEquals(2, numSerializations.get());
+        assertArrayEquals(
+                CommonUtils.noThrowSha384HashOf("Something else".getBytes()), second.digest());
+    }
+
+    @Test
+    void absentComponentsGetZeroDigest() {
+        final var digest = LeafHashing.refreshed(null, null, LeafHashing::utf8Bytes);
+
+        assertArrayEquals(new byte[DIGEST_BYTES], digest.digest());
+        assertSame(digest, LeafHashing.refreshed(digest, null, LeafHashing::utf8Bytes));
+    }
+
+    @Test
+    void hashesOnlyWrittenBytes() {
+        final var data = "Only these bytes".getBytes();
+        final var scratch = LeafHashing.scratchWithCapacity(data.length);
+        scratch.put(data);
+
+        final var hash = LeafHashing.hashOf(scratch);
+
+        assertEquals(DigestType.SHA_384, hash.getDigestType());
+        assertArrayEquals(CommonUtils.noThrowSha384HashOf(data), hash.getValue());
+    }
+
+    @Test
+    void digestsRemainingBytesWithoutMovingPosition() {
+        final var data = "Skip these; digest these".getBytes();
+        final var buffer = ByteBuffer.wrap(data).position(12);
+
+        final var digest = LeafHashing.sha384Of(buffer);
+
+        assertArrayEquals(
+                CommonUtils.noThrowSha384HashOf(Arrays.copyOfRange(data, 12, data.length)), digest);
+        assertEquals(12, buffer.position());
+    }
+
+    @Test
+    void scratchGrowsOnDemandAndIsCleared() {
+        final var scratch = LeafHashing.scratchWithCapacity(1);
+        scratch.putLong(1L);
+
+        final var larger = LeafHashing.scratchWithCapacity(10 * scratch.capacity());
+
+        assertTrue(larger.capacity() >= 10 * scratch.capacity());
+        assertEquals(0, larger.position());
+        assertSame(larger, LeafHashing.scratchWithCapacity(1));
+    }
+
+    @Test
+    void writesNullableIdsAndFlags() {
+        final var scratch = LeafHashing.scratchWithCapacity(64);
+
+        LeafHashing.putNullableId(scratch, null);
+        LeafHashing.putNullableId(scratch, new EntityId(1, 2, 3));
+        LeafHashing.putBoolean(scratch, true);
+
+        assertEquals(1 + 1 + 3 * Long.BYTES + 1, scratch.position());
+        assertEquals(0, scratch.get(0));
+        assertEquals(1, scratch.get(1));
+        assertEquals(3L, scratch.getLong(1 + 1 + 2 * Long.BYTES));
+    }
+
+    @Test
+    void wrapsKeySerializationFailures() throws IOException {
+        final var key = mock(JKey.class);
+        given(key.serialize()).willThrow(IOException.class);
+
+        assertThrows(UncheckedIOException.class, () -> LeafHashing.keyBytes(key));
+    }
+
+    private static byte[] serialized(final String s, final AtomicInteger numSerializations) {
+        numSerializations.incrementAndGet();
+        return s.getBytes();
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.state.merkle.internals;
+
+import static com.hedera.services.state.merkle.internals.SpecialFileSnapshot.EMPTY_SNAPSHOT;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.services.legacy.proto.utils.CommonUtils;
+import java.nio.ByteBuffer;
+import java.nio.ReadOnlyBufferException;
+import org.apache.commons.lang3.ArrayUtils;
+import org.junit.jupiter.api.Test;
+
+class SpecialFileSnapshotTest {
+    private static final byte[] first = "First".getBytes();
+    private static final byte[] second = "Second".getBytes();
+    private static final byte[] third = "Third".getBytes();
+
+    @Test
+    void snapshotsAreIsolatedFromSourceArray() {
+        final var contents = first.clone();
+        final var subject = SpecialFileSnapshot.of(contents);
+
+        contents[0] = 'f';
+
+        assertArrayEquals(first, subject.contentsCopy());
+        assertEquals(first.length, subject.length());
+    }
+
+    @Test
+    void appendingLeavesPriorSnapshotUnchanged() {
+        final var one = EMPTY_SNAPSHOT.appending(first);
+        final var two = one.appending(second);
+        final var three = two.appending(third);
+
+        assertArrayEquals(first, one.contentsCopy());
+        assertArrayEquals(ArrayUtils.addAll(first, second), two.contentsCopy());
+        assertArrayEquals(
+                ArrayUtils.addAll(ArrayUtils.addAll(first, second), third), three.contentsCopy());
+        assertEquals(0, EMPTY_SNAPSHOT.length());
+    }
+
+    @Test
+    void competingAppendsToSameSnapshotDoNotOverwriteEachOther() {
+        final var base = EMPTY_SNAPSHOT.appending(first).appending(second);
+
+        final var left = base.appending(third);
+        final var right = base.appending(first);
+
+        assertArrayEquals(
+                ArrayUtils.addAll(ArrayUtils.addAll(first, second), third), left.contentsCopy());
+        assertArrayEquals(
+                ArrayUtils.addAll(ArrayUtils.addAll(first, second), first), right.contentsCopy());
+    }
+
+    @Test
+    void contentsAreReadOnlyView() {
+        final var subject = SpecialFileSnapshot.of(first);
+
+        final var view = subject.contents();
+
+        assertTrue(view.isReadOnly());
+        assertEquals(ByteBuffer.wrap(first), view);
+        assertThrows(ReadOnlyBufferException.class, () -> view.put(0, (byte) 0));
+    }
+
+    @Test
+    void hashIsComputedOnceAndMatchesContents() {
+        final var subject = EMPTY_SNAPSHOT.appending(first).appending(second);
+
+        final var hash = subject.sha384Hash();
+
+        assertArrayEquals(
+                CommonUtils.noThrowSha384HashOf(ArrayUtils.addAll(first, second)), hash);
+        assertSame(hash, subject.sha384Hash());
+        assertNotSame(hash, subject.appending(third).sha384Hash());
+    }
+}
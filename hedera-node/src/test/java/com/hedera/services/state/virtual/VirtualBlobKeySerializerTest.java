@@ -88,6 +88,17 @@ class VirtualBlobKeySerializerTest {
         assertFalse(subject.equals(bin, 1, diffTypeSameNum));
     }
 
+    @Test
+    void equalsUsingByteBufferDistinguishesFileDataChunks() throws IOException {
+        final var firstChunk = VirtualBlobKey.fileDataChunkKey(entityNum, 0);
+        final var secondChunk = VirtualBlobKey.fileDataChunkKey(entityNum, 1);
+        final var buffer = ByteBuffer.allocate(VirtualBlobKey.sizeInBytes());
+        secondChunk.serialize(buffer);
+
+        assertTrue(subject.equals(buffer.flip(), 1, secondChunk));
+        assertFalse(subject.equals(buffer.rewind(), 1, firstChunk));
+    }
+
     @Test
     void serdesAreNoop() {
         final var in = mock(SerializableDataInputStream.class);
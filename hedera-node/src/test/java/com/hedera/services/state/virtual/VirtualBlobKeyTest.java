@@ -16,8 +16,10 @@
 package com.hedera.services.state.virtual;
 
 import static com.hedera.services.state.virtual.VirtualBlobKey.BYTES_IN_SERIALIZED_FORM;
+import static com.hedera.services.state.virtual.VirtualBlobKey.MAX_CHUNK_INDEX;
 import static com.hedera.services.state.virtual.VirtualBlobKey.Type.CONTRACT_BYTECODE;
 import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_DATA;
+import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_DATA_CHUNK;
 import static com.hedera.services.state.virtual.VirtualBlobKey.Type.FILE_METADATA;
 import static com.hedera.services.state.virtual.VirtualBlobKey.Type.SYSTEM_DELETED_ENTITY_EXPIRY;
 import static com.hedera.services.state.virtual.VirtualBlobKey.fromPath;
@@ -26,10 +28,12 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 
+import com.hedera.services.state.merkle.internals.BlobKey.BlobType;
 import com.swirlds.common.io.streams.SerializableDataInputStream;
 import com.swirlds.common.io.streams.SerializableDataOutputStream;
 import java.io.IOException;
@@ -111,6 +115,22 @@ class VirtualBlobKeyTest {
         assertEquals(SYSTEM_DELETED_ENTITY_EXPIRY, expiryBlobKey.getType());
     }
 
+    @Test
+    void ofMatchesFromPath() {
+        assertEquals(fromPath("/0/f112"), VirtualBlobKey.of(BlobType.FILE_DATA, 112));
+        assertEquals(fromPath("/0/k3"), VirtualBlobKey.of(BlobType.FILE_METADATA, 3));
+        assertEquals(fromPath("/0/s4"), VirtualBlobKey.of(BlobType.CONTRACT_BYTECODE, 4));
+        assertEquals(
+                fromPath("/0/e5"), VirtualBlobKey.of(BlobType.SYSTEM_DELETED_ENTITY_EXPIRY, 5));
+    }
+
+    @Test
+    void ofRejectsContractStorage() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> VirtualBlobKey.of(BlobType.CONTRACT_STORAGE, 6));
+    }
+
     @Test
     void fromPathThrowsOnInvalidEntityNum() {
         final String dataPath = "/0/ffff";
@@ -186,4 +206,42 @@ class VirtualBlobKeyTest {
         verify(fOut).writeByte((byte) FILE_DATA.ordinal());
         verify(fOut).writeInt(entityNum);
     }
+
+    @Test
+    void firstFileDataChunkIsTheLegacyDataBlob() {
+        assertEquals(subject, VirtualBlobKey.fileDataChunkKey(entityNum, 0));
+    }
+
+    @Test
+    void laterFileDataChunksAreDistinctAndOrderedAfterTheFirst() {
+        final var second = VirtualBlobKey.fileDataChunkKey(entityNum, 1);
+        final var third = VirtualBlobKey.fileDataChunkKey(entityNum, 2);
+
+        assertEquals(FILE_DATA_CHUNK, second.getType());
+        assertEquals(1, second.getChunkIndex());
+        assertNotEquals(second, third);
+        assertNotEquals(second.hashCode(), third.hashCode());
+        assertTrue(subject.compareTo(second) < 0);
+        assertTrue(second.compareTo(third) < 0);
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> VirtualBlobKey.fileDataChunkKey(entityNum, MAX_CHUNK_INDEX + 1));
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> VirtualBlobKey.fileDataChunkKey(entityNum, -1));
+    }
+
+    @Test
+    void chunkKeysRoundTripThroughTheSameSerializedSize() throws IOException {
+        final var last = VirtualBlobKey.fileDataChunkKey(entityNum, MAX_CHUNK_INDEX);
+        final var buffer = ByteBuffer.allocate(BYTES_IN_SERIALIZED_FORM);
+
+        last.serialize(buffer);
+        buffer.flip();
+        final var recovered = new VirtualBlobKey();
+        recovered.deserialize(buffer, VirtualBlobKey.CURRENT_VERSION);
+
+        assertEquals(last, recovered);
+        assertEquals(MAX_CHUNK_INDEX, recovered.getChunkIndex());
+    }
 }
@@ -0,0 +1,83 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.hedera.services.state.expiry.AutoRenewIndex;
+import com.hedera.services.state.expiry.EntityAutoExpiry;
+import com.swirlds.common.metrics.DoubleGauge;
+import com.swirlds.common.system.Platform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AutoRenewStatsTest {
+    @Mock private Platform platform;
+    @Mock private EntityAutoExpiry autoExpiry;
+    @Mock private AutoRenewIndex dueIndex;
+    @Mock private DoubleGauge scanEfficiency;
+    @Mock private DoubleGauge expiryLag;
+    @Mock private DoubleGauge dueEntities;
+
+    private AutoRenewStats subject;
+
+    @BeforeEach
+    void setup() {
+        subject = new AutoRenewStats(autoExpiry, dueIndex);
+
+        subject.setScanEfficiency(scanEfficiency);
+        subject.setExpiryLag(expiryLag);
+        subject.setDueEntities(dueEntities);
+    }
+
+    @Test
+    void registersExpectedStatEntries() {
+        subject.registerWith(platform);
+
+        verify(platform).addAppMetrics(scanEfficiency, expiryLag, dueEntities);
+    }
+
+    @Test
+    void efficiencyCoversOnlyScansSinceLastUpdate() {
+        given(autoExpiry.totalScanned()).willReturn(4L, 14L);
+        given(autoExpiry.totalTouched()).willReturn(1L, 2L);
+        given(autoExpiry.lagSecs()).willReturn(7L);
+        given(dueIndex.numDue()).willReturn(3);
+
+        subject.updateAll();
+        subject.updateAll();
+
+        verify(scanEfficiency).set(25.0);
+        verify(scanEfficiency).set(10.0);
+        verify(expiryLag, times(2)).set(7.0);
+        verify(dueEntities, times(2)).set(3.0);
+    }
+
+    @Test
+    void keepsLastEfficiencyWithoutNewScans() {
+        subject.updateAll();
+
+        verify(scanEfficiency, never()).set(0.0);
+        verify(expiryLag).set(0.0);
+    }
+}
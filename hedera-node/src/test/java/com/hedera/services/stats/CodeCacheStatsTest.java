@@ -0,0 +1,81 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+
+import com.hedera.services.store.contracts.CodeCache;
+import com.swirlds.common.metrics.DoubleGauge;
+import com.swirlds.common.system.Platform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class CodeCacheStatsTest {
+    @Mock private Platform platform;
+    @Mock private CodeCache codeCache;
+    @Mock private DoubleGauge hitRatio;
+    @Mock private DoubleGauge bytesUsed;
+    @Mock private DoubleGauge evictions;
+
+    private CodeCacheStats subject;
+
+    @BeforeEach
+    void setup() {
+        subject = new CodeCacheStats(codeCache);
+
+        subject.setHitRatio(hitRatio);
+        subject.setBytesUsed(bytesUsed);
+        subject.setEvictions(evictions);
+    }
+
+    @Test
+    void registersExpectedStatEntries() {
+        subject.registerWith(platform);
+
+        verify(platform).addAppMetrics(hitRatio, bytesUsed, evictions);
+    }
+
+    @Test
+    void hitRatioCoversOnlyLookupsSinceLastUpdate() {
+        given(codeCache.hits()).willReturn(3L, 4L);
+        given(codeCache.misses()).willReturn(1L, 4L);
+        given(codeCache.bytesUsed()).willReturn(1_024L);
+        given(codeCache.evictions()).willReturn(2L);
+
+        subject.updateAll();
+        subject.updateAll();
+
+        verify(hitRatio).set(75.0);
+        verify(hitRatio).set(25.0);
+        verify(bytesUsed, times(2)).set(1_024.0);
+        verify(evictions, times(2)).set(2.0);
+    }
+
+    @Test
+    void keepsLastHitRatioWithoutNewLookups() {
+        subject.updateAll();
+
+        verify(hitRatio, never()).set(0.0);
+        verify(bytesUsed).set(0.0);
+    }
+}
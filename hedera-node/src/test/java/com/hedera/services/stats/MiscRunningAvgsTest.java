@@ -38,6 +38,13 @@ class MiscRunningAvgsTest {
     @Mock private RunningAverageMetric submitSizes;
     @Mock private RunningAverageMetric queueSize;
     @Mock private RunningAverageMetric hashS;
+    @Mock private RunningAverageMetric handoffSize;
+    @Mock private RunningAverageMetric handoffBatch;
+    @Mock private RunningAverageMetric handoffStall;
+    @Mock private RunningAverageMetric serializeMs;
+    @Mock private RunningAverageMetric compressMs;
+    @Mock private RunningAverageMetric fsyncMs;
+    @Mock private RunningAverageMetric signMs;
     private MiscRunningAvgs subject;
 
     @BeforeEach
@@ -53,7 +60,21 @@ class MiscRunningAvgsTest {
 
         subject.registerWith(platform);
 
-        verify(platform).addAppMetrics(gasPerSec, waitMs, retries, submitSizes, queueSize, hashS);
+        verify(platform)
+                .addAppMetrics(
+                        gasPerSec,
+                        waitMs,
+                        retries,
+                        submitSizes,
+                        queueSize,
+                        hashS,
+                        handoffSize,
+                        handoffBatch,
+                        handoffStall,
+                        serializeMs,
+                        compressMs,
+                        fsyncMs,
+                        signMs);
     }
 
     @Test
@@ -66,6 +87,13 @@ class MiscRunningAvgsTest {
         subject.writeQueueSizeRecordStream(4);
         subject.hashQueueSizeRecordStream(5);
         subject.recordGasPerConsSec(6L);
+        subject.handoffQueueSizeRecordStream(7);
+        subject.handoffBatchSizeRecordStream(8);
+        subject.handoffStallMsRecordStream(9.0);
+        subject.serializeMsRecordStream(10.0);
+        subject.compressMsRecordStream(11.0);
+        subject.fsyncMsRecordStream(12.0);
+        subject.signMsRecordStream(13.0);
 
         verify(retries).recordValue(1.0);
         verify(waitMs).recordValue(2.0);
@@ -73,6 +101,13 @@ class MiscRunningAvgsTest {
         verify(queueSize).recordValue(4.0);
         verify(hashS).recordValue(5);
         verify(gasPerSec).recordValue(6L);
+        verify(handoffSize).recordValue(7);
+        verify(handoffBatch).recordValue(8);
+        verify(handoffStall).recordValue(9.0);
+        verify(serializeMs).recordValue(10.0);
+        verify(compressMs).recordValue(11.0);
+        verify(fsyncMs).recordValue(12.0);
+        verify(signMs).recordValue(13.0);
     }
 
     private void setMocks() {
@@ -82,5 +117,12 @@ class MiscRunningAvgsTest {
         subject.setWriteQueueSizeRecordStream(queueSize);
         subject.setHashQueueSizeRecordStream(hashS);
         subject.setGasPerConsSec(gasPerSec);
+        subject.setHandoffQueueSizeRecordStream(handoffSize);
+        subject.setHandoffBatchSizeRecordStream(handoffBatch);
+        subject.setHandoffStallMsRecordStream(handoffStall);
+        subject.setSerializeMsRecordStream(serializeMs);
+        subject.setCompressMsRecordStream(compressMs);
+        subject.setFsyncMsRecordStream(fsyncMs);
+        subject.setSignMsRecordStream(signMs);
     }
 }
@@ -0,0 +1,79 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.swirlds.common.metrics.Counter;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.system.Platform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class PrefetchStatsTest {
+    private static final double halfLife = 10.0;
+
+    @Mock private Platform platform;
+    @Mock private NodeLocalProperties nodeLocalProperties;
+    @Mock private Counter hits;
+    @Mock private Counter misses;
+    @Mock private Counter drops;
+    @Mock private RunningAverageMetric queueWaitMs;
+    @Mock private RunningAverageMetric queueDepth;
+
+    private PrefetchStats subject;
+
+    @BeforeEach
+    void setup() {
+        given(nodeLocalProperties.statsRunningAvgHalfLifeSecs()).willReturn(halfLife);
+
+        subject = new PrefetchStats(nodeLocalProperties);
+
+        subject.setHits(hits);
+        subject.setMisses(misses);
+        subject.setDrops(drops);
+        subject.setQueueWaitMs(queueWaitMs);
+        subject.setQueueDepth(queueDepth);
+    }
+
+    @Test
+    void registersExpectedStatEntries() {
+        subject.registerWith(platform);
+
+        verify(platform).addAppMetrics(hits, misses, drops, queueWaitMs, queueDepth);
+    }
+
+    @Test
+    void updatesExpectedMetrics() {
+        subject.countHit();
+        subject.countMiss();
+        subject.countDrop();
+        subject.recordQueueWaitMs(1.5);
+        subject.recordQueueDepth(3);
+
+        verify(hits).increment();
+        verify(misses).increment();
+        verify(drops).increment();
+        verify(queueWaitMs).recordValue(1.5);
+        verify(queueDepth).recordValue(3);
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.queries.answering.QueryLanes.Lane;
+import com.swirlds.common.metrics.Counter;
+import com.swirlds.common.metrics.Metric;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.system.Platform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class QueryLaneStatsTest {
+    private static final double halfLife = 10.0;
+    private static final int NUM_BUCKETS = QueryLaneStats.LATENCY_BUCKET_BOUNDS_MS.length + 1;
+
+    @Mock private Platform platform;
+    @Mock private NodeLocalProperties nodeLocalProperties;
+    @Mock private RunningAverageMetric queueDepth;
+    @Mock private RunningAverageMetric queueWaitMs;
+    @Mock private RunningAverageMetric latencyMs;
+    @Mock private Counter rejections;
+
+    private Counter[] buckets;
+    private QueryLaneStats subject;
+
+    @BeforeEach
+    void setup() {
+        given(nodeLocalProperties.statsRunningAvgHalfLifeSecs()).willReturn(halfLife);
+
+        subject = new QueryLaneStats(nodeLocalProperties);
+
+        buckets = new Counter[NUM_BUCKETS];
+        for (int i = 0; i < NUM_BUCKETS; i++) {
+            buckets[i] = mock(Counter.class);
+        }
+        subject.setQueueDepth(Lane.COSTLY, queueDepth);
+        subject.setQueueWaitMs(Lane.COSTLY, queueWaitMs);
+        subject.setLatencyMs(Lane.COSTLY, latencyMs);
+        subject.setRejections(Lane.COSTLY, rejections);
+        subject.setLatencyBuckets(Lane.COSTLY, buckets);
+    }
+
+    @Test
+    void registersAllLaneMetrics() {
+        final var captor = ArgumentCaptor.forClass(Metric.class);
+
+        subject.registerWith(platform);
+
+        verify(platform).addAppMetrics(captor.capture());
+        assertEquals(Lane.values().length * (4 + NUM_BUCKETS), captor.getAllValues().size());
+    }
+
+    @Test
+    void updatesExpectedMetrics() {
+        subject.recordQueueDepth(Lane.COSTLY, 3);
+        subject.countRejection(Lane.COSTLY);
+        subject.recordTimes(Lane.COSTLY, 2_000_000L, 7_500_000L);
+
+        verify(queueDepth).recordValue(3);
+        verify(rejections).increment();
+        verify(queueWaitMs).recordValue(2.0);
+        verify(latencyMs).recordValue(7.5);
+        verify(buckets[2]).increment();
+        verify(buckets[0], never()).increment();
+    }
+
+    @Test
+    void cheapLaneMetricsAreIndependent() {
+        subject.recordTimes(Lane.CHEAP, 0L, 1L);
+
+        verify(latencyMs, never()).recordValue(anyDouble());
+    }
+
+    @Test
+    void bucketsLatenciesByUpperBound() {
+        assertEquals(0, QueryLaneStats.bucketFor(0.3));
+        assertEquals(0, QueryLaneStats.bucketFor(1.0));
+        assertEquals(1, QueryLaneStats.bucketFor(1.1));
+        assertEquals(4, QueryLaneStats.bucketFor(500.0));
+        assertEquals(NUM_BUCKETS - 1, QueryLaneStats.bucketFor(500.1));
+    }
+}
@@ -59,6 +59,12 @@ class ServicesStatsManagerTest {
     @Mock private VirtualMap<VirtualBlobKey, VirtualBlobValue> bytecode;
     @Mock private ThrottleGauges throttleGauges;
     @Mock private EntityUtilGauges entityUtilGauges;
+    @Mock private PrefetchStats prefetchStats;
+    @Mock private CodeCacheStats codeCacheStats;
+    @Mock private AutoRenewStats autoRenewStats;
+    @Mock private QueryLaneStats queryLaneStats;
+    @Mock private QueryResponseCacheStats queryResponseCacheStats;
+    @Mock private SigVerificationStats sigVerificationStats;
 
     ServicesStatsManager subject;
 
@@ -83,6 +89,12 @@ class ServicesStatsManagerTest {
                         miscSpeedometers,
                         speedometers,
                         properties,
+                        prefetchStats,
+                        codeCacheStats,
+                        autoRenewStats,
+                        queryLaneStats,
+                        queryResponseCacheStats,
+                        sigVerificationStats,
                         () -> storage,
                         () -> bytecode);
     }
@@ -119,6 +131,12 @@ class ServicesStatsManagerTest {
         verify(runningAvgs).registerWith(platform);
         verify(throttleGauges).registerWith(platform);
         verify(entityUtilGauges).registerWith(platform);
+        verify(prefetchStats).registerWith(platform);
+        verify(codeCacheStats).registerWith(platform);
+        verify(autoRenewStats).registerWith(platform);
+        verify(queryLaneStats).registerWith(platform);
+        verify(queryResponseCacheStats).registerWith(platform);
+        verify(sigVerificationStats).registerWith(platform);
         verify(storage).registerStatistics(any());
         verify(bytecode).registerStatistics(any());
         verify(platform).appStatInit();
@@ -135,5 +153,8 @@ class ServicesStatsManagerTest {
         verify(speedometers, times(6)).updateAll();
         verify(throttleGauges, times(3)).updateAll();
         verify(entityUtilGauges, times(2)).updateAll();
+        verify(codeCacheStats, times(2)).updateAll();
+        verify(queryResponseCacheStats, times(2)).updateAll();
+        verify(autoRenewStats, times(2)).updateAll();
     }
 }
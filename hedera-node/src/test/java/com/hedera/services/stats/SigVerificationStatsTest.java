@@ -0,0 +1,78 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stats;
+
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hedera.services.context.properties.NodeLocalProperties;
+import com.swirlds.common.metrics.RunningAverageMetric;
+import com.swirlds.common.system.Platform;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class SigVerificationStatsTest {
+    private static final double halfLife = 10.0;
+
+    @Mock private Platform platform;
+    @Mock private NodeLocalProperties nodeLocalProperties;
+    @Mock private RunningAverageMetric batchSize;
+    @Mock private RunningAverageMetric dedupPercent;
+    @Mock private RunningAverageMetric verificationLatencyMs;
+
+    private SigVerificationStats subject;
+
+    @BeforeEach
+    void setup() {
+        given(nodeLocalProperties.statsRunningAvgHalfLifeSecs()).willReturn(halfLife);
+
+        subject = new SigVerificationStats(nodeLocalProperties);
+
+        subject.setBatchSize(batchSize);
+        subject.setDedupPercent(dedupPercent);
+        subject.setVerificationLatencyMs(verificationLatencyMs);
+    }
+
+    @Test
+    void registersExpectedStatEntries() {
+        subject.registerWith(platform);
+
+        verify(platform).addAppMetrics(batchSize, dedupPercent, verificationLatencyMs);
+    }
+
+    @Test
+    void updatesExpectedMetrics() {
+        subject.recordBatchSize(256);
+        subject.recordRoundDedup(8, 2);
+        subject.recordVerificationLatencyNanos(1_500_000L);
+
+        verify(batchSize).recordValue(256);
+        verify(dedupPercent).recordValue(25.0);
+        verify(verificationLatencyMs).recordValue(1.5);
+    }
+
+    @Test
+    void ignoresEmptyRounds() {
+        subject.recordRoundDedup(0, 0);
+
+        verifyNoInteractions(dedupPercent);
+    }
+}
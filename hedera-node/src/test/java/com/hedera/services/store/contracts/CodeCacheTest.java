@@ -41,9 +41,13 @@ import static com.hedera.services.store.contracts.WorldStateTokenAccount.proxyBy
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 
 import com.hedera.services.context.properties.NodeLocalProperties;
@@ -126,6 +130,74 @@ class CodeCacheTest {
         assertDoesNotThrow(() -> codeCache.invalidate(Address.fromHexString("0xabc")));
     }
 
+    @Test
+    void contractsWithIdenticalBytecodeShareOneEntry() {
+        final var aAddress = Address.fromHexString("0xabc");
+        final var bAddress = Address.fromHexString("0xdef");
+        given(entityAccess.fetchCodeIfPresent(any())).willReturn(Bytes.of("abc".getBytes()));
+
+        final var aCode = codeCache.getIfPresent(aAddress);
+        final var bCode = codeCache.getIfPresent(bAddress);
+
+        assertSame(aCode, bCode);
+        assertEquals(1, codeCache.size());
+        assertEquals(0, codeCache.hits());
+        assertEquals(2, codeCache.misses());
+
+        assertSame(aCode, codeCache.getIfPresent(aAddress));
+        assertEquals(1, codeCache.hits());
+        verify(entityAccess, times(2)).fetchCodeIfPresent(any());
+    }
+
+    @Test
+    void invalidatingAnAddressKeepsItsCode() {
+        final var address = Address.fromHexString("0xabc");
+        given(entityAccess.fetchCodeIfPresent(any())).willReturn(Bytes.of("abc".getBytes()));
+
+        final var code = codeCache.getIfPresent(address);
+        codeCache.invalidate(address);
+
+        assertSame(code, codeCache.getIfPresent(address));
+        assertEquals(2, codeCache.misses());
+        assertEquals(1, codeCache.size());
+    }
+
+    @Test
+    void evictsByTotalBytecodeSize() {
+        codeCache = new CodeCache(100, 4, entityAccess);
+        given(entityAccess.fetchCodeIfPresent(any()))
+                .willReturn(Bytes.of("abc".getBytes()), Bytes.of("def".getBytes()));
+
+        codeCache.getIfPresent(Address.fromHexString("0xabc"));
+        codeCache.getIfPresent(Address.fromHexString("0xdef"));
+        codeCache.getCache().cleanUp();
+
+        assertEquals(1, codeCache.size());
+        assertEquals(3, codeCache.bytesUsed());
+        assertEquals(1, codeCache.evictions());
+    }
+
+    @Test
+    void missingContractIsNotCached() {
+        final var address = Address.fromHexString("0xabc");
+
+        assertNull(codeCache.getIfPresent(address));
+
+        assertEquals(1, codeCache.misses());
+        assertEquals(0, codeCache.size());
+        assertEquals(0, codeCache.bytesUsed());
+    }
+
+    @Test
+    void usesConfiguredLimits() {
+        given(properties.prefetchCodeCacheTtlSecs()).willReturn(100);
+        given(properties.prefetchCodeCacheMaxBytes()).willReturn(1024L);
+
+        codeCache = new CodeCache(properties, entityAccess);
+
+        assertEquals(1024L, codeCache.getCache().policy().eviction().orElseThrow().getMaximum());
+    }
+
     @Test
     void bytesKeyEquals() {
         BytesKey key1 = new BytesKey("abc".getBytes());
@@ -819,6 +819,10 @@ class HederaScheduleStoreTest {
 
         subject.expire(created);
 
+        verify(byExpirationSecond, never()).put(any(), any());
+        verify(byExpirationSecond, never()).remove(any());
+        subject.flushPendingExpirations();
+
         verify(byId).remove(new EntityNumVirtualKey(fromScheduleId(created)));
 
         verify(byExpirationSecond).get(new SecondSinceEpocVirtualKey(expectedExpiry));
@@ -855,6 +859,10 @@ class HederaScheduleStoreTest {
 
         subject.expire(created);
 
+        verify(byExpirationSecond, never()).put(any(), any());
+        verify(byExpirationSecond, never()).remove(any());
+        subject.flushPendingExpirations();
+
         verify(byId).remove(new EntityNumVirtualKey(fromScheduleId(created)));
 
         verify(byExpirationSecond).get(new SecondSinceEpocVirtualKey(expectedExpiry));
@@ -907,6 +915,48 @@ class HederaScheduleStoreTest {
         verify(byEquality, never()).remove(any());
     }
 
+    @Test
+    void batchesExpirationsInSameSecondUntilFlushed() {
+        final var anotherId = IdUtils.asSchedule("0.0.333334");
+        final var createdNum = fromScheduleId(created).longValue();
+        final var anotherNum = fromScheduleId(anotherId).longValue();
+        final var anotherKey = new EntityNumVirtualKey(fromScheduleId(anotherId));
+        given(byId.containsKey(anotherKey)).willReturn(true);
+        given(byId.remove(new EntityNumVirtualKey(fromScheduleId(created)))).willReturn(schedule);
+        given(byId.remove(anotherKey)).willReturn(anotherSchedule);
+        given(anotherSchedule.calculatedExpirationTime())
+                .willReturn(new RichInstant(expectedExpiry, 1));
+        final var secondKey = new SecondSinceEpocVirtualKey(expectedExpiry);
+        final var bySecondValue =
+                new ScheduleSecondVirtualValue(
+                        new TreeMap<>(
+                                ImmutableMap.of(
+                                        new RichInstant(expectedExpiry, 0),
+                                        LongLists.immutable.of(createdNum),
+                                        new RichInstant(expectedExpiry, 1),
+                                        LongLists.immutable.of(anotherNum))));
+        given(byExpirationSecond.get(secondKey)).willReturn(bySecondValue);
+        given(byExpirationSecond.containsKey(secondKey)).willReturn(true);
+        given(schedules.getCurrentMinSecond()).willReturn(expectedExpiry);
+
+        subject.expire(created);
+        assertEquals(1, subject.getBySecond(expectedExpiry).getIds().size());
+        subject.expire(anotherId);
+
+        assertEquals(2, bySecondValue.getIds().size());
+        assertTrue(subject.getBySecond(expectedExpiry).getIds().isEmpty());
+        assertTrue(subject.advanceCurrentMinSecond(Instant.ofEpochSecond(expectedExpiry + 1)));
+        verify(byExpirationSecond, times(1)).get(secondKey);
+        verify(byExpirationSecond, never()).containsKey(secondKey);
+        verify(byExpirationSecond, never()).remove(any());
+
+        subject.flushPendingExpirations();
+        subject.flushPendingExpirations();
+
+        verify(byExpirationSecond, times(1)).remove(secondKey);
+        verify(byExpirationSecond, never()).put(any(), any());
+    }
+
     @Test
     void throwsOnExpiringMissingSchedule() {
         given(byId.containsKey(new EntityNumVirtualKey(fromScheduleId(created)))).willReturn(false);
@@ -1070,6 +1120,7 @@ class HederaScheduleStoreTest {
         given(bySecondValue.getIds()).willReturn(new TreeMap<>());
 
         var toExpire = subject.nextSchedulesToExpire(Instant.ofEpochSecond(expectedExpiry + 1));
+        subject.flushPendingExpirations();
 
         assertEquals(toExpire, ImmutableList.of());
 
@@ -1146,6 +1197,7 @@ class HederaScheduleStoreTest {
                                                                 .longValue()))));
 
         var toExpire = subject.nextSchedulesToExpire(Instant.ofEpochSecond(expectedExpiry + 1));
+        subject.flushPendingExpirations();
 
         assertEquals(toExpire, ImmutableList.of(created, badExpirationId));
 
@@ -1159,6 +1211,8 @@ class HederaScheduleStoreTest {
                         new RichInstant(expectedExpiry, 0),
                         fromScheduleId(badExpirationId).longValue());
         verify(byExpirationSecond, never()).remove(any());
+        verify(byExpirationSecond)
+                .put(new SecondSinceEpocVirtualKey(expectedExpiry), bySecondValue);
         verify(subject).advanceCurrentMinSecond(Instant.ofEpochSecond(expectedExpiry + 1));
     }
 
@@ -0,0 +1,106 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.Test;
+
+class MpscRingBufferTest {
+    @Test
+    void roundsCapacityUpToPowerOfTwo() {
+        assertEquals(1, new MpscRingBuffer<>(1).capacity());
+        assertEquals(8, new MpscRingBuffer<>(5).capacity());
+        assertEquals(8, new MpscRingBuffer<>(8).capacity());
+        assertThrows(IllegalArgumentException.class, () -> new MpscRingBuffer<>(0));
+    }
+
+    @Test
+    void refusesOffersWhenFullAndDrainsInOrder() {
+        final var subject = new MpscRingBuffer<Integer>(4);
+
+        for (int i = 0; i < 4; i++) {
+            assertTrue(subject.offer(i));
+        }
+        assertFalse(subject.offer(4));
+        assertEquals(4, subject.size());
+
+        final List<Integer> drained = new ArrayList<>();
+        assertEquals(3, subject.drainTo(drained, 3));
+        assertEquals(List.of(0, 1, 2), drained);
+        assertEquals(1, subject.size());
+
+        assertTrue(subject.offer(4));
+        assertTrue(subject.offer(5));
+        assertEquals(3, subject.drainTo(drained, 10));
+        assertEquals(List.of(0, 1, 2, 3, 4, 5), drained);
+        assertEquals(0, subject.drainTo(drained, 10));
+    }
+
+    @Test
+    void keepsEachProducersOrderUnderContention() throws InterruptedException {
+        final var producers = 4;
+        final var perProducer = 10_000;
+        final var subject = new MpscRingBuffer<long[]>(64);
+        final var pool = Executors.newFixedThreadPool(producers);
+        final var start = new CountDownLatch(1);
+        for (int p = 0; p < producers; p++) {
+            final long producer = p;
+            pool.execute(
+                    () -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        for (long i = 0; i < perProducer; i++) {
+                            final var element = new long[] {producer, i};
+                            while (!subject.offer(element)) {
+                                Thread.onSpinWait();
+                            }
+                        }
+                    });
+        }
+
+        start.countDown();
+        final var lastSeen = new long[producers];
+        Arrays.fill(lastSeen, -1);
+        final List<long[]> batch = new ArrayList<>();
+        var received = 0;
+        while (received < producers * perProducer) {
+            subject.drainTo(batch, 100);
+            for (final var element : batch) {
+                final var producer = (int) element[0];
+                assertEquals(lastSeen[producer] + 1, element[1]);
+                lastSeen[producer] = element[1];
+            }
+            received += batch.size();
+            batch.clear();
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+    }
+}
@@ -15,12 +15,25 @@
  */
 package com.hedera.services.stream;
 
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.verify;
 
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.MiscRunningAvgs;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
@@ -34,34 +47,93 @@ class NonBlockingHandoffTest {
     @Mock private ExecutorService executorService;
     @Mock private RecordStreamManager recordStreamManager;
     @Mock private NodeLocalProperties nodeLocalProperties;
+    @Mock private MiscRunningAvgs runningAvgs;
 
     private NonBlockingHandoff subject;
 
     @Test
     void handoffWorksAsExpected() {
+        final List<RecordStreamObject> received = new CopyOnWriteArrayList<>();
+        givenReceivingInto(received);
         given(nodeLocalProperties.recordStreamQueueCapacity()).willReturn(mockCap);
         // and:
-        subject = new NonBlockingHandoff(recordStreamManager, nodeLocalProperties);
+        subject = new NonBlockingHandoff(recordStreamManager, nodeLocalProperties, runningAvgs);
 
         // when:
         assertTrue(subject.offer(rso));
 
-        // and:
+        // then:
+        await().atMost(5, TimeUnit.SECONDS).until(() -> received.size() == 1);
+        assertEquals(rso, received.get(0));
+        verify(runningAvgs).handoffBatchSizeRecordStream(1);
+
         subject.getExecutor().shutdownNow();
+    }
 
-        // then:
-        try {
-            verify(recordStreamManager).addRecordStreamObject(rso);
-        } catch (NullPointerException ignore) {
-            /* In CI apparently Mockito can have problems here? */
+    @Test
+    void idleConsumerParksUntilRecordIsOffered() {
+        final List<RecordStreamObject> received = new CopyOnWriteArrayList<>();
+        givenReceivingInto(received);
+        given(nodeLocalProperties.recordStreamQueueCapacity()).willReturn(mockCap);
+        subject = new NonBlockingHandoff(recordStreamManager, nodeLocalProperties, runningAvgs);
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> subject.getConsumerParked().get());
+        assertTrue(subject.offer(rso));
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> received.size() == 1);
+        assertEquals(rso, received.get(0));
+
+        subject.getShutdownHook().run();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> subject.getExecutor().isTerminated());
+    }
+
+    @Test
+    void handsOffInBatchesPreservingOrder() {
+        final List<RecordStreamObject> received = new CopyOnWriteArrayList<>();
+        givenReceivingInto(received);
+        given(nodeLocalProperties.recordStreamQueueCapacity()).willReturn(mockCap);
+        subject = new NonBlockingHandoff(recordStreamManager, nodeLocalProperties, runningAvgs);
+        final var n = 3 * NonBlockingHandoff.MAX_BATCH_SIZE;
+        final var sent = new RecordStreamObject[n];
+
+        for (int i = 0; i < n; i++) {
+            sent[i] = new RecordStreamObject();
+            subject.put(sent[i]);
+        }
+
+        await().atMost(5, TimeUnit.SECONDS).until(() -> received.size() == n);
+        for (int i = 0; i < n; i++) {
+            assertTrue(sent[i] == received.get(i));
         }
+        verify(runningAvgs, atLeastOnce()).handoffQueueSizeRecordStream(anyInt());
+
+        subject.getExecutor().shutdownNow();
+    }
+
+    @Test
+    void putRecordsStallWhenBufferIsFull() {
+        given(nodeLocalProperties.recordStreamQueueCapacity()).willReturn(mockCap);
+        subject = new NonBlockingHandoff(recordStreamManager, nodeLocalProperties, runningAvgs);
+        subject.getExecutor().shutdownNow();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> subject.getExecutor().isTerminated());
+        while (subject.offer(new RecordStreamObject())) {
+            // Fill the buffer now that nothing is draining it
+        }
+        final var drainer = Executors.newSingleThreadScheduledExecutor();
+        final var buffer = new ArrayList<RecordStreamObject>();
+
+        drainer.schedule(() -> subject.getBuffer().drainTo(buffer, 1), 50, TimeUnit.MILLISECONDS);
+        subject.put(rso);
+
+        verify(runningAvgs).handoffStallMsRecordStream(anyDouble());
+        drainer.shutdownNow();
     }
 
     @Test
     void shutdownHookWorksAsExpected() {
         given(nodeLocalProperties.recordStreamQueueCapacity()).willReturn(mockCap);
         // and:
-        subject = new NonBlockingHandoff(recordStreamManager, nodeLocalProperties);
+        subject = new NonBlockingHandoff(recordStreamManager, nodeLocalProperties, runningAvgs);
         // and:
         subject.setExecutor(executorService);
 
@@ -73,4 +145,15 @@ class NonBlockingHandoffTest {
         // and:
         verify(executorService).shutdown();
     }
+
+    @SuppressWarnings("unchecked")
+    private void givenReceivingInto(final List<RecordStreamObject> received) {
+        doAnswer(
+                        invocation -> {
+                            received.addAll(invocation.getArgument(0, List.class));
+                            return null;
+                        })
+                .when(recordStreamManager)
+                .addRecordStreamObjects(any());
+    }
 }
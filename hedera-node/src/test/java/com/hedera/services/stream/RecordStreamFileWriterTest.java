@@ -25,10 +25,13 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 import com.google.protobuf.ByteString;
@@ -37,6 +40,7 @@ import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.recordstreaming.RecordStreamingUtils;
 import com.hedera.services.state.submerkle.ExpirableTxnRecord;
 import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.stats.MiscRunningAvgs;
 import com.hedera.services.stream.proto.ContractAction;
 import com.hedera.services.stream.proto.ContractActions;
 import com.hedera.services.stream.proto.ContractBytecode;
@@ -79,6 +83,8 @@ import java.util.Collections;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.hamcrest.Matchers;
@@ -109,7 +115,9 @@ class RecordStreamFileWriterTest {
                         streamType,
                         expectedExportDir(),
                         maxSidecarFileSize,
-                        globalDynamicProperties);
+                        globalDynamicProperties,
+                        runningAvgs,
+                        Runnable::run);
         messageDigest = MessageDigest.getInstance(DigestType.SHA_384.algorithmName());
         messageDigest.digest("yumyum".getBytes(StandardCharsets.UTF_8));
         final var startRunningHash = new Hash(messageDigest.digest());
@@ -748,6 +756,63 @@ class RecordStreamFileWriterTest {
         }
     }
 
+    @Test
+    void closedBlockIsFinalizedOffThreadWhileNextBlockIsAccepted()
+            throws NoSuchAlgorithmException {
+        // given
+        final List<Runnable> pendingFinalizations = new ArrayList<>();
+        subject =
+                new RecordStreamFileWriter(
+                        expectedExportDir(),
+                        logPeriodMs,
+                        signer,
+                        false,
+                        streamType,
+                        expectedExportDir(),
+                        maxSidecarFileSize,
+                        globalDynamicProperties,
+                        runningAvgs,
+                        pendingFinalizations::add);
+        subject.setRunningHash(new Hash(messageDigest.digest()));
+        given(streamType.getFileHeader()).willReturn(FILE_HEADER_VALUES);
+        given(streamType.getSigFileHeader()).willReturn(SIG_FILE_HEADER_VALUES);
+        given(streamType.getExtension()).willReturn(RecordStreamType.RECORD_EXTENSION);
+        given(streamType.getSidecarExtension())
+                .willReturn(RecordStreamType.SIDECAR_RECORD_EXTENSION);
+        given(signer.sign(any())).willReturn("signature".getBytes(StandardCharsets.UTF_8));
+        final var firstTransactionInstant =
+                LocalDateTime.of(2022, 6, 2, 10, 2, 55).toInstant(ZoneOffset.UTC);
+        final var recordFile = new File(subject.generateRecordFilePath(firstTransactionInstant));
+        final var sigFile = new File(recordFile.getPath() + "_sig");
+
+        // when
+        generateNRecordStreamObjectsForBlockMStartingFromT(
+                        2, 1, firstTransactionInstant, allSidecarTypes)
+                .forEach(subject::addObject);
+        generateNRecordStreamObjectsForBlockMStartingFromT(
+                        3,
+                        2,
+                        firstTransactionInstant.plusSeconds(logPeriodMs / 1000),
+                        allSidecarTypes)
+                .forEach(subject::addObject);
+
+        // then
+        assertEquals(1, pendingFinalizations.size());
+        assertFalse(recordFile.exists());
+        assertFalse(sigFile.exists());
+
+        // and when
+        pendingFinalizations.forEach(Runnable::run);
+
+        // then
+        assertTrue(recordFile.exists());
+        assertTrue(sigFile.exists());
+        verify(runningAvgs, times(2)).serializeMsRecordStream(anyDouble());
+        verify(runningAvgs, times(2)).compressMsRecordStream(anyDouble());
+        verify(runningAvgs, times(2)).fsyncMsRecordStream(anyDouble());
+        verify(runningAvgs).signMsRecordStream(anyDouble());
+    }
+
     @Test
     void clearCalledInMiddleOfWritingRecordFileSucceeds() {
         // given
@@ -824,6 +889,75 @@ class RecordStreamFileWriterTest {
                                         + " stopped")));
     }
 
+    @Test
+    void defaultFinalizerRunsOnANamedDaemonThread() throws Exception {
+        final var finalizer = RecordStreamFileWriter.newFinalizer();
+
+        final var thread = finalizer.submit(Thread::currentThread).get();
+
+        assertTrue(thread.isDaemon());
+        assertEquals("record-stream-finalizer", thread.getName());
+        finalizer.shutdown();
+    }
+
+    @Test
+    void closeLetsPendingFinalizationFinishThenStopsTheFinalizer()
+            throws NoSuchAlgorithmException {
+        final var finalizer = RecordStreamFileWriter.newFinalizer();
+        subject =
+                new RecordStreamFileWriter(
+                        expectedExportDir(),
+                        logPeriodMs,
+                        signer,
+                        false,
+                        streamType,
+                        expectedExportDir(),
+                        maxSidecarFileSize,
+                        globalDynamicProperties,
+                        runningAvgs,
+                        finalizer);
+        final var finished = new AtomicBoolean();
+        finalizer.execute(
+                () -> {
+                    try {
+                        Thread.sleep(100);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                    finished.set(true);
+                });
+
+        subject.close();
+
+        assertTrue(finished.get());
+        assertTrue(finalizer.isTerminated());
+    }
+
+    @Test
+    void closeWarnsIfFinalizerDoesNotStopInTime() throws Exception {
+        final var finalizer = mock(ExecutorService.class);
+        given(finalizer.awaitTermination(anyLong(), any())).willReturn(false);
+        subject =
+                new RecordStreamFileWriter(
+                        expectedExportDir(),
+                        logPeriodMs,
+                        signer,
+                        false,
+                        streamType,
+                        expectedExportDir(),
+                        maxSidecarFileSize,
+                        globalDynamicProperties,
+                        runningAvgs,
+                        finalizer);
+
+        subject.close();
+
+        verify(finalizer).shutdown();
+        assertThat(
+                logCaptor.warnLogs(),
+                contains(Matchers.startsWith("Stream files were still being finalized after")));
+    }
+
     @Test
     void writingBlockNumberToMetadataIOEExceptionIsCaughtAndLoggedProperlyAndThreadInterrupted() {
         // given
@@ -1246,6 +1380,7 @@ class RecordStreamFileWriterTest {
     @Mock private RecordStreamType streamType;
     @Mock private Signer signer;
     @Mock private GlobalDynamicProperties globalDynamicProperties;
+    @Mock private MiscRunningAvgs runningAvgs;
     @LoggingTarget private LogCaptor logCaptor;
     @LoggingSubject private RecordStreamFileWriter subject;
 
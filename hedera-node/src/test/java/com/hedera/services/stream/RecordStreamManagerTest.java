@@ -26,6 +26,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
@@ -47,6 +48,7 @@ import com.swirlds.common.stream.QueueThreadObjectStream;
 import com.swirlds.common.system.NodeId;
 import com.swirlds.common.system.Platform;
 import java.io.File;
+import java.util.List;
 import java.util.Queue;
 import org.apache.commons.lang3.RandomUtils;
 import org.hamcrest.Matchers;
@@ -248,6 +250,25 @@ public class RecordStreamManagerTest {
         verify(runningAvgsMock, times(2)).writeQueueSizeRecordStream(recordsNum);
     }
 
+    @Test
+    void addRecordStreamObjectsSamplesQueueSizesOncePerBatch() {
+        final MiscRunningAvgs runningAvgsMock = mock(MiscRunningAvgs.class);
+        final var mockQueue = mock(Queue.class);
+        given(writeQueueThreadMock.getQueue()).willReturn(mockQueue);
+        given(mockQueue.size()).willReturn(2);
+        recordStreamManager =
+                new RecordStreamManager(multiStreamMock, writeQueueThreadMock, runningAvgsMock);
+        final var first = mock(RecordStreamObject.class);
+        final var second = mock(RecordStreamObject.class);
+
+        recordStreamManager.addRecordStreamObjects(List.of(first, second));
+
+        final var inOrder = inOrder(multiStreamMock);
+        inOrder.verify(multiStreamMock).addObject(first);
+        inOrder.verify(multiStreamMock).addObject(second);
+        verify(runningAvgsMock).writeQueueSizeRecordStream(2);
+    }
+
     @ParameterizedTest
     @ValueSource(booleans = {true, false})
     void setStartWriteAtCompleteWindowTest(boolean startWriteAtCompleteWindow) {
@@ -15,21 +15,46 @@
  */
 package com.hedera.services.throttling;
 
+import static com.hederahashgraph.api.proto.java.HederaFunctionality.ConsensusSubmitMessage;
 import static com.hederahashgraph.api.proto.java.HederaFunctionality.ContractCallLocal;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
+import com.hedera.services.config.MockGlobalDynamicProps;
+import com.hedera.services.ledger.accounts.AliasManager;
+import com.hedera.services.store.schedule.ScheduleStore;
+import com.hedera.services.sysfiles.domain.throttling.ThrottleBucket;
 import com.hedera.services.sysfiles.domain.throttling.ThrottleDefinitions;
+import com.hedera.services.sysfiles.domain.throttling.ThrottleGroup;
 import com.hedera.services.throttles.GasLimitDeterministicThrottle;
+import com.hedera.services.throttling.DeterministicThrottling.DeterministicThrottlingMode;
 import com.hedera.services.utils.accessors.SignedTxnAccessor;
+import com.hederahashgraph.api.proto.java.AccountID;
+import com.hederahashgraph.api.proto.java.ConsensusSubmitMessageTransactionBody;
+import com.hederahashgraph.api.proto.java.HederaFunctionality;
 import com.hederahashgraph.api.proto.java.Query;
+import com.hederahashgraph.api.proto.java.SignedTransaction;
 import com.hederahashgraph.api.proto.java.Transaction;
+import com.hederahashgraph.api.proto.java.TransactionBody;
+import com.hederahashgraph.api.proto.java.TransactionID;
+import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongFunction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -149,4 +174,207 @@ class HapiThrottlingTest {
         subject.applyGasConfig();
         verify(delegate).applyGasConfig();
     }
+
+    @Test
+    void rejectsNonPositiveStripeCount() {
+        assertThrows(
+                IllegalArgumentException.class,
+                () -> new HapiThrottling(0, () -> 1, (split, gas) -> delegate));
+    }
+
+    @Test
+    void spillsOverToOtherStripesOnlyWhenFirstStripeThrottles() {
+        final var stripes = new ArrayList<TimedFunctionalityThrottling>();
+        subject = stripedWithMocks(2, stripes);
+        subject.rebuildFor(new ThrottleDefinitions());
+        final var accessor = SignedTxnAccessor.uncheckedFrom(Transaction.getDefaultInstance());
+        given(stripes.get(0).shouldThrottleTxn(eq(accessor), any())).willReturn(true);
+        given(stripes.get(1).shouldThrottleTxn(eq(accessor), any())).willReturn(true);
+
+        assertTrue(subject.shouldThrottleTxn(accessor));
+
+        /* Whether the first stripe is asked depends on which stripe is this thread's home */
+        lenient()
+                .when(stripes.get(0).shouldThrottleQuery(eq(ContractCallLocal), any(), any()))
+                .thenReturn(true);
+        given(stripes.get(1).shouldThrottleQuery(eq(ContractCallLocal), any(), any()))
+                .willReturn(false);
+
+        assertFalse(subject.shouldThrottleQuery(ContractCallLocal, query));
+        assertEquals(2, subject.activeStripes());
+    }
+
+    @Test
+    void usesOnlyAsManyStripesAsEveryBucketCanSatisfy() {
+        final var stripes = new ArrayList<TimedFunctionalityThrottling>();
+        subject = stripedWithMocks(4, stripes);
+        final var defs = defsAllowing(ConsensusSubmitMessage, 2_000L);
+
+        subject.rebuildFor(defs);
+
+        assertEquals(2, subject.activeStripes());
+        verify(stripes.get(0)).rebuildFor(defs);
+        verify(stripes.get(1)).rebuildFor(defs);
+        verify(stripes.get(2), never()).rebuildFor(defs);
+        verify(stripes.get(3), never()).rebuildFor(defs);
+    }
+
+    @Test
+    void ignoresBucketsUnusableEvenWithoutStripes() {
+        final var stripes = new ArrayList<TimedFunctionalityThrottling>();
+        subject = stripedWithMocks(2, stripes);
+        final var defs = defsAllowing(ConsensusSubmitMessage, 10_000L);
+        defs.getBuckets().add(new ThrottleBucket<>(1_000L, "Empty", List.of()));
+
+        subject.rebuildFor(defs);
+
+        assertEquals(2, subject.activeStripes());
+    }
+
+    @Test
+    void resetsAndConfiguresGasForEveryStripe() {
+        final var stripes = new ArrayList<TimedFunctionalityThrottling>();
+        subject = stripedWithMocks(2, stripes);
+        final var accessor = SignedTxnAccessor.uncheckedFrom(Transaction.getDefaultInstance());
+
+        subject.resetUsage();
+        subject.applyGasConfig();
+        subject.leakUnusedGasPreviouslyReserved(accessor, 123L);
+
+        for (final var stripe : stripes) {
+            verify(stripe).resetUsage();
+            verify(stripe).applyGasConfig();
+        }
+        verify(stripes.get(0)).leakUnusedGasPreviouslyReserved(accessor, 123L);
+    }
+
+    @Test
+    void stripesShareOneGasThrottleUntilCapacityChanges() {
+        final List<LongFunction<GasLimitDeterministicThrottle>> gasFactories = new ArrayList<>();
+        subject =
+                new HapiThrottling(
+                        2,
+                        () -> 1,
+                        (split, gasFactory) -> {
+                            gasFactories.add(gasFactory);
+                            return mock(TimedFunctionalityThrottling.class);
+                        });
+        final var now = Instant.ofEpochSecond(1_234_567L);
+
+        final var first = gasFactories.get(0).apply(100L);
+        final var second = gasFactories.get(1).apply(100L);
+        assertTrue(first.allow(now, 60L));
+        assertTrue(second.allow(now, 40L));
+        assertFalse(second.allow(now, 1L));
+        assertEquals(100L, first.getUsed());
+
+        final var resized = gasFactories.get(0).apply(200L);
+        assertEquals(0L, resized.getUsed());
+        assertNotSame(first, resized);
+    }
+
+    @Test
+    void stripedThrottlesAllowExactlyTheUnsplitCapacityToOneThread() {
+        subject = stripedWithRealThrottles(4, defsAllowing(ConsensusSubmitMessage, 12_000L));
+        final var accessor = submitMessageAccessor();
+
+        for (int i = 0; i < 12; i++) {
+            assertFalse(subject.shouldThrottleTxn(accessor));
+        }
+        assertTrue(subject.shouldThrottleTxn(accessor));
+    }
+
+    @Test
+    void stripedThrottlesNeverAllowMoreThanUnsplitCapacityToManyThreads()
+            throws InterruptedException {
+        subject = stripedWithRealThrottles(4, defsAllowing(ConsensusSubmitMessage, 100_000L));
+        final var accessor = submitMessageAccessor();
+        final var numThreads = 8;
+        final var allowed = new AtomicInteger();
+        final var start = new CountDownLatch(1);
+        final var pool = Executors.newFixedThreadPool(numThreads);
+        for (int t = 0; t < numThreads; t++) {
+            pool.execute(
+                    () -> {
+                        try {
+                            start.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                            return;
+                        }
+                        for (int i = 0; i < 50; i++) {
+                            if (!subject.shouldThrottleTxn(accessor)) {
+                                allowed.incrementAndGet();
+                            }
+                        }
+                    });
+        }
+
+        start.countDown();
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(5, TimeUnit.SECONDS));
+        /* Burst capacity is 100 txns, plus whatever leaked back while the threads ran */
+        assertTrue(allowed.get() >= 100);
+        assertTrue(allowed.get() < 200);
+    }
+
+    private HapiThrottling stripedWithMocks(
+            final int n, final List<TimedFunctionalityThrottling> stripes) {
+        return new HapiThrottling(
+                n,
+                () -> 1,
+                (split, gasFactory) -> {
+                    final var stripe = mock(TimedFunctionalityThrottling.class);
+                    stripes.add(stripe);
+                    return stripe;
+                });
+    }
+
+    private HapiThrottling stripedWithRealThrottles(final int n, final ThrottleDefinitions defs) {
+        final var throttling =
+                new HapiThrottling(
+                        n,
+                        () -> 1,
+                        (split, gasFactory) ->
+                                new DeterministicThrottling(
+                                        split,
+                                        mock(AliasManager.class),
+                                        new MockGlobalDynamicProps(),
+                                        DeterministicThrottlingMode.HAPI,
+                                        mock(ScheduleStore.class),
+                                        gasFactory));
+        throttling.rebuildFor(defs);
+        throttling.applyGasConfig();
+        return throttling;
+    }
+
+    private static ThrottleDefinitions defsAllowing(
+            final HederaFunctionality function, final long milliOpsPerSec) {
+        final var defs = new ThrottleDefinitions();
+        defs.getBuckets()
+                .add(
+                        new ThrottleBucket<>(
+                                1_000L,
+                                "A",
+                                List.of(new ThrottleGroup<>(milliOpsPerSec, List.of(function)))));
+        return defs;
+    }
+
+    private static SignedTxnAccessor submitMessageAccessor() {
+        final var body =
+                TransactionBody.newBuilder()
+                        .setTransactionID(
+                                TransactionID.newBuilder()
+                                        .setAccountID(
+                                                AccountID.newBuilder().setAccountNum(1_234L)))
+                        .setConsensusSubmitMessage(
+                                ConsensusSubmitMessageTransactionBody.getDefaultInstance())
+                        .build();
+        final var signedTxn =
+                SignedTransaction.newBuilder().setBodyBytes(body.toByteString()).build();
+        return SignedTxnAccessor.uncheckedFrom(
+                Transaction.newBuilder()
+                        .setSignedTransactionBytes(signedTxn.toByteString())
+                        .build());
+    }
 }
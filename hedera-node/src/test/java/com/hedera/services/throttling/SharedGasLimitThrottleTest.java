@@ -0,0 +1,88 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.throttling;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.hedera.services.throttles.DeterministicThrottle;
+import java.time.Instant;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+class SharedGasLimitThrottleTest {
+    private static final Instant now = Instant.ofEpochSecond(1_234_567L, 890);
+
+    private SharedGasLimitThrottle.Pool pool;
+    private SharedGasLimitThrottle aView;
+    private SharedGasLimitThrottle bView;
+
+    @BeforeEach
+    void setUp() {
+        pool = new SharedGasLimitThrottle.Pool(1_000L);
+        aView = new SharedGasLimitThrottle(pool);
+        bView = new SharedGasLimitThrottle(pool);
+    }
+
+    @Test
+    void viewsReserveFromTheSameCapacity() {
+        assertEquals(1_000L, aView.getCapacity());
+        assertTrue(aView.allow(now, 600L));
+        assertFalse(bView.allow(now, 401L));
+        assertTrue(bView.allow(now, 400L));
+
+        assertEquals(1_000L, aView.getUsed());
+        assertEquals(100.0, bView.percentUsed(now));
+    }
+
+    @Test
+    void reclaimsOnlyThisViewsReservation() {
+        aView.resetLastAllowedUse();
+        assertTrue(aView.allow(now, 300L));
+        assertTrue(aView.allow(now, 200L));
+        bView.resetLastAllowedUse();
+        assertTrue(bView.allow(now, 100L));
+
+        aView.reclaimLastAllowedUse();
+        assertEquals(100L, bView.getUsed());
+
+        aView.reclaimLastAllowedUse();
+        assertEquals(100L, bView.getUsed());
+    }
+
+    @Test
+    void neverMovesSharedTimelineBackwards() {
+        assertTrue(aView.allow(now, 1_000L));
+
+        assertFalse(bView.allow(now.minusNanos(1), 1L));
+        assertEquals(now, aView.usageSnapshot().lastDecisionTime());
+    }
+
+    @Test
+    void leaksResetsAndRestoresSharedUsage() {
+        assertTrue(aView.allow(now, 500L));
+        bView.leakUnusedGasPreviouslyReserved(200L);
+        assertEquals(300L, aView.getUsed());
+
+        aView.resetUsageTo(new DeterministicThrottle.UsageSnapshot(700L, now));
+        assertEquals(700L, bView.getUsed());
+        assertEquals(now, bView.usageSnapshot().lastDecisionTime());
+
+        bView.resetUsage();
+        assertEquals(0L, aView.getUsed());
+    }
+}
@@ -16,10 +16,13 @@
 package com.hedera.services.throttling;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.BDDMockito.given;
 
 import com.hedera.services.config.MockGlobalDynamicProps;
 import com.hedera.services.context.TransactionContext;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.context.properties.NodeLocalProperties;
 import com.hedera.services.ledger.accounts.AliasManager;
 import com.hedera.services.store.schedule.ScheduleStore;
 import com.swirlds.common.system.address.AddressBook;
@@ -37,12 +40,17 @@ class ThrottlingModuleTest {
     @Mock private AliasManager aliasManager;
     @Mock private TransactionContext txnCtx;
     @Mock private ScheduleStore scheduleStore;
+    @Mock private NodeLocalProperties nodeLocalProperties;
 
     @Test
     void constructsHapiAndHandleThrottlesAsExpected() {
         final var hapiThrottle =
                 ThrottlingModule.provideHapiThrottling(
-                        aliasManager, () -> addressBook, dynamicProperties, scheduleStore);
+                        aliasManager,
+                        () -> addressBook,
+                        dynamicProperties,
+                        nodeLocalProperties,
+                        scheduleStore);
         final var handleThrottle =
                 ThrottlingModule.provideHandleThrottling(
                         aliasManager, txnCtx, dynamicProperties, scheduleStore);
@@ -58,4 +66,21 @@ class ThrottlingModuleTest {
         assertThat(scheduleThrottling, Matchers.instanceOf(DeterministicThrottling.class));
         assertThat(scheduleThrottling, Matchers.equalTo(timedScheduleThrottling));
     }
+
+    @Test
+    void constructsStripedHapiThrottlesWhenConfigured() {
+        given(nodeLocalProperties.hapiThrottlingStripes()).willReturn(4);
+
+        final var hapiThrottle =
+                ThrottlingModule.provideHapiThrottling(
+                        aliasManager,
+                        () -> addressBook,
+                        dynamicProperties,
+                        nodeLocalProperties,
+                        scheduleStore);
+
+        assertThat(hapiThrottle, Matchers.instanceOf(HapiThrottling.class));
+        assertThat(hapiThrottle.allActiveThrottles(), Matchers.empty());
+        assertEquals(1, ((HapiThrottling) hapiThrottle).activeStripes());
+    }
 }
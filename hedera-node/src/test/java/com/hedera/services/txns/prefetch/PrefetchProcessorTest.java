@@ -15,21 +15,26 @@
  */
 package com.hedera.services.txns.prefetch;
 
+import static com.hedera.services.txns.prefetch.PrefetchProcessor.BACKLOG_PER_THREAD;
 import static com.hedera.services.txns.prefetch.PrefetchProcessor.MINIMUM_QUEUE_CAPACITY;
 import static com.hedera.services.txns.prefetch.PrefetchProcessor.MINIMUM_THREAD_POOL_SIZE;
 import static org.awaitility.Awaitility.await;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.BDDMockito.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import com.hedera.services.context.properties.NodeLocalProperties;
+import com.hedera.services.stats.PrefetchStats;
 import com.hedera.services.txns.PreFetchableTransition;
 import com.hedera.services.txns.TransitionLogic;
 import com.hedera.services.txns.TransitionLogicLookup;
 import com.hedera.services.utils.accessors.PlatformTxnAccessor;
+import com.swirlds.common.system.transaction.Transaction;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -55,6 +60,8 @@ class PrefetchProcessorTest {
     @Mock TransitionLogicLookup lookup;
     @Mock PlatformTxnAccessor accessor;
     @Mock PreFetchableTransition logic;
+    @Mock PrefetchStats stats;
+    @Mock Transaction platformTxn;
 
     PrefetchProcessor processor;
     List<Runnable> executed = new ArrayList<>();
@@ -71,10 +78,11 @@ class PrefetchProcessorTest {
         given(properties.prefetchThreadPoolSize()).willReturn(MINIMUM_THREAD_POOL_SIZE + 1);
 
         processor =
-                new PrefetchProcessor(properties, lookup) {
+                new PrefetchProcessor(properties, lookup, stats) {
                     @Override
                     ExecutorService createExecutorService(
                             int threadPoolSize, BlockingQueue<Runnable> queue) {
+                        assertTrue(queue instanceof ArrayBlockingQueue);
                         assertEquals(MINIMUM_QUEUE_CAPACITY + 1, queue.remainingCapacity());
                         assertEquals(MINIMUM_THREAD_POOL_SIZE + 1, threadPoolSize);
 
@@ -90,7 +98,7 @@ class PrefetchProcessorTest {
         given(properties.prefetchThreadPoolSize()).willReturn(1);
 
         processor =
-                new PrefetchProcessor(properties, lookup) {
+                new PrefetchProcessor(properties, lookup, stats) {
                     @Override
                     ExecutorService createExecutorService(
                             int threadPoolSize, BlockingQueue<Runnable> queue) {
@@ -109,7 +117,7 @@ class PrefetchProcessorTest {
 
         final AtomicReference<BlockingQueue<Runnable>> queueRef = new AtomicReference<>();
         processor =
-                new PrefetchProcessor(properties, lookup) {
+                new PrefetchProcessor(properties, lookup, stats) {
                     @Override
                     ExecutorService createExecutorService(
                             int threadPoolSize, BlockingQueue<Runnable> queue) {
@@ -203,4 +211,63 @@ class PrefetchProcessorTest {
 
         verify(logic).preFetch(accessor);
     }
+
+    @Test
+    void countsHitWhenFinishedBeforeHandle() {
+        given(lookup.lookupFor(any(), any())).willReturn(Optional.of(logic));
+        given(accessor.getPlatformTxn()).willReturn(platformTxn);
+        given(platformTxn.getMetadata()).willReturn(accessor);
+
+        setupSubmit();
+        processor.submit(accessor);
+
+        await().until(() -> executed.size() == 1);
+
+        verify(logic).preFetch(accessor);
+        await().untilAsserted(() -> verify(stats).countHit());
+        verify(stats).recordQueueDepth(0);
+    }
+
+    @Test
+    void skipsTaskWhoseTxnWasAlreadyHandled() {
+        given(lookup.lookupFor(any(), any())).willReturn(Optional.of(logic));
+        given(accessor.getPlatformTxn()).willReturn(platformTxn);
+        given(platformTxn.getMetadata()).willReturn(null);
+
+        setupSubmit();
+        processor.submit(accessor);
+
+        await().until(() -> executed.size() == 1);
+
+        await().untilAsserted(() -> verify(stats).countMiss());
+        verify(logic, never()).preFetch(accessor);
+    }
+
+    @Test
+    void defaultExecutorCountsDrops() {
+        given(properties.prefetchQueueCapacity()).willReturn(MINIMUM_QUEUE_CAPACITY);
+        given(properties.prefetchThreadPoolSize()).willReturn(MINIMUM_THREAD_POOL_SIZE);
+
+        processor = new PrefetchProcessor(properties, lookup, stats);
+        final var pool = (ThreadPoolExecutor) processor.executorService;
+
+        pool.getRejectedExecutionHandler().rejectedExecution(() -> {}, pool);
+        pool.getRejectedExecutionHandler().rejectedExecution(() -> {}, pool);
+
+        verify(stats, Mockito.times(2)).countDrop();
+    }
+
+    @Test
+    void poolGrowsWithBacklogUpToMax() {
+        final var max = MINIMUM_THREAD_POOL_SIZE + 3;
+
+        assertEquals(MINIMUM_THREAD_POOL_SIZE, PrefetchProcessor.targetPoolSize(0, max));
+        assertEquals(
+                MINIMUM_THREAD_POOL_SIZE,
+                PrefetchProcessor.targetPoolSize(BACKLOG_PER_THREAD - 1, max));
+        assertEquals(
+                MINIMUM_THREAD_POOL_SIZE + 1,
+                PrefetchProcessor.targetPoolSize(BACKLOG_PER_THREAD, max));
+        assertEquals(max, PrefetchProcessor.targetPoolSize(100 * BACKLOG_PER_THREAD, max));
+    }
 }
@@ -18,6 +18,7 @@ package com.hedera.services.txns.schedule;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.SCHEDULE_ALREADY_EXECUTED;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
@@ -105,6 +106,20 @@ class ScheduleExecutorTest {
         Assertions.assertEquals(accessor, result.getRight());
     }
 
+    @Test
+    void returnsPreparedAccessorAfterPreMarkingExecuted() throws InvalidProtocolBufferException {
+        given(store.preMarkAsExecuted(id)).willReturn(OK);
+
+        // when:
+        var result = subject.getTriggeredTxnAccessor(id, store, false, accessor);
+
+        // then:
+        Assertions.assertEquals(OK, result.getLeft());
+        Assertions.assertSame(accessor, result.getRight());
+        verify(store, never()).get(id);
+        verify(factory, never()).triggeredTxn(any(), any(), any(), anyBoolean(), anyBoolean());
+    }
+
     @Test
     void nullArgumentsThrow() {
         Assertions.assertThrows(
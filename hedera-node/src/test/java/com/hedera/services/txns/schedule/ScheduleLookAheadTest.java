@@ -0,0 +1,337 @@
+/*
+ * Copyright (C) 2022 Hedera Hashgraph, LLC
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.hedera.services.txns.schedule;
+
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.CHANGED;
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.UNCHANGED;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import com.hedera.services.ServicesState;
+import com.hedera.services.config.MockFileNumbers;
+import com.hedera.services.context.properties.GlobalDynamicProperties;
+import com.hedera.services.ledger.SigImpactHistorian;
+import com.hedera.services.sigs.order.LinkedRefs;
+import com.hedera.services.sigs.order.SigRequirements;
+import com.hedera.services.sigs.order.SignatureWaivers;
+import com.hedera.services.state.merkle.MerkleScheduledTransactions;
+import com.hedera.services.state.migration.StateVersions;
+import com.hedera.services.state.submerkle.RichInstant;
+import com.hedera.services.state.virtual.EntityNumVirtualKey;
+import com.hedera.services.state.virtual.schedule.ScheduleSecondVirtualValue;
+import com.hedera.services.state.virtual.schedule.ScheduleVirtualValue;
+import com.hedera.services.state.virtual.temporal.SecondSinceEpocVirtualKey;
+import com.hedera.services.utils.EntityNum;
+import com.hedera.services.utils.accessors.TxnAccessor;
+import com.swirlds.merkle.map.MerkleMap;
+import java.time.Instant;
+import java.util.List;
+import java.util.TreeMap;
+import org.eclipse.collections.api.list.primitive.ImmutableLongList;
+import org.eclipse.collections.impl.factory.primitive.LongLists;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduleLookAheadTest {
+    private static final int LOOK_AHEAD_SECS = 5;
+    private static final int MAX_PREPARED_PER_CALL = 100;
+    private static final long minSecond = 1_234_567L;
+    private static final long aNum = 1001L;
+    private static final long bNum = 1002L;
+    private static final Instant signedAt = Instant.ofEpochSecond(minSecond - 1);
+    private static final Instant nextSignedAt = signedAt.plusNanos(1);
+
+    @Mock private ServicesState sourceState;
+    @Mock private MerkleScheduledTransactions schedules;
+    @Mock private MerkleMap<EntityNumVirtualKey, ScheduleVirtualValue> byId;
+    @Mock private MerkleMap<SecondSinceEpocVirtualKey, ScheduleSecondVirtualValue> bySecond;
+    @Mock private ScheduleSecondVirtualValue minSecondIds;
+    @Mock private ScheduleVirtualValue aSchedule;
+    @Mock private ScheduleVirtualValue bSchedule;
+    @Mock private TxnAccessor aAccessor;
+    @Mock private ScheduleExecutor scheduleExecutor;
+    @Mock private SignatureWaivers signatureWaivers;
+    @Mock private ScheduleSigsVerifier scheduleSigsVerifier;
+    @Mock private SigRequirements sigReqs;
+    @Mock private SigImpactHistorian historian;
+    @Mock private GlobalDynamicProperties dynamicProperties;
+
+    private ScheduleLookAhead subject;
+
+    @BeforeEach
+    void setUp() {
+        subject =
+                new ScheduleLookAhead(
+                        new MockFileNumbers(),
+                        scheduleExecutor,
+                        signatureWaivers,
+                        scheduleSigsVerifier,
+                        dynamicProperties);
+        subject.setSourceSigReqs(sigReqs);
+    }
+
+    @Test
+    void doesNothingWithUnusableState() {
+        given(dynamicProperties.schedulingLongTermEnabled()).willReturn(true);
+        given(dynamicProperties.schedulingMaxPreparedPerLookAhead())
+                .willReturn(MAX_PREPARED_PER_CALL);
+
+        subject.prepareFrom(null);
+        subject.prepareFrom(sourceState);
+
+        verify(sourceState, never()).scheduleTxs();
+        assertTrue(subject.getPrepared().isEmpty());
+    }
+
+    @Test
+    void doesNothingIfLongTermSchedulingIsDisabled() {
+        subject.prepareFrom(sourceState);
+
+        verifyNoInteractions(sourceState);
+        assertTrue(subject.getPrepared().isEmpty());
+    }
+
+    @Test
+    void doesNothingIfNoSchedulesMayBePrepared() {
+        given(dynamicProperties.schedulingLongTermEnabled()).willReturn(true);
+
+        subject.prepareFrom(sourceState);
+
+        verifyNoInteractions(sourceState);
+        assertTrue(subject.getPrepared().isEmpty());
+    }
+
+    @Test
+    void preparesFullySignedAndUnsignedSchedulesInMinSecond() throws Exception {
+        givenUsableState();
+        givenMinSecondWith(aNum, bNum);
+        given(byId.get(new EntityNumVirtualKey(aNum))).willReturn(aSchedule);
+        given(byId.get(new EntityNumVirtualKey(bNum))).willReturn(bSchedule);
+        given(aSchedule.signatories()).willReturn(List.of(new byte[] {1}));
+        given(bSchedule.signatories()).willReturn(List.of());
+        given(scheduleSigsVerifier.areAllKeysActive(any(), any(), any()))
+                .willReturn(true, false);
+        given(
+                        scheduleExecutor.getTxnAccessor(
+                                EntityNum.fromLong(aNum).toGrpcScheduleId(), aSchedule, true))
+                .willReturn(aAccessor);
+
+        subject.prepareFrom(sourceState);
+
+        final var aPrepared = subject.claim(aNum);
+        assertTrue(aPrepared.fullySigned());
+        assertSame(aAccessor, aPrepared.accessor());
+        assertEquals(minSecond, aPrepared.second());
+        assertEquals(1, aPrepared.numSignatories());
+        assertEquals(signedAt, aPrepared.linkedRefs().getSourceSignedAt());
+        assertEquals(aNum, aPrepared.linkedRefs().linkedNumbers()[0]);
+        final var bPrepared = subject.claim(bNum);
+        assertFalse(bPrepared.fullySigned());
+        assertNull(bPrepared.accessor());
+        assertNull(subject.claim(aNum));
+    }
+
+    @Test
+    void skipsMissingDeletedAndExecutedSchedules() {
+        givenUsableState();
+        givenMinSecondWith(aNum, bNum, bNum + 1);
+        given(byId.get(new EntityNumVirtualKey(aNum))).willReturn(null);
+        given(byId.get(new EntityNumVirtualKey(bNum))).willReturn(bSchedule);
+        given(byId.get(new EntityNumVirtualKey(bNum + 1))).willReturn(aSchedule);
+        given(bSchedule.isDeleted()).willReturn(true);
+        given(aSchedule.isExecuted()).willReturn(true);
+
+        subject.prepareFrom(sourceState);
+        given(sourceState.getTimeOfLastHandledTxn()).willReturn(nextSignedAt);
+        subject.prepareFrom(sourceState);
+
+        assertTrue(subject.getPrepared().isEmpty());
+        assertEquals(3, subject.getSkipped().size());
+        verify(byId, times(1)).get(new EntityNumVirtualKey(aNum));
+        verify(byId, times(1)).get(new EntityNumVirtualKey(bNum));
+        verify(byId, times(1)).get(new EntityNumVirtualKey(bNum + 1));
+        verifyNoInteractions(scheduleSigsVerifier);
+    }
+
+    @Test
+    void doesNotPrepareIfAccessorCannotBeBuilt() throws Exception {
+        givenUsableState();
+        givenMinSecondWith(aNum);
+        given(byId.get(new EntityNumVirtualKey(aNum))).willReturn(aSchedule);
+        given(scheduleSigsVerifier.areAllKeysActive(any(), any(), any())).willReturn(true);
+        given(scheduleExecutor.getTxnAccessor(any(), any(), anyBoolean()))
+                .willThrow(IllegalStateException.class);
+
+        subject.prepareFrom(sourceState);
+
+        assertTrue(subject.getPrepared().isEmpty());
+        assertEquals(minSecond, subject.getSkipped().get(aNum));
+    }
+
+    @Test
+    void doesNotRepeatWorkForSameSignedState() {
+        givenUsableState();
+        givenMinSecondWith(aNum);
+        given(byId.get(new EntityNumVirtualKey(aNum))).willReturn(aSchedule);
+
+        subject.prepareFrom(sourceState);
+        subject.claim(aNum);
+        subject.prepareFrom(sourceState);
+
+        verify(byId, times(1)).get(new EntityNumVirtualKey(aNum));
+    }
+
+    @Test
+    void stopsAtBudgetAndResumesWithSameSignedState() {
+        givenUsableState();
+        final var nums = new long[MAX_PREPARED_PER_CALL + 1];
+        for (int i = 0; i < nums.length; i++) {
+            nums[i] = aNum + i;
+        }
+        givenMinSecondWith(nums);
+        given(byId.get(any())).willReturn(aSchedule);
+
+        subject.prepareFrom(sourceState);
+        assertEquals(MAX_PREPARED_PER_CALL, subject.getPrepared().size());
+
+        subject.prepareFrom(sourceState);
+        assertEquals(MAX_PREPARED_PER_CALL + 1, subject.getPrepared().size());
+    }
+
+    @Test
+    void skippedSchedulesDoNotUseUpLaterBudgets() {
+        givenUsableState();
+        final var nums = new long[MAX_PREPARED_PER_CALL + 1];
+        for (int i = 0; i < nums.length; i++) {
+            nums[i] = aNum + i;
+        }
+        givenMinSecondWith(nums);
+        given(byId.get(any())).willReturn(bSchedule);
+        given(byId.get(new EntityNumVirtualKey(nums[MAX_PREPARED_PER_CALL])))
+                .willReturn(aSchedule);
+        given(bSchedule.isDeleted()).willReturn(true);
+
+        subject.prepareFrom(sourceState);
+        assertTrue(subject.getPrepared().isEmpty());
+        assertEquals(MAX_PREPARED_PER_CALL, subject.getSkipped().size());
+
+        subject.prepareFrom(sourceState);
+        assertEquals(1, subject.getPrepared().size());
+        given(sourceState.getTimeOfLastHandledTxn()).willReturn(nextSignedAt);
+        subject.prepareFrom(sourceState);
+        verify(byId, times(MAX_PREPARED_PER_CALL + 1)).get(any());
+    }
+
+    @Test
+    void prunesPreparationsForPastSeconds() {
+        givenUsableState();
+        givenMinSecondWith();
+        subject.getPrepared()
+                .put(
+                        aNum,
+                        new ScheduleLookAhead.PreparedSchedule(
+                                minSecond - 1, 0, false, new LinkedRefs(), null));
+        subject.getSkipped().put(bNum, minSecond - 1);
+
+        subject.prepareFrom(sourceState);
+
+        assertTrue(subject.getPrepared().isEmpty());
+        assertTrue(subject.getSkipped().isEmpty());
+        verify(bySecond, times(LOOK_AHEAD_SECS + 1)).get(any());
+    }
+
+    @Test
+    void readsLookAheadWindowOnEachCall() {
+        givenUsableState();
+        givenMinSecondWith();
+        given(dynamicProperties.schedulingLookAheadSecs()).willReturn(LOOK_AHEAD_SECS, 0);
+
+        subject.prepareFrom(sourceState);
+        given(sourceState.getTimeOfLastHandledTxn()).willReturn(nextSignedAt);
+        subject.prepareFrom(sourceState);
+
+        verify(bySecond, times(LOOK_AHEAD_SECS + 2)).get(any());
+    }
+
+    @Test
+    void logsAndContinuesOnFailure() {
+        givenUsableState();
+        given(sourceState.scheduleTxs()).willThrow(IllegalStateException.class);
+
+        subject.prepareFrom(sourceState);
+
+        assertTrue(subject.getPrepared().isEmpty());
+    }
+
+    @Test
+    void fullySignedPreparationIsReusableUnlessLinkedRefsChanged() {
+        final var refs = new LinkedRefs(signedAt);
+        refs.link(aNum);
+        final var prepared = new ScheduleLookAhead.PreparedSchedule(minSecond, 1, true, refs, null);
+        given(historian.entityStatusSince(signedAt, aNum)).willReturn(UNCHANGED, CHANGED);
+
+        assertTrue(prepared.isReusableFor(aSchedule, historian));
+        assertFalse(prepared.isReusableFor(aSchedule, historian));
+    }
+
+    @Test
+    void unsignedPreparationIsNotReusableAfterNewSignatures() {
+        final var prepared =
+                new ScheduleLookAhead.PreparedSchedule(
+                        minSecond, 0, false, new LinkedRefs(signedAt), null);
+        given(aSchedule.signatories()).willReturn(List.of(), List.of(new byte[] {1}));
+
+        assertTrue(prepared.isReusableFor(aSchedule, historian));
+        assertFalse(prepared.isReusableFor(aSchedule, historian));
+    }
+
+    private void givenUsableState() {
+        given(dynamicProperties.schedulingLongTermEnabled()).willReturn(true);
+        given(dynamicProperties.schedulingMaxPreparedPerLookAhead())
+                .willReturn(MAX_PREPARED_PER_CALL);
+        given(sourceState.getTimeOfLastHandledTxn()).willReturn(signedAt);
+        given(sourceState.getStateVersion()).willReturn(StateVersions.CURRENT_VERSION);
+        given(sourceState.isInitialized()).willReturn(true);
+    }
+
+    private void givenMinSecondWith(final long... nums) {
+        given(sourceState.scheduleTxs()).willReturn(schedules);
+        given(schedules.getCurrentMinSecond()).willReturn(minSecond);
+        given(dynamicProperties.schedulingLookAheadSecs()).willReturn(LOOK_AHEAD_SECS);
+        given(schedules.byExpirationSecond()).willReturn(bySecond);
+        if (nums.length > 0) {
+            given(schedules.byId()).willReturn(byId);
+            final var ids = new TreeMap<RichInstant, ImmutableLongList>();
+            ids.put(new RichInstant(minSecond, 0), LongLists.immutable.of(nums));
+            given(bySecond.get(new SecondSinceEpocVirtualKey(minSecond))).willReturn(minSecondIds);
+            given(minSecondIds.getIds()).willReturn(ids);
+        }
+    }
+}
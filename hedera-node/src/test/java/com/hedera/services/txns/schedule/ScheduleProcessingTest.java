@@ -15,6 +15,7 @@
  */
 package com.hedera.services.txns.schedule;
 
+import static com.hedera.services.ledger.SigImpactHistorian.ChangeStatus.CHANGED;
 import static com.hedera.services.utils.EntityNum.fromScheduleId;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.INVALID_SCHEDULE_ID;
 import static com.hederahashgraph.api.proto.java.ResponseCodeEnum.OK;
@@ -38,6 +39,7 @@ import com.google.common.collect.ImmutableMap;
 import com.google.protobuf.InvalidProtocolBufferException;
 import com.hedera.services.context.properties.GlobalDynamicProperties;
 import com.hedera.services.ledger.SigImpactHistorian;
+import com.hedera.services.sigs.order.LinkedRefs;
 import com.hedera.services.state.merkle.MerkleScheduledTransactions;
 import com.hedera.services.state.submerkle.RichInstant;
 import com.hedera.services.state.virtual.schedule.ScheduleSecondVirtualValue;
@@ -85,6 +87,7 @@ class ScheduleProcessingTest {
     @Mock private ScheduleSecondVirtualValue bySecond;
     @Mock private TxnAccessor accessor;
     @Mock private MerkleScheduledTransactions schedules;
+    @Mock private ScheduleLookAhead lookAhead;
 
     private ScheduleProcessing subject;
 
@@ -98,7 +101,15 @@ class ScheduleProcessingTest {
                         dynamicProperties,
                         scheduleSigsVerifier,
                         scheduleThrottling,
-                        () -> schedules);
+                        () -> schedules,
+                        lookAhead);
+    }
+
+    @Test
+    void flushesPendingExpirationsViaStore() {
+        subject.flushPendingExpirations();
+
+        verify(store).flushPendingExpirations();
     }
 
     @Test
@@ -164,7 +175,7 @@ class ScheduleProcessingTest {
                     return true;
                 };
 
-        given(scheduleExecutor.getTriggeredTxnAccessor(scheduleId1, store, false))
+        given(scheduleExecutor.getTriggeredTxnAccessor(scheduleId1, store, false, null))
                 .willReturn(Pair.of(OK, accessor));
 
         // when:
@@ -178,11 +189,59 @@ class ScheduleProcessingTest {
         inOrder.verify(store).nextScheduleToEvaluate(consensusTime);
         inOrder.verify(dynamicProperties).schedulingLongTermEnabled();
         inOrder.verify(store).get(scheduleId1);
-        inOrder.verify(scheduleExecutor).getTriggeredTxnAccessor(scheduleId1, store, false);
+        inOrder.verify(scheduleExecutor).getTriggeredTxnAccessor(scheduleId1, store, false, null);
 
         inOrder.verifyNoMoreInteractions();
     }
 
+    @Test
+    void triggerNextTransactionExpiringAsNeededReusesValidPreparation() throws Exception {
+        final var prepared =
+                new ScheduleLookAhead.PreparedSchedule(
+                        0L, 0, true, new LinkedRefs(), schedule1Accessor);
+        given(dynamicProperties.schedulingMaxTxnPerSecond()).willReturn(5L);
+        given(store.nextSchedulesToExpire(consensusTime)).willReturn(ImmutableList.of());
+        given(dynamicProperties.schedulingLongTermEnabled()).willReturn(true);
+        given(store.nextScheduleToEvaluate(consensusTime)).willReturn(scheduleId1);
+        given(store.get(scheduleId1)).willReturn(schedule1);
+        given(lookAhead.claim(scheduleId1.getScheduleNum())).willReturn(prepared);
+        subject.isFullySigned =
+                k -> {
+                    throw new AssertionError("Should reuse prepared verdict");
+                };
+        given(
+                        scheduleExecutor.getTriggeredTxnAccessor(
+                                scheduleId1, store, false, schedule1Accessor))
+                .willReturn(Pair.of(OK, schedule1Accessor));
+
+        var result = subject.triggerNextTransactionExpiringAsNeeded(consensusTime, null, false);
+
+        assertEquals(schedule1Accessor, result);
+    }
+
+    @Test
+    void triggerNextTransactionExpiringAsNeededDiscardsStalePreparation() throws Exception {
+        final var refs = new LinkedRefs();
+        refs.link(scheduleId1.getScheduleNum());
+        final var prepared =
+                new ScheduleLookAhead.PreparedSchedule(0L, 0, true, refs, schedule1Accessor);
+        given(dynamicProperties.schedulingMaxTxnPerSecond()).willReturn(5L);
+        given(store.nextSchedulesToExpire(consensusTime)).willReturn(ImmutableList.of());
+        given(dynamicProperties.schedulingLongTermEnabled()).willReturn(true);
+        given(store.nextScheduleToEvaluate(consensusTime)).willReturn(scheduleId1);
+        given(store.get(scheduleId1)).willReturn(schedule1);
+        given(lookAhead.claim(scheduleId1.getScheduleNum())).willReturn(prepared);
+        given(sigImpactHistorian.entityStatusSince(Instant.EPOCH, scheduleId1.getScheduleNum()))
+                .willReturn(CHANGED);
+        subject.isFullySigned = k -> true;
+        given(scheduleExecutor.getTriggeredTxnAccessor(scheduleId1, store, false, null))
+                .willReturn(Pair.of(OK, accessor));
+
+        var result = subject.triggerNextTransactionExpiringAsNeeded(consensusTime, null, false);
+
+        assertEquals(accessor, result);
+    }
+
     @Test
     void triggerNextTransactionExpiringAsNeededLimitedToMaxLoopIterations() {
         given(dynamicProperties.schedulingMaxTxnPerSecond()).willReturn(1L);
@@ -334,7 +393,7 @@ class ScheduleProcessingTest {
                     return true;
                 };
 
-        given(scheduleExecutor.getTriggeredTxnAccessor(scheduleId2, store, false))
+        given(scheduleExecutor.getTriggeredTxnAccessor(scheduleId2, store, false, null))
                 .willReturn(Pair.of(OK, accessor));
 
         // when:
@@ -356,7 +415,7 @@ class ScheduleProcessingTest {
         inOrder.verify(store).nextScheduleToEvaluate(consensusTime);
         inOrder.verify(dynamicProperties).schedulingLongTermEnabled();
         inOrder.verify(store).get(scheduleId2);
-        inOrder.verify(scheduleExecutor).getTriggeredTxnAccessor(scheduleId2, store, false);
+        inOrder.verify(scheduleExecutor).getTriggeredTxnAccessor(scheduleId2, store, false, null);
 
         inOrder.verifyNoMoreInteractions();
     }
@@ -384,9 +443,9 @@ class ScheduleProcessingTest {
                     return true;
                 };
 
-        given(scheduleExecutor.getTriggeredTxnAccessor(scheduleId1, store, false))
+        given(scheduleExecutor.getTriggeredTxnAccessor(scheduleId1, store, false, null))
                 .willReturn(Pair.of(INVALID_SCHEDULE_ID, accessor));
-        given(scheduleExecutor.getTriggeredTxnAccessor(scheduleId2, store, false))
+        given(scheduleExecutor.getTriggeredTxnAccessor(scheduleId2, store, false, null))
                 .willReturn(Pair.of(OK, accessor));
 
         // when:
@@ -400,7 +459,7 @@ class ScheduleProcessingTest {
         inOrder.verify(store).nextScheduleToEvaluate(consensusTime);
         inOrder.verify(dynamicProperties).schedulingLongTermEnabled();
         inOrder.verify(store).get(scheduleId1);
-        inOrder.verify(scheduleExecutor).getTriggeredTxnAccessor(scheduleId1, store, false);
+        inOrder.verify(scheduleExecutor).getTriggeredTxnAccessor(scheduleId1, store, false, null);
         inOrder.verify(store).expire(scheduleId1);
         inOrder.verify(sigImpactHistorian)
                 .markEntityChanged(fromScheduleId(scheduleId1).longValue());
@@ -409,7 +468,7 @@ class ScheduleProcessingTest {
         inOrder.verify(store).nextScheduleToEvaluate(consensusTime);
         inOrder.verify(dynamicProperties).schedulingLongTermEnabled();
         inOrder.verify(store).get(scheduleId2);
-        inOrder.verify(scheduleExecutor).getTriggeredTxnAccessor(scheduleId2, store, false);
+        inOrder.verify(scheduleExecutor).getTriggeredTxnAccessor(scheduleId2, store, false, null);
 
         inOrder.verifyNoMoreInteractions();
     }
@@ -437,7 +496,7 @@ class ScheduleProcessingTest {
                     return true;
                 };
 
-        given(scheduleExecutor.getTriggeredTxnAccessor(scheduleId2, store, false))
+        given(scheduleExecutor.getTriggeredTxnAccessor(scheduleId2, store, false, null))
                 .willReturn(Pair.of(OK, accessor));
 
         // when:
@@ -459,7 +518,7 @@ class ScheduleProcessingTest {
         inOrder.verify(store).nextScheduleToEvaluate(consensusTime);
         inOrder.verify(dynamicProperties).schedulingLongTermEnabled();
         inOrder.verify(store).get(scheduleId2);
-        inOrder.verify(scheduleExecutor).getTriggeredTxnAccessor(scheduleId2, store, false);
+        inOrder.verify(scheduleExecutor).getTriggeredTxnAccessor(scheduleId2, store, false, null);
 
         inOrder.verifyNoMoreInteractions();
     }
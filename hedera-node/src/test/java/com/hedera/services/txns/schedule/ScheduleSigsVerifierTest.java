@@ -24,6 +24,7 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.verify;
@@ -32,6 +33,7 @@ import com.google.common.collect.ImmutableList;
 import com.hedera.services.keys.CharacteristicsFactory;
 import com.hedera.services.keys.KeyActivationCharacteristics;
 import com.hedera.services.legacy.core.jproto.JKey;
+import com.hedera.services.sigs.order.LinkedRefs;
 import com.hedera.services.sigs.order.SigRequirements;
 import com.hedera.services.sigs.order.SigningOrderResult;
 import com.hedera.services.state.virtual.schedule.ScheduleVirtualValue;
@@ -66,11 +68,26 @@ class ScheduleSigsVerifierTest {
         subject = new ScheduleSigsVerifier(workingSigReqs, characteristics);
     }
 
+    @Test
+    void usesGivenSigReqsAndLinkedRefs() {
+        final var sourceSigReqs = mock(SigRequirements.class);
+        final var linkedRefs = new LinkedRefs();
+        subject = spy(subject);
+        doReturn(txnBody).when(subject).getTransactionBody(schedule);
+        given(sourceSigReqs.keysForOtherParties(txnBody, CODE_ORDER_RESULT_FACTORY, linkedRefs))
+                .willReturn(keysForOtherParties);
+        given(keysForOtherParties.hasErrorReport()).willReturn(true);
+
+        assertFalse(subject.areAllKeysActive(schedule, sourceSigReqs, linkedRefs));
+
+        verify(workingSigReqs, never()).keysForOtherParties(any(), any(), any());
+    }
+
     @Test
     void happyPathWorks() {
         subject = spy(subject);
         doReturn(txnBody).when(subject).getTransactionBody(schedule);
-        given(workingSigReqs.keysForOtherParties(txnBody, CODE_ORDER_RESULT_FACTORY))
+        given(workingSigReqs.keysForOtherParties(txnBody, CODE_ORDER_RESULT_FACTORY, null))
                 .willReturn(keysForOtherParties);
         given(keysForOtherParties.hasErrorReport()).willReturn(false);
         given(keysForOtherParties.getOrderedKeys())
@@ -112,7 +129,7 @@ class ScheduleSigsVerifierTest {
     void rejectsOnOneMissingKey() {
         subject = spy(subject);
         doReturn(txnBody).when(subject).getTransactionBody(schedule);
-        given(workingSigReqs.keysForOtherParties(txnBody, CODE_ORDER_RESULT_FACTORY))
+        given(workingSigReqs.keysForOtherParties(txnBody, CODE_ORDER_RESULT_FACTORY, null))
                 .willReturn(keysForOtherParties);
         given(keysForOtherParties.hasErrorReport()).willReturn(false);
         given(keysForOtherParties.getOrderedKeys())
@@ -153,7 +170,7 @@ class ScheduleSigsVerifierTest {
     void rejectsOnHasErrorReport() {
         subject = spy(subject);
         doReturn(txnBody).when(subject).getTransactionBody(schedule);
-        given(workingSigReqs.keysForOtherParties(txnBody, CODE_ORDER_RESULT_FACTORY))
+        given(workingSigReqs.keysForOtherParties(txnBody, CODE_ORDER_RESULT_FACTORY, null))
                 .willReturn(keysForOtherParties);
         given(keysForOtherParties.hasErrorReport()).willReturn(true);
 
@@ -167,7 +184,7 @@ class ScheduleSigsVerifierTest {
     void passesOnNoRequiredKeys() {
         subject = spy(subject);
         doReturn(txnBody).when(subject).getTransactionBody(schedule);
-        given(workingSigReqs.keysForOtherParties(txnBody, CODE_ORDER_RESULT_FACTORY))
+        given(workingSigReqs.keysForOtherParties(txnBody, CODE_ORDER_RESULT_FACTORY, null))
                 .willReturn(keysForOtherParties);
         given(keysForOtherParties.hasErrorReport()).willReturn(false);
         given(keysForOtherParties.getOrderedKeys()).willReturn(ImmutableList.of());
@@ -191,7 +208,7 @@ class ScheduleSigsVerifierTest {
 
         assertFalse(subject.areAllKeysActive(schedule));
 
-        verify(workingSigReqs, never()).keysForOtherParties(any(), any());
+        verify(workingSigReqs, never()).keysForOtherParties(any(), any(), any());
         verify(keysForOtherParties, never()).getOrderedKeys();
         verify(schedule, never()).hasValidSignatureFor(any());
     }
@@ -173,6 +173,7 @@ class EthereumSpanMapManagerTest {
         givenExpandableAccessor(bodyWithCallData);
         given(blobs.get(metadataKey)).willReturn(asBlob(undeletedMeta));
         given(blobs.get(dataKey)).willReturn(new VirtualBlobValue(new byte[0]));
+        given(blobs.get(secondDataChunkKey)).willReturn(null);
 
         subject.expandEthereumSpan(accessor);
         expansion = spanMapAccessor.getEthTxExpansion(accessor);
@@ -185,6 +186,7 @@ class EthereumSpanMapManagerTest {
         givenExpandableAccessor(bodyWithCallData);
         given(blobs.get(metadataKey)).willReturn(asBlob(undeletedMeta));
         given(blobs.get(dataKey)).willReturn(dataValue);
+        given(blobs.get(secondDataChunkKey)).willReturn(null);
         given(ethTxData.replaceCallData(unhexedCallData)).willReturn(ethTxData);
         given(syntheticTxnFactory.synthContractOpFromEth(ethTxData))
                 .willReturn(Optional.of(synthCallBody));
@@ -260,6 +262,7 @@ class EthereumSpanMapManagerTest {
         givenRationalizableAccessor(bodyWithCallData);
         given(blobs.get(metadataKey)).willReturn(asBlob(undeletedMeta));
         given(blobs.get(dataKey)).willReturn(dataValue);
+        given(blobs.get(secondDataChunkKey)).willReturn(null);
         given(ethTxData.replaceCallData(unhexedCallData)).willReturn(ethTxData);
         given(syntheticTxnFactory.synthContractOpFromEth(ethTxData))
                 .willReturn(Optional.of(synthCallBody));
@@ -288,6 +291,7 @@ class EthereumSpanMapManagerTest {
 
         given(blobs.get(metadataKey)).willReturn(asBlob(undeletedMeta));
         given(blobs.get(dataKey)).willReturn(dataValue);
+        given(blobs.get(secondDataChunkKey)).willReturn(null);
         given(ethTxData.replaceCallData(unhexedCallData)).willReturn(ethTxData);
         given(syntheticTxnFactory.synthContractOpFromEth(ethTxData))
                 .willReturn(Optional.of(synthCallBody));
@@ -371,6 +375,8 @@ class EthereumSpanMapManagerTest {
     private static final byte[] unhexedCallData = Hex.decode(callData);
     private static final VirtualBlobKey dataKey =
             new VirtualBlobKey(VirtualBlobKey.Type.FILE_DATA, 666);
+    private static final VirtualBlobKey secondDataChunkKey =
+            VirtualBlobKey.fileDataChunkKey(666, 1);
     private static final VirtualBlobKey metadataKey =
             new VirtualBlobKey(VirtualBlobKey.Type.FILE_METADATA, 666);
     private static final VirtualBlobValue dataValue = new VirtualBlobValue(callData);
@@ -50,6 +50,7 @@ import com.hedera.services.sigs.utils.PrecheckUtils;
 import com.hedera.services.state.merkle.MerkleAccount;
 import com.hedera.services.state.merkle.internals.BitPackUtils;
 import com.hedera.services.state.merkle.internals.ByteUtils;
+import com.hedera.services.state.merkle.internals.LeafHashing;
 import com.hedera.services.state.migration.*;
 import com.hedera.services.state.serdes.IoUtils;
 import com.hedera.services.state.virtual.IterableStorageUtils;
@@ -168,6 +169,7 @@ class UtilsConstructorTest {
                             EthereumLogicModule.class,
                             ReleaseTwentySevenMigration.class,
                             ByteUtils.class,
+                            LeafHashing.class,
                             Units.class,
                             StakingUtils.class,
                             UtilLogicModule.class,
@@ -450,6 +450,7 @@ class PlatformTxnAccessorTest {
         PlatformTxnAccessor subject =
                 new PlatformTxnAccessor(
                         SignedTxnAccessor.from(platformTxn.getContents()), platformTxn);
+        subject.getHash();
         final var expectedString =
                 "PlatformTxnAccessor{delegate=SignedTxnAccessor{sigMapSize=71, numSigPairs=1,"
                     + " numAutoCreations=-1, hash=[111, -123, -70, 79, 75, -80, -114, -49, 88, -76,"
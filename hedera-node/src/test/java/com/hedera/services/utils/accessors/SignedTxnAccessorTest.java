@@ -106,6 +106,9 @@ import java.math.BigInteger;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import org.junit.jupiter.api.Test;
 
@@ -309,6 +312,35 @@ class SignedTxnAccessorTest {
         assertThrows(UnsupportedOperationException.class, () -> rationalizedMap.put("2", 3));
     }
 
+    @Test
+    void spanMapTakesConcurrentPutsFromManyThreads() throws InterruptedException {
+        final var subject = SignedTxnAccessor.uncheckedFrom(Transaction.getDefaultInstance());
+        final var numThreads = 4;
+        final var putsPerThread = 1_000;
+
+        final var ready = new CountDownLatch(numThreads);
+        final var pool = Executors.newFixedThreadPool(numThreads);
+        for (int i = 0; i < numThreads; i++) {
+            final var prefix = "t" + i + "-";
+            pool.execute(
+                    () -> {
+                        ready.countDown();
+                        try {
+                            ready.await();
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        }
+                        for (int j = 0; j < putsPerThread; j++) {
+                            subject.getSpanMap().put(prefix + j, j);
+                        }
+                    });
+        }
+        pool.shutdown();
+        assertTrue(pool.awaitTermination(10, TimeUnit.SECONDS));
+
+        assertEquals(numThreads * putsPerThread, subject.getSpanMap().size());
+    }
+
     @Test
     void canGetSetNumAutoCreations() {
         final var accessor = SignedTxnAccessor.uncheckedFrom(Transaction.getDefaultInstance());
@@ -450,6 +482,24 @@ class SignedTxnAccessorTest {
         assertEquals(message.length(), submitMeta.numMsgBytes());
     }
 
+    @Test
+    void sharesCallerOwnedWrapperBytesAndHashesOnlyOnce() throws InvalidProtocolBufferException {
+        final var txnBody = TransactionBody.newBuilder().setMemo("Hi!").build();
+        final var signedTxnBytes = signedTransactionFrom(txnBody).toByteString();
+        final var wrapperBytes = buildTransactionFrom(signedTxnBytes).toByteArray();
+
+        final var subject = SignedTxnAccessor.from(wrapperBytes);
+
+        // The accessor takes over the given array without a defensive copy, so callers must not
+        // mutate it once it has been handed over
+        assertSame(wrapperBytes, subject.getSignedTxnWrapperBytes());
+        assertEquals(txnBody, subject.getTxn());
+        assertTrue(subject.toLoggableString().contains("hash=null"));
+        final var hash = subject.getHash();
+        assertArrayEquals(CommonUtils.noThrowSha384HashOf(signedTxnBytes.toByteArray()), hash);
+        assertSame(hash, subject.getHash());
+    }
+
     @Test
     void parseNewTransactionCorrectly() throws Exception {
         final var transaction =
@@ -883,6 +933,7 @@ class SignedTxnAccessorTest {
 
         // when:
         SignedTxnAccessor subject = SignedTxnAccessor.from(platformTxn.getContents());
+        subject.getHash();
 
         final var expectedString =
                 "SignedTxnAccessor{sigMapSize=71, numSigPairs=1, numAutoCreations=-1, hash=[111,"